@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.inventory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.transportpce.inventory.query.InventoryWriter;
+import org.opendaylight.transportpce.inventory.query.Queries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the writing of the inventory rows of a device in an in-memory H2 database, by the batched
+ * {@link InventoryWriter} and row by row, as the inventory was written before, with a statement prepared and executed
+ * for every row on an auto-commit connection.
+ *
+ * <p>An in-memory database has no network round trip, so the gap measured is a lower bound of the gap against the
+ * database server of a deployment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class InventoryWriterBenchmark {
+    private static final String NODE = "ROADM-A1";
+    private static final String DATE = "2026-01-01 00:00:00";
+    private static final String QUERY = Queries.getQuery().withSchema("PUBLIC").deviceInterfaceOtnOduTxMsiInsert()
+        .get();
+
+    @Param({"100", "1000", "10000"})
+    public int rowCount;
+
+    private Connection connection;
+    private List<Object[]> rows;
+
+    @Setup(Level.Trial)
+    public void createDatabase() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:inventory;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE inv_dev_interface_odu_opu_tx_msi (node_id VARCHAR(255), "
+                + "interface_name VARCHAR(255), trib_slot VARCHAR(255), odtu_type VARCHAR(255), "
+                + "trib_port VARCHAR(255), trib_port_payload VARCHAR(255), create_date VARCHAR(255), "
+                + "update_date VARCHAR(255))");
+        }
+        // 80 tributary slots per ODU4 interface
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[] {NODE, "ODU4-" + i / 80, String.valueOf(i % 80 + 1), "ODTU4.ts-Allocated",
+                String.valueOf(i % 80 / 8 + 1), "PT-21", DATE, DATE});
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE inv_dev_interface_odu_opu_tx_msi");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void dropDatabase() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void batched() throws SQLException {
+        try (InventoryWriter writer = InventoryWriter.insert(connection, NODE)) {
+            for (Object[] row : rows) {
+                writer.add(QUERY, row);
+            }
+            writer.commit();
+        }
+    }
+
+    @Benchmark
+    public int rowByRow() throws SQLException {
+        int written = 0;
+        for (Object[] row : rows) {
+            try (PreparedStatement statement = connection.prepareStatement(QUERY)) {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                written += statement.executeUpdate();
+            }
+        }
+        return written;
+    }
+}
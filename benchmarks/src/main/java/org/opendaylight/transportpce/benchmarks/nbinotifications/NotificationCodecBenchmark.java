@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.nbinotifications;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.transportpce.common.converter.JsonStringConverter;
+import org.opendaylight.transportpce.nbinotifications.serialization.ConfigConstants;
+import org.opendaylight.transportpce.nbinotifications.serialization.TapiNotificationDeserializer;
+import org.opendaylight.transportpce.nbinotifications.serialization.TapiNotificationSerializer;
+import org.opendaylight.transportpce.test.DataStoreContextImpl;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.get.notification.list.output.Notification;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark of the serialization of a TAPI notification by the Kafka serializer and deserializer of the NBI
+ * notifications, in the JSON format and in the compact binary format.
+ *
+ * <p>The format is selected by the topic, the {@code binary} topic being configured as a binary topic. The size of the
+ * serialized notification is logged at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class NotificationCodecBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationCodecBenchmark.class);
+    private static final String NOTIFICATION = "/nbinotifications/tapi_event.json";
+    private static final String BINARY_TOPIC = "binary";
+
+    @Param({"json", BINARY_TOPIC})
+    public String topic;
+
+    private TapiNotificationSerializer serializer;
+    private TapiNotificationDeserializer deserializer;
+    private NotificationTapiService notification;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void loadNotification() throws IOException {
+        JsonStringConverter<NotificationTapiService> converter =
+            new JsonStringConverter<>(new DataStoreContextImpl().getBindingDOMCodecServices());
+        try (InputStream json = NotificationCodecBenchmark.class.getResourceAsStream(NOTIFICATION)) {
+            if (json == null) {
+                throw new IOException("Notification " + NOTIFICATION + " not found");
+            }
+            notification = converter.createDataObjectFromJsonString(
+                YangInstanceIdentifier.of(NotificationTapiService.QNAME),
+                new String(json.readAllBytes(), StandardCharsets.UTF_8), JSONCodecFactorySupplier.RFC7951);
+        }
+        serializer = new TapiNotificationSerializer();
+        serializer.configure(Map.of(ConfigConstants.CONVERTER, converter, ConfigConstants.BINARY_TOPICS, BINARY_TOPIC),
+            false);
+        deserializer = new TapiNotificationDeserializer();
+        deserializer.configure(Map.of(ConfigConstants.CONVERTER, converter), false);
+        serialized = serializer.serialize(topic, notification);
+        if (serialized == null || deserializer.deserialize(topic, serialized) == null) {
+            throw new IllegalStateException("Notification can not be serialized in the " + topic + " format");
+        }
+        LOG.info("Notification serialized in {} bytes in the {} format", serialized.length, topic);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(topic, notification);
+    }
+
+    @Benchmark
+    public Notification deserialize() {
+        return deserializer.deserialize(topic, serialized);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.pce;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.YenKShortestPath;
+import org.jgrapht.graph.DefaultDirectedWeightedGraph;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.pce.PceSendingPceRPCs;
+import org.opendaylight.transportpce.pce.constraints.PceConstraints;
+import org.opendaylight.transportpce.pce.frequency.interval.FrequencyIntervalFactory;
+import org.opendaylight.transportpce.pce.frequency.service.ServiceFrequency;
+import org.opendaylight.transportpce.pce.frequency.spectrum.FrequencySpectrum;
+import org.opendaylight.transportpce.pce.frequency.spectrum.index.SpectrumIndex;
+import org.opendaylight.transportpce.pce.gnpy.consumer.GnpyConsumer;
+import org.opendaylight.transportpce.pce.graph.InAlgoPathValidator;
+import org.opendaylight.transportpce.pce.graph.PceGraph;
+import org.opendaylight.transportpce.pce.graph.PceGraphEdge;
+import org.opendaylight.transportpce.pce.graph.PostAlgoPathValidator;
+import org.opendaylight.transportpce.pce.input.ClientInput;
+import org.opendaylight.transportpce.pce.input.ServiceCreateClientInput;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceCalculation;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceLink;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceNode;
+import org.opendaylight.transportpce.pce.networkanalyzer.PceResult;
+import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.Request;
+import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.Result;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PceConstraintMode;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.path.computation.request.input.ServiceAEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.path.computation.request.input.ServiceZEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.port.Port;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.port.PortBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.format.rev191129.ServiceFormat;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.PceMetric;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.endpoint.sp.RxDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.endpoint.sp.TxDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.handler.header.ServiceHandlerHeaderBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the PCE path computation of a 100GE service between the two furthest ROADMs of a synthetic network.
+ *
+ * <p>{@link #pathComputation()} measures the whole path computation, GNPy being unavailable. The other benchmarks
+ * measure its stages on their own: the analysis of the network by {@link PceCalculation}, the search of the paths by
+ * {@link PceGraph}, including the validation of the candidate paths, and the validation of the shortest path by
+ * {@link PostAlgoPathValidator}. The inputs of a stage are computed before each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class PathComputationBenchmark {
+    private static final GnpyConsumer UNAVAILABLE_GNPY = new GnpyConsumer() {
+        @Override
+        public boolean isAvailable() {
+            return false;
+        }
+
+        @Override
+        public CompletableFuture<Result> computePathsAsync(Request request) {
+            return CompletableFuture.completedFuture(null);
+        }
+    };
+
+    @Param({"10", "50", "100"})
+    public int roadms;
+    @Param({"2", "4"})
+    public int degrees;
+    @Param("2")
+    public int srgs;
+    @Param({"0.0", "0.5"})
+    public double fillRatio;
+    @Param("1")
+    public long seed;
+
+    private SyntheticNetwork network;
+    private PathComputationRequestInput request;
+    private ClientInput clientInput;
+    private PceCalculation calculation;
+    private GraphPath<String, PceGraphEdge> shortestPath;
+
+    @Setup(Level.Trial)
+    public void loadNetwork() throws IOException, ExecutionException, InterruptedException {
+        TopologyGenerator generator = new TopologyGenerator(roadms, degrees, srgs, fillRatio, seed);
+        network = new SyntheticNetwork(generator);
+        int zendRoadm = generator.furthestRoadm();
+        request = request(TopologyGenerator.xponder(1, 1), TopologyGenerator.clli(1),
+            TopologyGenerator.xponder(zendRoadm, 1), TopologyGenerator.clli(zendRoadm));
+        clientInput = new ServiceCreateClientInput(
+            request,
+            new FrequencyIntervalFactory(new ServiceFrequency(), GridConstant.EFFECTIVE_BITS, GridConstant.GRANULARITY),
+            new FrequencySpectrum(
+                new SpectrumIndex(
+                    GridConstant.START_EDGE_FREQUENCY_THZ, GridConstant.GRANULARITY, GridConstant.EFFECTIVE_BITS),
+                GridConstant.EFFECTIVE_BITS),
+            new ServiceFrequency(),
+            GridConstant.GRANULARITY);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareStages() {
+        calculation = pceCalculation();
+        if (!calculation.getReturnStructure().getStatus()) {
+            throw new IllegalStateException("Network analysis failed: " + calculation.getReturnStructure());
+        }
+        shortestPath = shortestPath(calculation);
+    }
+
+    @Benchmark
+    public PceSendingPceRPCs pathComputation() {
+        PceSendingPceRPCs pce = new PceSendingPceRPCs(request, network.getNetworkTransactionService(),
+            UNAVAILABLE_GNPY, network.getPortMapping(), PceSendingPceRPCs.OR_PCE_OPER_MODE);
+        pce.pathComputation();
+        return pce;
+    }
+
+    @Benchmark
+    public PceCalculation pceCalculation() {
+        PceCalculation pceCalculation = new PceCalculation(request, network.getNetworkTransactionService(),
+            new PceConstraints(), null, new PceResult(), network.getPortMapping(), null,
+            PceSendingPceRPCs.OR_PCE_OPER_MODE);
+        pceCalculation.retrievePceNetwork();
+        return pceCalculation;
+    }
+
+    @Benchmark
+    public boolean pceGraph() {
+        PceGraph graph = new PceGraph(calculation.getaendPceNode(), calculation.getzendPceNode(),
+            calculation.getAllPceNodes(), calculation.getAllPceLinks(), new PceConstraints(), new PceResult(),
+            calculation.getServiceType(), network.getNetworkTransactionService(), PceConstraintMode.Loose, null,
+            clientInput);
+        graph.setPceOperMode(PceSendingPceRPCs.OR_PCE_OPER_MODE);
+        return graph.calcPath();
+    }
+
+    @Benchmark
+    public PceResult postAlgoPathValidator() {
+        PostAlgoPathValidator validator = new PostAlgoPathValidator(network.getNetworkTransactionService(), null,
+            clientInput);
+        validator.setPceOperMode(PceSendingPceRPCs.OR_PCE_OPER_MODE);
+        return validator.checkPath(shortestPath, calculation.getAllPceNodes(), calculation.getAllPceLinks(),
+            new PceResult(), new PceConstraints(), calculation.getServiceType(), PceConstraintMode.Loose);
+    }
+
+    // shortest path of the weighted graph built by PceGraph, with the hop count metric
+    private static GraphPath<String, PceGraphEdge> shortestPath(PceCalculation pceCalculation) {
+        Graph<String, PceGraphEdge> graph = new DefaultDirectedWeightedGraph<>(PceGraphEdge.class);
+        pceCalculation.getAllPceNodes().keySet().forEach(nodeId -> graph.addVertex(nodeId.getValue()));
+        for (PceNode node : pceCalculation.getAllPceNodes().values()) {
+            for (PceLink link : node.getOutgoingLinks()) {
+                if (graph.containsVertex(link.getSourceId()) && graph.containsVertex(link.getDestId())) {
+                    graph.addEdge(link.getSourceId(), link.getDestId(), new PceGraphEdge(link));
+                }
+            }
+        }
+        List<GraphPath<String, PceGraphEdge>> paths = new YenKShortestPath<>(graph, new InAlgoPathValidator())
+            .getPaths(pceCalculation.getaendPceNode().getNodeId().getValue(),
+                pceCalculation.getzendPceNode().getNodeId().getValue(), 1);
+        if (paths.isEmpty()) {
+            throw new IllegalStateException("No path found in the network");
+        }
+        return paths.get(0);
+    }
+
+    private static PathComputationRequestInput request(String aendNode, String aendClli, String zendNode,
+            String zendClli) {
+        return new PathComputationRequestInputBuilder()
+            .setServiceName("benchmark")
+            .setResourceReserve(true)
+            .setPceRoutingMetric(PceMetric.HopCount)
+            .setServiceHandlerHeader(new ServiceHandlerHeaderBuilder().setRequestId("benchmark").build())
+            .setServiceAEnd(new ServiceAEndBuilder()
+                .setServiceFormat(ServiceFormat.Ethernet)
+                .setServiceRate(Uint32.valueOf(100))
+                .setClli(aendClli)
+                .setNodeId(aendNode)
+                .setTxDirection(new TxDirectionBuilder().setPort(port(aendNode)).build())
+                .setRxDirection(new RxDirectionBuilder().setPort(port(aendNode)).build())
+                .build())
+            .setServiceZEnd(new ServiceZEndBuilder()
+                .setServiceFormat(ServiceFormat.Ethernet)
+                .setServiceRate(Uint32.valueOf(100))
+                .setClli(zendClli)
+                .setNodeId(zendNode)
+                .setTxDirection(new TxDirectionBuilder().setPort(port(zendNode)).build())
+                .setRxDirection(new RxDirectionBuilder().setPort(port(zendNode)).build())
+                .build())
+            .build();
+    }
+
+    private static Port port(String node) {
+        return new PortBuilder()
+            .setPortDeviceName(node)
+            .setPortType("fixed")
+            .setPortName(TopologyGenerator.CLIENT_PORT)
+            .build();
+    }
+}
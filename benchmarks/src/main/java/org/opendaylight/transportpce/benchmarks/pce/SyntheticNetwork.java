@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.pce;
+
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.device.DeviceTransactionManagerImpl;
+import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.transportpce.common.mapping.PortMappingImpl;
+import org.opendaylight.transportpce.common.network.NetworkTransactionImpl;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.test.DataStoreContext;
+import org.opendaylight.transportpce.test.DataStoreContextImpl;
+import org.opendaylight.transportpce.test.converter.DataObjectConverter;
+import org.opendaylight.transportpce.test.converter.JSONDataObjectConverter;
+import org.opendaylight.transportpce.test.stub.MountPointServiceStub;
+import org.opendaylight.transportpce.test.stub.MountPointStub;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.Network;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.OperationalModeCatalog;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.Networks;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * In-memory datastore loaded with a synthetic network, and the services the PCE needs to read it.
+ *
+ * <p>The CONFIGURATION datastore holds the operational mode catalog of the PCE unit tests, and the openroadm-topology,
+ * openroadm-network and port-mapping generated by a {@link TopologyGenerator}.
+ */
+public final class SyntheticNetwork {
+    private static final String CATALOG = "/apidocCatalog12_0-OptSpecV5_1.json";
+    // the datastore is only read by the PCE, no transaction is ever submitted to a device
+    private static final long DEVICE_TRANSACTION_TIMEOUT = 3000;
+
+    private final DataStoreContext dataStoreContext = new DataStoreContextImpl();
+    private final DataObjectConverter converter = JSONDataObjectConverter.createWithDataStoreUtil(dataStoreContext);
+    private final DataBroker dataBroker = dataStoreContext.getDataBroker();
+    private final NetworkTransactionService networkTransactionService;
+    private final PortMapping portMapping;
+
+    /**
+     * Create the datastore and load the network.
+     *
+     * @param generator the generator of the network
+     * @throws IOException if the catalog can not be read
+     * @throws ExecutionException if the network can not be written in the datastore
+     * @throws InterruptedException if interrupted while writing the network
+     */
+    public SyntheticNetwork(TopologyGenerator generator)
+            throws IOException, ExecutionException, InterruptedException {
+        WriteTransaction transaction = dataBroker.newWriteOnlyTransaction();
+        try (InputStream catalog = SyntheticNetwork.class.getResourceAsStream(CATALOG)) {
+            if (catalog == null) {
+                throw new IOException("Operational mode catalog " + CATALOG + " not found");
+            }
+            transaction.put(LogicalDatastoreType.CONFIGURATION,
+                DataObjectIdentifier.builder(OperationalModeCatalog.class).build(),
+                read(new InputStreamReader(catalog, StandardCharsets.UTF_8), OperationalModeCatalog.class,
+                    OperationalModeCatalog.QNAME));
+        }
+        transaction.put(LogicalDatastoreType.CONFIGURATION, DataObjectIdentifier.builder(Network.class).build(),
+            read(generator.portMapping(), Network.class, Network.QNAME));
+        DataObjectIdentifier<Networks> networksIID = DataObjectIdentifier.builder(Networks.class).build();
+        transaction.merge(LogicalDatastoreType.CONFIGURATION, networksIID,
+            read(generator.openRoadmNetwork(), Networks.class, Networks.QNAME));
+        transaction.merge(LogicalDatastoreType.CONFIGURATION, networksIID,
+            read(generator.openRoadmTopology(), Networks.class, Networks.QNAME));
+        transaction.commit().get();
+
+        this.networkTransactionService = new NetworkTransactionImpl(dataBroker);
+        this.portMapping = new PortMappingImpl(dataBroker, new DeviceTransactionManagerImpl(
+                new MountPointServiceStub(new MountPointStub(dataBroker)), DEVICE_TRANSACTION_TIMEOUT),
+            null, networkTransactionService);
+    }
+
+    public NetworkTransactionService getNetworkTransactionService() {
+        return networkTransactionService;
+    }
+
+    public PortMapping getPortMapping() {
+        return portMapping;
+    }
+
+    private <T extends DataObject> T read(JsonObject json, Class<T> type, QName qname) {
+        return read(new StringReader(json.toString()), type, qname);
+    }
+
+    private <T extends DataObject> T read(Reader reader, Class<T> type, QName qname) {
+        NormalizedNode normalizedNode = converter.transformIntoNormalizedNode(reader).orElseThrow();
+        return type.cast(dataStoreContext.getBindingDOMCodecServices()
+            .fromNormalizedNode(YangInstanceIdentifier.of(qname), normalizedNode)
+            .getValue());
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.pce;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+
+/**
+ * Generator of synthetic OpenROADM networks, modelled on the PCE unit test topologies.
+ *
+ * <p>The network is made of {@code roadms} ROADMs with the same number of degrees and SRGs. Each degree is linked to a
+ * degree of another ROADM, so that the ROADMs form a circulant graph: for {@code j} from 1, degrees {@code 2j - 1}
+ * and {@code 2j} of a ROADM are linked to the ROADMs {@code j} positions after and before it in the ring. With an odd
+ * number of degrees, the last degree is linked to the opposite ROADM of the ring. All the degrees of a ROADM are
+ * linked together by express links and to all its SRGs by add and drop links. A xponder is connected to the first
+ * PP of each SRG.
+ *
+ * <p>The fill ratio is the part of the 50GHz channels of each degree already in use. The channels in use are drawn
+ * with a seeded random generator, so that the same parameters always generate the same network.
+ *
+ * <p>The openroadm-topology, openroadm-network and port-mapping data are generated as JSON, as in the PCE unit test
+ * resources.
+ */
+public final class TopologyGenerator {
+    public static final String CLIENT_PORT = "Client-1";
+
+    private static final String NETWORK_PORT = "XPDR-NW1";
+    private static final String IN_SERVICE = "inService";
+    private static final String TYPE = "org-openroadm-common-network:node-type";
+    private static final String TP_TYPE = "org-openroadm-common-network:tp-type";
+    private static final String LINK_TYPE = "org-openroadm-common-network:link-type";
+    private static final String OPPOSITE_LINK = "org-openroadm-common-network:opposite-link";
+    private static final double SPAN_LOSS = 15.0;
+    private static final int SPAN_LENGTH = 60000;
+
+    private final int roadms;
+    private final int degrees;
+    private final int srgs;
+    private final double fillRatio;
+    private final Random random;
+
+    /**
+     * Create a generator.
+     *
+     * @param roadms the number of ROADMs
+     * @param degrees the number of degrees of each ROADM
+     * @param srgs the number of SRGs of each ROADM, and of xponders connected to it
+     * @param fillRatio the part of the channels of each degree already in use, between 0 and 1
+     * @param seed the seed of the channels in use
+     */
+    public TopologyGenerator(int roadms, int degrees, int srgs, double fillRatio, long seed) {
+        if (degrees < 1 || srgs < 1 || roadms <= degrees) {
+            throw new IllegalArgumentException("A network needs more ROADMs than degrees, and at least one degree and "
+                + "one SRG per ROADM");
+        }
+        if (degrees % 2 == 1 && roadms % 2 == 1) {
+            throw new IllegalArgumentException("ROADMs with an odd number of degrees need an even number of ROADMs");
+        }
+        if (fillRatio < 0 || fillRatio > 1) {
+            throw new IllegalArgumentException("The fill ratio must be between 0 and 1");
+        }
+        this.roadms = roadms;
+        this.degrees = degrees;
+        this.srgs = srgs;
+        this.fillRatio = fillRatio;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Get the ROADM device of a node of the openroadm-network.
+     *
+     * @param roadm the ROADM, from 1
+     * @return the node identifier
+     */
+    public static String roadm(int roadm) {
+        return "OpenROADM-" + roadm;
+    }
+
+    /**
+     * Get a xponder device of a node of the openroadm-network.
+     *
+     * @param roadm the ROADM the xponder is connected to, from 1
+     * @param srg the SRG the xponder is connected to, from 1
+     * @return the node identifier
+     */
+    public static String xponder(int roadm, int srg) {
+        return "XPONDER-" + roadm + "-" + srg;
+    }
+
+    /**
+     * Get the CLLI of a ROADM site.
+     *
+     * @param roadm the ROADM, from 1
+     * @return the CLLI
+     */
+    public static String clli(int roadm) {
+        return "Node" + roadm;
+    }
+
+    /**
+     * Get the ROADM the furthest from the first one, to compute the longest paths of the network.
+     *
+     * @return the ROADM, from 1
+     */
+    public int furthestRoadm() {
+        return 1 + roadms / 2;
+    }
+
+    /**
+     * Generate the openroadm-topology.
+     *
+     * @return the {@code ietf-network:networks} JSON document
+     */
+    public JsonObject openRoadmTopology() {
+        JsonArray nodes = new JsonArray();
+        JsonArray links = new JsonArray();
+        for (int roadm = 1; roadm <= roadms; roadm++) {
+            for (int deg = 1; deg <= degrees; deg++) {
+                nodes.add(degreeNode(roadm, deg));
+                links.add(roadmToRoadmLink(roadm, deg));
+                for (int otherDeg = 1; otherDeg <= degrees; otherDeg++) {
+                    if (otherDeg != deg) {
+                        links.add(internalLink("EXPRESS-LINK", degree(roadm, deg), "DEG" + deg + "-CTP-TX",
+                            degree(roadm, otherDeg), "DEG" + otherDeg + "-CTP-RX"));
+                    }
+                }
+            }
+            for (int srg = 1; srg <= srgs; srg++) {
+                nodes.add(srgNode(roadm, srg));
+                nodes.add(xponderNode(roadm, srg));
+                for (int deg = 1; deg <= degrees; deg++) {
+                    links.add(internalLink("ADD-LINK", srg(roadm, srg), "SRG" + srg + "-CP-TX",
+                        degree(roadm, deg), "DEG" + deg + "-CTP-RX"));
+                    links.add(internalLink("DROP-LINK", degree(roadm, deg), "DEG" + deg + "-CTP-TX",
+                        srg(roadm, srg), "SRG" + srg + "-CP-RX"));
+                }
+                links.add(internalLink("XPONDER-OUTPUT", xponder(roadm, srg), NETWORK_PORT + "-TX",
+                    srg(roadm, srg), "SRG" + srg + "-PP1-RX"));
+                links.add(internalLink("XPONDER-INPUT", srg(roadm, srg), "SRG" + srg + "-PP1-TX",
+                    xponder(roadm, srg), NETWORK_PORT + "-RX"));
+            }
+        }
+        JsonObject network = new JsonObject();
+        network.addProperty("network-id", StringConstants.OPENROADM_TOPOLOGY);
+        network.add("node", nodes);
+        network.add("ietf-network-topology:link", links);
+        return networks(network);
+    }
+
+    /**
+     * Generate the openroadm-network.
+     *
+     * @return the {@code ietf-network:networks} JSON document
+     */
+    public JsonObject openRoadmNetwork() {
+        JsonArray nodes = new JsonArray();
+        for (int roadm = 1; roadm <= roadms; roadm++) {
+            nodes.add(deviceNode(roadm(roadm), "ROADM", "2", roadm, 0));
+            for (int srg = 1; srg <= srgs; srg++) {
+                nodes.add(deviceNode(xponder(roadm, srg), "XPONDER", "1", roadm, srg));
+            }
+        }
+        JsonObject network = new JsonObject();
+        network.addProperty("network-id", StringConstants.OPENROADM_NETWORK);
+        network.add("node", nodes);
+        return networks(network);
+    }
+
+    /**
+     * Generate the port-mapping of all the devices.
+     *
+     * @return the {@code transportpce-portmapping:network} JSON document
+     */
+    public JsonObject portMapping() {
+        JsonArray nodes = new JsonArray();
+        for (int roadm = 1; roadm <= roadms; roadm++) {
+            JsonArray mappings = new JsonArray();
+            JsonArray capabilities = new JsonArray();
+            for (int deg = 1; deg <= degrees; deg++) {
+                String prefix = "DEG" + deg;
+                mappings.add(mapping(prefix + "-CTP-TX", "roadm-internal", "tx", prefix + "-TTP-RX"));
+                mappings.add(mapping(prefix + "-CTP-RX", "roadm-internal", "rx", prefix + "-TTP-TX"));
+                mappings.add(mapping(prefix + "-TTP-TX", "roadm-external", "tx", prefix + "-CTP-RX"));
+                mappings.add(mapping(prefix + "-TTP-RX", "roadm-external", "rx", prefix + "-CTP-TX"));
+                capabilities.add(mcCapabilities(degree(roadm, deg)));
+            }
+            for (int srg = 1; srg <= srgs; srg++) {
+                String prefix = "SRG" + srg;
+                mappings.add(mapping(prefix + "-CP-TX", "roadm-internal", "tx", prefix + "-PP-RX"));
+                mappings.add(mapping(prefix + "-CP-RX", "roadm-internal", "rx", prefix + "-PP-TX"));
+                mappings.add(mapping(prefix + "-PP-TX", "roadm-external", "tx", prefix + "-CP-RX"));
+                mappings.add(mapping(prefix + "-PP-RX", "roadm-external", "rx", prefix + "-CP-TX"));
+                capabilities.add(mcCapabilities(srg(roadm, srg)));
+            }
+            nodes.add(mappedNode(roadm(roadm), "rdm", roadm, mappings, capabilities));
+
+            for (int srg = 1; srg <= srgs; srg++) {
+                JsonArray xponderMappings = new JsonArray();
+                xponderMappings.add(mapping(NETWORK_PORT + "-RX", "xpdr-network", "rx", CLIENT_PORT));
+                xponderMappings.add(mapping(NETWORK_PORT + "-TX", "xpdr-network", "tx", CLIENT_PORT));
+                JsonObject client = mapping(CLIENT_PORT, "xpdr-client", "bidirectional", NETWORK_PORT + "-TX");
+                client.add("supported-interface-capability", array("org-openroadm-port-types:if-100GE"));
+                xponderMappings.add(client);
+                JsonArray xponderCapabilities = new JsonArray();
+                xponderCapabilities.add(mcCapabilities(xponder(roadm, srg)));
+                nodes.add(mappedNode(xponder(roadm, srg), "xpdr", roadm, xponderMappings, xponderCapabilities));
+            }
+        }
+        JsonObject content = new JsonObject();
+        content.add("nodes", nodes);
+        JsonObject network = new JsonObject();
+        network.add("network", content);
+        return network;
+    }
+
+    private static String degree(int roadm, int deg) {
+        return roadm(roadm) + "-DEG" + deg;
+    }
+
+    private static String srg(int roadm, int srg) {
+        return roadm(roadm) + "-SRG" + srg;
+    }
+
+    // the ROADM and degree at the other end of the link of a degree
+    private int[] neighbour(int roadm, int deg) {
+        int offset = (deg + 1) / 2;
+        if (deg == degrees && degrees % 2 == 1) {
+            return new int[] {ring(roadm + roadms / 2), deg};
+        }
+        return deg % 2 == 1
+            ? new int[] {ring(roadm + offset), deg + 1}
+            : new int[] {ring(roadm - offset), deg - 1};
+    }
+
+    private int ring(int roadm) {
+        return Math.floorMod(roadm - 1, roadms) + 1;
+    }
+
+    private JsonObject degreeNode(int roadm, int deg) {
+        String prefix = "DEG" + deg;
+        JsonArray tps = new JsonArray();
+        tps.add(tp(prefix + "-CTP-TX", "DEGREE-TX-CTP"));
+        tps.add(tp(prefix + "-TTP-TX", "DEGREE-TX-TTP"));
+        tps.add(tp(prefix + "-CTP-RX", "DEGREE-RX-CTP"));
+        tps.add(tp(prefix + "-TTP-RX", "DEGREE-RX-TTP"));
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("degree-number", deg);
+        attributes.add("avail-freq-maps", freqMaps(fillRatio));
+        JsonObject node = topologyNode(degree(roadm, deg), "DEGREE", tps, roadm(roadm), roadm);
+        node.add("org-openroadm-network-topology:degree-attributes", attributes);
+        return node;
+    }
+
+    private JsonObject srgNode(int roadm, int srg) {
+        String prefix = "SRG" + srg;
+        JsonArray tps = new JsonArray();
+        tps.add(tp(prefix + "-CP-RX", "SRG-RX-CP"));
+        tps.add(tp(prefix + "-CP-TX", "SRG-TX-CP"));
+        tps.add(tp(prefix + "-PP1-RX", "SRG-RX-PP"));
+        tps.add(tp(prefix + "-PP1-TX", "SRG-TX-PP"));
+        JsonObject attributes = new JsonObject();
+        attributes.add("avail-freq-maps", freqMaps(0));
+        JsonObject node = topologyNode(srg(roadm, srg), "SRG", tps, roadm(roadm), roadm);
+        node.add("org-openroadm-network-topology:srg-attributes", attributes);
+        return node;
+    }
+
+    private static JsonObject xponderNode(int roadm, int srg) {
+        JsonArray tps = new JsonArray();
+        for (String direction : List.of("-RX", "-TX")) {
+            JsonObject tp = tp(NETWORK_PORT + direction, "XPONDER-NETWORK");
+            tp.add("org-openroadm-common-network:associated-connection-map-tp", array(CLIENT_PORT));
+            tps.add(tp);
+        }
+        tps.add(tp(CLIENT_PORT, "XPONDER-CLIENT"));
+        return topologyNode(xponder(roadm, srg), "XPONDER", tps, xponder(roadm, srg), roadm);
+    }
+
+    private static JsonObject topologyNode(String nodeId, String type, JsonArray tps, String device, int roadm) {
+        JsonObject node = new JsonObject();
+        node.addProperty("node-id", nodeId);
+        node.addProperty("operational-state", IN_SERVICE);
+        node.addProperty("administrative-state", IN_SERVICE);
+        node.addProperty(TYPE, type);
+        node.add("ietf-network-topology:termination-point", tps);
+        JsonArray supportingNodes = new JsonArray();
+        supportingNodes.add(supportingNode(StringConstants.OPENROADM_NETWORK, device));
+        supportingNodes.add(supportingNode(StringConstants.CLLI_NETWORK, clli(roadm)));
+        node.add("supporting-node", supportingNodes);
+        return node;
+    }
+
+    private static JsonObject tp(String tpId, String type) {
+        JsonObject tp = new JsonObject();
+        tp.addProperty("tp-id", tpId);
+        tp.addProperty("operational-state", IN_SERVICE);
+        tp.addProperty("administrative-state", IN_SERVICE);
+        tp.addProperty(TP_TYPE, type);
+        return tp;
+    }
+
+    private JsonArray freqMaps(double usedRatio) {
+        // one byte of the frequency map is a 50GHz channel of 8 slots
+        byte[] freqMap = new byte[GridConstant.NB_OCTECTS];
+        Arrays.fill(freqMap, (byte) GridConstant.AVAILABLE_SLOT_VALUE);
+        List<Integer> channels = new ArrayList<>(freqMap.length);
+        for (int i = 0; i < freqMap.length; i++) {
+            channels.add(i);
+        }
+        Collections.shuffle(channels, random);
+        for (int channel : channels.subList(0, (int) Math.round(usedRatio * freqMap.length))) {
+            freqMap[channel] = (byte) GridConstant.USED_SLOT_VALUE;
+        }
+        JsonObject map = new JsonObject();
+        map.addProperty("map-name", GridConstant.C_BAND);
+        map.addProperty("start-edge-freq", GridConstant.START_EDGE_FREQUENCY_THZ);
+        map.addProperty("freq-map-granularity", GridConstant.GRANULARITY);
+        map.addProperty("effective-bits", GridConstant.EFFECTIVE_BITS);
+        map.addProperty("freq-map", Base64.getEncoder().encodeToString(freqMap));
+        JsonArray maps = new JsonArray();
+        maps.add(map);
+        return maps;
+    }
+
+    private JsonObject roadmToRoadmLink(int roadm, int deg) {
+        int[] neighbour = neighbour(roadm, deg);
+        JsonObject link = link(linkId(roadm, deg, neighbour[0], neighbour[1]), "ROADM-TO-ROADM",
+            degree(roadm, deg), "DEG" + deg + "-TTP-TX",
+            degree(neighbour[0], neighbour[1]), "DEG" + neighbour[1] + "-TTP-RX");
+        link.addProperty(OPPOSITE_LINK, linkId(neighbour[0], neighbour[1], roadm, deg));
+        JsonObject concatenation = new JsonObject();
+        concatenation.addProperty("SRLG-Id", 0);
+        concatenation.addProperty("SRLG-length", SPAN_LENGTH);
+        concatenation.addProperty("pmd", 2.0);
+        concatenation.addProperty("fiber-type", "smf");
+        JsonArray concatenations = new JsonArray();
+        concatenations.add(concatenation);
+        JsonObject span = new JsonObject();
+        span.addProperty("spanloss-base", SPAN_LOSS);
+        span.add("link-concatenation", concatenations);
+        span.addProperty("spanloss-current", SPAN_LOSS);
+        span.addProperty("engineered-spanloss", SPAN_LOSS);
+        span.addProperty("auto-spanloss", true);
+        JsonObject omsAttributes = new JsonObject();
+        omsAttributes.add("span", span);
+        link.add("org-openroadm-network-topology:OMS-attributes", omsAttributes);
+        link.addProperty("org-openroadm-common-network:clfi", "fiber-" + Math.min(roadm, neighbour[0]) + "-"
+            + Math.max(roadm, neighbour[0]) + "-" + Math.min(deg, neighbour[1]));
+        link.addProperty("org-openroadm-common-network:TE-metric", 10);
+        return link;
+    }
+
+    private static String linkId(int roadm, int deg, int otherRoadm, int otherDeg) {
+        return degree(roadm, deg) + "-to-" + degree(otherRoadm, otherDeg);
+    }
+
+    // link inside a site, whose opposite link is the link between the same nodes in the other direction
+    private static JsonObject internalLink(String type, String source, String sourceTp, String dest, String destTp) {
+        JsonObject link = link(internalLinkId(source, sourceTp, dest, destTp), type, source, sourceTp, dest, destTp);
+        link.addProperty(OPPOSITE_LINK, internalLinkId(dest, opposite(destTp), source, opposite(sourceTp)));
+        return link;
+    }
+
+    private static String internalLinkId(String source, String sourceTp, String dest, String destTp) {
+        return source + "-" + sourceTp + "-to-" + dest + "-" + destTp;
+    }
+
+    private static String opposite(String tpId) {
+        return tpId.endsWith("-TX") ? tpId.replaceFirst("-TX$", "-RX") : tpId.replaceFirst("-RX$", "-TX");
+    }
+
+    private static JsonObject link(String linkId, String type, String source, String sourceTp, String dest,
+            String destTp) {
+        JsonObject link = new JsonObject();
+        link.addProperty("link-id", linkId);
+        link.addProperty("operational-state", IN_SERVICE);
+        link.addProperty("administrative-state", IN_SERVICE);
+        link.addProperty(LINK_TYPE, type);
+        JsonObject sourceObject = new JsonObject();
+        sourceObject.addProperty("source-node", source);
+        sourceObject.addProperty("source-tp", sourceTp);
+        link.add("source", sourceObject);
+        JsonObject destination = new JsonObject();
+        destination.addProperty("dest-node", dest);
+        destination.addProperty("dest-tp", destTp);
+        link.add("destination", destination);
+        return link;
+    }
+
+    private static JsonObject deviceNode(String nodeId, String type, String model, int roadm, int index) {
+        JsonObject node = new JsonObject();
+        node.addProperty("node-id", nodeId);
+        node.addProperty("org-openroadm-network:model", model);
+        node.addProperty("org-openroadm-network:vendor", "vendorA");
+        node.addProperty("org-openroadm-network:ip", "10." + roadm / 256 + "." + roadm % 256 + "." + index);
+        node.addProperty(TYPE, type);
+        JsonArray supportingNodes = new JsonArray();
+        supportingNodes.add(supportingNode(StringConstants.CLLI_NETWORK, clli(roadm)));
+        node.add("supporting-node", supportingNodes);
+        return node;
+    }
+
+    private static JsonObject supportingNode(String networkRef, String nodeRef) {
+        JsonObject supportingNode = new JsonObject();
+        supportingNode.addProperty("network-ref", networkRef);
+        supportingNode.addProperty("node-ref", nodeRef);
+        return supportingNode;
+    }
+
+    private static JsonObject mappedNode(String nodeId, String type, int roadm, JsonArray mappings,
+            JsonArray capabilities) {
+        JsonObject nodeInfo = new JsonObject();
+        nodeInfo.addProperty("node-clli", clli(roadm));
+        nodeInfo.addProperty("openroadm-version", "2.2.1");
+        nodeInfo.addProperty("node-model", "model2");
+        nodeInfo.addProperty("node-type", type);
+        nodeInfo.addProperty("node-vendor", "vendorA");
+        JsonObject node = new JsonObject();
+        node.addProperty("node-id", nodeId);
+        node.add("mapping", mappings);
+        node.add("node-info", nodeInfo);
+        node.add("mc-capabilities", capabilities);
+        return node;
+    }
+
+    private static JsonObject mapping(String lcp, String portQual, String direction, String connectionMapLcp) {
+        JsonObject mapping = new JsonObject();
+        mapping.addProperty("logical-connection-point", lcp);
+        mapping.addProperty("port-qual", portQual);
+        mapping.addProperty("port-direction", direction);
+        mapping.addProperty("supporting-port", "1");
+        mapping.addProperty("supporting-circuit-pack-name", lcp + "-PLUG");
+        mapping.addProperty("connection-map-lcp", connectionMapLcp);
+        mapping.add("supported-interface-capability", array("org-openroadm-port-types:if-OCH"));
+        return mapping;
+    }
+
+    private static JsonObject mcCapabilities(String mcNodeName) {
+        JsonObject capabilities = new JsonObject();
+        capabilities.addProperty("mc-node-name", mcNodeName);
+        capabilities.addProperty("slot-width-granularity", 12.5);
+        capabilities.addProperty("center-freq-granularity", GridConstant.GRANULARITY);
+        capabilities.addProperty("min-slots", 1);
+        capabilities.addProperty("max-slots", 20);
+        return capabilities;
+    }
+
+    private static JsonArray array(String value) {
+        JsonArray array = new JsonArray();
+        array.add(value);
+        return array;
+    }
+
+    private static JsonObject networks(JsonObject network) {
+        JsonArray networkList = new JsonArray();
+        networkList.add(network);
+        JsonObject content = new JsonObject();
+        content.add("network", networkList);
+        JsonObject networks = new JsonObject();
+        networks.add("ietf-network:networks", content);
+        return networks;
+    }
+}
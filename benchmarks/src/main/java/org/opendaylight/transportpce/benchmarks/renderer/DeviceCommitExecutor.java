@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single thread executor coordinating the commits of a simulated device, each commit being delayed by the latency of
+ * the device plus a uniform random jitter.
+ *
+ * <p>As on a NETCONF device, the commits of a device are applied one after the other, so that a slow device also
+ * delays the commits queued behind the current one.
+ */
+final class DeviceCommitExecutor extends ThreadPoolExecutor {
+    private final long latencyMillis;
+    private final long jitterMillis;
+    // only used by the single thread of the executor
+    private final Random random;
+
+    DeviceCommitExecutor(String nodeId, long latencyMillis, long jitterMillis, long seed) {
+        super(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat(nodeId + "-commit-%d").setDaemon(true).build());
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        super.beforeExecute(thread, task);
+        long delay = jitterMillis == 0 ? latencyMillis
+            : latencyMillis + random.nextLong(-jitterMillis, jitterMillis + 1);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
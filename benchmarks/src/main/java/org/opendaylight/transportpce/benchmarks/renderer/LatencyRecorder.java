@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe recorder of durations, summarized by their mean and percentiles.
+ */
+final class LatencyRecorder {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long[] samples = new long[256];
+    private int count;
+
+    /**
+     * Summary of the recorded durations, in milliseconds.
+     */
+    record Summary(int count, double mean, double p50, double p99, double max) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "count=%d mean=%.2f p50=%.2f p99=%.2f max=%.2f ms",
+                count, mean, p50, p99, max);
+        }
+    }
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    synchronized void reset() {
+        count = 0;
+    }
+
+    synchronized Summary summary() {
+        if (count == 0) {
+            return new Summary(0, 0, 0, 0, 0);
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(count, Arrays.stream(sorted).average().orElse(0) / NANOS_PER_MILLI,
+            percentile(sorted, 50), percentile(sorted, 99), sorted[count - 1] / NANOS_PER_MILLI);
+    }
+
+    // nearest-rank percentile
+    private static double percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import java.util.Map;
+import org.opendaylight.mdsal.binding.api.RpcService;
+import org.opendaylight.transportpce.olm.rpc.impl.GetPmImpl;
+import org.opendaylight.transportpce.olm.rpc.impl.ServicePowerSetupImpl;
+import org.opendaylight.transportpce.olm.rpc.impl.ServicePowerTurndownImpl;
+import org.opendaylight.transportpce.olm.service.OlmPowerService;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.GetPm;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.ServicePowerSetup;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.ServicePowerTurndown;
+import org.opendaylight.yangtools.binding.Rpc;
+
+/**
+ * RPC service routing the OLM RPCs called by the renderer to their implementations, without RPC router.
+ */
+final class OlmRpcService implements RpcService {
+    private final Map<Class<?>, Rpc<?, ?>> rpcs;
+
+    OlmRpcService(OlmPowerService olmPowerService) {
+        this.rpcs = Map.of(
+            ServicePowerSetup.class, new ServicePowerSetupImpl(olmPowerService),
+            ServicePowerTurndown.class, new ServicePowerTurndownImpl(olmPowerService),
+            GetPm.class, new GetPmImpl(olmPowerService));
+    }
+
+    @Override
+    public <T extends Rpc<?, ?>> T getRpc(Class<T> rpcInterface) {
+        Rpc<?, ?> rpc = rpcs.get(rpcInterface);
+        if (rpc == null) {
+            throw new IllegalArgumentException("Unsupported RPC " + rpcInterface.getName());
+        }
+        return rpcInterface.cast(rpc);
+    }
+}
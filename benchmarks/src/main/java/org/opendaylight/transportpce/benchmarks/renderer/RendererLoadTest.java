@@ -0,0 +1,357 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.transportpce.benchmarks.pce.TopologyGenerator;
+import org.opendaylight.transportpce.common.ResponseCodes;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.common.crossconnect.CrossConnect;
+import org.opendaylight.transportpce.common.crossconnect.CrossConnectImpl;
+import org.opendaylight.transportpce.common.device.DeviceTransactionManagerImpl;
+import org.opendaylight.transportpce.common.fixedflex.GridConstant;
+import org.opendaylight.transportpce.common.fixedflex.GridUtils;
+import org.opendaylight.transportpce.common.mapping.MappingUtils;
+import org.opendaylight.transportpce.common.mapping.MappingUtilsImpl;
+import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.transportpce.common.mapping.PortMappingImpl;
+import org.opendaylight.transportpce.common.network.NetworkTransactionImpl;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.common.openroadminterfaces.OpenRoadmInterfaces;
+import org.opendaylight.transportpce.common.openroadminterfaces.OpenRoadmInterfacesImpl;
+import org.opendaylight.transportpce.olm.power.PowerMgmtImpl;
+import org.opendaylight.transportpce.olm.service.OlmPowerServiceImpl;
+import org.opendaylight.transportpce.renderer.provisiondevice.DeviceRendererServiceImpl;
+import org.opendaylight.transportpce.renderer.provisiondevice.RendererServiceOperations;
+import org.opendaylight.transportpce.renderer.provisiondevice.RendererServiceOperationsImpl;
+import org.opendaylight.transportpce.renderer.provisiondevice.notification.NotificationSender;
+import org.opendaylight.transportpce.test.DataStoreContext;
+import org.opendaylight.transportpce.test.DataStoreContextImpl;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestInputBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.ServiceImplementationRequestOutput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.service.implementation.request.input.PathDescription;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.service.implementation.request.input.PathDescriptionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.service.implementation.request.input.ServiceAEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.renderer.rev210915.service.implementation.request.input.ServiceZEndBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.optical.channel.types.rev250110.FrequencyTHz;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.ConnectionType;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.port.Port;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.port.PortBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.ModulationFormat;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.service.format.rev191129.ServiceFormat;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.AToZDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ZToADirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZ;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.atoz.direction.AToZKey;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ztoa.direction.ZToA;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ztoa.direction.ZToABuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.path.description.ztoa.direction.ZToAKey;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.Resource;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.ResourceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.pathdescription.rev230501.pce.resource.resource.resource.TerminationPointBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.endpoint.sp.RxDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.endpoint.sp.TxDirectionBuilder;
+import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service.types.rev220118.service.handler.header.ServiceHandlerHeaderBuilder;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load test of the renderer and of the OLM against simulated OpenROADM 2.2.1 ROADMs.
+ *
+ * <p>The ROADMs form a ring, ROADM i being linked to ROADM i + 1 from its DEG1 to the DEG2 of its neighbour. Every
+ * service is a 100GE service between SRG ports of two ROADMs {@code hops} links apart, with the first wavelength
+ * available on the links it crosses. The services are implemented concurrently through
+ * {@link RendererServiceOperationsImpl#serviceImplementation}, which creates the interfaces and cross-connects on the
+ * devices and sets the power through the OLM RPCs. Every device commit takes {@code latency} ± {@code jitter}
+ * milliseconds.
+ *
+ * <p>The report gives the services implemented per second, the latency of the services and of the power setup, and
+ * per device the time spent waiting for a device transaction and the time taken by the reads.
+ *
+ * <p>Arguments are {@code name=value} pairs: {@code roadms} (8), {@code hops} (2), {@code services} (100),
+ * {@code concurrency} (3), {@code latency} (10), {@code jitter} (5), {@code timer} OLM power timers in milliseconds
+ * (0), {@code dtmThreads} device transaction manager threads (4) and {@code seed} (1).
+ */
+public final class RendererLoadTest {
+    private static final Logger LOG = LoggerFactory.getLogger(RendererLoadTest.class);
+    private static final int CHANNELS = GridConstant.EFFECTIVE_BITS / GridConstant.NB_SLOTS_100G;
+    private static final Uint32 RATE = Uint32.valueOf(100);
+    private static final long MAX_DURATION_TO_SUBMIT = 15000;
+    private static final long MAX_DURATION_TO_GET_DATA = 3000;
+    private static final int CHECKING_POOL_MIN_THREADS = 4;
+    // the renderer runs the services and their device rendering on the same 4 threads
+    private static final int RENDERER_THREADS = 4;
+
+    private final Map<String, String> options;
+    private final int roadms;
+    private final int hops;
+    private final Random random;
+    private final BitSet[] links;
+    private final int[] ppPorts;
+
+    private RendererLoadTest(Map<String, String> options) {
+        this.options = options;
+        this.roadms = option("roadms", 8);
+        this.hops = option("hops", 2);
+        if (roadms < 2 || hops < 1 || hops >= roadms) {
+            throw new IllegalArgumentException("hops must be between 1 and roadms - 1, with at least 2 roadms");
+        }
+        this.random = new Random(option("seed", 1));
+        this.links = new BitSet[roadms + 1];
+        for (int i = 1; i <= roadms; i++) {
+            links[i] = new BitSet(CHANNELS);
+        }
+        this.ppPorts = new int[roadms + 1];
+    }
+
+    public static void main(String[] args) throws ExecutionException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Argument " + arg + " is not a name=value pair");
+            }
+            options.put(option[0], option[1]);
+        }
+        new RendererLoadTest(options).run();
+        // the renderer and OLM executors are not daemon threads
+        System.exit(0);
+    }
+
+    private int option(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private void run() throws ExecutionException, InterruptedException {
+        int concurrency = option("concurrency", 3);
+        if (concurrency >= RENDERER_THREADS) {
+            LOG.warn("With a concurrency of {}, the services can hold all the {} renderer threads and wait for the "
+                + "device rendering until the renderer times out", concurrency, RENDERER_THREADS);
+        }
+        List<ServiceImplementationRequestInput> services = new ArrayList<>();
+        for (int i = 1; i <= option("services", 100); i++) {
+            services.add(plan("service-" + i));
+        }
+        Collections.shuffle(services, random);
+
+        DataStoreContext dataStoreContext = new DataStoreContextImpl();
+        try (SimulatedDevices devices = new SimulatedDevices()) {
+            int latency = option("latency", 10);
+            int jitter = option("jitter", 5);
+            for (int i = 1; i <= roadms; i++) {
+                devices.mount(new SimulatedRoadm(dataStoreContext, TopologyGenerator.roadm(i), 2,
+                    Math.max(1, ppPorts[i]), latency, jitter, random.nextLong()));
+            }
+            TimedDeviceTransactionManager deviceTransactionManager = new TimedDeviceTransactionManager(
+                new DeviceTransactionManagerImpl(devices, MAX_DURATION_TO_SUBMIT, MAX_DURATION_TO_GET_DATA,
+                    CHECKING_POOL_MIN_THREADS, option("dtmThreads", 4)));
+            NetworkTransactionService networkTransactionService =
+                new NetworkTransactionImpl(dataStoreContext.getDataBroker());
+            PortMapping portMapping = new PortMappingImpl(dataStoreContext.getDataBroker(), deviceTransactionManager,
+                null, networkTransactionService);
+            for (SimulatedRoadm device : devices.getDevices()) {
+                if (!portMapping.createMappingData(device.getNodeId(),
+                        StringConstants.OPENROADM_DEVICE_VERSION_2_2_1, null)) {
+                    throw new IllegalStateException("Unable to create the port mapping of " + device.getNodeId());
+                }
+            }
+            deviceTransactionManager.reset();
+
+            MappingUtils mappingUtils = new MappingUtilsImpl(dataStoreContext.getDataBroker());
+            OpenRoadmInterfaces openRoadmInterfaces =
+                new OpenRoadmInterfacesImpl(deviceTransactionManager, mappingUtils, portMapping);
+            CrossConnect crossConnect = new CrossConnectImpl(deviceTransactionManager, mappingUtils);
+            int timer = option("timer", 0);
+            TimedPowerMgmt powerMgmt = new TimedPowerMgmt(new PowerMgmtImpl(openRoadmInterfaces, null, crossConnect,
+                deviceTransactionManager, networkTransactionService, portMapping, timer, timer));
+            OlmRpcService olm = new OlmRpcService(new OlmPowerServiceImpl(dataStoreContext.getDataBroker(), powerMgmt,
+                deviceTransactionManager, portMapping, mappingUtils, openRoadmInterfaces));
+            RendererServiceOperations renderer = new RendererServiceOperationsImpl(
+                new DeviceRendererServiceImpl(dataStoreContext.getDataBroker(), deviceTransactionManager,
+                    openRoadmInterfaces, crossConnect, mappingUtils, portMapping, null),
+                null, dataStoreContext.getDataBroker(),
+                new NotificationSender(dataStoreContext.getNotificationPublishService()), portMapping, olm);
+
+            implement(renderer, services, concurrency);
+            report("Power setup", powerMgmt.getSetPowerLatency());
+            deviceTransactionManager.getTransactionWaits()
+                .forEach((device, summary) -> report(device + " transaction wait", summary));
+            deviceTransactionManager.getReads().forEach((device, summary) -> report(device + " reads", summary));
+        }
+    }
+
+    private void implement(RendererServiceOperations renderer, List<ServiceImplementationRequestInput> services,
+            int concurrency) throws InterruptedException {
+        LatencyRecorder serviceLatency = new LatencyRecorder();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<Boolean>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for (ServiceImplementationRequestInput service : services) {
+            results.add(executor.submit(() -> {
+                long serviceStart = System.nanoTime();
+                ServiceImplementationRequestOutput output = renderer.serviceImplementation(service, false).get();
+                serviceLatency.record(System.nanoTime() - serviceStart);
+                return ResponseCodes.RESPONSE_OK.equals(
+                    output.getConfigurationResponseCommon().getResponseCode());
+            }));
+        }
+        int failed = 0;
+        for (Future<Boolean> result : results) {
+            try {
+                if (!result.get()) {
+                    failed++;
+                }
+            } catch (ExecutionException e) {
+                LOG.warn("Service implementation failed", e);
+                failed++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        LOG.info(String.format(Locale.ROOT, "%d services (%d failed) in %.2f s: %.2f services/s, concurrency %d",
+            services.size(), failed, seconds, services.size() / seconds, concurrency));
+        report("Service implementation", serviceLatency.summary());
+    }
+
+    private static void report(String name, LatencyRecorder.Summary summary) {
+        LOG.info("{}: {}", name, summary);
+    }
+
+    /**
+     * Plan a service between two ROADMs {@code hops} links apart, on the first wavelength available on these links.
+     */
+    private ServiceImplementationRequestInput plan(String serviceName) {
+        int roadmA = random.nextInt(roadms) + 1;
+        int roadmZ = next(roadmA, hops);
+        BitSet used = new BitSet(CHANNELS);
+        for (int i = 0; i < hops; i++) {
+            used.or(links[next(roadmA, i)]);
+        }
+        int channel = used.nextClearBit(0);
+        if (channel >= CHANNELS) {
+            throw new IllegalArgumentException("No wavelength left for " + serviceName + " from "
+                + TopologyGenerator.roadm(roadmA) + ", use more roadms or fewer services");
+        }
+        for (int i = 0; i < hops; i++) {
+            links[next(roadmA, i)].set(channel);
+        }
+
+        // termination points of the path, in the A to Z order
+        List<String[]> path = new ArrayList<>();
+        path.add(new String[] {TopologyGenerator.roadm(roadmA) + "-SRG1", "SRG1-PP" + ++ppPorts[roadmA] + "-TXRX"});
+        path.add(new String[] {TopologyGenerator.roadm(roadmA) + "-DEG1", "DEG1-TTP-TXRX"});
+        for (int i = 1; i < hops; i++) {
+            String roadm = TopologyGenerator.roadm(next(roadmA, i));
+            path.add(new String[] {roadm + "-DEG2", "DEG2-TTP-TXRX"});
+            path.add(new String[] {roadm + "-DEG1", "DEG1-TTP-TXRX"});
+        }
+        path.add(new String[] {TopologyGenerator.roadm(roadmZ) + "-DEG2", "DEG2-TTP-TXRX"});
+        path.add(new String[] {TopologyGenerator.roadm(roadmZ) + "-SRG1", "SRG1-PP" + ++ppPorts[roadmZ] + "-TXRX"});
+
+        return new ServiceImplementationRequestInputBuilder()
+            .setServiceName(serviceName)
+            .setServiceHandlerHeader(new ServiceHandlerHeaderBuilder().setRequestId("request-" + serviceName).build())
+            .setServiceAEnd(new ServiceAEndBuilder()
+                .setClli(TopologyGenerator.clli(roadmA))
+                .setNodeId(TopologyGenerator.roadm(roadmA))
+                .setServiceFormat(ServiceFormat.Ethernet)
+                .setServiceRate(RATE)
+                .setTxDirection(new TxDirectionBuilder().setPort(port(path.get(0)[1])).build())
+                .setRxDirection(new RxDirectionBuilder().setPort(port(path.get(0)[1])).build())
+                .build())
+            .setServiceZEnd(new ServiceZEndBuilder()
+                .setClli(TopologyGenerator.clli(roadmZ))
+                .setNodeId(TopologyGenerator.roadm(roadmZ))
+                .setServiceFormat(ServiceFormat.Ethernet)
+                .setServiceRate(RATE)
+                .setTxDirection(new TxDirectionBuilder().setPort(port(path.get(path.size() - 1)[1])).build())
+                .setRxDirection(new RxDirectionBuilder().setPort(port(path.get(path.size() - 1)[1])).build())
+                .build())
+            .setConnectionType(ConnectionType.Service)
+            .setPathDescription(pathDescription(path, channel))
+            .build();
+    }
+
+    private int next(int roadm, int links) {
+        return (roadm - 1 + links) % roadms + 1;
+    }
+
+    private static Port port(String portName) {
+        return new PortBuilder().setPortName(portName).build();
+    }
+
+    private static PathDescription pathDescription(List<String[]> path, int channel) {
+        int lowerIndex = channel * GridConstant.NB_SLOTS_100G;
+        BigDecimal minFrequency = GridUtils.getStartFrequencyFromIndex(lowerIndex);
+        BigDecimal maxFrequency = GridUtils.getStopFrequencyFromIndex(lowerIndex + GridConstant.NB_SLOTS_100G - 1);
+        FrequencyTHz centralFrequency =
+            new FrequencyTHz(GridUtils.getCentralFrequencyWithPrecision(minFrequency, maxFrequency, 5).getValue());
+
+        Map<AToZKey, AToZ> atoz = new HashMap<>();
+        for (int i = 0; i < path.size(); i++) {
+            String id = String.valueOf(i + 1);
+            atoz.put(new AToZKey(id), new AToZBuilder().setId(id).setResource(resource(path.get(i))).build());
+        }
+        Map<ZToAKey, ZToA> ztoa = new HashMap<>();
+        for (int i = 0; i < path.size(); i++) {
+            String id = String.valueOf(i + 1);
+            ztoa.put(new ZToAKey(id),
+                new ZToABuilder().setId(id).setResource(resource(path.get(path.size() - 1 - i))).build());
+        }
+        return new PathDescriptionBuilder()
+            .setAToZDirection(new AToZDirectionBuilder()
+                .setRate(RATE)
+                .setModulationFormat(ModulationFormat.DpQpsk.getName())
+                .setAToZWavelengthNumber(Uint32.valueOf(channel + 1))
+                .setAToZMinFrequency(new FrequencyTHz(Decimal64.valueOf(minFrequency).scaleTo(8)))
+                .setAToZMaxFrequency(new FrequencyTHz(Decimal64.valueOf(maxFrequency).scaleTo(8)))
+                .setCentralFrequency(centralFrequency)
+                .setWidth(GridUtils.getWidthFromRateAndModulationFormat(RATE, ModulationFormat.DpQpsk))
+                .setAToZ(atoz)
+                .build())
+            .setZToADirection(new ZToADirectionBuilder()
+                .setRate(RATE)
+                .setModulationFormat(ModulationFormat.DpQpsk.getName())
+                .setZToAWavelengthNumber(Uint32.valueOf(channel + 1))
+                .setZToAMinFrequency(new FrequencyTHz(Decimal64.valueOf(minFrequency).scaleTo(8)))
+                .setZToAMaxFrequency(new FrequencyTHz(Decimal64.valueOf(maxFrequency).scaleTo(8)))
+                .setCentralFrequency(centralFrequency)
+                .setWidth(GridUtils.getWidthFromRateAndModulationFormat(RATE, ModulationFormat.DpQpsk))
+                .setZToA(ztoa)
+                .build())
+            .build();
+    }
+
+    private static Resource resource(String[] terminationPoint) {
+        return new ResourceBuilder()
+            .setResource(new TerminationPointBuilder()
+                .setTpNodeId(terminationPoint[0])
+                .setTpId(terminationPoint[1])
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.mdsal.binding.api.MountPoint;
+import org.opendaylight.transportpce.test.stub.MountPointServiceStub;
+import org.opendaylight.transportpce.test.stub.MountPointStub;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+
+/**
+ * Mount point service of the simulated devices, resolving the netconf-topology node of a device to its mount point.
+ */
+final class SimulatedDevices extends MountPointServiceStub implements AutoCloseable {
+    private final Map<String, SimulatedRoadm> devices = new ConcurrentHashMap<>();
+    private final Map<String, MountPoint> mountPoints = new ConcurrentHashMap<>();
+
+    SimulatedDevices() {
+        super(null);
+    }
+
+    void mount(SimulatedRoadm device) {
+        devices.put(device.getNodeId(), device);
+        mountPoints.put(device.getNodeId(), new MountPointStub(device.getDataBroker()));
+    }
+
+    Collection<SimulatedRoadm> getDevices() {
+        return devices.values();
+    }
+
+    @Override
+    public Optional<MountPoint> findMountPoint(DataObjectIdentifier<?> path) {
+        NodeKey nodeKey = path.firstKeyOf(Node.class);
+        return nodeKey == null ? Optional.empty()
+            : Optional.ofNullable(mountPoints.get(nodeKey.getNodeId().getValue()));
+    }
+
+    @Override
+    public void close() {
+        devices.values().forEach(SimulatedRoadm::close);
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.test.DataStoreContext;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.Direction;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.PortQual;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.RatioDB;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.OrgOpenroadmDeviceData;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.pack.Ports;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.pack.PortsBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.pack.PortsKey;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacks;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacksBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacksKey;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.degree.ConnectionPorts;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.degree.ConnectionPortsBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.interfaces.grp.Interface;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.interfaces.grp.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDeviceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.Degree;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.DegreeBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.InfoBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.SharedRiskGroup;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.SharedRiskGroupBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.port.Interfaces;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.port.InterfacesBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.types.rev191129.NodeTypes;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev171215.AdminStates;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.interfaces.rev170626.OpenROADMOpticalMultiplex;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.interfaces.rev170626.OpticalTransport;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.optical.transport.interfaces.rev181019.Interface1Builder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.optical.transport.interfaces.rev181019.ots.container.OtsBuilder;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.util.BindingMap;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory OpenROADM 2.2.1 ROADM, standing for a NETCONF device mounted on the controller.
+ *
+ * <p>The ROADM has bidirectional degrees, each with a TTP port carrying provisioned OTS and OMS interfaces, and a
+ * single SRG with bidirectional PP ports. Its datastores live in their own data broker, whose commits are delayed by
+ * a {@link DeviceCommitExecutor}. As a real device does, it lists the interfaces created on a port in the operational
+ * state of the port, which the renderer waits for after each interface creation.
+ */
+final class SimulatedRoadm implements DataTreeChangeListener<OrgOpenroadmDevice>, AutoCloseable {
+    static final String SRG = "SRG1";
+    static final String TTP_PORT = "TTP";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimulatedRoadm.class);
+    private static final DataObjectIdentifier<OrgOpenroadmDevice> DEVICE_IID = DataObjectIdentifier
+        .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+        .build();
+    // span loss in the openROADM range expected by the OLM
+    private static final RatioDB SPAN_LOSS = new RatioDB(Decimal64.valueOf(3, 15));
+
+    private final String nodeId;
+    private final DeviceCommitExecutor commitExecutor;
+    private final DataBroker dataBroker;
+    // interfaces already listed on their port, and interfaces of each port, only used by the listener thread
+    private final Set<String> reflectedInterfaces = new HashSet<>();
+    private final Map<PortRef, List<Interfaces>> portInterfaces = new HashMap<>();
+    private final Registration registration;
+
+    private record PortRef(String circuitPack, String port) {
+    }
+
+    /**
+     * Create the ROADM and write its initial configuration and state.
+     *
+     * @param dataStoreContext the context providing the schema of the device
+     * @param nodeId the identifier of the device
+     * @param degrees the number of degrees
+     * @param ppPorts the number of PP ports of the SRG
+     * @param latencyMillis the latency of a commit
+     * @param jitterMillis the maximum jitter added to or removed from the latency of a commit
+     * @param seed the seed of the jitter
+     * @throws ExecutionException if the initial data can not be written
+     * @throws InterruptedException if interrupted while writing the initial data
+     */
+    SimulatedRoadm(DataStoreContext dataStoreContext, String nodeId, int degrees, int ppPorts, long latencyMillis,
+            long jitterMillis, long seed) throws ExecutionException, InterruptedException {
+        this.nodeId = nodeId;
+        this.commitExecutor = new DeviceCommitExecutor(nodeId, latencyMillis, jitterMillis, seed);
+        this.dataBroker = dataStoreContext.createDataBroker(commitExecutor);
+        WriteTransaction transaction = dataBroker.newWriteOnlyTransaction();
+        transaction.put(LogicalDatastoreType.CONFIGURATION, DEVICE_IID, configuration(degrees));
+        transaction.put(LogicalDatastoreType.OPERATIONAL, DEVICE_IID, state(degrees, ppPorts));
+        transaction.commit().get();
+        this.registration = dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, DEVICE_IID,
+            this);
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    DataBroker getDataBroker() {
+        return dataBroker;
+    }
+
+    private OrgOpenroadmDevice configuration(int degrees) {
+        List<Interface> interfaces = new ArrayList<>();
+        for (int degree = 1; degree <= degrees; degree++) {
+            String circuitPack = "DEG" + degree;
+            String ots = "OTS-" + circuitPack + "-TTP-TXRX";
+            String oms = "OMS-" + circuitPack + "-TTP-TXRX";
+            interfaces.add(new InterfaceBuilder()
+                .setName(ots)
+                .setType(OpticalTransport.VALUE)
+                .setAdministrativeState(AdminStates.InService)
+                .setSupportingCircuitPackName(circuitPack)
+                .setSupportingPort(TTP_PORT)
+                .addAugmentation(new Interface1Builder()
+                    .setOts(new OtsBuilder().setSpanLossTransmit(SPAN_LOSS).build())
+                    .build())
+                .build());
+            interfaces.add(new InterfaceBuilder()
+                .setName(oms)
+                .setType(OpenROADMOpticalMultiplex.VALUE)
+                .setAdministrativeState(AdminStates.InService)
+                .setSupportingCircuitPackName(circuitPack)
+                .setSupportingPort(TTP_PORT)
+                .setSupportingInterface(ots)
+                .build());
+            reflectedInterfaces.add(ots);
+            reflectedInterfaces.add(oms);
+            portInterfaces.put(new PortRef(circuitPack, TTP_PORT), new ArrayList<>(List.of(
+                new InterfacesBuilder().setInterfaceName(ots).build(),
+                new InterfacesBuilder().setInterfaceName(oms).build())));
+        }
+        return new OrgOpenroadmDeviceBuilder().setInterface(BindingMap.of(interfaces)).build();
+    }
+
+    private OrgOpenroadmDevice state(int degrees, int ppPorts) {
+        List<CircuitPacks> circuitPacks = new ArrayList<>();
+        List<Degree> degreeList = new ArrayList<>();
+        for (int degree = 1; degree <= degrees; degree++) {
+            String circuitPack = "DEG" + degree;
+            circuitPacks.add(new CircuitPacksBuilder()
+                .setCircuitPackName(circuitPack)
+                .setPorts(BindingMap.of(port(TTP_PORT)
+                    .setInterfaces(List.copyOf(portInterfaces.get(new PortRef(circuitPack, TTP_PORT))))
+                    .build()))
+                .build());
+            ConnectionPorts connectionPorts = new ConnectionPortsBuilder()
+                .setIndex(Uint32.ONE)
+                .setCircuitPackName(circuitPack)
+                .setPortName(TTP_PORT)
+                .build();
+            degreeList.add(new DegreeBuilder()
+                .setDegreeNumber(Uint16.valueOf(degree))
+                .setConnectionPorts(BindingMap.of(connectionPorts))
+                .build());
+        }
+        List<Ports> ppList = new ArrayList<>();
+        for (int pp = 1; pp <= ppPorts; pp++) {
+            // the port-mapping numbers the PPs in the order of the number in their name
+            ppList.add(port("PP" + pp).build());
+        }
+        circuitPacks.add(new CircuitPacksBuilder().setCircuitPackName(SRG).setPorts(BindingMap.of(ppList)).build());
+        SharedRiskGroup srg = new SharedRiskGroupBuilder()
+            .setSrgNumber(Uint16.ONE)
+            .setCircuitPacks(BindingMap.of(new org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.srg
+                .CircuitPacksBuilder().setIndex(Uint32.ONE).setCircuitPackName(SRG).build()))
+            .build();
+        return new OrgOpenroadmDeviceBuilder()
+            .setInfo(new InfoBuilder()
+                .setClli(nodeId)
+                .setNodeType(NodeTypes.Rdm)
+                .setMaxDegrees(Uint16.valueOf(degrees))
+                .setMaxSrgs(Uint16.ONE)
+                .build())
+            .setCircuitPacks(BindingMap.of(circuitPacks))
+            .setDegree(BindingMap.of(degreeList))
+            .setSharedRiskGroup(BindingMap.of(srg))
+            .build();
+    }
+
+    private static PortsBuilder port(String portName) {
+        return new PortsBuilder()
+            .setPortName(portName)
+            .setPortQual(PortQual.RoadmExternal)
+            .setPortDirection(Direction.Bidirectional);
+    }
+
+    @Override
+    public void onDataTreeChanged(List<DataTreeModification<OrgOpenroadmDevice>> changes) {
+        Set<PortRef> updatedPorts = new HashSet<>();
+        for (DataTreeModification<OrgOpenroadmDevice> change : changes) {
+            OrgOpenroadmDevice device = change.getRootNode().dataAfter();
+            if (device == null) {
+                continue;
+            }
+            for (Interface created : device.nonnullInterface().values()) {
+                if (created.getSupportingCircuitPackName() == null || created.getSupportingPort() == null
+                        || !reflectedInterfaces.add(created.getName())) {
+                    continue;
+                }
+                PortRef port = new PortRef(created.getSupportingCircuitPackName(), created.getSupportingPort());
+                portInterfaces.computeIfAbsent(port, key -> new ArrayList<>())
+                    .add(new InterfacesBuilder().setInterfaceName(created.getName()).build());
+                updatedPorts.add(port);
+            }
+        }
+        if (updatedPorts.isEmpty()) {
+            return;
+        }
+        WriteTransaction transaction = dataBroker.newWriteOnlyTransaction();
+        for (PortRef port : updatedPorts) {
+            transaction.merge(LogicalDatastoreType.OPERATIONAL, DataObjectIdentifier
+                    .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+                    .child(CircuitPacks.class, new CircuitPacksKey(port.circuitPack()))
+                    .child(Ports.class, new PortsKey(port.port()))
+                    .build(),
+                new PortsBuilder()
+                    .setPortName(port.port())
+                    .setInterfaces(List.copyOf(portInterfaces.get(port)))
+                    .build());
+        }
+        Futures.addCallback(transaction.commit(), new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(CommitInfo result) {
+                LOG.debug("Interfaces of {} ports listed on {}", updatedPorts.size(), nodeId);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                LOG.error("Unable to list the interfaces of ports {} on {}", updatedPorts, nodeId, throwable);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public void close() {
+        registration.close();
+        commitExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.binding.api.MountPoint;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.device.DeviceTransaction;
+import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+
+/**
+ * Device transaction manager recording, per device, the time spent waiting for a device transaction and the time
+ * taken by the reads of the device.
+ *
+ * <p>The wait for a transaction is the wait for the lock of the device, held by the previous transaction until it is
+ * committed, plus the wait for a thread of the transaction manager. The lock wait of the reads is included in their
+ * time, since the delegate acquires their transactions internally.
+ */
+final class TimedDeviceTransactionManager implements DeviceTransactionManager {
+    private final DeviceTransactionManager delegate;
+    private final Map<String, LatencyRecorder> transactionWaits = new ConcurrentHashMap<>();
+    private final Map<String, LatencyRecorder> reads = new ConcurrentHashMap<>();
+
+    TimedDeviceTransactionManager(DeviceTransactionManager delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Future<Optional<DeviceTransaction>> getDeviceTransaction(String deviceId) {
+        long start = System.nanoTime();
+        return timed(deviceId, start, delegate.getDeviceTransaction(deviceId));
+    }
+
+    @Override
+    public Future<Optional<DeviceTransaction>> getDeviceTransaction(String deviceId, long timeoutToSubmit,
+            TimeUnit timeUnit) {
+        long start = System.nanoTime();
+        return timed(deviceId, start, delegate.getDeviceTransaction(deviceId, timeoutToSubmit, timeUnit));
+    }
+
+    private Future<Optional<DeviceTransaction>> timed(String deviceId, long start,
+            Future<Optional<DeviceTransaction>> future) {
+        if (future instanceof ListenableFuture<?> listenableFuture) {
+            LatencyRecorder recorder = recorder(transactionWaits, deviceId);
+            listenableFuture.addListener(() -> recorder.record(System.nanoTime() - start),
+                MoreExecutors.directExecutor());
+        }
+        return future;
+    }
+
+    @Override
+    public Optional<MountPoint> getDeviceMountPoint(String deviceId) {
+        return delegate.getDeviceMountPoint(deviceId);
+    }
+
+    @Override
+    public <T extends DataObject> Optional<T> getDataFromDevice(String deviceId,
+            LogicalDatastoreType logicalDatastoreType, DataObjectIdentifier<T> path, long timeout, TimeUnit timeUnit) {
+        long start = System.nanoTime();
+        try {
+            return delegate.getDataFromDevice(deviceId, logicalDatastoreType, path, timeout, timeUnit);
+        } finally {
+            recorder(reads, deviceId).record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean isDeviceMounted(String deviceId) {
+        return delegate.isDeviceMounted(deviceId);
+    }
+
+    /**
+     * Get the time spent waiting for device transactions, per device.
+     *
+     * @return the summaries, sorted by device
+     */
+    Map<String, LatencyRecorder.Summary> getTransactionWaits() {
+        return summaries(transactionWaits);
+    }
+
+    /**
+     * Get the time taken by the reads of the devices, per device.
+     *
+     * @return the summaries, sorted by device
+     */
+    Map<String, LatencyRecorder.Summary> getReads() {
+        return summaries(reads);
+    }
+
+    /**
+     * Forget the times recorded so far.
+     */
+    void reset() {
+        transactionWaits.values().forEach(LatencyRecorder::reset);
+        reads.values().forEach(LatencyRecorder::reset);
+    }
+
+    private static LatencyRecorder recorder(Map<String, LatencyRecorder> recorders, String deviceId) {
+        return recorders.computeIfAbsent(deviceId, key -> new LatencyRecorder());
+    }
+
+    private static Map<String, LatencyRecorder.Summary> summaries(Map<String, LatencyRecorder> recorders) {
+        Map<String, LatencyRecorder.Summary> summaries = new TreeMap<>();
+        recorders.forEach((deviceId, recorder) -> summaries.put(deviceId, recorder.summary()));
+        return summaries;
+    }
+}
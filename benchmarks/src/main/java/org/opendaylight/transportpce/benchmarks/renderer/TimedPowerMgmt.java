@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.renderer;
+
+import java.util.function.Supplier;
+import org.opendaylight.transportpce.common.device.observer.Subscriber;
+import org.opendaylight.transportpce.olm.power.PowerMgmt;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.ServicePowerSetupInput;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.ServicePowerTurndownInput;
+
+/**
+ * Power management recording the time taken to set the power of a service path.
+ */
+final class TimedPowerMgmt implements PowerMgmt {
+    private final PowerMgmt delegate;
+    private final LatencyRecorder setPowerLatency = new LatencyRecorder();
+
+    TimedPowerMgmt(PowerMgmt delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Boolean setPower(ServicePowerSetupInput input) {
+        return timed(() -> delegate.setPower(input));
+    }
+
+    @Override
+    public Boolean setPower(ServicePowerSetupInput input, Subscriber errorSubscriber) {
+        return timed(() -> delegate.setPower(input, errorSubscriber));
+    }
+
+    @Override
+    public Boolean powerTurnDown(ServicePowerTurndownInput input) {
+        return delegate.powerTurnDown(input);
+    }
+
+    LatencyRecorder.Summary getSetPowerLatency() {
+        return setPowerLatency.summary();
+    }
+
+    private Boolean timed(Supplier<Boolean> setPower) {
+        long start = System.nanoTime();
+        try {
+            return setPower.get();
+        } finally {
+            setPowerLatency.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.benchmarks.tapi;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.benchmarks.pce.SyntheticNetwork;
+import org.opendaylight.transportpce.benchmarks.pce.TopologyGenerator;
+import org.opendaylight.transportpce.common.InstanceIdentifiers;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.tapi.TapiConstants;
+import org.opendaylight.transportpce.tapi.topology.ConvertTopoORtoTapiAtInit;
+import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiLinkImpl;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmLinkType;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmNodeType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.network.Node;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.Link;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the conversion of the ROADM infrastructure of a synthetic OpenROADM network to the full TAPI topology,
+ * as done by the TAPI module at startup.
+ *
+ * <p>{@link #roadmConversion()} converts the ROADMs of the openroadm-network and the ROADM to ROADM links of the
+ * openroadm-topology. {@link #roadmNodeConversion()} only converts the ROADMs. The OpenROADM network is read from the
+ * datastore once per trial, so that the datastore reads of the TAPI module startup are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@SuppressWarnings("checkstyle:VisibilityModifier")
+public class TopologyConversionBenchmark {
+    private static final String FULL_MODE = "Full";
+
+    @Param({"10", "50", "100"})
+    public int roadms;
+    @Param({"2", "4"})
+    public int degrees;
+    @Param("2")
+    public int srgs;
+
+    private TapiLinkImpl tapiLink;
+    private Network openroadmTopology;
+    private List<Node> roadmNodes;
+    private List<Link> roadmToRoadmLinks;
+
+    @Setup(Level.Trial)
+    public void loadNetwork() throws IOException, ExecutionException, InterruptedException {
+        SyntheticNetwork network = new SyntheticNetwork(new TopologyGenerator(roadms, degrees, srgs, 0, 1));
+        NetworkTransactionService networkTransactionService = network.getNetworkTransactionService();
+        tapiLink = new TapiLinkImpl(networkTransactionService, new TapiContext(networkTransactionService));
+        openroadmTopology = networkTransactionService
+            .read(LogicalDatastoreType.CONFIGURATION, InstanceIdentifiers.OPENROADM_TOPOLOGY_II)
+            .get().orElseThrow();
+        roadmNodes = networkTransactionService
+            .read(LogicalDatastoreType.CONFIGURATION, InstanceIdentifiers.OPENROADM_NETWORK_II)
+            .get().orElseThrow()
+            .nonnullNode().values().stream()
+            .filter(node -> OpenroadmNodeType.ROADM.equals(node.augmentation(
+                org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Node1.class).getNodeType()))
+            .toList();
+        roadmToRoadmLinks = openroadmTopology.augmentation(Network1.class).nonnullLink().values().stream()
+            .filter(link -> OpenroadmLinkType.ROADMTOROADM.equals(link.augmentation(Link1.class).getLinkType()))
+            .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        tapiLink.close();
+    }
+
+    @Benchmark
+    public ConvertTopoORtoTapiAtInit roadmConversion() {
+        ConvertTopoORtoTapiAtInit converter = roadmNodeConversion();
+        converter.convertRdmToRdmLinks(roadmToRoadmLinks, openroadmTopology);
+        return converter;
+    }
+
+    @Benchmark
+    public ConvertTopoORtoTapiAtInit roadmNodeConversion() {
+        ConvertTopoORtoTapiAtInit converter = new ConvertTopoORtoTapiAtInit(TapiConstants.T0_FULL_MULTILAYER_UUID,
+            tapiLink);
+        for (Node roadm : roadmNodes) {
+            converter.convertRoadmNode(roadm, openroadmTopology, FULL_MODE);
+        }
+        return converter;
+    }
+}
@@ -7,14 +7,16 @@
  */
 package org.opendaylight.transportpce.common.converter;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
@@ -41,13 +43,23 @@ import org.slf4j.LoggerFactory;
 
 public class JsonStringConverter<T extends DataObject> {
     private static final Logger LOG = LoggerFactory.getLogger(JsonStringConverter.class);
+    // Buffers grown above this size by a large object are not kept for reuse
+    private static final int MAX_REUSED_BUFFER_SIZE = 1 << 20;
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER =
+        ThreadLocal.withInitial(() -> new ByteArrayOutputStream(8192));
 
     private BindingDOMCodecServices bindingDOMCodecServices;
+    // Root inference of the current model context, built once instead of for each object
+    private volatile EffectiveStatementInference rootInference;
 
     public JsonStringConverter(BindingDOMCodecServices bindingDOMCodecServices) {
         this.bindingDOMCodecServices = bindingDOMCodecServices;
     }
 
+    public BindingDOMCodecServices getBindingDOMCodecServices() {
+        return bindingDOMCodecServices;
+    }
+
     /**
      * Create a json string from dataobject T.
      * @param id InstanceIdentifier
@@ -58,34 +70,83 @@ public class JsonStringConverter<T extends DataObject> {
      */
     public String createJsonStringFromDataObject(final DataObjectIdentifier<T> id, T dataObject,
             JSONCodecFactorySupplier supplier) throws IOException {
-        /*
-         * This function needs : - context - scPath.getParent() -
-         * scPath.getLastComponent().getNamespace(), -
-         * JsonWriterFactory.createJsonWriter(writer)
-         */
+        Writer writer = new StringWriter();
+        writeJson(id, dataObject, supplier, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Create the UTF-8 encoded compact json representation of dataobject T.
+     * The json is written in a single pass to a per-thread buffer, reused from one call to the other.
+     * @param id InstanceIdentifier
+     * @param dataObject T
+     * @param supplier RFC7951 or DRAFT_LHOTKA_NETMOD_YANG_JSON_02
+     * @return Json representation of the object
+     * @throws IOException if something went wrong.
+     */
+    public byte[] createJsonBytesFromDataObject(final DataObjectIdentifier<T> id, T dataObject,
+            JSONCodecFactorySupplier supplier) throws IOException {
+        ByteArrayOutputStream buffer = BUFFER.get();
+        buffer.reset();
+        try {
+            writeJsonToOutputStream(id, dataObject, supplier, buffer);
+            return buffer.toByteArray();
+        } finally {
+            if (buffer.size() > MAX_REUSED_BUFFER_SIZE) {
+                BUFFER.remove();
+            }
+        }
+    }
 
-        JSONCodecFactory codecFactory = supplier
-                .getShared(bindingDOMCodecServices.getRuntimeContext().modelContext());
-        try (Writer writer = new StringWriter();
-                JsonWriter jsonWriter = JsonWriterFactory.createJsonWriter(writer, 4)) {
-            EffectiveStatementInference rootNode = SchemaInferenceStack
-                .of(bindingDOMCodecServices.getRuntimeContext().modelContext())
-                .toInference();
-            rootNode.modelContext();
-            NormalizedNodeStreamWriter jsonStreamWriter = JSONNormalizedNodeStreamWriter
-                .createExclusiveWriter(codecFactory, rootNode, EffectiveModelContext.NAME.getNamespace(), jsonWriter);
+    /**
+     * Write the UTF-8 encoded compact json representation of dataobject T to an output stream.
+     * The stream is not closed.
+     * @param id InstanceIdentifier
+     * @param dataObject T
+     * @param supplier RFC7951 or DRAFT_LHOTKA_NETMOD_YANG_JSON_02
+     * @param outputStream the stream to write to
+     * @throws IOException if something went wrong.
+     */
+    public void writeJsonToOutputStream(final DataObjectIdentifier<T> id, T dataObject,
+            JSONCodecFactorySupplier supplier, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        // Closing the json writer closes the underlying writer, which must not close the stream
+        writeJson(id, dataObject, supplier, new FilterWriter(writer) {
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        });
+    }
+
+    private void writeJson(final DataObjectIdentifier<T> id, T dataObject, JSONCodecFactorySupplier supplier,
+            Writer writer) throws IOException {
+        EffectiveModelContext modelContext = bindingDOMCodecServices.getRuntimeContext().modelContext();
+        JSONCodecFactory codecFactory = supplier.getShared(modelContext);
+        try (JsonWriter jsonWriter = JsonWriterFactory.createJsonWriter(writer)) {
+            // same escaping as Gson.toJson(), used before to compact the json
+            jsonWriter.setHtmlSafe(true);
+            NormalizedNodeStreamWriter jsonStreamWriter = JSONNormalizedNodeStreamWriter.createExclusiveWriter(
+                codecFactory, rootInference(modelContext), EffectiveModelContext.NAME.getNamespace(), jsonWriter);
             try (NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(jsonStreamWriter)) {
                 nodeWriter.write(bindingDOMCodecServices.toNormalizedDataObject(id, dataObject).node());
                 nodeWriter.flush();
             }
-            JsonObject asJsonObject = JsonParser.parseString(writer.toString()).getAsJsonObject();
-            return new Gson().toJson(asJsonObject);
         } catch (IOException e) {
             LOG.error("Cannot convert object {} to string ", dataObject);
             throw e;
         }
     }
 
+    private EffectiveStatementInference rootInference(EffectiveModelContext modelContext) {
+        EffectiveStatementInference inference = rootInference;
+        if (inference == null || inference.modelContext() != modelContext) {
+            inference = SchemaInferenceStack.of(modelContext).toInference();
+            rootInference = inference;
+        }
+        return inference;
+    }
+
     /**
      * Create a dataObject of T type from json string.
      * @param path YangInstanceIdentifier
@@ -11,6 +11,7 @@ package org.opendaylight.transportpce.common.device;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
@@ -21,6 +22,8 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
@@ -38,15 +41,20 @@ import org.slf4j.LoggerFactory;
 public class DeviceTransaction {
 
     private static final Logger LOG = LoggerFactory.getLogger(DeviceTransaction.class);
+    private static final String TRANSACTION_METRIC = "transportpce_device_transaction_seconds";
+    private static final String COMMIT_METRIC = "transportpce_device_commit_seconds";
 
     private final ReadWriteTransaction rwTx;
     private final CountDownLatch deviceLock;
     private final ScheduledExecutorService scheduledExecutorService;
     private final AtomicBoolean wasSubmittedOrCancelled = new AtomicBoolean(false);
+    private final String deviceId;
+    private final long lockedAtNanos = System.nanoTime();
 
-    DeviceTransaction(ReadWriteTransaction rwTx, CountDownLatch deviceLock) {
+    DeviceTransaction(ReadWriteTransaction rwTx, CountDownLatch deviceLock, String deviceId) {
         this.rwTx = rwTx;
         this.deviceLock = deviceLock;
+        this.deviceId = deviceId;
         this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
         LOG.debug("Device transaction created. Lock: {}", deviceLock);
     }
@@ -102,8 +110,11 @@ public class DeviceTransaction {
 
         LOG.debug("Transaction committed. Lock: {}", deviceLock);
         wasSubmittedOrCancelled.set(true);
+        Histogram commitLatency = Metrics.histogram(COMMIT_METRIC, "device", deviceId);
+        long start = System.nanoTime();
         FluentFuture<? extends @NonNull CommitInfo> future =
                 rwTx.commit().withTimeout(timeout, timeUnit, scheduledExecutorService);
+        future.addListener(() -> commitLatency.recordSince(start), MoreExecutors.directExecutor());
 
         future.addCallback(new FutureCallback<CommitInfo>() {
             @Override
@@ -132,6 +143,8 @@ public class DeviceTransaction {
 
     private void afterClose() {
         scheduledExecutorService.shutdown();
+        // time during which the device was locked by this transaction
+        Metrics.histogram(TRANSACTION_METRIC, "device", deviceId).recordSince(lockedAtNanos);
         deviceLock.countDown();
     }
 }
@@ -30,6 +30,7 @@ import org.opendaylight.mdsal.binding.api.MountPoint;
 import org.opendaylight.mdsal.binding.api.MountPointService;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.InstanceIdentifiers;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
@@ -68,6 +69,8 @@ public final class DeviceTransactionManagerImpl implements DeviceTransactionMana
     private static final long DEFAULT_MAX_DURATION_TO_SUBMIT = 15000;
     private static final int DEFAULT_CHECKING_MIN_THREADS = 4;
     private static final int DEFAULT_LISTENING_THREADS = 4;
+    private static final String LOCK_WAIT_METRIC = "transportpce_device_lock_wait_seconds";
+    private static final String TIMEOUT_METRIC = "transportpce_device_transaction_timeouts_total";
 
     private final MountPointService mountPointService;
     private final ScheduledExecutorService checkingExecutor;
@@ -105,6 +108,7 @@ public final class DeviceTransactionManagerImpl implements DeviceTransactionMana
     public Future<Optional<DeviceTransaction>> getDeviceTransaction(String deviceId, long timeoutToSubmit,
             TimeUnit timeUnit) {
         CountDownLatch newLock = new CountDownLatch(1);
+        long start = System.nanoTime();
         ListenableFuture<Optional<DeviceTransaction>> future = listeningExecutor.submit(() -> {
             LOG.debug("Starting creation of transaction for device {}.", deviceId);
             // get current lock from device and set new lock
@@ -113,6 +117,8 @@ public final class DeviceTransactionManagerImpl implements DeviceTransactionMana
                 // if lock was present on device wait until it unlocks
                 actualLock.await();
             }
+            // the wait for a thread of the listening pool is part of the wait for the device
+            Metrics.histogram(LOCK_WAIT_METRIC, "device", deviceId).recordSince(start);
 
             Optional<DataBroker> deviceDataBrokerOpt = getDeviceDataBroker(deviceId);
             DataBroker deviceDataBroker;
@@ -123,7 +129,7 @@ public final class DeviceTransactionManagerImpl implements DeviceTransactionMana
                 return Optional.empty();
             }
             LOG.debug("Created transaction for device {}.", deviceId);
-            return Optional.of(new DeviceTransaction(deviceDataBroker.newReadWriteTransaction(), newLock));
+            return Optional.of(new DeviceTransaction(deviceDataBroker.newReadWriteTransaction(), newLock, deviceId));
         });
 
         Futures.addCallback(future, new FutureCallback<Optional<DeviceTransaction>>() {
@@ -140,6 +146,7 @@ public final class DeviceTransactionManagerImpl implements DeviceTransactionMana
                             LOG.error(
                                 "Transaction for node {} not submitted/canceled after {} ms. Cancelling transaction.",
                                 deviceId, timeoutToSubmit);
+                            Metrics.counter(TIMEOUT_METRIC, "device", deviceId).increment();
                             deviceTx.cancel();
                         }
                     }
@@ -255,25 +255,9 @@ public final class MappingUtilsImpl implements MappingUtils {
             Optional<NodeInfo> nodeInfoObj =
                     readTx.read(LogicalDatastoreType.CONFIGURATION, nodeInfoIID).get();
             if (nodeInfoObj.isPresent()) {
-                NodeInfo nodInfo = nodeInfoObj.orElseThrow();
-                OpenroadmNodeVersion version = nodInfo.getOpenroadmVersion();
-                if (version == null) {
-                    LOG.warn("OpenRoadm version is null for nodeId {}", nodeId);
-                    return null;
-                }
-                switch (version) {
-                    case _71:
-                        return StringConstants.OPENROADM_DEVICE_VERSION_7_1;
-                    case _221:
-                        return StringConstants.OPENROADM_DEVICE_VERSION_2_2_1;
-                    case _121:
-                        return StringConstants.OPENROADM_DEVICE_VERSION_1_2_1;
-                    default:
-                        LOG.warn("unknown openROADM device version");
-                }
-            } else {
-                LOG.warn("Could not find mapping for nodeId {}", nodeId);
+                return toOpenRoadmVersion(nodeId, nodeInfoObj.orElseThrow());
             }
+            LOG.warn("Could not find mapping for nodeId {}", nodeId);
         } catch (InterruptedException | ExecutionException ex) {
             LOG.error("Unable to read mapping for nodeId {}",nodeId, ex);
         }
@@ -302,28 +286,64 @@ public final class MappingUtilsImpl implements MappingUtils {
             Optional<NodeInfo> nodeInfoObj =
                     readTx.read(LogicalDatastoreType.CONFIGURATION, nodeInfoIID).get();
             if (nodeInfoObj.isPresent()) {
-                NodeInfo nodInfo = nodeInfoObj.orElseThrow();
-                OpenconfigNodeVersion version = nodInfo.getOpenconfigVersion();
-                if (version == null) {
-                    LOG.warn("OpenConfig version is null for nodeId {}", nodeId);
-                    return null;
-                }
-                switch (version) {
-                    case _190:
-                        return StringConstants.OPENCONFIG_DEVICE_VERSION_1_9_0;
-                    case PROTOTYPE:
-                    default:
-                        LOG.warn("unknown openConfig device version");
-                }
-            } else {
-                LOG.warn("Could not find mapping for nodeId {}", nodeId);
+                return toOpenConfigVersion(nodeId, nodeInfoObj.orElseThrow());
             }
+            LOG.warn("Could not find mapping for nodeId {}", nodeId);
         } catch (InterruptedException | ExecutionException ex) {
             LOG.error("Unable to read mapping for nodeId {}", nodeId, ex);
         }
         return null;
     }
 
+    /**
+     * Converts the OpenROADM version of a node, as stored in its port-mapping, to its string constant.
+     *
+     * @param nodeId the identifier of the node, for logging purposes
+     * @param nodeInfo the port-mapping node-info of the node
+     * @return the OpenROADM device version or null if it is not set or unknown
+     */
+    public static String toOpenRoadmVersion(String nodeId, NodeInfo nodeInfo) {
+        OpenroadmNodeVersion version = nodeInfo.getOpenroadmVersion();
+        if (version == null) {
+            LOG.warn("OpenRoadm version is null for nodeId {}", nodeId);
+            return null;
+        }
+        switch (version) {
+            case _71:
+                return StringConstants.OPENROADM_DEVICE_VERSION_7_1;
+            case _221:
+                return StringConstants.OPENROADM_DEVICE_VERSION_2_2_1;
+            case _121:
+                return StringConstants.OPENROADM_DEVICE_VERSION_1_2_1;
+            default:
+                LOG.warn("unknown openROADM device version");
+                return null;
+        }
+    }
+
+    /**
+     * Converts the OpenConfig version of a node, as stored in its port-mapping, to its string constant.
+     *
+     * @param nodeId the identifier of the node, for logging purposes
+     * @param nodeInfo the port-mapping node-info of the node
+     * @return the OpenConfig device version or null if it is not set or unknown
+     */
+    public static String toOpenConfigVersion(String nodeId, NodeInfo nodeInfo) {
+        OpenconfigNodeVersion version = nodeInfo.getOpenconfigVersion();
+        if (version == null) {
+            LOG.warn("OpenConfig version is null for nodeId {}", nodeId);
+            return null;
+        }
+        switch (version) {
+            case _190:
+                return StringConstants.OPENCONFIG_DEVICE_VERSION_1_9_0;
+            case PROTOTYPE:
+            default:
+                LOG.warn("unknown openConfig device version");
+                return null;
+        }
+    }
+
     /*
     * (non-Javadoc)
     *
@@ -125,6 +125,19 @@ public interface PortMapping {
      */
     Mapping getMappingFromOtsInterface(String nodeId, String interfName);
 
+    /**
+     * This method for a given node's termination point returns the Mapping object
+     * whose supporting OMS interface is the one provided.
+     *
+     * @param nodeId
+     *            Unique Identifier for the node of interest.
+     * @param interfName
+     *            Name of the OMS interface
+     *
+     * @return Result Mapping object if success otherwise null.
+     */
+    Mapping getMappingFromOmsInterface(String nodeId, String interfName);
+
     /**
      * This method removes a given mapping data from the mapping list
      * stored in the datastore while the Netconf device is already
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.common.mapping;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.Network;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.Nodes;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.NodesKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory view of the port-mapping CONFIGURATION datastore.
+ *
+ * <p>Nodes are loaded lazily on first access and then kept up to date by a DataTreeChangeListener registered on
+ * the port-mapping tree. Each cached node comes with secondary indexes on its mappings, by circuit-pack/port and by
+ * supporting OTS and OMS interfaces, so that lookups by these attributes no longer scan the whole mapping list.
+ */
+final class PortMappingCache implements DataTreeChangeListener<Nodes>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PortMappingCache.class);
+    private static final DataObjectReference<Nodes> NODES_II = DataObjectReference.builder(Network.class)
+        .child(Nodes.class)
+        .build();
+
+    private final DataBroker dataBroker;
+    private final Map<String, IndexedNode> nodes = new ConcurrentHashMap<>();
+    // Bumped on every change notified by the datastore, to avoid caching a read that raced with an update
+    private final AtomicLong generation = new AtomicLong();
+    private final Registration registration;
+
+    PortMappingCache(DataBroker dataBroker) {
+        this.dataBroker = dataBroker;
+        this.registration = dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, NODES_II,
+            this);
+    }
+
+    @Override
+    public void onDataTreeChanged(@NonNull List<DataTreeModification<Nodes>> changes) {
+        for (DataTreeModification<Nodes> change : changes) {
+            String nodeId = change.path().firstKeyOf(Nodes.class).getNodeId();
+            generation.incrementAndGet();
+            Nodes nodeAfter = change.getRootNode().dataAfter();
+            if (nodeAfter == null) {
+                LOG.debug("Port-mapping of node {} removed from cache", nodeId);
+                nodes.remove(nodeId);
+            } else {
+                nodes.put(nodeId, new IndexedNode(nodeAfter));
+            }
+        }
+    }
+
+    /**
+     * Get the port-mapping of a node with its secondary indexes.
+     *
+     * @param nodeId node identifier
+     * @return the indexed node or null if the node is not present in the port-mapping
+     */
+    IndexedNode get(String nodeId) {
+        IndexedNode cached = nodes.get(nodeId);
+        if (cached != null) {
+            return cached;
+        }
+        long readGeneration = generation.get();
+        DataObjectIdentifier<Nodes> nodePortMappingIID = DataObjectIdentifier.builder(Network.class)
+            .child(Nodes.class, new NodesKey(nodeId))
+            .build();
+        Optional<Nodes> nodeObject;
+        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
+            nodeObject = readTx.read(LogicalDatastoreType.CONFIGURATION, nodePortMappingIID).get();
+        } catch (InterruptedException | ExecutionException e) {
+            LOG.error("Unable to get node {} in portmapping", nodeId, e);
+            return null;
+        }
+        if (nodeObject.isEmpty()) {
+            return null;
+        }
+        IndexedNode loaded = new IndexedNode(nodeObject.orElseThrow());
+        // Only keep the result if no change was notified meanwhile, otherwise it may already be outdated.
+        nodes.compute(nodeId, (key, current) -> current != null || generation.get() != readGeneration
+            ? current
+            : loaded);
+        return loaded;
+    }
+
+    /**
+     * Drop a node from the cache so that the next access reads it again from the datastore.
+     * Used after a write of the port-mapping made by this instance, so that callers reading their own writes do
+     * not depend on the delay of the datastore notification.
+     *
+     * @param nodeId node identifier
+     */
+    void invalidate(String nodeId) {
+        generation.incrementAndGet();
+        nodes.remove(nodeId);
+    }
+
+    @Override
+    public void close() {
+        if (registration != null) {
+            registration.close();
+        }
+        nodes.clear();
+    }
+
+    /**
+     * Immutable port-mapping of a node with lookup indexes on its mappings.
+     */
+    static final class IndexedNode {
+        private final Nodes node;
+        private final Map<String, Mapping> byCircuitPackPort = new HashMap<>();
+        private final Map<String, Mapping> bySupportingOts = new HashMap<>();
+        private final Map<String, Mapping> bySupportingOms = new HashMap<>();
+
+        IndexedNode(Nodes node) {
+            this.node = node;
+            for (Mapping mapping : node.nonnullMapping().values()) {
+                if (mapping.getSupportingCircuitPackName() != null && mapping.getSupportingPort() != null) {
+                    byCircuitPackPort.putIfAbsent(
+                        cpPortKey(mapping.getSupportingCircuitPackName(), mapping.getSupportingPort()), mapping);
+                }
+                if (mapping.getSupportingOts() != null) {
+                    bySupportingOts.putIfAbsent(mapping.getSupportingOts(), mapping);
+                }
+                if (mapping.getSupportingOms() != null) {
+                    bySupportingOms.putIfAbsent(mapping.getSupportingOms(), mapping);
+                }
+            }
+        }
+
+        Nodes getNode() {
+            return node;
+        }
+
+        Mapping getMappingByCircuitPackPort(String circuitPackName, String portName) {
+            return byCircuitPackPort.get(cpPortKey(circuitPackName, portName));
+        }
+
+        Mapping getMappingBySupportingOts(String interfaceName) {
+            return bySupportingOts.get(interfaceName);
+        }
+
+        Mapping getMappingBySupportingOms(String interfaceName) {
+            return bySupportingOms.get(interfaceName);
+        }
+
+        private static String cpPortKey(String circuitPackName, String portName) {
+            return circuitPackName + '\u0000' + portName;
+        }
+    }
+}
@@ -15,12 +15,10 @@ import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEV
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.opendaylight.mdsal.binding.api.DataBroker;
-import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
@@ -39,10 +37,10 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev200529.org.open
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev200529.org.openroadm.device.container.org.openroadm.device.odu.switching.pools.non.blocking.list.PortList;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
-import org.opendaylight.yangtools.binding.DataObjectIdentifier.WithKey;
 import org.opendaylight.yangtools.yang.common.Uint16;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +55,7 @@ public class PortMappingImpl implements PortMapping {
     private final PortMappingVersion221 portMappingVersion22;
     private final PortMappingVersion121 portMappingVersion121;
     private final OCPortMappingVersion190 ocPortMappingVersion190;
+    private final PortMappingCache cache;
 
     @Activate
     public PortMappingImpl(@Reference DataBroker dataBroker,
@@ -80,6 +79,15 @@ public class PortMappingImpl implements PortMapping {
         this.portMappingVersion22 = portMappingVersion22;
         this.portMappingVersion121 = portMappingVersion121;
         this.ocPortMappingVersion190 = ocPortMappingVersion190;
+        this.cache = new PortMappingCache(dataBroker);
+    }
+
+    /**
+     * Method called when the OSGi service is destroyed.
+     */
+    @Deactivate
+    public void close() {
+        cache.close();
     }
 
     @Override
@@ -94,6 +102,14 @@ public class PortMappingImpl implements PortMapping {
 
     @Override
     public boolean createMappingData(String nodeId, String nodeVersion, IpAddress ipAddress) {
+        try {
+            return createMappingDataForVersion(nodeId, nodeVersion, ipAddress);
+        } finally {
+            cache.invalidate(nodeId);
+        }
+    }
+
+    private boolean createMappingDataForVersion(String nodeId, String nodeVersion, IpAddress ipAddress) {
         return switch (nodeVersion) {
             case OPENROADM_DEVICE_VERSION_1_2_1 -> portMappingVersion121.createMappingData(nodeId);
             case OPENROADM_DEVICE_VERSION_2_2_1 -> portMappingVersion22.createMappingData(nodeId);
@@ -112,47 +128,24 @@ public class PortMappingImpl implements PortMapping {
         /*
          * Getting physical mapping corresponding to logical connection point
          */
-        DataObjectIdentifier<Mapping> portMappingIID = DataObjectIdentifier.builder(Network.class)
-                .child(Nodes.class, new NodesKey(nodeId))
-                .child(Mapping.class, new MappingKey(logicalConnPoint))
-                .build();
-        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<Mapping> mapObject = readTx.read(LogicalDatastoreType.CONFIGURATION, portMappingIID).get();
-            if (mapObject.isPresent()) {
-                Mapping mapping = mapObject.orElseThrow();
-                LOG.info("Found mapping for {} - {}. Mapping: {}", nodeId, logicalConnPoint, mapping.toString());
-                return mapping;
-            }
-            LOG.warn("Could not find mapping for logical connection point {} for nodeId {}", logicalConnPoint, nodeId);
-        } catch (InterruptedException | ExecutionException ex) {
-            LOG.error("Unable to read mapping for logical connection point : {} for nodeId {}", logicalConnPoint,
-                nodeId, ex);
+        PortMappingCache.IndexedNode node = cache.get(nodeId);
+        Mapping mapping = node == null ? null : node.getNode().nonnullMapping().get(new MappingKey(logicalConnPoint));
+        if (mapping != null) {
+            LOG.info("Found mapping for {} - {}. Mapping: {}", nodeId, logicalConnPoint, mapping);
+            return mapping;
         }
+        LOG.warn("Could not find mapping for logical connection point {} for nodeId {}", logicalConnPoint, nodeId);
         return null;
     }
 
     @Override
     public Mapping getMapping(String nodeId, String circuitPackName, String portName) {
-        WithKey<Nodes, NodesKey> portMappingIID = DataObjectIdentifier.builder(Network.class)
-            .child(Nodes.class, new NodesKey(nodeId))
-            .build();
-        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<Nodes> portMapppingOpt = readTx.read(LogicalDatastoreType.CONFIGURATION, portMappingIID).get();
-            if (portMapppingOpt.isEmpty()) {
-                LOG.warn("Could not get portMapping for node {}", nodeId);
-                return null;
-            }
-            Map<MappingKey, Mapping> mappings = portMapppingOpt.orElseThrow().getMapping();
-            for (Mapping mapping : mappings.values()) {
-                if (circuitPackName.equals(mapping.getSupportingCircuitPackName())
-                    && portName.equals(mapping.getSupportingPort())) {
-                    return mapping;
-                }
-            }
-        } catch (InterruptedException | ExecutionException ex) {
-            LOG.error("Unable to get mapping list for nodeId {}", nodeId, ex);
+        PortMappingCache.IndexedNode node = cache.get(nodeId);
+        if (node == null) {
+            LOG.warn("Could not get portMapping for node {}", nodeId);
+            return null;
         }
-        return null;
+        return node.getMappingByCircuitPackPort(circuitPackName, portName);
     }
 
 
@@ -170,6 +163,8 @@ public class PortMappingImpl implements PortMapping {
             LOG.info("Mapping {} removed for node '{}'", logicalConnectionPoint, nodeId);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOG.error("Error for removing mapping {} for node '{}'", logicalConnectionPoint, nodeId, e);
+        } finally {
+            cache.invalidate(nodeId);
         }
     }
 
@@ -178,23 +173,15 @@ public class PortMappingImpl implements PortMapping {
         /*
          * Getting physical mapping corresponding to logical connection point
          */
-        DataObjectIdentifier<McCapabilities> mcCapabilitiesIID = DataObjectIdentifier.builder(Network.class)
-            .child(Nodes.class, new NodesKey(nodeId))
-            .child(McCapabilities.class, new McCapabilitiesKey(mcLcp))
-            .build();
-        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<McCapabilities> mcCapObject = readTx.read(LogicalDatastoreType.CONFIGURATION,
-                mcCapabilitiesIID).get();
-            if (mcCapObject.isPresent()) {
-                McCapabilities mcCap = mcCapObject.orElseThrow();
-                LOG.info("Found MC-cap for {} - {}. Mapping: {}", nodeId, mcLcp, mcCap.toString());
-                return mcCap;
-            }
-            LOG.warn("Could not find mc-capabilities for logical connection point {} for nodeId {}", mcLcp, nodeId);
-        } catch (InterruptedException | ExecutionException ex) {
-            LOG.error("Unable to read mapping for logical connection point : {} for nodeId {}", mcLcp,
-                nodeId, ex);
+        PortMappingCache.IndexedNode node = cache.get(nodeId);
+        McCapabilities mcCap = node == null
+            ? null
+            : node.getNode().nonnullMcCapabilities().get(new McCapabilitiesKey(mcLcp));
+        if (mcCap != null) {
+            LOG.info("Found MC-cap for {} - {}. Mapping: {}", nodeId, mcLcp, mcCap);
+            return mcCap;
         }
+        LOG.warn("Could not find mc-capabilities for logical connection point {} for nodeId {}", mcLcp, nodeId);
         return null;
     }
 
@@ -212,44 +199,41 @@ public class PortMappingImpl implements PortMapping {
             LOG.info("Port mapping removal for node '{}'", nodeId);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
             LOG.error("Error for removing port mapping infos for node '{}'", nodeId, e);
+        } finally {
+            cache.invalidate(nodeId);
         }
     }
 
     @Override
     public boolean updateMapping(String nodeId, Mapping oldMapping) {
         LOG.info("update mapping called");
-        OpenroadmNodeVersion openROADMversion = getNode(nodeId).getNodeInfo().getOpenroadmVersion();
-        NodeDatamodelType datamodelType = getNode(nodeId).getDatamodelType();
-
-        if (datamodelType != null && datamodelType.equals(NodeDatamodelType.OPENCONFIG)) {
-            return ocPortMappingVersion190.updateMapping(nodeId, oldMapping);
-        } else {
-            return switch (openROADMversion) {
-                case _121 -> portMappingVersion121.updateMapping(nodeId, oldMapping);
-                case _221 -> portMappingVersion22.updateMapping(nodeId, oldMapping);
-                case _71 -> portMappingVersion710.updateMapping(nodeId, oldMapping);
-                default -> false;
-            };
+        Nodes node = getNode(nodeId);
+        OpenroadmNodeVersion openROADMversion = node.getNodeInfo().getOpenroadmVersion();
+        NodeDatamodelType datamodelType = node.getDatamodelType();
+        try {
+            if (datamodelType != null && datamodelType.equals(NodeDatamodelType.OPENCONFIG)) {
+                return ocPortMappingVersion190.updateMapping(nodeId, oldMapping);
+            } else {
+                return switch (openROADMversion) {
+                    case _121 -> portMappingVersion121.updateMapping(nodeId, oldMapping);
+                    case _221 -> portMappingVersion22.updateMapping(nodeId, oldMapping);
+                    case _71 -> portMappingVersion710.updateMapping(nodeId, oldMapping);
+                    default -> false;
+                };
+            }
+        } finally {
+            cache.invalidate(nodeId);
         }
     }
 
     @Override
     public Nodes getNode(String nodeId) {
-        DataObjectIdentifier<Nodes> nodePortMappingIID = DataObjectIdentifier.builder(Network.class)
-                .child(Nodes.class, new NodesKey(nodeId))
-                .build();
-        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<Nodes> nodePortMapObject =
-                readTx.read(LogicalDatastoreType.CONFIGURATION, nodePortMappingIID).get();
-            if (nodePortMapObject.isPresent()) {
-                Nodes node = nodePortMapObject.orElseThrow();
-                LOG.info("Found node {} in portmapping.", nodeId);
-                return node;
-            }
-            LOG.warn("Could not find node {} in portmapping.", nodeId);
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error("Unable to get node {} in portmapping", nodeId, e);
+        PortMappingCache.IndexedNode node = cache.get(nodeId);
+        if (node != null) {
+            LOG.info("Found node {} in portmapping.", nodeId);
+            return node.getNode();
         }
+        LOG.warn("Could not find node {} in portmapping.", nodeId);
         return null;
     }
 
@@ -259,7 +243,11 @@ public class PortMappingImpl implements PortMapping {
         OpenroadmNodeVersion openROADMversion = getNode(nodeId).getNodeInfo().getOpenroadmVersion();
         switch (openROADMversion.getIntValue()) {
             case 3:
-                return portMappingVersion710.updatePortMappingWithOduSwitchingPools(nodeId, ospIID, nbliidMap);
+                try {
+                    return portMappingVersion710.updatePortMappingWithOduSwitchingPools(nodeId, ospIID, nbliidMap);
+                } finally {
+                    cache.invalidate(nodeId);
+                }
             default:
                 LOG.error("Update of the port-mapping [odu-switching-pool] not available for this device version {}",
                     openROADMversion);
@@ -274,25 +262,21 @@ public class PortMappingImpl implements PortMapping {
 
     @Override
     public Mapping getMappingFromOtsInterface(String nodeId, String interfName) {
-        WithKey<Nodes, NodesKey> nodePortmappingIID = DataObjectIdentifier.builder(Network.class)
-            .child(Nodes.class, new NodesKey(nodeId))
-            .build();
-        try (ReadTransaction readTx = this.dataBroker.newReadOnlyTransaction()) {
-            Optional<Nodes> nodePortmapppingOpt
-                = readTx.read(LogicalDatastoreType.CONFIGURATION, nodePortmappingIID).get();
-            if (nodePortmapppingOpt.isEmpty()) {
-                LOG.warn("Could not get portMapping for node {}", nodeId);
-                return null;
-            }
-            Map<MappingKey, Mapping> mappings = nodePortmapppingOpt.orElseThrow().getMapping();
-            for (Mapping mapping : mappings.values()) {
-                if (interfName.equals(mapping.getSupportingOts())) {
-                    return mapping;
-                }
-            }
-        } catch (InterruptedException | ExecutionException ex) {
-            LOG.error("Unable to get mapping list for nodeId {}", nodeId, ex);
+        PortMappingCache.IndexedNode node = cache.get(nodeId);
+        if (node == null) {
+            LOG.warn("Could not get portMapping for node {}", nodeId);
+            return null;
         }
-        return null;
+        return node.getMappingBySupportingOts(interfName);
+    }
+
+    @Override
+    public Mapping getMappingFromOmsInterface(String nodeId, String interfName) {
+        PortMappingCache.IndexedNode node = cache.get(nodeId);
+        if (node == null) {
+            LOG.warn("Could not get portMapping for node {}", nodeId);
+            return null;
+        }
+        return node.getMappingBySupportingOms(interfName);
     }
 }
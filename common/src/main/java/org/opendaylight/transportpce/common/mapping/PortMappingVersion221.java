@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -114,6 +115,8 @@ public class PortMappingVersion221 {
 
     private final DataBroker dataBroker;
     private final DeviceTransactionManager deviceTransactionManager;
+    // Device trees fetched once at the beginning of createMappingData, per node being discovered
+    private final Map<String, OrgOpenroadmDevice> deviceSnapshots = new ConcurrentHashMap<>();
 
     static {
         SUFFIX =  Map.of(
@@ -129,18 +132,22 @@ public class PortMappingVersion221 {
 
     public boolean createMappingData(String nodeId) {
         LOG.info(PortMappingUtils.CREATE_MAPPING_DATA_LOGMSG, nodeId, "2.2.1");
-        DataObjectIdentifier<Info> infoIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Info.class)
-            .build();
-        Optional<Info> deviceInfoOptional = this.deviceTransactionManager.getDataFromDevice(
-                nodeId, LogicalDatastoreType.OPERATIONAL, infoIID,
-                Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
-        if (deviceInfoOptional.isEmpty()) {
+        // Fetch the whole device tree in a single NETCONF get instead of one round-trip per degree, SRG,
+        // circuit-pack, port and interface. Subsequent lookups are served from this snapshot.
+        Optional<OrgOpenroadmDevice> device = readDevice(nodeId);
+        if (device.isEmpty() || device.orElseThrow().getInfo() == null) {
             LOG.warn(PortMappingUtils.DEVICE_HAS_LOGMSG, nodeId, "no info", "subtree");
             return false;
         }
-        Info deviceInfo = deviceInfoOptional.orElseThrow();
+        deviceSnapshots.put(nodeId, device.orElseThrow());
+        try {
+            return createMappingData(nodeId, device.orElseThrow().getInfo());
+        } finally {
+            deviceSnapshots.remove(nodeId);
+        }
+    }
+
+    private boolean createMappingData(String nodeId, Info deviceInfo) {
         NodeInfo nodeInfo = createNodeInfo(deviceInfo);
         if (nodeInfo == null) {
             return false;
@@ -288,12 +295,9 @@ public class PortMappingVersion221 {
     }
 
     private OrgOpenroadmDevice getXpdrDevice(String nodeId) {
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject = deviceTransactionManager.getDataFromDevice(nodeId,
-            LogicalDatastoreType.OPERATIONAL, deviceIID,
-            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = deviceSnapshots.containsKey(nodeId)
+            ? Optional.of(deviceSnapshots.get(nodeId))
+            : readDevice(nodeId);
         if (deviceObject.isEmpty()) {
             LOG.error(PortMappingUtils.CANNOT_GET_DEV_CONF_LOGMSG, nodeId);
             return null;
@@ -449,13 +453,7 @@ public class PortMappingVersion221 {
             List<org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.srg.CircuitPacks> srgCps
                 = new ArrayList<>();
             LOG.debug(PortMappingUtils.GETTING_CP_LOGMSG, deviceId, srgCounter);
-            DataObjectIdentifier<SharedRiskGroup> srgIID = DataObjectIdentifier
-                .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-                .child(SharedRiskGroup.class, new SharedRiskGroupKey(Uint16.valueOf(srgCounter)))
-                .build();
-            Optional<SharedRiskGroup> ordmSrgObject = this.deviceTransactionManager.getDataFromDevice(deviceId,
-                LogicalDatastoreType.OPERATIONAL, srgIID,
-                Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            Optional<SharedRiskGroup> ordmSrgObject = getSrgFromDevice(deviceId, srgCounter);
             if (ordmSrgObject.isPresent()) {
                 srgCps.addAll(ordmSrgObject.orElseThrow().nonnullCircuitPacks().values());
                 cpPerSrg.put(ordmSrgObject.orElseThrow().getSrgNumber().toJava(), srgCps);
@@ -530,14 +528,8 @@ public class PortMappingVersion221 {
                 nodeId, port.getPortName(), circuitPackName);
             return null;
         }
-        DataObjectIdentifier<Ports> port2ID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(CircuitPacks.class, new CircuitPacksKey(port.getPartnerPort().getCircuitPackName()))
-            .child(Ports.class, new PortsKey(port.getPartnerPort().getPortName()))
-            .build();
-        Optional<Ports> port2Object = this.deviceTransactionManager
-            .getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, port2ID,
-                Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Ports> port2Object = getPortFromDevice(nodeId,
+            port.getPartnerPort().getCircuitPackName(), port.getPartnerPort().getPortName());
         if (port2Object.isEmpty()
                 || port2Object.orElseThrow().getPortQual().getIntValue() != PortQual.RoadmExternal.getIntValue()) {
             LOG.error(PortMappingUtils.NOT_CORRECT_PARTNERPORT_LOGMSG + PortMappingUtils.PARTNERPORT_GET_ERROR_LOGMSG,
@@ -558,13 +550,7 @@ public class PortMappingVersion221 {
     }
 
     private List<Ports> getPortList(String circuitPackName, String nodeId) {
-        DataObjectIdentifier<CircuitPacks> cpIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(CircuitPacks.class, new CircuitPacksKey(circuitPackName))
-            .build();
-        Optional<CircuitPacks> circuitPackObject = this.deviceTransactionManager.getDataFromDevice(nodeId,
-             LogicalDatastoreType.OPERATIONAL, cpIID,
-             Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<CircuitPacks> circuitPackObject = getCircuitPackFromDevice(nodeId, circuitPackName);
         if (circuitPackObject.isEmpty()) {
             LOG.warn(PortMappingUtils.MISSING_CP_LOGMSG + PortMappingUtils.PORTMAPPING_IGNORE_LOGMSG,
                 nodeId, circuitPackName);
@@ -598,13 +584,7 @@ public class PortMappingVersion221 {
 
         for (int degreeCounter = 1; degreeCounter <= maxDegree; degreeCounter++) {
             LOG.debug(PortMappingUtils.GETTING_CONPORT_LOGMSG, deviceId, degreeCounter);
-            DataObjectIdentifier<Degree> deviceIID = DataObjectIdentifier
-                .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-                .child(Degree.class, new DegreeKey(Uint16.valueOf(degreeCounter)))
-                .build();
-            Optional<Degree> ordmDegreeObject = this.deviceTransactionManager.getDataFromDevice(deviceId,
-                LogicalDatastoreType.OPERATIONAL, deviceIID,
-                Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            Optional<Degree> ordmDegreeObject = getDegreeFromDevice(deviceId, degreeCounter);
             if (ordmDegreeObject.isPresent()) {
                 degrees.put(degreeCounter, ordmDegreeObject.orElseThrow());
             }
@@ -628,13 +608,7 @@ public class PortMappingVersion221 {
         // if not present assume to be 20 (temporary)
         Integer maxSrg = ordmInfo.getMaxSrgs() == null ? 20 : ordmInfo.getMaxSrgs().toJava();
         for (int srgCounter = 1; srgCounter <= maxSrg; srgCounter++) {
-            DataObjectIdentifier<SharedRiskGroup> srgIID = DataObjectIdentifier
-                .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-                .child(SharedRiskGroup.class, new SharedRiskGroupKey(Uint16.valueOf(srgCounter)))
-                .build();
-            Optional<SharedRiskGroup> ordmSrgObject = this.deviceTransactionManager.getDataFromDevice(deviceId,
-                LogicalDatastoreType.OPERATIONAL, srgIID,
-                Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            Optional<SharedRiskGroup> ordmSrgObject = getSrgFromDevice(deviceId, srgCounter);
             if (ordmSrgObject.isPresent()) {
                 srgs.add(ordmSrgObject.orElseThrow());
             }
@@ -644,13 +618,7 @@ public class PortMappingVersion221 {
 
     private Map<String, String> getEthInterfaceList(String nodeId) {
         LOG.info(PortMappingUtils.GETTING_ETH_LIST_LOGMSG, nodeId);
-        DataObjectIdentifier<Protocols> protocoliid = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Protocols.class)
-            .build();
-        Optional<Protocols> protocolObject = this.deviceTransactionManager.getDataFromDevice(nodeId,
-            LogicalDatastoreType.OPERATIONAL, protocoliid, Timeouts.DEVICE_READ_TIMEOUT,
-            Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Protocols> protocolObject = getProtocolsFromDevice(nodeId);
         if (protocolObject.isEmpty() || protocolObject.orElseThrow().augmentation(Protocols1.class).getLldp() == null) {
             LOG.warn(PortMappingUtils.PROCESSING_DONE_LOGMSG, nodeId, PortMappingUtils.CANNOT_GET_LLDP_CONF_LOGMSG);
             return new HashMap<>();
@@ -661,25 +629,13 @@ public class PortMappingVersion221 {
             if (!portConfig.getAdminStatus().equals(PortConfig.AdminStatus.Txandrx)) {
                 continue;
             }
-            DataObjectIdentifier<Interface> interfaceIID = DataObjectIdentifier
-                .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-                .child(Interface.class, new InterfaceKey(portConfig.getIfName()))
-                .build();
-            Optional<Interface> interfaceObject = this.deviceTransactionManager.getDataFromDevice(nodeId,
-                LogicalDatastoreType.OPERATIONAL, interfaceIID, Timeouts.DEVICE_READ_TIMEOUT,
-                Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            Optional<Interface> interfaceObject = getOperInterfaceFromDevice(nodeId, portConfig.getIfName());
             if (interfaceObject.isEmpty() || interfaceObject.orElseThrow().getSupportingCircuitPackName() == null) {
                 continue;
             }
             String supportingCircuitPackName = interfaceObject.orElseThrow().getSupportingCircuitPackName();
             cpToInterfaceMap.put(supportingCircuitPackName, portConfig.getIfName());
-            DataObjectIdentifier<CircuitPacks> circuitPacksIID = DataObjectIdentifier
-                .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-                .child(CircuitPacks.class, new CircuitPacksKey(supportingCircuitPackName))
-                .build();
-            Optional<CircuitPacks> circuitPackObject = this.deviceTransactionManager.getDataFromDevice(
-                nodeId, LogicalDatastoreType.OPERATIONAL, circuitPacksIID, Timeouts.DEVICE_READ_TIMEOUT,
-                Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            Optional<CircuitPacks> circuitPackObject = getCircuitPackFromDevice(nodeId, supportingCircuitPackName);
             if (circuitPackObject.isEmpty() || circuitPackObject.orElseThrow().getParentCircuitPack() == null) {
                 continue;
             }
@@ -1209,15 +1165,8 @@ public class PortMappingVersion221 {
     }
 
     private Ports getTtpPort(ConnectionPorts cp, String cpName, String nodeId) {
-        DataObjectIdentifier<Ports> portID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(CircuitPacks.class, new CircuitPacksKey(cpName))
-            .child(Ports.class, new PortsKey(cp.getPortName()))
-            .build();
         LOG.debug(PortMappingUtils.FETCH_CONNECTIONPORT_LOGMSG, nodeId, cp.getPortName(), cpName);
-        Optional<Ports> portObject = this.deviceTransactionManager.getDataFromDevice(nodeId,
-            LogicalDatastoreType.OPERATIONAL, portID, Timeouts.DEVICE_READ_TIMEOUT,
-            Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Ports> portObject = getPortFromDevice(nodeId, cpName, cp.getPortName());
         if (portObject.isEmpty()) {
             LOG.error(PortMappingUtils.NO_PORT_ON_CP_LOGMSG, nodeId, cp.getPortName(), cpName);
             return null;
@@ -1305,4 +1254,89 @@ public class PortMappingVersion221 {
         return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION,
             interfacesIID, Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
     }
+
+    private Optional<OrgOpenroadmDevice> readDevice(String nodeId) {
+        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
+            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+            .build();
+        return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
+            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    }
+
+    private Optional<Degree> getDegreeFromDevice(String nodeId, int degreeNumber) {
+        DegreeKey degreeKey = new DegreeKey(Uint16.valueOf(degreeNumber));
+        OrgOpenroadmDevice snapshot = deviceSnapshots.get(nodeId);
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.nonnullDegree().get(degreeKey));
+        }
+        return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL,
+            DataObjectIdentifier.builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+                .child(Degree.class, degreeKey)
+                .build(),
+            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    }
+
+    private Optional<SharedRiskGroup> getSrgFromDevice(String nodeId, int srgNumber) {
+        SharedRiskGroupKey srgKey = new SharedRiskGroupKey(Uint16.valueOf(srgNumber));
+        OrgOpenroadmDevice snapshot = deviceSnapshots.get(nodeId);
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.nonnullSharedRiskGroup().get(srgKey));
+        }
+        return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL,
+            DataObjectIdentifier.builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+                .child(SharedRiskGroup.class, srgKey)
+                .build(),
+            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    }
+
+    private Optional<CircuitPacks> getCircuitPackFromDevice(String nodeId, String circuitPackName) {
+        CircuitPacksKey cpKey = new CircuitPacksKey(circuitPackName);
+        OrgOpenroadmDevice snapshot = deviceSnapshots.get(nodeId);
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.nonnullCircuitPacks().get(cpKey));
+        }
+        return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL,
+            DataObjectIdentifier.builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+                .child(CircuitPacks.class, cpKey)
+                .build(),
+            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    }
+
+    private Optional<Ports> getPortFromDevice(String nodeId, String circuitPackName, String portName) {
+        if (deviceSnapshots.containsKey(nodeId)) {
+            return getCircuitPackFromDevice(nodeId, circuitPackName)
+                .map(cp -> cp.nonnullPorts().get(new PortsKey(portName)));
+        }
+        return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL,
+            DataObjectIdentifier.builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+                .child(CircuitPacks.class, new CircuitPacksKey(circuitPackName))
+                .child(Ports.class, new PortsKey(portName))
+                .build(),
+            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    }
+
+    private Optional<Protocols> getProtocolsFromDevice(String nodeId) {
+        OrgOpenroadmDevice snapshot = deviceSnapshots.get(nodeId);
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.getProtocols());
+        }
+        return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL,
+            DataObjectIdentifier.builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+                .child(Protocols.class)
+                .build(),
+            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    }
+
+    private Optional<Interface> getOperInterfaceFromDevice(String nodeId, String interfaceName) {
+        InterfaceKey interfaceKey = new InterfaceKey(interfaceName);
+        OrgOpenroadmDevice snapshot = deviceSnapshots.get(nodeId);
+        if (snapshot != null) {
+            return Optional.ofNullable(snapshot.nonnullInterface().get(interfaceKey));
+        }
+        return deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL,
+            DataObjectIdentifier.builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+                .child(Interface.class, interfaceKey)
+                .build(),
+            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations, with fixed exponential buckets.
+ *
+ * <p>Recording a duration is lock-free and does not allocate: it increments the counter of the bucket of the
+ * duration, the sum and the maximum. The bucket upper bounds double from 100 µs to about 105 s, which keeps the
+ * relative error of the percentiles, interpolated within a bucket, under a factor of 2.
+ */
+public final class Histogram {
+
+    private static final long FIRST_BOUND_NANOS = 100_000;
+    static final long[] BOUNDS_NANOS = new long[21];
+
+    static {
+        for (int i = 0; i < BOUNDS_NANOS.length; i++) {
+            BOUNDS_NANOS[i] = FIRST_BOUND_NANOS << i;
+        }
+    }
+
+    // one more bucket for the durations above the last bound
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_NANOS.length + 1);
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    Histogram() {
+    }
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos the duration in nanoseconds, negative durations are recorded as 0
+     */
+    public void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        buckets.incrementAndGet(bucket(duration));
+        sumNanos.add(duration);
+        maxNanos.accumulate(duration);
+    }
+
+    /**
+     * Record the duration elapsed since a start time.
+     *
+     * @param startNanos the start time, as returned by {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Record the duration from now to the completion of a future, whatever its outcome.
+     *
+     * <p>The time spent in the call creating the future is not recorded: when this call does part of the work, take
+     * the start time before it and use {@link #recordSince(long)} on completion instead.
+     *
+     * @param <F> type of the future
+     * @param future the future
+     * @return the future
+     */
+    public <F extends ListenableFuture<?>> F time(F future) {
+        long start = System.nanoTime();
+        future.addListener(() -> recordSince(start), MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Take a snapshot of the histogram.
+     *
+     * @return the snapshot
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new HistogramSnapshot(counts, sumNanos.sum(), maxNanos.get());
+    }
+
+    void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        sumNanos.reset();
+        maxNanos.reset();
+    }
+
+    private static int bucket(long nanos) {
+        int index = Arrays.binarySearch(BOUNDS_NANOS, nanos);
+        // a duration equal to a bound belongs to the bucket of that bound
+        return index >= 0 ? index : -index - 1;
+    }
+}
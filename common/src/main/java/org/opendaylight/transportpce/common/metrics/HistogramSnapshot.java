@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+/**
+ * Snapshot of a {@link Histogram}.
+ *
+ * <p>The getters follow the JavaBean conventions so that the snapshot is exposed as composite data by
+ * {@link MetricsMXBean}. Percentiles are interpolated linearly within the bucket they fall in, and never exceed the
+ * maximum.
+ */
+public final class HistogramSnapshot {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long[] counts;
+    private final long count;
+    private final long sumNanos;
+    private final long maxNanos;
+
+    HistogramSnapshot(long[] counts, long sumNanos, long maxNanos) {
+        this.counts = counts.clone();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.count = total;
+        this.sumNanos = sumNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSumMillis() {
+        return sumNanos / NANOS_PER_MILLI;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : sumNanos / (count * NANOS_PER_MILLI);
+    }
+
+    public double getMaxMillis() {
+        return maxNanos / NANOS_PER_MILLI;
+    }
+
+    public double getP50Millis() {
+        return percentileNanos(0.5) / NANOS_PER_MILLI;
+    }
+
+    public double getP90Millis() {
+        return percentileNanos(0.9) / NANOS_PER_MILLI;
+    }
+
+    public double getP99Millis() {
+        return percentileNanos(0.99) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Get the cumulative count of the durations lower than or equal to the bound of a bucket.
+     *
+     * @param bucket the index of the bucket, {@link Histogram#BOUNDS_NANOS} length for the unbounded one
+     * @return the cumulative count
+     */
+    long cumulativeCount(int bucket) {
+        long cumulative = 0;
+        for (int i = 0; i <= bucket; i++) {
+            cumulative += counts[i];
+        }
+        return cumulative;
+    }
+
+    long sumNanos() {
+        return sumNanos;
+    }
+
+    double percentileNanos(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (cumulative + counts[i] >= rank) {
+                long lower = i == 0 ? 0 : Histogram.BOUNDS_NANOS[i - 1];
+                long upper = i < Histogram.BOUNDS_NANOS.length ? Histogram.BOUNDS_NANOS[i] : maxNanos;
+                double percentile = lower + (upper - lower) * (double) (rank - cumulative) / counts[i];
+                return Math.min(percentile, maxNanos);
+            }
+            cumulative += counts[i];
+        }
+        return maxNanos;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+/**
+ * Access to the metrics registry shared by all the TransportPCE modules.
+ *
+ * <p>The registry is global, like the loggers, so that any class can be instrumented without being given a
+ * registry. It is exposed over JMX by {@link MetricsProvider}.
+ */
+public final class Metrics {
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    private Metrics() {
+    }
+
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+
+    /**
+     * Get a histogram of the shared registry, creating it if needed.
+     *
+     * @param name name of the histogram
+     * @param labels label names and values, alternately
+     * @return the histogram
+     */
+    public static Histogram histogram(String name, String... labels) {
+        return REGISTRY.histogram(name, labels);
+    }
+
+    /**
+     * Get a counter of the shared registry, creating it if needed.
+     *
+     * @param name name of the counter
+     * @param labels label names and values, alternately
+     * @return the counter
+     */
+    public static Counter counter(String name, String... labels) {
+        return REGISTRY.counter(name, labels);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the TransportPCE metrics, registered as {@value MetricsProvider#OBJECT_NAME}.
+ *
+ * <p>Metrics are identified by their name followed by their labels, in the Prometheus notation, for example
+ * {@code transportpce_device_lock_wait_seconds{device="ROADM-A1"}}.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * Get a snapshot of all the histograms.
+     *
+     * @return the snapshots, sorted by metric
+     */
+    Map<String, HistogramSnapshot> getHistograms();
+
+    /**
+     * Get the value of all the counters.
+     *
+     * @return the values, sorted by metric
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Render all the metrics in the Prometheus text exposition format, durations being expressed in seconds.
+     *
+     * @return the metrics
+     */
+    String scrape();
+
+    /**
+     * Reset all the histograms and counters.
+     */
+    void reset();
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registers the shared metrics registry in the platform MBean server.
+ */
+@Component(immediate = true)
+public final class MetricsProvider implements AutoCloseable {
+
+    public static final String OBJECT_NAME = "org.opendaylight.transportpce:type=Metrics";
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsProvider.class);
+
+    private final MBeanServer mbeanServer;
+    private ObjectName objectName;
+
+    @Activate
+    public MetricsProvider() {
+        this(ManagementFactory.getPlatformMBeanServer(), Metrics.registry());
+    }
+
+    public MetricsProvider(MBeanServer mbeanServer, MetricsMXBean metrics) {
+        this.mbeanServer = mbeanServer;
+        try {
+            this.objectName = mbeanServer.registerMBean(metrics, new ObjectName(OBJECT_NAME)).getObjectName();
+            LOG.info("Metrics registered in JMX as {}", objectName);
+        } catch (JMException e) {
+            LOG.warn("Unable to register the metrics in JMX as {}", OBJECT_NAME, e);
+        }
+    }
+
+    @Deactivate
+    @Override
+    public void close() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            mbeanServer.unregisterMBean(objectName);
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister the metrics from JMX", e);
+        }
+        objectName = null;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the histograms and counters, created on first use.
+ *
+ * <p>Looking a metric up allocates its identifier: hot paths keep the metric in a field when its labels are fixed.
+ */
+public final class MetricsRegistry implements MetricsMXBean {
+
+    private static final Comparator<MetricId> ORDER =
+        Comparator.comparing(MetricId::name).thenComparing(MetricId::toString);
+
+    private final ConcurrentMap<MetricId, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MetricId, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Get a histogram, creating it if needed.
+     *
+     * @param name name of the histogram
+     * @param labels label names and values, alternately
+     * @return the histogram
+     */
+    public Histogram histogram(String name, String... labels) {
+        return histograms.computeIfAbsent(MetricId.of(name, labels), id -> new Histogram());
+    }
+
+    /**
+     * Get a counter, creating it if needed.
+     *
+     * @param name name of the counter
+     * @param labels label names and values, alternately
+     * @return the counter
+     */
+    public Counter counter(String name, String... labels) {
+        return counters.computeIfAbsent(MetricId.of(name, labels), id -> new Counter());
+    }
+
+    @Override
+    public Map<String, HistogramSnapshot> getHistograms() {
+        Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+        histograms.forEach((id, histogram) -> snapshots.put(id.toString(), histogram.snapshot()));
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((id, counter) -> values.put(id.toString(), counter.getCount()));
+        return values;
+    }
+
+    @Override
+    public String scrape() {
+        StringBuilder text = new StringBuilder();
+        Map<MetricId, Histogram> sortedHistograms = new TreeMap<>(ORDER);
+        sortedHistograms.putAll(histograms);
+        String previousName = null;
+        for (Map.Entry<MetricId, Histogram> entry : sortedHistograms.entrySet()) {
+            MetricId id = entry.getKey();
+            if (!id.name().equals(previousName)) {
+                text.append("# TYPE ").append(id.name()).append(" histogram\n");
+                previousName = id.name();
+            }
+            HistogramSnapshot snapshot = entry.getValue().snapshot();
+            for (int i = 0; i <= Histogram.BOUNDS_NANOS.length; i++) {
+                String bound = i < Histogram.BOUNDS_NANOS.length ? seconds(Histogram.BOUNDS_NANOS[i]) : "+Inf";
+                text.append(id.name()).append("_bucket").append(id.labels("le", bound)).append(' ')
+                    .append(snapshot.cumulativeCount(i)).append('\n');
+            }
+            text.append(id.name()).append("_sum").append(id.labels()).append(' ')
+                .append(seconds(snapshot.sumNanos())).append('\n');
+            text.append(id.name()).append("_count").append(id.labels()).append(' ')
+                .append(snapshot.getCount()).append('\n');
+        }
+        Map<MetricId, Counter> sortedCounters = new TreeMap<>(ORDER);
+        sortedCounters.putAll(counters);
+        previousName = null;
+        for (Map.Entry<MetricId, Counter> entry : sortedCounters.entrySet()) {
+            MetricId id = entry.getKey();
+            if (!id.name().equals(previousName)) {
+                text.append("# TYPE ").append(id.name()).append(" counter\n");
+                previousName = id.name();
+            }
+            text.append(id).append(' ').append(entry.getValue().getCount()).append('\n');
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+    private static String seconds(long nanos) {
+        return BigDecimal.valueOf(nanos, 9).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Identifier of a metric: its name and its labels, as alternate names and values.
+     */
+    private record MetricId(String name, List<String> labelPairs) {
+
+        static MetricId of(String name, String... labels) {
+            if (labels.length % 2 != 0) {
+                throw new IllegalArgumentException("Labels of metric " + name + " are not name and value pairs");
+            }
+            return new MetricId(name, List.of(labels));
+        }
+
+        String labels(String... extraLabels) {
+            if (labelPairs.isEmpty() && extraLabels.length == 0) {
+                return "";
+            }
+            StringBuilder text = new StringBuilder("{");
+            appendLabels(text, labelPairs);
+            if (extraLabels.length > 0) {
+                if (!labelPairs.isEmpty()) {
+                    text.append(',');
+                }
+                appendLabels(text, List.of(extraLabels));
+            }
+            return text.append('}').toString();
+        }
+
+        private static void appendLabels(StringBuilder text, List<String> pairs) {
+            for (int i = 0; i < pairs.size(); i += 2) {
+                if (i > 0) {
+                    text.append(',');
+                }
+                text.append(pairs.get(i)).append("=\"")
+                    .append(pairs.get(i + 1).replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name + labels();
+        }
+    }
+}
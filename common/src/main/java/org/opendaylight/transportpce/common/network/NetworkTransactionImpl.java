@@ -10,11 +10,14 @@ package org.opendaylight.transportpce.common.network;
 
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.osgi.service.component.annotations.Activate;
@@ -23,6 +26,8 @@ import org.osgi.service.component.annotations.Reference;
 
 @Component
 public final class NetworkTransactionImpl implements NetworkTransactionService {
+    private static final Histogram COMMIT_LATENCY = Metrics.histogram("transportpce_datastore_commit_seconds");
+
     private final RequestProcessor requestProcessor;
 
     @Activate
@@ -49,7 +54,11 @@ public final class NetworkTransactionImpl implements NetworkTransactionService {
     }
 
     public FluentFuture<? extends @NonNull CommitInfo> commit() {
-        return requestProcessor.commit();
+        // the commit call itself waits for the write lock and submits the transaction, so it is timed as well
+        long start = System.nanoTime();
+        FluentFuture<? extends @NonNull CommitInfo> future = requestProcessor.commit();
+        future.addListener(() -> COMMIT_LATENCY.recordSince(start), MoreExecutors.directExecutor());
+        return future;
     }
 
     public <T extends DataObject> void merge(LogicalDatastoreType store, DataObjectIdentifier<T> path, T data) {
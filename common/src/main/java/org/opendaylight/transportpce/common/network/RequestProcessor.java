@@ -23,6 +23,8 @@ import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
@@ -34,6 +36,8 @@ import org.slf4j.LoggerFactory;
 public class RequestProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(RequestProcessor.class);
+    private static final Histogram WRITE_LOCK_WAIT =
+        Metrics.histogram("transportpce_datastore_write_lock_wait_seconds");
 
     private final DataBroker dataBroker;
     private final ReentrantReadWriteLock rwL = new ReentrantReadWriteLock();
@@ -66,7 +70,7 @@ public class RequestProcessor {
     public <T extends DataObject> void delete(LogicalDatastoreType store, DataObjectIdentifier<?> path) {
         String thread = Thread.currentThread().getName();
         LOG.debug("delete - store, thread = {} - {}", store, thread);
-        writeL.lock();
+        lockWrite();
         LOG.debug("delete locked by {}", thread);
         try {
             if (!writeTrMap.containsKey(thread)) {
@@ -84,7 +88,7 @@ public class RequestProcessor {
 
     public <T extends DataObject> void put(LogicalDatastoreType store, DataObjectIdentifier<T> path, T data) {
         String thread = Thread.currentThread().getName();
-        writeL.lock();
+        lockWrite();
         LOG.debug("put locked {} by {}", store, thread);
         try {
             if (!writeTrMap.containsKey(thread)) {
@@ -100,7 +104,7 @@ public class RequestProcessor {
 
     public <T extends DataObject> void merge(LogicalDatastoreType store, DataObjectIdentifier<T> path, T data) {
         String thread = Thread.currentThread().getName();
-        writeL.lock();
+        lockWrite();
         LOG.debug("merge locked {} by {}", store, thread);
         try {
             if (!writeTrMap.containsKey(thread)) {
@@ -116,7 +120,7 @@ public class RequestProcessor {
 
     public FluentFuture<? extends @NonNull CommitInfo> commit() {
         String thread = Thread.currentThread().getName();
-        writeL.lock();
+        lockWrite();
         LOG.debug("commit locked by {}", thread);
         try {
             if (writeTrMap.containsKey(thread)) {
@@ -133,6 +137,12 @@ public class RequestProcessor {
         }
     }
 
+    private void lockWrite() {
+        long start = System.nanoTime();
+        writeL.lock();
+        WRITE_LOCK_WAIT.recordSince(start);
+    }
+
     /**
      * Return the dataBroker related to RequestProcessor.
      * @return the dataBroker
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Trace of the processing of a request, such as a path computation, recording timestamped events per stage.
+ *
+ * <p>A request is traced when {@link RequestTracer} selects it, on demand for its service name or by sampling. The
+ * trace is bound to the thread processing the request and any code running on this thread reaches it with
+ * {@link #current()}. When the request is not traced, the trace is disabled and recording an event with up to two
+ * arguments does nothing and allocates nothing: the detailed output of hot loops, which used to be logged at INFO,
+ * is recorded here instead, and callers building costly arguments check {@link #isEnabled()} first.
+ *
+ * <p>Events are formatted with the SLF4J conventions when they are recorded and written on close to the
+ * {@value #LOGGER} logger, one line per event in a key=value layout:
+ * <pre>
+ * trace=12 service=SVC1 request=path-computation stage=graph-build elapsed-ms=3.215 message="edge ROADM-A1-DEG2..."
+ * </pre>
+ */
+public final class RequestTrace implements AutoCloseable {
+
+    public static final String LOGGER = "org.opendaylight.transportpce.trace";
+    static final int MAX_EVENTS = 10_000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(LOGGER);
+    private static final AtomicLong IDS = new AtomicLong();
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    private static final RequestTrace DISABLED = new RequestTrace(null, false);
+
+    private final Recording recording;
+    private final boolean owner;
+
+    private RequestTrace(Recording recording, boolean owner) {
+        this.recording = recording;
+        this.owner = owner;
+    }
+
+    /**
+     * Start the trace of a request on the current thread, if the request is selected by {@link RequestTracer}.
+     *
+     * <p>When a trace is already bound to the thread, the request is part of it and the trace returned does not end
+     * it when closed.
+     *
+     * @param request kind of request, for example {@code path-computation}
+     * @param serviceName name of the service the request applies to
+     * @return the trace, to be closed when the request is processed
+     */
+    public static RequestTrace start(String request, String serviceName) {
+        Recording bound = CURRENT.get();
+        if (bound != null) {
+            return new RequestTrace(bound, false);
+        }
+        if (!RequestTracer.instance().isTraced(serviceName)) {
+            return DISABLED;
+        }
+        Recording recording = new Recording(IDS.incrementAndGet(), request, serviceName);
+        CURRENT.set(recording);
+        return new RequestTrace(recording, true);
+    }
+
+    /**
+     * Get the trace bound to the current thread.
+     *
+     * @return the trace, disabled when no request is traced on this thread
+     */
+    public static RequestTrace current() {
+        Recording bound = CURRENT.get();
+        return bound == null ? DISABLED : new RequestTrace(bound, false);
+    }
+
+    public boolean isEnabled() {
+        return recording != null;
+    }
+
+    /**
+     * Record an event.
+     *
+     * @param stage stage of the processing
+     * @param message the event
+     */
+    public void event(String stage, String message) {
+        if (recording != null) {
+            recording.add(stage, message);
+        }
+    }
+
+    /**
+     * Record an event.
+     *
+     * @param stage stage of the processing
+     * @param format the event, with a {@code {}} placeholder
+     * @param arg the argument
+     */
+    public void event(String stage, String format, Object arg) {
+        if (recording != null) {
+            recording.add(stage, MessageFormatter.format(format, arg).getMessage());
+        }
+    }
+
+    /**
+     * Record an event.
+     *
+     * @param stage stage of the processing
+     * @param format the event, with two {@code {}} placeholders
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    public void event(String stage, String format, Object arg1, Object arg2) {
+        if (recording != null) {
+            recording.add(stage, MessageFormatter.format(format, arg1, arg2).getMessage());
+        }
+    }
+
+    /**
+     * Record an event. The arguments array is allocated by the caller, which should check {@link #isEnabled()}
+     * first on hot paths.
+     *
+     * @param stage stage of the processing
+     * @param format the event, with {@code {}} placeholders
+     * @param args the arguments
+     */
+    public void event(String stage, String format, Object... args) {
+        if (recording != null) {
+            recording.add(stage, MessageFormatter.arrayFormat(format, args).getMessage());
+        }
+    }
+
+    /**
+     * End the trace and write its events, unless the request is part of an enclosing trace.
+     */
+    @Override
+    public void close() {
+        if (recording == null || !owner) {
+            return;
+        }
+        CURRENT.remove();
+        recording.write();
+    }
+
+    private static final class Recording {
+
+        private final long id;
+        private final String request;
+        private final String serviceName;
+        private final long startNanos = System.nanoTime();
+        private final List<Event> events = new ArrayList<>();
+        private int dropped;
+
+        Recording(long id, String request, String serviceName) {
+            this.id = id;
+            this.request = request;
+            this.serviceName = serviceName;
+        }
+
+        void add(String stage, String message) {
+            if (events.size() < MAX_EVENTS) {
+                events.add(new Event(System.nanoTime() - startNanos, stage, message));
+            } else {
+                dropped++;
+            }
+        }
+
+        void write() {
+            for (Event event : events) {
+                LOG.info("trace={} service={} request={} stage={} elapsed-ms={} message=\"{}\"", id, serviceName,
+                    request, event.stage(), millis(event.elapsedNanos()), event.message());
+            }
+            LOG.info("trace={} service={} request={} stage=end elapsed-ms={} events={} dropped={}", id, serviceName,
+                request, millis(System.nanoTime() - startNanos), events.size(), dropped);
+        }
+
+        private static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+        }
+    }
+
+    private record Event(long elapsedNanos, String stage, String message) {
+    }
+}
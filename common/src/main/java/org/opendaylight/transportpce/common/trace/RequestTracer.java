@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.trace;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Selection of the requests to trace: all the requests of the services traced on demand, and one request out of the
+ * sampling interval.
+ *
+ * <p>The tracer is global, like {@link org.opendaylight.transportpce.common.metrics.Metrics}, and is exposed over
+ * JMX by {@link RequestTracerProvider}.
+ */
+public final class RequestTracer implements RequestTracerMXBean {
+
+    private static final RequestTracer INSTANCE = new RequestTracer();
+
+    private final Set<String> tracedServices = ConcurrentHashMap.newKeySet();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile int samplingInterval;
+
+    RequestTracer() {
+    }
+
+    public static RequestTracer instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    @Override
+    public void setSamplingInterval(int samplingInterval) {
+        if (samplingInterval < 0) {
+            throw new IllegalArgumentException("Sampling interval must not be negative: " + samplingInterval);
+        }
+        this.samplingInterval = samplingInterval;
+    }
+
+    @Override
+    public Set<String> getTracedServices() {
+        return new TreeSet<>(tracedServices);
+    }
+
+    @Override
+    public void traceService(String serviceName) {
+        tracedServices.add(serviceName);
+    }
+
+    @Override
+    public void untraceService(String serviceName) {
+        tracedServices.remove(serviceName);
+    }
+
+    /**
+     * Check whether a request is to be traced. Each call counts as a request for the sampling.
+     *
+     * @param serviceName name of the service the request applies to, may be null
+     * @return true if the request is to be traced
+     */
+    boolean isTraced(String serviceName) {
+        if (serviceName != null && !tracedServices.isEmpty() && tracedServices.contains(serviceName)) {
+            return true;
+        }
+        int interval = samplingInterval;
+        return interval > 0 && requests.incrementAndGet() % interval == 0;
+    }
+}
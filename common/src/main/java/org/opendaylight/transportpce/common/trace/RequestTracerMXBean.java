@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.trace;
+
+import java.util.Set;
+
+/**
+ * JMX control of the request traces, registered as {@value RequestTracerProvider#OBJECT_NAME}.
+ */
+public interface RequestTracerMXBean {
+
+    /**
+     * Get the sampling interval.
+     *
+     * @return the interval: one request out of it is traced, whatever its service, 0 when sampling is disabled
+     */
+    int getSamplingInterval();
+
+    /**
+     * Set the sampling interval.
+     *
+     * @param samplingInterval one request out of this interval is traced, 0 to disable sampling
+     */
+    void setSamplingInterval(int samplingInterval);
+
+    /**
+     * Get the services whose requests are all traced.
+     *
+     * @return the service names
+     */
+    Set<String> getTracedServices();
+
+    /**
+     * Trace all the requests of a service, until {@link #untraceService(String)} is called.
+     *
+     * @param serviceName the service name
+     */
+    void traceService(String serviceName);
+
+    /**
+     * Stop tracing all the requests of a service.
+     *
+     * @param serviceName the service name
+     */
+    void untraceService(String serviceName);
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.trace;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Configures the request tracer and registers it in the platform MBean server, so that the traced services can be
+ * changed at runtime.
+ */
+@Component(immediate = true)
+@Designate(ocd = RequestTracerProvider.Configuration.class)
+public final class RequestTracerProvider implements AutoCloseable {
+    @ObjectClassDefinition
+    public @interface Configuration {
+        @AttributeDefinition(description = "Trace one request out of this interval, 0 to disable sampling",
+            min = "0")
+        int samplingInterval() default 0;
+        @AttributeDefinition(description = "Names of the services whose requests are all traced")
+        String[] tracedServices() default {};
+    }
+
+    public static final String OBJECT_NAME = "org.opendaylight.transportpce:type=RequestTracer";
+    private static final Logger LOG = LoggerFactory.getLogger(RequestTracerProvider.class);
+
+    private final MBeanServer mbeanServer;
+    private ObjectName objectName;
+
+    @Activate
+    public RequestTracerProvider(Configuration configuration) {
+        this(ManagementFactory.getPlatformMBeanServer(), RequestTracer.instance(), configuration.samplingInterval(),
+            configuration.tracedServices());
+    }
+
+    public RequestTracerProvider(MBeanServer mbeanServer, RequestTracer tracer, int samplingInterval,
+            String... tracedServices) {
+        this.mbeanServer = mbeanServer;
+        tracer.setSamplingInterval(samplingInterval);
+        for (String serviceName : tracedServices) {
+            tracer.traceService(serviceName);
+        }
+        try {
+            this.objectName = mbeanServer.registerMBean(tracer, new ObjectName(OBJECT_NAME)).getObjectName();
+            LOG.info("Request tracer registered in JMX as {}", objectName);
+        } catch (JMException e) {
+            LOG.warn("Unable to register the request tracer in JMX as {}", OBJECT_NAME, e);
+        }
+    }
+
+    @Deactivate
+    @Override
+    public void close() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            mbeanServer.unregisterMBean(objectName);
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister the request tracer from JMX", e);
+        }
+        objectName = null;
+    }
+}
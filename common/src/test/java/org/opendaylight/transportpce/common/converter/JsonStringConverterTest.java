@@ -8,10 +8,12 @@
 package org.opendaylight.transportpce.common.converter;
 
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
@@ -64,4 +66,31 @@ public class JsonStringConverterTest extends AbstractTest {
                     JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02),
             "Should not be null");
     }
+
+    @Test
+    void createJsonBytesFromDataObjectTest() throws IOException {
+        JsonStringConverter<Request> converter =
+            new JsonStringConverter<>(getDataStoreContextUtil().getBindingDOMCodecServices());
+        Request request = converter.createDataObjectFromJsonString(
+            YangInstanceIdentifier.of(Request.QNAME),
+            Files.readString(Path.of("src/test/resources/expected_string.json")),
+            JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02);
+        DataObjectIdentifier<Request> id = DataObjectIdentifier.builder(Request.class).build();
+        JSONCodecFactorySupplier supplier = JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02;
+        byte[] expected = Files.readAllBytes(Path.of("src/test/resources/expected_string.json"));
+        assertArrayEquals(expected,
+            converter.createJsonBytesFromDataObject(id, request, supplier),
+            "Should be the same json as the string one");
+        // the reused buffer should not leak from one call to the other
+        assertArrayEquals(expected,
+            converter.createJsonBytesFromDataObject(id, request, supplier),
+            "Should be the same json when called again");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write('[');
+        converter.writeJsonToOutputStream(id, request, supplier, outputStream);
+        outputStream.write(']');
+        assertEquals("[" + new String(expected, StandardCharsets.UTF_8) + "]",
+            outputStream.toString(StandardCharsets.UTF_8), "Json should be appended to the stream");
+    }
 }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.transportpce.common.mapping;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -18,6 +19,8 @@ import static org.mockito.Mockito.when;
 import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEVICE_VERSION_1_2_1;
 import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEVICE_VERSION_2_2_1;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -126,4 +129,40 @@ public class PortMappingImplTest {
         //test get portmapping that was deleted above and doesn't exist anymore
         assertNull(portMapping.getMapping("node", "logicalConnectionPoint"));
     }
+
+    @Test
+    void getMappingFromIndexesTest() throws ExecutionException, InterruptedException {
+        Mapping mapping1 = new MappingBuilder().setLogicalConnectionPoint("DEG1-TTP-TXRX")
+                .setSupportingCircuitPackName("1/0").setSupportingPort("L1")
+                .setSupportingOts("OTS-DEG1-TTP-TXRX").setSupportingOms("OMS-DEG1-TTP-TXRX").build();
+        Mapping mapping2 = new MappingBuilder().setLogicalConnectionPoint("SRG1-PP1-TXRX")
+                .setSupportingCircuitPackName("3/0").setSupportingPort("C1").build();
+        DataObjectIdentifier<Nodes> nodeIID = DataObjectIdentifier.builder(Network.class)
+                .child(Nodes.class, new NodesKey("node"))
+                .build();
+        WriteTransaction wr = dataBroker.newWriteOnlyTransaction();
+        wr.put(LogicalDatastoreType.CONFIGURATION, nodeIID, new NodesBuilder().setNodeId("node")
+                .setMapping(Map.of(mapping1.key(), mapping1, mapping2.key(), mapping2)).build());
+        wr.commit().get();
+
+        assertEquals(mapping2, portMapping.getMapping("node", "3/0", "C1"));
+        assertNull(portMapping.getMapping("node", "3/0", "C2"));
+        assertEquals(mapping1, portMapping.getMappingFromOtsInterface("node", "OTS-DEG1-TTP-TXRX"));
+        assertEquals(mapping1, portMapping.getMappingFromOmsInterface("node", "OMS-DEG1-TTP-TXRX"));
+        assertNull(portMapping.getMappingFromOtsInterface("node2", "OTS-DEG1-TTP-TXRX"));
+
+        //a change made directly in the datastore must be propagated to the cached port-mapping
+        Mapping mapping3 = new MappingBuilder(mapping2).setSupportingPort("C2").build();
+        WriteTransaction wr2 = dataBroker.newWriteOnlyTransaction();
+        wr2.merge(LogicalDatastoreType.CONFIGURATION,
+                DataObjectIdentifier.builder(Network.class)
+                    .child(Nodes.class, new NodesKey("node"))
+                    .child(Mapping.class, mapping3.key())
+                    .build(),
+                mapping3);
+        wr2.commit().get();
+        await("wait port-mapping cache refresh").atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(mapping3, portMapping.getMapping("node", "3/0", "C2")));
+        assertNull(portMapping.getMapping("node", "3/0", "C1"));
+    }
 }
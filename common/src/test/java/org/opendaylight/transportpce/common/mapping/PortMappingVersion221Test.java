@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.common.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.Timeouts;
+import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
+import org.opendaylight.transportpce.test.DataStoreContext;
+import org.opendaylight.transportpce.test.DataStoreContextImpl;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.Network;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.Nodes;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.NodesKey;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.Direction;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.types.rev181019.PortQual;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.OrgOpenroadmDeviceData;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.pack.Ports;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.pack.PortsBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacks;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.circuit.packs.CircuitPacksBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.degree.ConnectionPorts;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.degree.ConnectionPortsBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDevice;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.OrgOpenroadmDeviceBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.Degree;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.DegreeBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.InfoBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.SharedRiskGroup;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.org.openroadm.device.container.org.openroadm.device.SharedRiskGroupBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.device.types.rev191129.NodeTypes;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+
+class PortMappingVersion221Test {
+
+    private DataBroker dataBroker;
+    private DeviceTransactionManager deviceTransactionManager;
+    private PortMappingVersion221 portMappingVersion221;
+
+    @BeforeEach
+    void setUp() {
+        DataStoreContext dataStoreContext = new DataStoreContextImpl();
+        dataBroker = dataStoreContext.getDataBroker();
+        deviceTransactionManager = mock(DeviceTransactionManager.class);
+        portMappingVersion221 = new PortMappingVersion221(dataBroker, deviceTransactionManager);
+    }
+
+    @Test
+    void createMappingDataRdmReadsDeviceOnce() throws InterruptedException, ExecutionException {
+        Ports ttpPort = new PortsBuilder().setPortName("1").setPortQual(PortQual.RoadmExternal)
+            .setPortDirection(Direction.Bidirectional).build();
+        Ports ppPort = new PortsBuilder().setPortName("2").setPortQual(PortQual.RoadmExternal)
+            .setPortDirection(Direction.Bidirectional).build();
+        CircuitPacks degCp = new CircuitPacksBuilder().setCircuitPackName("1/0")
+            .setPorts(Map.of(ttpPort.key(), ttpPort)).build();
+        CircuitPacks srgCp = new CircuitPacksBuilder().setCircuitPackName("3/0")
+            .setPorts(Map.of(ppPort.key(), ppPort)).build();
+        ConnectionPorts connectionPorts = new ConnectionPortsBuilder().setIndex(Uint32.ONE)
+            .setCircuitPackName("1/0").setPortName("1").build();
+        Degree degree = new DegreeBuilder().setDegreeNumber(Uint16.ONE)
+            .setConnectionPorts(Map.of(connectionPorts.key(), connectionPorts)).build();
+        var srgCpRef = new org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev181019.srg
+            .CircuitPacksBuilder().setIndex(Uint32.ONE).setCircuitPackName("3/0").build();
+        SharedRiskGroup srg = new SharedRiskGroupBuilder().setSrgNumber(Uint16.ONE)
+            .setCircuitPacks(Map.of(srgCpRef.key(), srgCpRef)).build();
+        OrgOpenroadmDevice device = new OrgOpenroadmDeviceBuilder()
+            .setInfo(new InfoBuilder().setClli("clli").setNodeType(NodeTypes.Rdm)
+                .setMaxDegrees(Uint16.valueOf(2)).setMaxSrgs(Uint16.valueOf(2)).build())
+            .setCircuitPacks(Map.of(degCp.key(), degCp, srgCp.key(), srgCp))
+            .setDegree(Map.of(degree.key(), degree))
+            .setSharedRiskGroup(Map.of(srg.key(), srg))
+            .build();
+        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
+            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+            .build();
+        when(deviceTransactionManager.getDataFromDevice("node", LogicalDatastoreType.OPERATIONAL, deviceIID,
+                Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT))
+            .thenReturn(Optional.of(device));
+
+        assertTrue(portMappingVersion221.createMappingData("node"));
+
+        // the whole discovery must be served by the single bulk read of the device tree
+        verify(deviceTransactionManager, times(1)).getDataFromDevice(anyString(), any(), any(), anyLong(), any());
+        Nodes nodes;
+        try (ReadTransaction readTx = dataBroker.newReadOnlyTransaction()) {
+            nodes = readTx.read(LogicalDatastoreType.CONFIGURATION,
+                    DataObjectIdentifier.builder(Network.class).child(Nodes.class, new NodesKey("node")).build())
+                .get().orElseThrow();
+        }
+        assertEquals(Set.of("DEG1-TTP-TXRX", "SRG1-PP1-TXRX"),
+            nodes.nonnullMapping().values().stream()
+                .map(Mapping::getLogicalConnectionPoint)
+                .collect(Collectors.toSet()));
+        assertEquals(2, nodes.nonnullMcCapabilities().size());
+    }
+}
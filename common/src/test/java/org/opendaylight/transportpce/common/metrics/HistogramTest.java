@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+    @Test
+    void emptyHistogram() {
+        HistogramSnapshot snapshot = new Histogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMeanMillis());
+        assertEquals(0, snapshot.getP99Millis());
+    }
+
+    @Test
+    void durationsAreCountedInTheirBucket() {
+        Histogram histogram = new Histogram();
+        histogram.record(50_000);
+        histogram.record(100_000);
+        histogram.record(1_000_000);
+        histogram.record(-1);
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(4, snapshot.getCount());
+        // a duration equal to a bound belongs to the bucket of that bound
+        assertEquals(3, snapshot.cumulativeCount(0));
+        assertEquals(3, snapshot.cumulativeCount(3));
+        assertEquals(4, snapshot.cumulativeCount(4));
+        assertEquals(4, snapshot.cumulativeCount(Histogram.BOUNDS_NANOS.length));
+        assertEquals(1_150_000, snapshot.sumNanos());
+        assertEquals(1.0, snapshot.getMaxMillis());
+    }
+
+    @Test
+    void percentilesAreInterpolatedAndCappedByTheMaximum() {
+        Histogram histogram = new Histogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(100_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1_000_000);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(0.1 * 50 / 90, snapshot.getP50Millis(), 1e-9);
+        assertEquals(0.1, snapshot.getP90Millis(), 1e-9);
+        // the last durations fall in the 800 µs - 1.6 ms bucket, but none exceeds 1 ms
+        assertEquals(1.0, snapshot.getP99Millis(), 1e-9);
+        assertEquals(0.19, snapshot.getMeanMillis(), 1e-9);
+    }
+
+    @Test
+    void futureIsTimedOnCompletion() {
+        Histogram histogram = new Histogram();
+        SettableFuture<String> future = histogram.time(SettableFuture.create());
+        assertEquals(0, histogram.snapshot().getCount());
+        future.setException(new IllegalStateException("failure"));
+        assertEquals(1, histogram.snapshot().getCount());
+    }
+
+    @Test
+    void resetClearsTheHistogram() {
+        Histogram histogram = new Histogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMaxMillis());
+    }
+}
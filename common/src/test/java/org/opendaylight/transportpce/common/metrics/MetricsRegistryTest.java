@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import org.junit.jupiter.api.Test;
+
+class MetricsRegistryTest {
+
+    @Test
+    void metricsAreCreatedOnce() {
+        MetricsRegistry registry = new MetricsRegistry();
+        assertSame(registry.histogram("test_seconds", "device", "ROADM-A1"),
+            registry.histogram("test_seconds", "device", "ROADM-A1"));
+        assertSame(registry.counter("test_total"), registry.counter("test_total"));
+    }
+
+    @Test
+    void labelsMustBePairs() {
+        MetricsRegistry registry = new MetricsRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("test_seconds", "device"));
+    }
+
+    @Test
+    void scrapeRendersThePrometheusTextFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.histogram("test_seconds", "device", "ROADM-A1").record(150_000);
+        registry.counter("test_total", "cause", "say \"no\"").add(3);
+        String text = registry.scrape();
+        assertTrue(text.startsWith("# TYPE test_seconds histogram\n"), text);
+        assertTrue(text.contains("test_seconds_bucket{device=\"ROADM-A1\",le=\"0.0001\"} 0\n"), text);
+        assertTrue(text.contains("test_seconds_bucket{device=\"ROADM-A1\",le=\"0.0002\"} 1\n"), text);
+        assertTrue(text.contains("test_seconds_bucket{device=\"ROADM-A1\",le=\"+Inf\"} 1\n"), text);
+        assertTrue(text.contains("test_seconds_sum{device=\"ROADM-A1\"} 0.00015\n"), text);
+        assertTrue(text.contains("test_seconds_count{device=\"ROADM-A1\"} 1\n"), text);
+        assertTrue(text.contains("# TYPE test_total counter\ntest_total{cause=\"say \\\"no\\\"\"} 3\n"), text);
+    }
+
+    @Test
+    void resetKeepsTheMetrics() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_total").increment();
+        registry.reset();
+        assertEquals(0L, registry.getCounters().get("test_total"));
+    }
+
+    @Test
+    void registryIsExposedOverJmx() throws JMException {
+        MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.histogram("test_seconds").record(2_000_000);
+        ObjectName objectName = new ObjectName(MetricsProvider.OBJECT_NAME);
+        try (MetricsProvider provider = new MetricsProvider(mbeanServer, registry)) {
+            TabularData histograms = (TabularData) mbeanServer.getAttribute(objectName, "Histograms");
+            CompositeData snapshot = (CompositeData) histograms.get(new Object[] {"test_seconds"}).get("value");
+            assertEquals(1L, snapshot.get("count"));
+            assertEquals(2.0, snapshot.get("maxMillis"));
+            String text = (String) mbeanServer.invoke(objectName, "scrape", null, null);
+            assertTrue(text.contains("test_seconds_count 1\n"), text);
+        }
+        assertFalse(mbeanServer.isRegistered(objectName));
+    }
+}
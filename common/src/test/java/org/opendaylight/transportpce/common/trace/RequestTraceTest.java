@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.common.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTraceTest {
+
+    private final RequestTracer tracer = RequestTracer.instance();
+
+    @AfterEach
+    void resetTracer() {
+        tracer.setSamplingInterval(0);
+        tracer.getTracedServices().forEach(tracer::untraceService);
+    }
+
+    @Test
+    void requestsAreNotTracedByDefault() {
+        try (RequestTrace trace = RequestTrace.start("path-computation", "service1")) {
+            assertFalse(trace.isEnabled());
+            assertFalse(RequestTrace.current().isEnabled());
+            trace.event("stage", "ignored {}", "event");
+        }
+    }
+
+    @Test
+    void requestsOfTracedServicesAreTraced() {
+        tracer.traceService("service1");
+        try (RequestTrace trace = RequestTrace.start("path-computation", "service1")) {
+            assertTrue(trace.isEnabled());
+            assertTrue(RequestTrace.current().isEnabled());
+            trace.event("stage", "event {} {}", "with", "arguments");
+        }
+        assertFalse(RequestTrace.current().isEnabled());
+        try (RequestTrace trace = RequestTrace.start("path-computation", "service2")) {
+            assertFalse(trace.isEnabled());
+        }
+        try (RequestTrace trace = RequestTrace.start("path-computation-reroute", null)) {
+            assertFalse(trace.isEnabled());
+        }
+    }
+
+    @Test
+    void requestsAreSampled() {
+        tracer.setSamplingInterval(3);
+        int traced = 0;
+        for (int i = 0; i < 9; i++) {
+            try (RequestTrace trace = RequestTrace.start("path-computation", "service" + i)) {
+                if (trace.isEnabled()) {
+                    traced++;
+                }
+            }
+        }
+        assertEquals(3, traced);
+        assertThrows(IllegalArgumentException.class, () -> tracer.setSamplingInterval(-1));
+    }
+
+    @Test
+    void nestedRequestIsPartOfTheEnclosingTrace() {
+        tracer.traceService("service1");
+        try (RequestTrace trace = RequestTrace.start("path-computation", "service1")) {
+            try (RequestTrace nested = RequestTrace.start("frequency-allocation", "service2")) {
+                assertTrue(nested.isEnabled());
+            }
+            assertTrue(RequestTrace.current().isEnabled());
+        }
+        assertFalse(RequestTrace.current().isEnabled());
+    }
+
+    @Test
+    void eventsBeyondTheLimitAreDropped() {
+        tracer.traceService("service1");
+        try (RequestTrace trace = RequestTrace.start("path-computation", "service1")) {
+            for (int i = 0; i <= RequestTrace.MAX_EVENTS; i++) {
+                trace.event("stage", "event {}", i);
+            }
+        }
+        assertFalse(RequestTrace.current().isEnabled());
+    }
+
+    @Test
+    void tracerIsControlledOverJmx() throws JMException {
+        MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+        ObjectName objectName = new ObjectName(RequestTracerProvider.OBJECT_NAME);
+        try (RequestTracerProvider provider = new RequestTracerProvider(mbeanServer, tracer, 5, "service1")) {
+            assertEquals(5, mbeanServer.getAttribute(objectName, "SamplingInterval"));
+            mbeanServer.invoke(objectName, "traceService", new Object[] {"service2"},
+                new String[] {String.class.getName()});
+            assertEquals(Set.of("service1", "service2"), tracer.getTracedServices());
+        }
+        assertFalse(mbeanServer.isRegistered(objectName));
+    }
+}
@@ -8,10 +8,12 @@
 package org.opendaylight.transportpce.dmaap.client.impl;
 
 import org.opendaylight.mdsal.binding.api.NotificationService;
+import org.opendaylight.transportpce.dmaap.client.listener.EventForwarder;
 import org.opendaylight.transportpce.dmaap.client.listener.NbiNotificationsHandler;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
@@ -29,19 +31,29 @@ public class DmaapClientProvider {
         String dmaapUsername() default "";
         @AttributeDefinition
         String dmaapPassword() default "";
+        @AttributeDefinition
+        int dmaapQueueCapacity() default EventForwarder.DEFAULT_QUEUE_CAPACITY;
+        @AttributeDefinition
+        int dmaapBatchSize() default EventForwarder.DEFAULT_BATCH_SIZE;
     }
 
     private static final Logger LOG = LoggerFactory.getLogger(DmaapClientProvider.class);
+    private final NbiNotificationsHandler listener;
     private Registration listenerRegistration;
 
     @Activate
     public DmaapClientProvider(@Reference NotificationService notificationService, Configuration config) {
-        this(notificationService, config.dmaapBaseUrl(), config.dmaapUsername(), config.dmaapPassword());
+        this(notificationService, new NbiNotificationsHandler(config.dmaapBaseUrl(), config.dmaapUsername(),
+            config.dmaapPassword(), config.dmaapQueueCapacity(), config.dmaapBatchSize()));
     }
 
     public DmaapClientProvider(NotificationService notificationService, String baseUrl,
             String username, String password) {
-        final var listener = new NbiNotificationsHandler(baseUrl, username, password);
+        this(notificationService, new NbiNotificationsHandler(baseUrl, username, password));
+    }
+
+    private DmaapClientProvider(NotificationService notificationService, NbiNotificationsHandler listener) {
+        this.listener = listener;
         listenerRegistration = notificationService.registerCompositeListener(listener.getCompositeListener());
         LOG.info("DmaapClientProvider Session Initiated");
     }
@@ -49,8 +61,10 @@ public class DmaapClientProvider {
     /**
      * Method called when the blueprint container is destroyed.
      */
+    @Deactivate
     public void close() {
         listenerRegistration.close();
+        listener.close();
         LOG.info("DmaapClientProvider Closed");
     }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.dmaap.client.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.WebApplicationException;
+import org.opendaylight.transportpce.common.metrics.Counter;
+import org.opendaylight.transportpce.common.metrics.Metrics;
+import org.opendaylight.transportpce.dmaap.client.resource.EventsApi;
+import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous forwarding of events to the DMaaP events API.
+ *
+ * <p>Events are queued in a bounded in-memory queue and sent by a single background thread, in batches of up to
+ * the configured batch size, so that a slow DMaaP endpoint never blocks the notification delivery thread. A batch
+ * which can not be sent is retried with an exponential back-off, and dropped after {@link #MAX_ATTEMPTS} attempts.
+ * Events offered while the queue is full are dropped and counted as overflow. The forwarded and dropped events are
+ * also counted in the shared {@link Metrics} registry, labelled with the topic.
+ */
+public final class EventForwarder implements AutoCloseable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 500;
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventForwarder.class);
+    private static final long MAX_BACKOFF_MILLIS = 30000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final long OVERFLOW_LOG_INTERVAL = 1000;
+    static final String FORWARDED_METRIC = "transportpce_dmaap_forwarded_events_total";
+    static final String DROPPED_METRIC = "transportpce_dmaap_dropped_events_total";
+    static final String RETRIES_METRIC = "transportpce_dmaap_retries_total";
+
+    private final EventsApi api;
+    private final String topic;
+    private final int batchSize;
+    private final long initialBackoffMillis;
+    private final BlockingQueue<Object> queue;
+    private final Thread thread;
+    private final LongAdder forwardedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final Counter forwardedCounter;
+    private final Counter retryCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private volatile boolean running = true;
+
+    public EventForwarder(EventsApi api, String topic, int queueCapacity, int batchSize) {
+        this(api, topic, queueCapacity, batchSize, DEFAULT_INITIAL_BACKOFF_MILLIS);
+    }
+
+    EventForwarder(EventsApi api, String topic, int queueCapacity, int batchSize, long initialBackoffMillis) {
+        this.api = api;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.forwardedCounter = Metrics.counter(FORWARDED_METRIC, "topic", topic);
+        this.retryCounter = Metrics.counter(RETRIES_METRIC, "topic", topic);
+        this.overflowCounter = Metrics.counter(DROPPED_METRIC, "topic", topic, "cause", "overflow");
+        this.failedCounter = Metrics.counter(DROPPED_METRIC, "topic", topic, "cause", "failed");
+        this.thread = new Thread(this::run, "dmaap-event-forwarder");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queue an event to be forwarded. Never blocks.
+     *
+     * @param event the event
+     * @return false if the event has been dropped because the queue is full
+     */
+    public boolean forward(Object event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        overflowCount.increment();
+        overflowCounter.increment();
+        long dropped = overflowCount.sum();
+        // log on the first overflow and then periodically, not for every dropped event
+        if (dropped % OVERFLOW_LOG_INTERVAL == 1) {
+            LOG.warn("DMaaP event queue is full, {} events dropped so far", dropped);
+        }
+        return false;
+    }
+
+    private void run() {
+        List<Object> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                send(List.copyOf(batch));
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            LOG.debug("DMaaP event forwarder interrupted", e);
+        }
+        LOG.info("DMaaP event forwarder stopped, {} events not forwarded", batch.size() + queue.size());
+    }
+
+    private void send(List<Object> batch) throws InterruptedException {
+        long backoffMillis = initialBackoffMillis;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            if (attempt > 1) {
+                retryCount.increment();
+                retryCounter.increment();
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+            try {
+                CreatedEvent response = api.sendEvents(topic, batch);
+                LOG.debug("Response received {}", response);
+                forwardedCount.add(batch.size());
+                forwardedCounter.add(batch.size());
+                batchCount.increment();
+                return;
+            } catch (WebApplicationException | ProcessingException e) {
+                LOG.info("Cannot send {} events, attempt {} of {}", batch.size(), attempt, MAX_ATTEMPTS, e);
+            }
+        }
+        LOG.warn("Dropping {} events which could not be sent", batch.size());
+        failedCount.add(batch.size());
+        failedCounter.add(batch.size());
+    }
+
+    /**
+     * Get the number of events successfully forwarded.
+     *
+     * @return the number of forwarded events
+     */
+    public long getForwardedCount() {
+        return forwardedCount.sum();
+    }
+
+    /**
+     * Get the number of requests successfully sent to the events API.
+     *
+     * @return the number of batches
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * Get the number of retried requests.
+     *
+     * @return the number of retries
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Get the number of events dropped because the queue was full.
+     *
+     * @return the number of events dropped on overflow
+     */
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    /**
+     * Get the number of events dropped after {@link #MAX_ATTEMPTS} failed attempts.
+     *
+     * @return the number of events which could not be sent
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Get the number of events waiting to be forwarded.
+     *
+     * @return the size of the queue
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Stop the forwarding thread. Queued events are not forwarded.
+     */
+    @Override
+    public void close() {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
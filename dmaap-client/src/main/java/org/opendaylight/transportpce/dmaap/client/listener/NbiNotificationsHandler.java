@@ -8,7 +8,6 @@
 package org.opendaylight.transportpce.dmaap.client.listener;
 
 import java.util.Set;
-import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
@@ -18,19 +17,23 @@ import org.glassfish.jersey.logging.LoggingFeature;
 import org.opendaylight.mdsal.binding.api.NotificationService.CompositeListener;
 import org.opendaylight.transportpce.dmaap.client.resource.EventsApi;
 import org.opendaylight.transportpce.dmaap.client.resource.config.JsonConfigurator;
-import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationAlarmService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class NbiNotificationsHandler {
+public class NbiNotificationsHandler implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(NbiNotificationsHandler.class);
     private String topic = "unauthenticated.TPCE";
-    private EventsApi api;
+    private final EventForwarder forwarder;
 
     public NbiNotificationsHandler(String baseUrl, String username, String password) {
+        this(baseUrl, username, password, EventForwarder.DEFAULT_QUEUE_CAPACITY, EventForwarder.DEFAULT_BATCH_SIZE);
+    }
+
+    public NbiNotificationsHandler(String baseUrl, String username, String password, int queueCapacity,
+            int batchSize) {
         LOG.info("Dmaap server {} for user {}", baseUrl, username);
         Client client = ClientBuilder.newClient();
         if (username != null && username.isBlank() && password != null && !password.isBlank()) {
@@ -38,10 +41,13 @@ public class NbiNotificationsHandler {
             client.register(authFeature);
             topic = "authenticated.TPCE";
         }
-        client.register(new LoggingFeature(java.util.logging.Logger.getLogger(this.getClass().getName())))
-        .register(JacksonFeature.class).register(JsonConfigurator.class);
-        api = WebResourceFactory.newResource(EventsApi.class, client.target(baseUrl));
-
+        // payloads are only logged when tracing, logging them is too costly for every event
+        if (LOG.isTraceEnabled()) {
+            client.register(new LoggingFeature(java.util.logging.Logger.getLogger(this.getClass().getName())));
+        }
+        client.register(JacksonFeature.class).register(JsonConfigurator.class);
+        EventsApi api = WebResourceFactory.newResource(EventsApi.class, client.target(baseUrl));
+        forwarder = new EventForwarder(api, topic, queueCapacity, batchSize);
     }
 
     public CompositeListener getCompositeListener() {
@@ -56,18 +62,23 @@ public class NbiNotificationsHandler {
     }
 
     void onPublishNotificationProcessService(PublishNotificationProcessService notification) {
-        try {
-            CreatedEvent response = api.sendEvent(topic, notification);
-            LOG.info("Response received {}", response);
-        } catch (WebApplicationException e) {
-            LOG.warn("Cannot send event {}", notification, e);
-        }
+        forwarder.forward(notification);
+    }
+
+    void onPublishNotificationAlarmService(PublishNotificationAlarmService notification) {
+        forwarder.forward(notification);
+    }
 
+    void onPublishTapiNotificationService(PublishTapiNotificationService notification) {
+        forwarder.forward(notification);
     }
 
-    private void onPublishNotificationAlarmService(PublishNotificationAlarmService notification) {
+    public EventForwarder getForwarder() {
+        return forwarder;
     }
 
-    private void onPublishTapiNotificationService(PublishTapiNotificationService notification) {
+    @Override
+    public void close() {
+        forwarder.close();
     }
 }
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.transportpce.dmaap.client.resource;
 
+import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -14,15 +15,21 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
-import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
 
 @Path("/events")
 public interface EventsApi {
 
+    /**
+     * Send a batch of events in a single request, as a JSON array.
+     *
+     * @param topic the topic
+     * @param events the events, of any notification type supported by the JSON configuration
+     * @return the response of the events API
+     */
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @Path("/{topic}")
-    CreatedEvent sendEvent(@PathParam("topic") String topic, PublishNotificationProcessService event);
+    CreatedEvent sendEvents(@PathParam("topic") String topic, List<Object> events);
 
 }
@@ -13,7 +13,9 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev2
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.endpoint.TxDirection;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.lgx.Lgx;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.port.Port;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationAlarmService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.notification.process.service.ServiceAEnd;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.notification.process.service.ServiceZEnd;
 
@@ -26,6 +28,8 @@ public class PublishNotificationProcessServiceModule extends SimpleModule {
     public PublishNotificationProcessServiceModule() {
         super(PackageVersion.VERSION);
         addSerializer(PublishNotificationProcessService.class, new PublishNotificationProcessServiceSerializer());
+        addSerializer(PublishNotificationAlarmService.class, new PublishNotificationAlarmServiceSerializer());
+        addSerializer(PublishTapiNotificationService.class, new PublishTapiNotificationServiceSerializer());
         addSerializer(Lgx.class, new LgxSerializer());
         addSerializer(Port.class, new PortSerializer());
         addSerializer(RxDirection.class, new RxDirectionSerializer());
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.dmaap.client.listener;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.ProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.opendaylight.transportpce.common.metrics.Counter;
+import org.opendaylight.transportpce.common.metrics.Metrics;
+import org.opendaylight.transportpce.dmaap.client.resource.EventsApi;
+import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
+
+class EventForwarderTest {
+    private static final String TOPIC = "topic";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private EventsApi api;
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        api = mock(EventsApi.class);
+    }
+
+    // the first request blocks until released, so that events pile up in the queue
+    private void blockFirstRequest() {
+        when(api.sendEvents(eq(TOPIC), anyList())).thenAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return new CreatedEvent();
+        });
+    }
+
+    @Test
+    void queuedEventsAreSentInBatches() throws InterruptedException {
+        blockFirstRequest();
+        try (EventForwarder forwarder = new EventForwarder(api, TOPIC, 100, 3, 1)) {
+            forwarder.forward("event0");
+            assertTrue(sending.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i <= 5; i++) {
+                forwarder.forward("event" + i);
+            }
+            release.countDown();
+            await().atMost(TIMEOUT).untilAsserted(() -> assertEquals(6, forwarder.getForwardedCount()));
+            assertEquals(3, forwarder.getBatchCount());
+            InOrder inOrder = inOrder(api);
+            inOrder.verify(api).sendEvents(TOPIC, List.of("event0"));
+            inOrder.verify(api).sendEvents(TOPIC, List.of("event1", "event2", "event3"));
+            inOrder.verify(api).sendEvents(TOPIC, List.of("event4", "event5"));
+        }
+    }
+
+    @Test
+    void forwardedEventsAreCountedInTheMetricsRegistry() {
+        // the registry is shared by the forwarders of a topic, hence a topic of its own
+        String topic = "metrics";
+        when(api.sendEvents(eq(topic), anyList())).thenReturn(new CreatedEvent());
+        try (EventForwarder forwarder = new EventForwarder(api, topic, 100, 10, 1)) {
+            forwarder.forward("event0");
+            forwarder.forward("event1");
+            await().atMost(TIMEOUT).untilAsserted(() -> assertEquals(2, forwarder.getForwardedCount()));
+            assertEquals(2, Metrics.counter(EventForwarder.FORWARDED_METRIC, "topic", topic).getCount());
+        }
+    }
+
+    @Test
+    void failedRequestsAreRetried() {
+        when(api.sendEvents(eq(TOPIC), anyList()))
+            .thenThrow(new ProcessingException("connection refused"))
+            .thenReturn(new CreatedEvent());
+        try (EventForwarder forwarder = new EventForwarder(api, TOPIC, 100, 10, 1)) {
+            forwarder.forward("event");
+            await().atMost(TIMEOUT).untilAsserted(() -> assertEquals(1, forwarder.getForwardedCount()));
+            assertEquals(1, forwarder.getRetryCount());
+            assertEquals(0, forwarder.getFailedCount());
+        }
+    }
+
+    @Test
+    void eventsAreDroppedAfterMaxAttempts() {
+        when(api.sendEvents(eq(TOPIC), anyList())).thenThrow(new ProcessingException("connection refused"));
+        Counter failed = Metrics.counter(EventForwarder.DROPPED_METRIC, "topic", TOPIC, "cause", "failed");
+        long failedBefore = failed.getCount();
+        try (EventForwarder forwarder = new EventForwarder(api, TOPIC, 100, 10, 1)) {
+            forwarder.forward("event");
+            await().atMost(TIMEOUT).untilAsserted(() -> assertEquals(1, forwarder.getFailedCount()));
+            verify(api, times(EventForwarder.MAX_ATTEMPTS)).sendEvents(TOPIC, List.of("event"));
+            assertEquals(0, forwarder.getForwardedCount());
+            assertEquals(failedBefore + 1, failed.getCount());
+        }
+    }
+
+    @Test
+    void eventsAreDroppedWhenTheQueueIsFull() throws InterruptedException {
+        blockFirstRequest();
+        Counter overflow = Metrics.counter(EventForwarder.DROPPED_METRIC, "topic", TOPIC, "cause", "overflow");
+        long overflowBefore = overflow.getCount();
+        try (EventForwarder forwarder = new EventForwarder(api, TOPIC, 1, 10, 1)) {
+            assertTrue(forwarder.forward("event0"));
+            assertTrue(sending.await(10, TimeUnit.SECONDS));
+            assertTrue(forwarder.forward("event1"));
+            assertFalse(forwarder.forward("event2"), "Queue should be full");
+            assertEquals(1, forwarder.getOverflowCount());
+            assertEquals(overflowBefore + 1, overflow.getCount());
+            assertEquals(1, forwarder.getQueueSize());
+            release.countDown();
+            await().atMost(TIMEOUT).untilAsserted(() -> assertEquals(2, forwarder.getForwardedCount()));
+        }
+    }
+}
@@ -7,12 +7,10 @@
  */
 package org.opendaylight.transportpce.dmaap.client.listener;
 
-
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.read.ListAppender;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import javax.ws.rs.core.Application;
@@ -29,13 +27,16 @@ import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev2
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.service.endpoint.TxDirectionKey;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.service.format.rev191129.ServiceFormat;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationAlarmServiceBuilder;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishNotificationProcessServiceBuilder;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationServiceBuilder;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.notification.process.service.ServiceAEndBuilder;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.notification.process.service.ServiceZEndBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.NOTIFICATIONTYPEATTRIBUTEVALUECHANGE;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.opendaylight.yangtools.yang.common.Uint8;
-import org.slf4j.LoggerFactory;
 
 public class NbiNotificationsHandlerTest extends JerseyTest {
     @Override
@@ -47,10 +48,7 @@ public class NbiNotificationsHandlerTest extends JerseyTest {
 
     @Test
     void onPublishNotificationServiceTest() {
-        Logger logger = (Logger) LoggerFactory.getLogger(NbiNotificationsHandler.class);
-        ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
-        listAppender.start();
-        logger.addAppender(listAppender);
+        EventsApiStub.RECEIVED_EVENTS.clear();
         NbiNotificationsHandler listener = new NbiNotificationsHandler("http://localhost:9998", null, null);
         PublishNotificationProcessService notification = new PublishNotificationProcessServiceBuilder()
                 .setCommonId("CommonId")
@@ -80,8 +78,35 @@ public class NbiNotificationsHandlerTest extends JerseyTest {
                         .build())
                 .build();
         listener.onPublishNotificationProcessService(notification);
-        // as onPublishNotificationService is a void method, we check log message to be sure everything went well
-        List<ILoggingEvent> logsList = listAppender.list;
-        assertEquals(logsList.get(1).getFormattedMessage(), "Response received CreatedEvent [serverTimeMs=1, count=1]");
+        // notifications are forwarded asynchronously, we wait for the stub to acknowledge them
+        await().atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> assertEquals(1, listener.getForwarder().getForwardedCount()));
+        assertEquals("Service implemented", EventsApiStub.RECEIVED_EVENTS.remove().get("message").asText());
+        listener.close();
+    }
+
+    @Test
+    void onPublishAlarmAndTapiNotificationsTest() {
+        EventsApiStub.RECEIVED_EVENTS.clear();
+        NbiNotificationsHandler listener = new NbiNotificationsHandler("http://localhost:9998", null, null);
+        listener.onPublishNotificationAlarmService(new PublishNotificationAlarmServiceBuilder()
+                .setPublisherName("publisher")
+                .setServiceName("service1")
+                .setMessage("Service failed")
+                .setConnectionType(ConnectionType.Service)
+                .setOperationalState(State.OutOfService)
+                .build());
+        listener.onPublishTapiNotificationService(new PublishTapiNotificationServiceBuilder()
+                .setTopic("topic")
+                .setUuid(new Uuid("a9a9e00b-4b7a-3b6e-8e0b-3b5d4c3b6a12"))
+                .setNotificationType(NOTIFICATIONTYPEATTRIBUTEVALUECHANGE.VALUE)
+                .build());
+        await().atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> assertEquals(2, listener.getForwarder().getForwardedCount()));
+        List<String> identifiers = EventsApiStub.RECEIVED_EVENTS.stream()
+                .map(event -> event.path("service-name").asText(event.path("uuid").asText()))
+                .toList();
+        assertEquals(List.of("service1", "a9a9e00b-4b7a-3b6e-8e0b-3b5d4c3b6a12"), identifiers);
+        listener.close();
     }
 }
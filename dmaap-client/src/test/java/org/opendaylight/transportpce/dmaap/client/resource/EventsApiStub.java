@@ -7,6 +7,11 @@
  */
 package org.opendaylight.transportpce.dmaap.client.resource;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -17,14 +22,22 @@ import org.opendaylight.transportpce.dmaap.client.resource.model.CreatedEvent;
 
 @Path("/events")
 public class EventsApiStub {
+    public static final Queue<JsonNode> RECEIVED_EVENTS = new ConcurrentLinkedQueue<>();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @Path("/{topic}")
-    public CreatedEvent sendEvent(@PathParam("topic") String topic, String event) {
+    public CreatedEvent sendEvent(@PathParam("topic") String topic, String event) throws IOException {
+        JsonNode events = MAPPER.readTree(event);
+        if (events.isArray()) {
+            events.forEach(RECEIVED_EVENTS::add);
+        } else {
+            RECEIVED_EVENTS.add(events);
+        }
         CreatedEvent response = new CreatedEvent();
-        response.setCount(1);
+        response.setCount(events.isArray() ? events.size() : 1);
         response.setServerTimeMs(1);
         return response;
     }
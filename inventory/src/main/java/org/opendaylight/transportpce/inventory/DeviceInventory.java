@@ -44,6 +44,9 @@ public class DeviceInventory {
         if (!inode.dataExists("inv_dev_info", " node_id = '" + deviceId + "'")) {
             LOG.info("Adding node {} to inventory", deviceId);
             inode.addNode(deviceId, openRoadmVersion);
+        } else {
+            LOG.info("Updating node {} in inventory", deviceId);
+            inode.updateNode(deviceId, openRoadmVersion);
         }
     }
 
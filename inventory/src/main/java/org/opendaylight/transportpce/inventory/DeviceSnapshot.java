@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.inventory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.Timeouts;
+import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Snapshot of the device tree used by an inventory run.
+ *
+ * <p>The whole device tree is read from the device at most once per datastore, on first use, and then shared by all
+ * the tables of the inventory instead of being read again for each of them.
+ *
+ * @param <T> the device container of the OpenROADM version of the device
+ */
+final class DeviceSnapshot<T extends DataObject> {
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceSnapshot.class);
+
+    private final DeviceTransactionManager deviceTransactionManager;
+    private final String nodeId;
+    private final DataObjectIdentifier<T> deviceIID;
+    private final Map<LogicalDatastoreType, Optional<T>> devices = new EnumMap<>(LogicalDatastoreType.class);
+
+    DeviceSnapshot(DeviceTransactionManager deviceTransactionManager, String nodeId,
+            DataObjectIdentifier<T> deviceIID) {
+        this.deviceTransactionManager = deviceTransactionManager;
+        this.nodeId = nodeId;
+        this.deviceIID = deviceIID;
+    }
+
+    /**
+     * Get the device tree from the OPERATIONAL datastore of the device.
+     *
+     * @return the device, or empty if it could not be read
+     */
+    Optional<T> operational() {
+        return get(LogicalDatastoreType.OPERATIONAL);
+    }
+
+    /**
+     * Get the device tree from the CONFIGURATION datastore of the device.
+     *
+     * @return the device, or empty if it could not be read
+     */
+    Optional<T> configuration() {
+        return get(LogicalDatastoreType.CONFIGURATION);
+    }
+
+    private Optional<T> get(LogicalDatastoreType datastore) {
+        return devices.computeIfAbsent(datastore, type -> {
+            LOG.debug("Reading {} tree of device {} for the inventory", type, nodeId);
+            return deviceTransactionManager.getDataFromDevice(nodeId, type, deviceIID,
+                Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        });
+    }
+}
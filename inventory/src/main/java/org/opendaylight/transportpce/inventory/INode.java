@@ -41,6 +41,10 @@ public class INode {
 
     }
 
+    public boolean updateNode(String deviceId, String openROADMversion) {
+        return inode121.updateNode(deviceId);
+    }
+
     public boolean nodeExists(String nodeId) {
         String selectTableSQL = "select count(*) node_exists from inv_dev_info where node_id = ?";
         int nodeExists = 0;
@@ -18,14 +18,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import javax.sql.DataSource;
 import org.eclipse.jdt.annotation.NonNull;
-import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.transportpce.common.Timeouts;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
+import org.opendaylight.transportpce.inventory.query.InventoryWriter;
 import org.opendaylight.transportpce.inventory.query.Queries;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev170206.OrgOpenroadmDeviceData;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev170206.circuit.pack.CpSlots;
@@ -91,6 +91,37 @@ public class INode121 {
 
     private static final Logger LOG = LoggerFactory.getLogger(INode121.class);
 
+    // insert queries of the tables of a device, all compared by updateNode
+    private static final List<String> DEVICE_QUERIES = List.of(
+        Queries.getQuery().deviceInfoInsert().get(),
+        Queries.getQuery().deviceShelfInsert().get(),
+        Queries.getQuery().deviceShelfSlotInsert().get(),
+        Queries.getQuery().deviceCircuitPackInsert().get(),
+        Queries.getQuery().deviceCPSlotInsert().get(),
+        Queries.getQuery().deviceCPPortInsert().get(),
+        Queries.getQuery().deviceInterfacesInsert().get(),
+        Queries.getQuery().deviceInterfaceOtnOduTxMsiInsert().get(),
+        Queries.getQuery().deviceInterfaceOtnOduRxMsiInsert().get(),
+        Queries.getQuery().deviceInterfaceOtnOduExpMsiInsert().get(),
+        Queries.getQuery().deviceProtocolInsert().get(),
+        Queries.getQuery().deviceProtocolPortConfigInsert().get(),
+        Queries.getQuery().deviceProtocolLldpNbrlistInsert().get(),
+        Queries.getQuery().deviceInternalLinkInsert().get(),
+        Queries.getQuery().deviceExternalLinkInsert().get(),
+        Queries.getQuery().devicePhysicalLinkInsert().get(),
+        Queries.getQuery().deviceDegreeInsert().get(),
+        Queries.getQuery().deviceDegreeCircuitPackInsert().get(),
+        Queries.getQuery().deviceDegreeConnectionPortInsert().get(),
+        Queries.getQuery().deviceSharedRiskGroupInsert().get(),
+        Queries.getQuery().deviceSrgCircuitPackInsert().get(),
+        Queries.getQuery().deviceRoadmConnectionsInsert().get(),
+        Queries.getQuery().deviceConnectionMapInsert().get(),
+        Queries.getQuery().deviceWavelengthInsert().get());
+
+    private static final DataObjectIdentifier<OrgOpenroadmDevice> DEVICE_IID = DataObjectIdentifier
+        .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+        .build();
+
     private final DataSource dataSource;
     private final DeviceTransactionManager deviceTransactionManager;
 
@@ -100,87 +131,95 @@ public class INode121 {
     }
 
     public boolean addNode(String deviceId) {
+        return persistNode(deviceId, false);
+    }
+
+    /**
+     * Update the inventory of a device already stored, only writing the rows which changed.
+     *
+     * @param deviceId the device
+     * @return true if the inventory has been updated
+     */
+    public boolean updateNode(String deviceId) {
+        return persistNode(deviceId, true);
+    }
+
+    private boolean persistNode(String deviceId, boolean diff) {
 
-        DataObjectIdentifier<Info> infoIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Info.class)
-            .build();
-        Optional<Info> infoOpt =
-                deviceTransactionManager.getDataFromDevice(deviceId, LogicalDatastoreType.OPERATIONAL, infoIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        // the device tree is read once and shared by all the tables of the device
+        DeviceSnapshot<OrgOpenroadmDevice> snapshot = newSnapshot(deviceId);
+        Optional<Info> infoOpt = snapshot.operational().map(OrgOpenroadmDevice::getInfo);
         Info deviceInfo;
         if (!infoOpt.isPresent()) {
             LOG.warn("Could not get device info from DataBroker");
             return false;
         }
         deviceInfo = infoOpt.orElseThrow();
-        boolean sqlResult = false;
         String query = Queries.getQuery().deviceInfoInsert().get();
-        LOG.info("Running {} query ", query);
         try (Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            Object[] prepareParameters = prepareDeviceInfoParameters(deviceInfo);
-            for (int i = 0; i < prepareParameters.length; i++) {
-                LOG.debug("Parameter {} has value {}", i + 1, prepareParameters[i]);
-                preparedStatement.setObject(i + 1, prepareParameters[i]);
-
-            }
-            int executeUpdate = preparedStatement.executeUpdate();
-            LOG.info("{} entries were added", executeUpdate);
-            sqlResult = true;
+                InventoryWriter writer = diff
+                    ? InventoryWriter.diff(connection, deviceId, DEVICE_QUERIES)
+                    : InventoryWriter.insert(connection, deviceId)) {
+            writer.add(query, prepareDeviceInfoParameters(deviceInfo));
 
             LOG.debug("iNode AddNode call complete");
-            getRoadmShelves(deviceId);
+            getRoadmShelves(deviceId, snapshot, writer);
             LOG.debug("iNode getRoadmShelves call complete");
-            getCircuitPacks(deviceId);
+            getCircuitPacks(deviceId, snapshot, writer);
             LOG.debug("iNode getCircuitPacks call complete");
 
             LOG.debug("iNode persist interfaces call");
-            persistDevInterfaces(deviceId, connection);
+            persistDevInterfaces(deviceId, snapshot, writer);
             LOG.debug("iNode persist interfaces call complete");
 
 
             LOG.debug("iNode persist protocols call");
-            persistDevProtocols(deviceId, connection);
+            persistDevProtocols(deviceId, snapshot, writer);
             LOG.debug("iNode persist protocols call complete");
 
 
             LOG.debug("iNode persist wavelength map call");
-            persistDevWavelengthMap(deviceId, connection);
+            persistDevWavelengthMap(deviceId, snapshot, writer);
             LOG.debug("iNode persist wavelength map call complete");
 
             LOG.debug("iNode persist internal links map call");
-            persistDevInternalLinks(deviceId, connection);
+            persistDevInternalLinks(deviceId, snapshot, writer);
             LOG.debug("iNode persist internal links map call complete");
 
             LOG.debug("iNode persist Physical links map call");
-            persistDevPhysicalLinks(deviceId, connection);
+            persistDevPhysicalLinks(deviceId, snapshot, writer);
             LOG.debug("iNode persist Physical links map call complete");
 
             LOG.debug("iNode persist External links map call");
-            persistDevExternalLinks(deviceId, connection);
+            persistDevExternalLinks(deviceId, snapshot, writer);
             LOG.debug("iNode persist External links map call complete");
 
             LOG.debug("iNode persist degree map call");
-            persistDevDegree(deviceId, connection);
+            persistDevDegree(deviceId, snapshot, writer);
             LOG.debug("iNode persist degree map call complete");
 
             LOG.debug("iNode persist srg map call");
-            persistDevSrg(deviceId, connection);
+            persistDevSrg(deviceId, snapshot, writer);
             LOG.debug("iNode persist srg map call complete");
 
             LOG.debug("iNode persist Roadm Connections call");
-            persistDevRoadmConnections(deviceId, connection);
+            persistDevRoadmConnections(deviceId, snapshot, writer);
             LOG.debug("iNode persist Roadm Connections call complete");
 
             LOG.debug("iNode persist Connection Map call");
-            persistDevConnectionMap(deviceId, connection);
+            persistDevConnectionMap(deviceId, snapshot, writer);
             LOG.debug("iNode persist Connection Map call complete");
 
-        } catch (SQLException | InterruptedException | ExecutionException e) {
+            writer.commit();
+            return true;
+        } catch (SQLException e) {
             LOG.error("Something wrong when storing node into DB", e);
+            return false;
         }
-        return sqlResult;
+    }
+
+    private DeviceSnapshot<OrgOpenroadmDevice> newSnapshot(String nodeId) {
+        return new DeviceSnapshot<>(deviceTransactionManager, nodeId, DEVICE_IID);
     }
 
     public boolean nodeExists(String nodeId) {
@@ -203,43 +242,51 @@ public class INode121 {
     }
 
     public void getRoadmShelves(String nodeId) {
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject = deviceTransactionManager.getDataFromDevice(nodeId,
-                LogicalDatastoreType.OPERATIONAL, deviceIID, Timeouts.DEVICE_READ_TIMEOUT,
-                Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        try (Connection connection = requireNonNull(dataSource.getConnection());
+                InventoryWriter writer = InventoryWriter.insert(connection, nodeId)) {
+            getRoadmShelves(nodeId, newSnapshot(nodeId), writer);
+            writer.commit();
+        } catch (SQLException e1) {
+            LOG.error("Something wrong when fetching ROADM shelves in DB", e1);
+        }
+    }
+
+    private void getRoadmShelves(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             return;
         }
         Map<ShelvesKey, Shelves> shelvesMap = deviceObject.orElseThrow().nonnullShelves();
         LOG.info("Shelves size {}", shelvesMap.size());
-        try (Connection connection = requireNonNull(dataSource.getConnection())) {
-            for (Map.Entry<ShelvesKey, Shelves> shelveEntry : shelvesMap.entrySet()) {
-                Shelves shelve = shelveEntry.getValue();
-                String shelfName = shelve.getShelfName();
-                LOG.info("Getting Shelve Details of {}", shelfName);
-                if (shelve.getSlots() != null) {
-                    LOG.info("Slot Size {} ", shelve.getSlots().size());
-                    persistShelveSlots(nodeId, shelve, connection);
-                } else {
-                    LOG.info("No Slots for shelf {}", shelfName);
-                }
-
-                persistShelves(nodeId, connection, shelve);
+        for (Map.Entry<ShelvesKey, Shelves> shelveEntry : shelvesMap.entrySet()) {
+            Shelves shelve = shelveEntry.getValue();
+            String shelfName = shelve.getShelfName();
+            LOG.debug("Getting Shelve Details of {}", shelfName);
+            if (shelve.getSlots() != null) {
+                LOG.debug("Slot Size {} ", shelve.getSlots().size());
+                persistShelveSlots(nodeId, shelve, writer);
+            } else {
+                LOG.debug("No Slots for shelf {}", shelfName);
             }
-        } catch (SQLException e1) {
-            LOG.error("Something wrong when fetching ROADM shelves in DB", e1);
+
+            persistShelves(nodeId, writer, shelve);
         }
     }
 
     public void getCircuitPacks(String nodeId) throws InterruptedException, ExecutionException {
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        try (Connection connection = requireNonNull(dataSource.getConnection());
+                InventoryWriter writer = InventoryWriter.insert(connection, nodeId)) {
+            getCircuitPacks(nodeId, newSnapshot(nodeId), writer);
+            writer.commit();
+        } catch (SQLException e1) {
+            LOG.error("Something wrong when fetching Circuit Packs in DB", e1);
+        }
+    }
+
+    private void getCircuitPacks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.warn("Device object {} was not found", nodeId);
             return;
@@ -247,63 +294,48 @@ public class INode121 {
         Map<CircuitPacksKey, CircuitPacks> circuitPacksMap = deviceObject.orElseThrow().nonnullCircuitPacks();
         LOG.info("Circuit pack size {}", circuitPacksMap.size());
 
-        try (Connection connection = requireNonNull(dataSource.getConnection())) {
-            for (Map.Entry<CircuitPacksKey, CircuitPacks> circuitPackEntry : circuitPacksMap.entrySet()) {
-                CircuitPacks cp = circuitPackEntry.getValue();
+        for (Map.Entry<CircuitPacksKey, CircuitPacks> circuitPackEntry : circuitPacksMap.entrySet()) {
+            CircuitPacks cp = circuitPackEntry.getValue();
 
-                if (cp.getCpSlots() != null) {
-                    persistCircuitPacksSlots(nodeId, cp, connection);
-                }
-                LOG.info("Everything {}", cp);
-                LOG.info("CP is {}", cp);
+            if (cp.getCpSlots() != null) {
+                persistCircuitPacksSlots(nodeId, cp, writer);
+            }
+            LOG.debug("CP is {}", cp);
 
-                //persistPorts(cp, connection);
-                if (cp.getPorts() != null) {
-                    persistCPPorts(nodeId, connection, cp);
-                }
-                persistCircuitPacks(nodeId, connection, cp);
+            //persistPorts(cp, writer);
+            if (cp.getPorts() != null) {
+                persistCPPorts(nodeId, writer, cp);
             }
-        } catch (SQLException e1) {
-            LOG.error("Something wrong when fetching Circuit Packs in DB", e1);
+            persistCircuitPacks(nodeId, writer, cp);
         }
     }
 
-    private void persistCircuitPacks(String nodeId, Connection connection, CircuitPacks cp) {
+    private void persistCircuitPacks(String nodeId, InventoryWriter writer, CircuitPacks cp) {
         Object[] parameters = prepareCircuitPacksParameters(nodeId, cp);
         String query = Queries.getQuery().deviceCircuitPackInsert().get();
-        LOG.info("Running {} query ", query);
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            for (int j = 0; j < parameters.length; j++) {
-                stmt.setObject(j + 1, parameters[j]);
-            }
-            stmt.execute();
-            stmt.clearParameters();
+        try {
+            writer.add(query, parameters);
         } catch (SQLException e) {
             LOG.error("Something wrong when storing Circuit Packs in DB", e);
         }
     }
 
-    private void persistShelves(String nodeId, Connection connection, Shelves shelve) {
+    private void persistShelves(String nodeId, InventoryWriter writer, Shelves shelve) {
         Object[] shelvesParameter = prepareShelvesParameters(nodeId, shelve);
         String query = Queries.getQuery().deviceShelfInsert().get();
-        LOG.info("Running {} query ", query);
-        try (PreparedStatement preparedStmt = connection.prepareStatement(query)) {
-            for (int j = 0; j < shelvesParameter.length; j++) {
-                preparedStmt.setObject(j + 1, shelvesParameter[j]);
-            }
-            preparedStmt.execute();
-            preparedStmt.clearParameters();
+        try {
+            writer.add(query, shelvesParameter);
         } catch (SQLException e) {
             LOG.error("Something wrong when storing shelves in DB", e);
         }
     }
 
-    private void persistShelveSlots(String nodeId, Shelves shelves, Connection connection) {
+    private void persistShelveSlots(String nodeId, Shelves shelves, InventoryWriter writer) {
         String startTimetampStr = getCurrentTimestamp();
         Map<SlotsKey, Slots> slotsMap = shelves.nonnullSlots();
         for (Map.Entry<SlotsKey, Slots> slotEntry : slotsMap.entrySet()) {
             Slots slot = slotEntry.getValue();
-            LOG.info("Getting Slot Details of {}", slot.getSlotName());
+            LOG.debug("Getting Slot Details of {}", slot.getSlotName());
             Object[] parameters = new Object[]{nodeId,
                 shelves.getShelfName(),
                 slot.getSlotName(),
@@ -313,13 +345,8 @@ public class INode121 {
                 startTimetampStr,
                 startTimetampStr};
             String query = Queries.getQuery().deviceShelfSlotInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing shelves slots in DB", e);
             }
@@ -327,7 +354,7 @@ public class INode121 {
     }
 
 
-    private void persistCircuitPacksSlots(String nodeId, CircuitPacks circuitPacks, Connection connection) {
+    private void persistCircuitPacksSlots(String nodeId, CircuitPacks circuitPacks, InventoryWriter writer) {
         String startTimetampStr = getCurrentTimestamp();
         Map<CpSlotsKey, CpSlots> cpSlotsMap = circuitPacks.nonnullCpSlots();
         for (Map.Entry<CpSlotsKey, CpSlots> cpSlotEntry: cpSlotsMap.entrySet()) {
@@ -343,13 +370,8 @@ public class INode121 {
                 startTimetampStr,
                 startTimetampStr};
             String query = Queries.getQuery().deviceCPSlotInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing Cirtcuits Packs slots in DB", e);
             }
@@ -632,19 +654,14 @@ public class INode121 {
     }
 
 
-    private void persistCPPorts(String nodeId, Connection connection, CircuitPacks circuitPacks) {
+    private void persistCPPorts(String nodeId, InventoryWriter writer, CircuitPacks circuitPacks) {
         @NonNull
         Map<PortsKey, Ports> nonnullPorts = circuitPacks.nonnullPorts();
         for (Map.Entry<PortsKey, Ports> entry : nonnullPorts.entrySet()) {
             Object[] cpPortsParameters = prepareCPPortsParameters(nodeId, circuitPacks, entry.getValue());
             String query = Queries.getQuery().deviceCPPortInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement preparedStmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < cpPortsParameters.length; j++) {
-                    preparedStmt.setObject(j + 1, cpPortsParameters[j]);
-                }
-                preparedStmt.execute();
-                preparedStmt.clearParameters();
+            try {
+                writer.add(query, cpPortsParameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing Cirtcuits Packs Ports in DB", e);
             }
@@ -652,7 +669,7 @@ public class INode121 {
     }
 
 
-    private Object[] prepareDevInterfaceParameters(String nodeId, Interface deviceInterface, Connection connection) {
+    private Object[] prepareDevInterfaceParameters(String nodeId, Interface deviceInterface, InventoryWriter writer) {
 
         String ethernetDuplexEnu = "";
         String ethernetAutoNegotiationEnu = "";
@@ -784,18 +801,18 @@ public class INode121 {
                 oduMonitoringMode = oduIfBuilder.getMonitoringMode().getName();
                 oduProactiveDelayMeasurementEnabled = oduIfBuilder.getProactiveDelayMeasurementEnabled().toString();
 
-                persistDevInterfaceTcm(nodeId, name, oduIfBuilder, connection);
-                persistDevInterfaceOtnOduTxMsi(nodeId, name, oduIfBuilder, connection);
-                persistDevInterfaceOtnOduRxMsi(nodeId, name, oduIfBuilder, connection);
-                persistDevInterfaceOtnOduExpMsi(nodeId, name, oduIfBuilder, connection);
+                persistDevInterfaceTcm(nodeId, name, oduIfBuilder, writer);
+                persistDevInterfaceOtnOduTxMsi(nodeId, name, oduIfBuilder, writer);
+                persistDevInterfaceOtnOduRxMsi(nodeId, name, oduIfBuilder, writer);
+                persistDevInterfaceOtnOduExpMsi(nodeId, name, oduIfBuilder, writer);
 
                 opuPayloadType = oduIfBuilder.getOpu().getPayloadType();
                 opuRxPayloadType = oduIfBuilder.getOpu().getRxPayloadType();
                 opuExpPayloadType = oduIfBuilder.getOpu().getExpPayloadType();
                 opuPayloadInterface = oduIfBuilder.getOpu().getPayloadInterface();
-                        /*persistDevInterfaceOtnOduTxMsi(nodeId,name,oduIfBuilder,connection);
-                        persistDevInterfaceOtnOduRxMsi(nodeId,name,oduIfBuilder,connection);
-                        persistDevInterfaceOtnOduExpMsi(nodeId,name,oduIfBuilder,connection); */
+                        /*persistDevInterfaceOtnOduTxMsi(nodeId,name,oduIfBuilder,writer);
+                        persistDevInterfaceOtnOduRxMsi(nodeId,name,oduIfBuilder,writer);
+                        persistDevInterfaceOtnOduExpMsi(nodeId,name,oduIfBuilder,writer); */
                 maintTestsignalEnabled = oduIfBuilder.getMaintTestsignal().getEnabled().toString();
                 maintTestsignalTestpatternEnu = oduIfBuilder.getMaintTestsignal().getTestPattern().getName();
                 maintTestsignalTypeEnu = oduIfBuilder.getMaintTestsignal().getType().getName();
@@ -1033,45 +1050,31 @@ public class INode121 {
 
     }
 
-    private void persistDevInterfaces(String nodeId, Connection connection) {
+    private void persistDevInterfaces(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             return;
         }
         Map<InterfaceKey, Interface> interfaceMap = deviceObject.orElseThrow().nonnullInterface();
         for (Map.Entry<InterfaceKey, Interface> interfaceEntrySet : interfaceMap.entrySet()) {
             Interface deviceInterface = interfaceEntrySet.getValue();
-            Object[] parameters = prepareDevInterfaceParameters(nodeId, deviceInterface, connection);
+            Object[] parameters = prepareDevInterfaceParameters(nodeId, deviceInterface, writer);
 
             String query = Queries.getQuery().deviceInterfacesInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interfaces in DB", e);
             }
         }
     }
 
-    private void persistDevProtocols(String nodeId, Connection connection) {
+    private void persistDevProtocols(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<Protocols> protocolsIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Protocols.class)
-            .build();
-        Optional<Protocols> protocolObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, protocolsIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Protocols> protocolObject = snapshot.configuration().map(OrgOpenroadmDevice::getProtocols);
         if (!protocolObject.isPresent() || protocolObject.orElseThrow().augmentation(Protocols1.class) == null) {
             LOG.error("LLDP subtree is missing");
             return;
@@ -1083,8 +1086,8 @@ public class INode121 {
         String mxgTxHoldMultiplier = protocolObject.orElseThrow().augmentation(Protocols1.class).getLldp()
             .getGlobalConfig().getMsgTxHoldMultiplier().toString();
         String startTimestamp = getCurrentTimestamp();
-        persistDevProtocolLldpPortConfig(nodeId, connection);
-        persistDevProtocolLldpNbrList(nodeId, connection);
+        persistDevProtocolLldpPortConfig(nodeId, snapshot, writer);
+        persistDevProtocolLldpNbrList(nodeId, snapshot, writer);
 
         Object[] parameters = {nodeId,
             adminstatusEnu,
@@ -1095,28 +1098,18 @@ public class INode121 {
         };
 
         String query = Queries.getQuery().deviceProtocolInsert().get();
-        LOG.info("Running {} query ", query);
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            for (int j = 0; j < parameters.length; j++) {
-                stmt.setObject(j + 1, parameters[j]);
-            }
-            stmt.execute();
-            stmt.clearParameters();
+        try {
+            writer.add(query, parameters);
         } catch (SQLException e) {
             LOG.error("Something wrong when storing devices protocols in DB", e);
         }
     }
 
 
-    private void persistDevProtocolLldpPortConfig(String nodeId, Connection connection) {
+    private void persistDevProtocolLldpPortConfig(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<Protocols> protocolsIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Protocols.class)
-            .build();
-        Optional<Protocols> protocolObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, protocolsIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Protocols> protocolObject = snapshot.configuration().map(OrgOpenroadmDevice::getProtocols);
         if (!protocolObject.isPresent() || protocolObject.orElseThrow().augmentation(Protocols1.class) == null) {
             LOG.error("LLDP subtree is missing");
             return;
@@ -1138,13 +1131,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceProtocolPortConfigInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices protocols LLDP Port config in DB", e);
             }
@@ -1153,23 +1141,16 @@ public class INode121 {
 
     }
 
-    private void persistDevProtocolLldpNbrList(String nodeId, Connection connection) {
+    private void persistDevProtocolLldpNbrList(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<Protocols> protocolsIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Protocols.class)
-            .build();
-        Optional<Protocols> protocolObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, protocolsIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Protocols> protocolObject = snapshot.configuration().map(OrgOpenroadmDevice::getProtocols);
         if (!protocolObject.isPresent()) {
             LOG.error("Protocols is missing");
             return;
         }
         if (protocolObject.orElseThrow().augmentation(Protocols1.class).getLldp().getNbrList() == null) {
-            protocolObject =
-                    deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, protocolsIID,
-                            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            protocolObject = snapshot.operational().map(OrgOpenroadmDevice::getProtocols);
             if (protocolObject.orElseThrow().augmentation(Protocols1.class).getLldp().getNbrList() == null) {
                 LOG.error("LLDP nbrlist subtree is missing for {}", nodeId);
                 return;
@@ -1204,13 +1185,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceProtocolLldpNbrlistInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices protocols LLDP list number in DB", e);
             }
@@ -1218,20 +1194,15 @@ public class INode121 {
         }
     }
 
-    private void persistDevInternalLinks(String nodeId, Connection connection) {
+    private void persistDevInternalLinks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             return;
         }
         if (deviceObject.orElseThrow().getInternalLink() == null) {
-            deviceObject = deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION,
-                    deviceIID, Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            deviceObject = snapshot.configuration();
             if (deviceObject.orElseThrow().getInternalLink() == null) {
                 LOG.info("External links not found for {}", nodeId);
                 return;
@@ -1251,13 +1222,8 @@ public class INode121 {
             Object[] parameters = { nodeId, internalLinkName, sourceCircuitPackName, sourcePortName,
                 destinationCircuitPackName, destinationPortName, startTimestamp, startTimestamp };
             String query = Queries.getQuery().deviceInternalLinkInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices internal links", e);
             }
@@ -1265,20 +1231,15 @@ public class INode121 {
     }
 
 
-    private void persistDevExternalLinks(String nodeId, Connection connection) {
+    private void persistDevExternalLinks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             return;
         }
         if (deviceObject.orElseThrow().getExternalLink() == null) {
-            deviceObject = deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION,
-                    deviceIID, Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            deviceObject = snapshot.configuration();
             if (deviceObject.orElseThrow().getExternalLink() == null) {
                 LOG.info("External links not found for {}", nodeId);
                 return;
@@ -1302,35 +1263,24 @@ public class INode121 {
                 startTimestamp, startTimestamp };
 
             String query = Queries.getQuery().deviceExternalLinkInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices external links", e);
             }
         }
     }
 
-    private void persistDevPhysicalLinks(String nodeId, Connection connection) {
+    private void persistDevPhysicalLinks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("No device with node Id {}", nodeId);
             return;
         }
         if (deviceObject.orElseThrow().getPhysicalLink() == null) {
-            deviceObject =
-                    deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, deviceIID,
-                            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            deviceObject = snapshot.configuration();
             if (!deviceObject.isPresent()) {
                 LOG.error("No device with node Id {}", nodeId);
                 return;
@@ -1363,13 +1313,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().devicePhysicalLinkInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices physical links", e);
             }
@@ -1377,20 +1322,14 @@ public class INode121 {
         }
     }
 
-    private void persistDevDegree(String nodeId, Connection connection) {
+    private void persistDevDegree(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
 
 
         /*if (deviceObject.get().getDegree()==null){
-            deviceObject =
-                    deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, deviceIID,
-                            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            deviceObject = snapshot.configuration();
         } */
         if (!deviceObject.isPresent()) {
             LOG.error("Cannot get device for node {}", nodeId);
@@ -1411,8 +1350,8 @@ public class INode121 {
             // String mcCapabilitiesCenterFreqGranularity = "";
             // String mcCapabilitiesMinSlots = "-1";
             // String mcCapabilitiesMaxSlots = "-1";
-            persistDevDegreeCircuitPack(nodeId, degree, degreeNumber, connection);
-            persistDevDegreeConnectionPort(nodeId, degree, degreeNumber, connection);
+            persistDevDegreeCircuitPack(nodeId, degree, degreeNumber, writer);
+            persistDevDegreeConnectionPort(nodeId, degree, degreeNumber, writer);
 
             Object[] parameters = { nodeId, degreeNumber, maxWavelengths, otdrPortCircuitPackName, otdrPortPortName,
                     // mcCapabilitiesSlotWidthGranularity,
@@ -1422,13 +1361,8 @@ public class INode121 {
                 "", "", "-1", "-1", startTimestamp, startTimestamp };
 
             String query = Queries.getQuery().deviceDegreeInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices degrees", e);
             }
@@ -1437,7 +1371,8 @@ public class INode121 {
     }
 
 
-    private void persistDevDegreeCircuitPack(String nodeId, Degree degree, String degreeNumber, Connection connection) {
+    private void persistDevDegreeCircuitPack(String nodeId, Degree degree, String degreeNumber,
+        InventoryWriter writer) {
 
         String startTimestamp = getCurrentTimestamp();
         @NonNull
@@ -1460,13 +1395,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceDegreeCircuitPackInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices degrees circuit packs", e);
             }
@@ -1475,7 +1405,7 @@ public class INode121 {
     }
 
     private void persistDevDegreeConnectionPort(String nodeId, Degree degree, String degreeNumber,
-        Connection connection) {
+        InventoryWriter writer) {
 
         String startTimestamp = getCurrentTimestamp();
         @NonNull
@@ -1495,13 +1425,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceDegreeConnectionPortInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices degrees connection ports", e);
             }
@@ -1510,23 +1435,17 @@ public class INode121 {
     }
 
 
-    private void persistDevSrg(String nodeId, Connection connection) {
+    private void persistDevSrg(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("No device found in operational datastore for node {}", nodeId);
             return;
         }
 
         if (deviceObject.orElseThrow().getSharedRiskGroup() == null) {
-            deviceObject =
-                    deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, deviceIID,
-                            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            deviceObject = snapshot.configuration();
             if (!deviceObject.isPresent()) {
                 LOG.error("No device found in configuration datastore for node {}", nodeId);
                 return;
@@ -1551,7 +1470,7 @@ public class INode121 {
             String maxAddDropPorts = sharedRiskGroup.getMaxAddDropPorts().toString();
             String srgNumber = sharedRiskGroup.getSrgNumber().toString();
             String wavelengthDuplicationEnu = sharedRiskGroup.getWavelengthDuplication().getName();
-            persistDevSrgCircuitPacks(nodeId, sharedRiskGroup, srgNumber, connection);
+            persistDevSrgCircuitPacks(nodeId, sharedRiskGroup, srgNumber, writer);
 
             Object[] parameters = {nodeId,
                 maxAddDropPorts,
@@ -1569,13 +1488,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceSharedRiskGroupInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices SRG", e);
             }
@@ -1585,7 +1499,7 @@ public class INode121 {
 
 
     private void persistDevSrgCircuitPacks(String nodeId, SharedRiskGroup sharedRiskGroup, String srgNumber,
-        Connection connection) {
+        InventoryWriter writer) {
 
         String startTimestamp = getCurrentTimestamp();
         @NonNull
@@ -1608,13 +1522,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceSrgCircuitPackInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices SRG circuit packs", e);
             }
@@ -1622,24 +1531,18 @@ public class INode121 {
         }
     }
 
-    private void persistDevRoadmConnections(String nodeId, Connection connection) {
+    private void persistDevRoadmConnections(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
         //int opticalcontrolmodeEnu=-1;
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("No device found in operational datastore for node {}", nodeId);
             return;
         }
         if (deviceObject.orElseThrow().getRoadmConnections() == null) {
-            deviceObject =
-                    deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, deviceIID,
-                            Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+            deviceObject = snapshot.configuration();
             if (!deviceObject.isPresent()) {
                 LOG.error("No device found in configuration datastore for node {}", nodeId);
                 return;
@@ -1678,13 +1581,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceRoadmConnectionsInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices ROADM connection ", e);
             }
@@ -1692,14 +1590,10 @@ public class INode121 {
     }
 
 
-    private void persistDevConnectionMap(String nodeId, Connection connection) {
+    private void persistDevConnectionMap(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("No device found in operational datastore for node {}", nodeId);
             return;
@@ -1723,13 +1617,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceConnectionMapInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices connection map", e);
             }
@@ -1737,14 +1626,10 @@ public class INode121 {
         }
     }
 
-    private void persistDevWavelengthMap(String nodeId, Connection connection) {
+    private void persistDevWavelengthMap(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("No device found in operational datastore for node {}", nodeId);
             return;
@@ -1770,13 +1655,8 @@ public class INode121 {
             };
 
             String query = Queries.getQuery().deviceWavelengthInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices wavelength map", e);
             }
@@ -1786,7 +1666,7 @@ public class INode121 {
 
 
     private void persistDevInterfaceTcm(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
 
         Map<TcmKey, Tcm> tcmMap = oduBuilder.getTcm();
         for (Map.Entry<TcmKey, Tcm> entry :  tcmMap.entrySet()) {
@@ -1795,13 +1675,8 @@ public class INode121 {
             Object[] parameters = prepareDevInterfaceTcmParameters(nodeId, interfaceName, tcm);
 
             String query = Queries.getQuery().deviceInterfacesInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface tcm", e);
             }
@@ -1809,7 +1684,7 @@ public class INode121 {
     }
 
     private void persistDevInterfaceOtnOduTxMsi(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
 
         Map<TxMsiKey, TxMsi> txMsiMap = oduBuilder.getOpu().getMsi().nonnullTxMsi();
         for (Map.Entry<TxMsiKey, TxMsi> entry :  txMsiMap.entrySet()) {
@@ -1819,13 +1694,8 @@ public class INode121 {
             Object[] parameters = prepareDevInterfaceOtnOduTxMsiParameters(nodeId, interfaceName, txMsi);
 
             String query = Queries.getQuery().deviceInterfaceOtnOduTxMsiInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface OTN ODU Tx MSI", e);
             }
@@ -1834,7 +1704,7 @@ public class INode121 {
 
 
     private void persistDevInterfaceOtnOduRxMsi(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
         Map<RxMsiKey, RxMsi> rxMsiMap = oduBuilder.getOpu().getMsi().nonnullRxMsi();
         for (Map.Entry<RxMsiKey, RxMsi> entry : rxMsiMap.entrySet()) {
             RxMsi rxMsi = entry.getValue();
@@ -1842,13 +1712,8 @@ public class INode121 {
             Object[] parameters = prepareDevInterfaceOtnOduRxMsiParameters(nodeId, interfaceName, rxMsi);
 
             String query = Queries.getQuery().deviceInterfaceOtnOduRxMsiInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface OTN ODU Rx MSI", e);
             }
@@ -1857,7 +1722,7 @@ public class INode121 {
 
 
     private void persistDevInterfaceOtnOduExpMsi(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
         @NonNull
         Map<ExpMsiKey, ExpMsi> expMsiMap = oduBuilder.getOpu().getMsi().nonnullExpMsi();
         for (Map.Entry<ExpMsiKey, ExpMsi> entry : expMsiMap.entrySet()) {
@@ -1866,13 +1731,8 @@ public class INode121 {
             Object[] parameters = prepareDevInterfaceOtnOduExpMsiParameters(nodeId, interfaceName, expMsi);
 
             String query = Queries.getQuery().deviceInterfaceOtnOduExpMsiInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface OTN ODU Exp MSI", e);
             }
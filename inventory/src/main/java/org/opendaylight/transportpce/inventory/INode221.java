@@ -17,15 +17,15 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import javax.sql.DataSource;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
-import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.transportpce.common.Timeouts;
 import org.opendaylight.transportpce.common.device.DeviceTransactionManager;
+import org.opendaylight.transportpce.inventory.query.InventoryWriter;
 import org.opendaylight.transportpce.inventory.query.Queries;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev170206.OrgOpenroadmDeviceData;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.device.rev170206.circuit.pack.CpSlots;
@@ -86,6 +86,35 @@ import org.slf4j.LoggerFactory;
 public class INode221 {
     private static final Logger LOG = LoggerFactory.getLogger(INode221.class);
 
+    // insert queries of the tables of a device, all compared by updateNode
+    private static final List<String> DEVICE_QUERIES = List.of(
+        Queries.getQuery().deviceInfoInsert().get(),
+        Queries.getQuery().deviceShelfInsert().get(),
+        Queries.getQuery().deviceShelfSlotInsert().get(),
+        Queries.getQuery().deviceCircuitPackInsert().get(),
+        Queries.getQuery().deviceCPSlotInsert().get(),
+        Queries.getQuery().deviceInterfacesInsert().get(),
+        Queries.getQuery().deviceInterfaceOtnOduTxMsiInsert().get(),
+        Queries.getQuery().deviceInterfaceOtnOduRxMsiInsert().get(),
+        Queries.getQuery().deviceInterfaceOtnOduExpMsiInsert().get(),
+        Queries.getQuery().deviceProtocolInsert().get(),
+        Queries.getQuery().deviceProtocolPortConfigInsert().get(),
+        Queries.getQuery().deviceProtocolLldpNbrlistInsert().get(),
+        Queries.getQuery().deviceInternalLinkInsert().get(),
+        Queries.getQuery().deviceExternalLinkInsert().get(),
+        Queries.getQuery().devicePhysicalLinkInsert().get(),
+        Queries.getQuery().deviceDegreeInsert().get(),
+        Queries.getQuery().deviceDegreeCircuitPackInsert().get(),
+        Queries.getQuery().deviceDegreeConnectionPortInsert().get(),
+        Queries.getQuery().deviceSharedRiskGroupInsert().get(),
+        Queries.getQuery().deviceSrgCircuitPackInsert().get(),
+        Queries.getQuery().deviceRoadmConnectionsInsert().get(),
+        Queries.getQuery().deviceConnectionMapInsert().get());
+
+    private static final DataObjectIdentifier<OrgOpenroadmDevice> DEVICE_IID = DataObjectIdentifier
+        .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
+        .build();
+
     private final DataSource dataSource;
     private final DeviceTransactionManager deviceTransactionManager;
 
@@ -95,14 +124,24 @@ public class INode221 {
     }
 
     public boolean addNode(String deviceId) {
+        return persistNode(deviceId, false);
+    }
 
-        DataObjectIdentifier<Info> infoIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Info.class)
-            .build();
-        Optional<Info> infoOpt =
-                deviceTransactionManager.getDataFromDevice(deviceId, LogicalDatastoreType.OPERATIONAL, infoIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+    /**
+     * Update the inventory of a device already stored, only writing the rows which changed.
+     *
+     * @param deviceId the device
+     * @return true if the inventory has been updated
+     */
+    public boolean updateNode(String deviceId) {
+        return persistNode(deviceId, true);
+    }
+
+    private boolean persistNode(String deviceId, boolean diff) {
+
+        // the device tree is read once and shared by all the tables of the device
+        DeviceSnapshot<OrgOpenroadmDevice> snapshot = newSnapshot(deviceId);
+        Optional<Info> infoOpt = snapshot.operational().map(OrgOpenroadmDevice::getInfo);
         Info deviceInfo;
         if (infoOpt.isPresent()) {
             deviceInfo = infoOpt.orElseThrow();
@@ -110,75 +149,69 @@ public class INode221 {
             LOG.warn("Could not get device info from DataBroker");
             return false;
         }
-        boolean sqlResult = false;
         String query = Queries.getQuery().deviceInfoInsert().get();
-        LOG.info("Running {} query ", query);
         try (Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            Object[] prepareParameters = prepareDeviceInfoParameters(deviceInfo);
-            for (int i = 0; i < prepareParameters.length; i++) {
-                LOG.debug("Parameter {} has value {}", i + 1, prepareParameters[i]);
-                preparedStatement.setObject(i + 1, prepareParameters[i]);
-
-            }
-            int executeUpdate = preparedStatement.executeUpdate();
-            LOG.info("{} entries were added", executeUpdate);
-            sqlResult = true;
-
-            LOG.info("iNode AddNode call complete");
-            getRoadmShelves(deviceId);
-            LOG.info("iNode getRoadmShelves call complete");
-            getCircuitPacks(deviceId);
+                InventoryWriter writer = diff
+                    ? InventoryWriter.diff(connection, deviceId, DEVICE_QUERIES)
+                    : InventoryWriter.insert(connection, deviceId)) {
+            writer.add(query, prepareDeviceInfoParameters(deviceInfo));
+
+            LOG.debug("iNode AddNode call complete");
+            getRoadmShelves(deviceId, snapshot, writer);
+            LOG.debug("iNode getRoadmShelves call complete");
+            getCircuitPacks(deviceId, snapshot, writer);
             LOG.debug("iNode getCircuitPacks call complete");
 
             LOG.debug("iNode persist interfaces call");
-            persistDevInterfaces(deviceId, connection);
-            LOG.debug("iNode persist interfaces call complete");
-
-            LOG.debug("iNode persist interfaces call");
-            persistDevInterfaces(deviceId, connection);
+            persistDevInterfaces(deviceId, snapshot, writer);
             LOG.debug("iNode persist interfaces call complete");
 
             LOG.debug("iNode persist protocols call");
-            persistDevProtocols(deviceId, connection);
+            persistDevProtocols(deviceId, snapshot, writer);
             LOG.debug("iNode persist protocols call complete");
 
             // LOG.debug("iNode persist wavelength map call");
-            // persistDevWavelengthMap(deviceId, connection);
+            // persistDevWavelengthMap(deviceId, writer);
             // LOG.debug("iNode persist wavelength map call complete");
 
             LOG.debug("iNode persist internal links map call");
-            persistDevInternalLinks(deviceId, connection);
+            persistDevInternalLinks(deviceId, snapshot, writer);
             LOG.debug("iNode persist internal links map call complete");
 
             LOG.debug("iNode persist Physical links map call");
-            persistDevPhysicalLinks(deviceId, connection);
+            persistDevPhysicalLinks(deviceId, snapshot, writer);
             LOG.debug("iNode persist Physical links map call complete");
 
             LOG.debug("iNode persist External links map call");
-            persistDevExternalLinks(deviceId, connection);
+            persistDevExternalLinks(deviceId, snapshot, writer);
             LOG.debug("iNode persist External links map call complete");
 
             LOG.debug("iNode persist degree map call");
-            persistDevDegree(deviceId, connection);
+            persistDevDegree(deviceId, snapshot, writer);
             LOG.debug("iNode persist degree map call complete");
 
             LOG.debug("iNode persist srg map call");
-            persistDevSrg(deviceId, connection);
+            persistDevSrg(deviceId, snapshot, writer);
             LOG.debug("iNode persist srg map call complete");
 
             LOG.debug("iNode persist Roadm Connections call");
-            persistDevRoadmConnections(deviceId, connection);
+            persistDevRoadmConnections(deviceId, snapshot, writer);
             LOG.debug("iNode persist Roadm Connections call complete");
 
             LOG.debug("iNode persist Connection Map call");
-            persistDevConnectionMap(deviceId, connection);
+            persistDevConnectionMap(deviceId, snapshot, writer);
             LOG.debug("iNode persist Connection Map call complete");
 
-        } catch (SQLException | InterruptedException | ExecutionException e) {
+            writer.commit();
+            return true;
+        } catch (SQLException e) {
             LOG.error("Something wrong when storing node into DB", e);
+            return false;
         }
-        return sqlResult;
+    }
+
+    private DeviceSnapshot<OrgOpenroadmDevice> newSnapshot(String nodeId) {
+        return new DeviceSnapshot<>(deviceTransactionManager, nodeId, DEVICE_IID);
     }
 
     public boolean nodeExists(String nodeId) {
@@ -201,12 +234,18 @@ public class INode221 {
     }
 
     public void getRoadmShelves(String nodeId) {
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject = deviceTransactionManager.getDataFromDevice(nodeId,
-                LogicalDatastoreType.OPERATIONAL, deviceIID, Timeouts.DEVICE_READ_TIMEOUT,
-                Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        try (Connection connection = requireNonNull(dataSource.getConnection());
+                InventoryWriter writer = InventoryWriter.insert(connection, nodeId)) {
+            getRoadmShelves(nodeId, newSnapshot(nodeId), writer);
+            writer.commit();
+        } catch (SQLException e1) {
+            LOG.error("Something wrong when fetching ROADM shelves in DB", e1);
+        }
+    }
+
+    private void getRoadmShelves(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("No device found in operational datastore for nodeId {}", nodeId);
             return;
@@ -214,34 +253,36 @@ public class INode221 {
         @NonNull
         Map<ShelvesKey, Shelves> shelvesMap = deviceObject.orElseThrow().nonnullShelves();
         LOG.info("Shelves size {}", shelvesMap.size());
-        try (Connection connection = requireNonNull(dataSource.getConnection())) {
-            for (Map.Entry<ShelvesKey, Shelves> entry : shelvesMap.entrySet()) {
-                Shelves shelve = entry.getValue();
-                String shelfName = shelve.getShelfName();
-
-                LOG.info("Getting Shelve Details of {}", shelfName);
-                if (shelve.getSlots() != null) {
-                    LOG.info("Slot Size {} ", shelve.getSlots().size());
-                    persistShelveSlots(nodeId, shelve, connection);
-                } else {
-                    LOG.info("No Slots for shelf {}", shelfName);
-                }
+        for (Map.Entry<ShelvesKey, Shelves> entry : shelvesMap.entrySet()) {
+            Shelves shelve = entry.getValue();
+            String shelfName = shelve.getShelfName();
+
+            LOG.debug("Getting Shelve Details of {}", shelfName);
+            if (shelve.getSlots() != null) {
+                LOG.debug("Slot Size {} ", shelve.getSlots().size());
+                persistShelveSlots(nodeId, shelve, writer);
+            } else {
+                LOG.debug("No Slots for shelf {}", shelfName);
+            }
 
 
-                persistShelves(nodeId, connection, shelve);
-            }
-        } catch (SQLException e1) {
-            LOG.error("Something wrong when fetching ROADM shelves in DB", e1);
+            persistShelves(nodeId, writer, shelve);
         }
     }
 
     public void getCircuitPacks(String nodeId) throws InterruptedException, ExecutionException {
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        try (Connection connection = requireNonNull(dataSource.getConnection());
+                InventoryWriter writer = InventoryWriter.insert(connection, nodeId)) {
+            getCircuitPacks(nodeId, newSnapshot(nodeId), writer);
+            writer.commit();
+        } catch (SQLException e1) {
+            LOG.error("Something wrong when fetching Circuit Packs in DB", e1);
+        }
+    }
+
+    private void getCircuitPacks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.warn("Device object {} was not found", nodeId);
             return;
@@ -250,63 +291,47 @@ public class INode221 {
         Map<CircuitPacksKey, CircuitPacks> circuitPacksMap = deviceObject.orElseThrow().nonnullCircuitPacks();
         LOG.info("Circuit pack size {}", circuitPacksMap.size());
 
-        try (Connection connection = requireNonNull(dataSource.getConnection())) {
-
-            for (Map.Entry<CircuitPacksKey, CircuitPacks> entry : circuitPacksMap.entrySet()) {
-                CircuitPacks cp = entry.getValue();
+        for (Map.Entry<CircuitPacksKey, CircuitPacks> entry : circuitPacksMap.entrySet()) {
+            CircuitPacks cp = entry.getValue();
 
-                if (cp.getCpSlots() != null) {
-                    persistCircuitPacksSlots(nodeId, cp, connection);
-                }
-                LOG.info("Everything {}", cp);
-                LOG.info("CP is {}", cp);
+            if (cp.getCpSlots() != null) {
+                persistCircuitPacksSlots(nodeId, cp, writer);
+            }
+            LOG.debug("CP is {}", cp);
 
-                persistPorts(cp, connection);
+            persistPorts(cp, writer);
 
-                persistCircuitPacks(nodeId, connection, cp);
-            }
-        } catch (SQLException e1) {
-            LOG.error("Something wrong when fetching Circuit Packs in DB", e1);
+            persistCircuitPacks(nodeId, writer, cp);
         }
     }
 
-    private void persistCircuitPacks(String nodeId, Connection connection, CircuitPacks cp) {
+    private void persistCircuitPacks(String nodeId, InventoryWriter writer, CircuitPacks cp) {
         Object[] parameters = prepareCircuitPacksParameters(nodeId, cp);
         String query = Queries.getQuery().deviceCircuitPackInsert().get();
-        LOG.info("Running {} query ", query);
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            for (int j = 0; j < parameters.length; j++) {
-                stmt.setObject(j + 1, parameters[j]);
-            }
-            stmt.execute();
-            stmt.clearParameters();
+        try {
+            writer.add(query, parameters);
         } catch (SQLException e) {
             LOG.error("Something wrong when storing Circuit Packs in DB", e);
         }
     }
 
-    private void persistShelves(String nodeId, Connection connection, Shelves shelve) {
+    private void persistShelves(String nodeId, InventoryWriter writer, Shelves shelve) {
         Object[] shelvesParameter = prepareShelvesParameters(nodeId, shelve);
         String query = Queries.getQuery().deviceShelfInsert().get();
-        LOG.info("Running {} query ", query);
-        try (PreparedStatement preparedStmt = connection.prepareStatement(query)) {
-            for (int j = 0; j < shelvesParameter.length; j++) {
-                preparedStmt.setObject(j + 1, shelvesParameter[j]);
-            }
-            preparedStmt.execute();
-            preparedStmt.clearParameters();
+        try {
+            writer.add(query, shelvesParameter);
         } catch (SQLException e) {
             LOG.error("Something wrong when storing shelves in DB", e);
         }
     }
 
-    private void persistShelveSlots(String nodeId, Shelves shelves, Connection connection) {
+    private void persistShelveSlots(String nodeId, Shelves shelves, InventoryWriter writer) {
         String startTimetampStr = getCurrentTimestamp();
         @NonNull
         Map<SlotsKey, Slots> slotsMap = shelves.nonnullSlots();
         for (Map.Entry<SlotsKey, Slots> entry : slotsMap.entrySet()) {
             Slots slot = entry.getValue();
-            LOG.info("Getting Slot Details of {}", slot.getSlotName());
+            LOG.debug("Getting Slot Details of {}", slot.getSlotName());
             Object[] parameters = new Object[]{nodeId,
                 shelves.getShelfName(),
                 slot.getSlotName(),
@@ -316,13 +341,8 @@ public class INode221 {
                 startTimetampStr,
                 startTimetampStr};
             String query = Queries.getQuery().deviceShelfSlotInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing shelves slots in DB", e);
             }
@@ -330,7 +350,7 @@ public class INode221 {
     }
 
 
-    private void persistCircuitPacksSlots(String nodeId, CircuitPacks circuitPacks, Connection connection) {
+    private void persistCircuitPacksSlots(String nodeId, CircuitPacks circuitPacks, InventoryWriter writer) {
         String startTimetampStr = getCurrentTimestamp();
         @NonNull
         Map<CpSlotsKey, CpSlots> cpSlotsMap = circuitPacks.nonnullCpSlots();
@@ -346,20 +366,15 @@ public class INode221 {
                 startTimetampStr,
                 startTimetampStr};
             String query = Queries.getQuery().deviceCPSlotInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing Cirtcuits Packs slots in DB", e);
             }
         }
     }
 
-    private void persistPorts(CircuitPacks circuitPacks, Connection connection) {
+    private void persistPorts(CircuitPacks circuitPacks, InventoryWriter writer) {
         LOG.warn("Ports are not persisted yet");
     }
 
@@ -530,7 +545,7 @@ public class INode221 {
             startTimestamp};
     }
 
-    private Object[] prepareDevInterfaceParameters(String nodeId, Interface deviceInterface, Connection connection) {
+    private Object[] prepareDevInterfaceParameters(String nodeId, Interface deviceInterface, InventoryWriter writer) {
 
         int administrativeStateEnu = deviceInterface.getAdministrativeState().getIntValue();
         int operationalState = deviceInterface.getOperationalState().getIntValue();
@@ -660,18 +675,18 @@ public class INode221 {
                 oduMonitoringMode = oduIfBuilder.getMonitoringMode().getName();
                 oduProactiveDelayMeasurementEnabled = oduIfBuilder.getProactiveDelayMeasurementEnabled().toString();
 
-                persistDevInterfaceTcm(nodeId, name, oduIfBuilder, connection);
-                persistDevInterfaceOtnOduTxMsi(nodeId, name, oduIfBuilder, connection);
-                persistDevInterfaceOtnOduRxMsi(nodeId, name, oduIfBuilder, connection);
-                persistDevInterfaceOtnOduExpMsi(nodeId, name, oduIfBuilder, connection);
+                persistDevInterfaceTcm(nodeId, name, oduIfBuilder, writer);
+                persistDevInterfaceOtnOduTxMsi(nodeId, name, oduIfBuilder, writer);
+                persistDevInterfaceOtnOduRxMsi(nodeId, name, oduIfBuilder, writer);
+                persistDevInterfaceOtnOduExpMsi(nodeId, name, oduIfBuilder, writer);
 
                 opuPayloadType = oduIfBuilder.getOpu().getPayloadType();
                 opuRxPayloadType = oduIfBuilder.getOpu().getRxPayloadType();
                 opuExpPayloadType = oduIfBuilder.getOpu().getExpPayloadType();
                 opuPayloadInterface = oduIfBuilder.getOpu().getPayloadInterface();
-                        /*persistDevInterfaceOtnOduTxMsi(nodeId,name,oduIfBuilder,connection);
-                        persistDevInterfaceOtnOduRxMsi(nodeId,name,oduIfBuilder,connection);
-                        persistDevInterfaceOtnOduExpMsi(nodeId,name,oduIfBuilder,connection); */
+                        /*persistDevInterfaceOtnOduTxMsi(nodeId,name,oduIfBuilder,writer);
+                        persistDevInterfaceOtnOduRxMsi(nodeId,name,oduIfBuilder,writer);
+                        persistDevInterfaceOtnOduExpMsi(nodeId,name,oduIfBuilder,writer); */
                 maintTestsignalEnabled = oduIfBuilder.getMaintTestsignal().getEnabled().toString();
                 maintTestsignalTestpatternEnu = oduIfBuilder.getMaintTestsignal().getTestPattern().getIntValue();
                 maintTestsignalTypeEnu = oduIfBuilder.getMaintTestsignal().getType().getIntValue();
@@ -912,14 +927,10 @@ public class INode221 {
 
     }
 
-    private void persistDevInterfaces(String nodeId, Connection connection) {
+    private void persistDevInterfaces(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
 
         /*InstanceIdentifier<Interface> interfaceIID = InstanceIdentifier.create(OrgOpenroadmDevice.class)
            .child(Interface.class);
@@ -939,31 +950,21 @@ public class INode221 {
             LOG.warn("Could not get interface info");
             return false;
         }*/
-            Object[] parameters = prepareDevInterfaceParameters(nodeId, deviceInterface, connection);
+            Object[] parameters = prepareDevInterfaceParameters(nodeId, deviceInterface, writer);
 
             String query = Queries.getQuery().deviceInterfacesInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interfaces in DB", e);
             }
         }
     }
 
-    private void persistDevProtocols(String nodeId, Connection connection) {
+    private void persistDevProtocols(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<Protocols> protocolsIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Protocols.class)
-            .build();
-        Optional<Protocols> protocolObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, protocolsIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Protocols> protocolObject = snapshot.configuration().map(OrgOpenroadmDevice::getProtocols);
         if (!protocolObject.isPresent() || protocolObject.orElseThrow().augmentation(Protocols1.class) == null) {
             LOG.error("LLDP subtree is missing");
             return;
@@ -978,8 +979,8 @@ public class INode221 {
             protocolObject.orElseThrow().augmentation(Protocols1.class).getLldp().getGlobalConfig()
                 .getMsgTxHoldMultiplier().toString();
         String startTimestamp = getCurrentTimestamp();
-        persistDevProtocolLldpPortConfig(nodeId, connection);
-        persistDevProtocolLldpNbrList(nodeId, connection);
+        persistDevProtocolLldpPortConfig(nodeId, snapshot, writer);
+        persistDevProtocolLldpNbrList(nodeId, snapshot, writer);
 
         Object[] parameters = {nodeId,
             Integer.toString(adminstatusEnu),
@@ -990,13 +991,8 @@ public class INode221 {
         };
 
         String query = Queries.getQuery().deviceProtocolInsert().get();
-        LOG.info("Running {} query ", query);
-        try (PreparedStatement stmt = connection.prepareStatement(query)) {
-            for (int j = 0; j < parameters.length; j++) {
-                stmt.setObject(j + 1, parameters[j]);
-            }
-            stmt.execute();
-            stmt.clearParameters();
+        try {
+            writer.add(query, parameters);
         } catch (SQLException e) {
             LOG.error("Something wrong when storing devices protocols in DB", e);
         }
@@ -1004,15 +1000,10 @@ public class INode221 {
     }
 
 
-    private void persistDevProtocolLldpPortConfig(String nodeId, Connection connection) {
+    private void persistDevProtocolLldpPortConfig(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<Protocols> protocolsIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Protocols.class)
-            .build();
-        Optional<Protocols> protocolObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, protocolsIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Protocols> protocolObject = snapshot.configuration().map(OrgOpenroadmDevice::getProtocols);
         if (!protocolObject.isPresent() || protocolObject.orElseThrow().augmentation(Protocols1.class) == null) {
             LOG.error("LLDP subtree is missing");
             return;
@@ -1035,13 +1026,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceProtocolPortConfigInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices protocols LLDP Port config in DB", e);
             }
@@ -1050,15 +1036,10 @@ public class INode221 {
 
     }
 
-    private void persistDevProtocolLldpNbrList(String nodeId, Connection connection) {
+    private void persistDevProtocolLldpNbrList(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<Protocols> protocolsIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .child(Protocols.class)
-            .build();
-        Optional<Protocols> protocolObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.CONFIGURATION, protocolsIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<Protocols> protocolObject = snapshot.configuration().map(OrgOpenroadmDevice::getProtocols);
         if (!protocolObject.isPresent() || protocolObject.orElseThrow().augmentation(Protocols1.class) == null) {
             LOG.error("LLDP subtree is missing");
             return;
@@ -1093,13 +1074,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceProtocolLldpNbrlistInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices protocols LLDP list number in DB", e);
             }
@@ -1107,14 +1083,10 @@ public class INode221 {
         }
     }
 
-    private void persistDevInternalLinks(String nodeId, Connection connection) {
+    private void persistDevInternalLinks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("Device with node id {} not found", nodeId);
             return;
@@ -1141,13 +1113,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceInternalLinkInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices internal links", e);
             }
@@ -1156,14 +1123,10 @@ public class INode221 {
     }
 
 
-    private void persistDevExternalLinks(String nodeId, Connection connection) {
+    private void persistDevExternalLinks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("Device with node id {} not found", nodeId);
             return;
@@ -1194,13 +1157,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceExternalLinkInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices external links", e);
             }
@@ -1208,14 +1166,10 @@ public class INode221 {
         }
     }
 
-    private void persistDevPhysicalLinks(String nodeId, Connection connection) {
+    private void persistDevPhysicalLinks(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("Device with node id {} not found", nodeId);
             return;
@@ -1243,13 +1197,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().devicePhysicalLinkInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices physical links", e);
             }
@@ -1257,14 +1206,10 @@ public class INode221 {
         }
     }
 
-    private void persistDevDegree(String nodeId, Connection connection) {
+    private void persistDevDegree(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("Device with node id {} not found", nodeId);
             return;
@@ -1278,8 +1223,8 @@ public class INode221 {
             String maxWavelengths = degree.getMaxWavelengths().toString();
             String otdrPortCircuitPackName = degree.getOtdrPort().getCircuitPackName();
             String otdrPortPortName = degree.getOtdrPort().getPortName();
-            persistDevDegreeCircuitPack(nodeId, degree, degreeNumber, connection);
-            persistDevDegreeConnectionPort(nodeId, degree, degreeNumber, connection);
+            persistDevDegreeCircuitPack(nodeId, degree, degreeNumber, writer);
+            persistDevDegreeConnectionPort(nodeId, degree, degreeNumber, writer);
             //String mcCapabilitiesSlotWidthGranularity = "";
             //String mcCapabilitiesCenterFreqGranularity = "";
             //String mcCapabilitiesMinSlots = "";
@@ -1300,13 +1245,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceDegreeInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices degrees", e);
             }
@@ -1315,7 +1255,8 @@ public class INode221 {
     }
 
 
-    private void persistDevDegreeCircuitPack(String nodeId, Degree degree, String degreeNumber, Connection connection) {
+    private void persistDevDegreeCircuitPack(String nodeId, Degree degree, String degreeNumber,
+        InventoryWriter writer) {
 
         String startTimestamp = getCurrentTimestamp();
         @NonNull
@@ -1339,13 +1280,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceDegreeCircuitPackInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices degrees circuit packs", e);
             }
@@ -1354,7 +1290,7 @@ public class INode221 {
     }
 
     private void persistDevDegreeConnectionPort(String nodeId, Degree degree, String degreeNumber,
-        Connection connection) {
+        InventoryWriter writer) {
 
         String startTimestamp = getCurrentTimestamp();
         @NonNull
@@ -1376,13 +1312,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceDegreeConnectionPortInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices degrees connection ports", e);
             }
@@ -1391,14 +1322,10 @@ public class INode221 {
     }
 
 
-    private void persistDevSrg(String nodeId, Connection connection) {
+    private void persistDevSrg(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("Device with node id {} not found", nodeId);
             return;
@@ -1413,7 +1340,7 @@ public class INode221 {
             String maxAddDropPorts = sharedRiskGroup.getMaxAddDropPorts().toString();
             String srgNumber = sharedRiskGroup.getSrgNumber().toString();
             //int wavelengthDuplicationEnu = sharedRiskGroup.getWavelengthDuplication().getIntValue();
-            persistDevSrgCircuitPacks(nodeId, sharedRiskGroup, srgNumber, connection);
+            persistDevSrgCircuitPacks(nodeId, sharedRiskGroup, srgNumber, writer);
             //String currentProvisionedAddDropPorts = "";
             //String mcCapSlotWidthGranularity = "";
             //String mcCapCenterFreqGranularity = "";
@@ -1435,13 +1362,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceSharedRiskGroupInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices SRG", e);
             }
@@ -1450,7 +1372,7 @@ public class INode221 {
     }
 
     private void persistDevSrgCircuitPacks(String nodeId, SharedRiskGroup sharedRiskGroup, String srgNumber,
-        Connection connection) {
+        InventoryWriter writer) {
 
         String startTimestamp = getCurrentTimestamp();
         @NonNull
@@ -1475,13 +1397,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceSrgCircuitPackInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices SRG circuit packs", e);
             }
@@ -1489,14 +1406,10 @@ public class INode221 {
         }
     }
 
-    private void persistDevRoadmConnections(String nodeId, Connection connection) {
+    private void persistDevRoadmConnections(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("Device with node id {} not found", nodeId);
             return;
@@ -1530,13 +1443,8 @@ public class INode221 {
 
 
             String query = Queries.getQuery().deviceRoadmConnectionsInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices ROADM connection ", e);
             }
@@ -1545,14 +1453,10 @@ public class INode221 {
     }
 
 
-    private void persistDevConnectionMap(String nodeId, Connection connection) {
+    private void persistDevConnectionMap(String nodeId, DeviceSnapshot<OrgOpenroadmDevice> snapshot,
+            InventoryWriter writer) {
 
-        DataObjectIdentifier<OrgOpenroadmDevice> deviceIID = DataObjectIdentifier
-            .builderOfInherited(OrgOpenroadmDeviceData.class, OrgOpenroadmDevice.class)
-            .build();
-        Optional<OrgOpenroadmDevice> deviceObject =
-                deviceTransactionManager.getDataFromDevice(nodeId, LogicalDatastoreType.OPERATIONAL, deviceIID,
-                        Timeouts.DEVICE_READ_TIMEOUT, Timeouts.DEVICE_READ_TIMEOUT_UNIT);
+        Optional<OrgOpenroadmDevice> deviceObject = snapshot.operational();
         if (!deviceObject.isPresent()) {
             LOG.error("Device with node id {} not found", nodeId);
             return;
@@ -1576,13 +1480,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceConnectionMapInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices connection map", e);
             }
@@ -1590,7 +1489,7 @@ public class INode221 {
         }
     }
 /*
-    private void persistDevWavelengthMap(String nodeId, Connection connection) {
+    private void persistDevWavelengthMap(String nodeId, InventoryWriter writer) {
 
 
         String wavelengthNumber="", centerFrequency="", wavelength="";;
@@ -1618,13 +1517,8 @@ public class INode221 {
             };
 
             String query = Queries.getQuery().deviceWavelengthInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices wavelength map", e);
             }
@@ -1635,7 +1529,7 @@ public class INode221 {
 */
 
     private void persistDevInterfaceTcm(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
 
         Map<TcmKey, Tcm> tcmMap = oduBuilder.getTcm();
         for (Map.Entry<TcmKey, Tcm> entry : tcmMap.entrySet()) {
@@ -1644,13 +1538,8 @@ public class INode221 {
             Object[] parameters = prepareDevInterfaceTcmParameters(nodeId, interfaceName, tcm);
 
             String query = Queries.getQuery().deviceInterfacesInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface tcm", e);
             }
@@ -1658,7 +1547,7 @@ public class INode221 {
     }
 
     private void persistDevInterfaceOtnOduTxMsi(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
         @Nullable
         Map<TxMsiKey, TxMsi> txMsi2Map = oduBuilder.getOpu().getMsi().getTxMsi();
         if (txMsi2Map == null) {
@@ -1670,13 +1559,8 @@ public class INode221 {
             Object[] parameters = prepareDevInterfaceOtnOduTxMsiParameters(nodeId, interfaceName, txMsi);
 
             String query = Queries.getQuery().deviceInterfaceOtnOduTxMsiInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface OTN ODU Tx MSI", e);
             }
@@ -1685,7 +1569,7 @@ public class INode221 {
 
 
     private void persistDevInterfaceOtnOduRxMsi(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
         @Nullable
         Map<RxMsiKey, RxMsi> rxMsi2Map = oduBuilder.getOpu().getMsi().getRxMsi();
         if (rxMsi2Map == null) {
@@ -1698,13 +1582,8 @@ public class INode221 {
             Object[] parameters = prepareDevInterfaceOtnOduRxMsiParameters(nodeId, interfaceName, rxMsi);
 
             String query = Queries.getQuery().deviceInterfaceOtnOduRxMsiInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface OTN ODU Rx MSI", e);
             }
@@ -1713,7 +1592,7 @@ public class INode221 {
 
 
     private void persistDevInterfaceOtnOduExpMsi(String nodeId, String interfaceName, OduBuilder oduBuilder,
-        Connection connection) {
+        InventoryWriter writer) {
         @Nullable
         Map<ExpMsiKey, ExpMsi> expMsi2Map = oduBuilder.getOpu().getMsi().getExpMsi();
         if (expMsi2Map == null) {
@@ -1726,13 +1605,8 @@ public class INode221 {
             Object[] parameters = prepareDevInterfaceOtnOduExpMsiParameters(nodeId, interfaceName, expMsi);
 
             String query = Queries.getQuery().deviceInterfaceOtnOduExpMsiInsert().get();
-            LOG.info("Running {} query ", query);
-            try (PreparedStatement stmt = connection.prepareStatement(query)) {
-                for (int j = 0; j < parameters.length; j++) {
-                    stmt.setObject(j + 1, parameters[j]);
-                }
-                stmt.execute();
-                stmt.clearParameters();
+            try {
+                writer.add(query, parameters);
             } catch (SQLException e) {
                 LOG.error("Something wrong when storing devices interface OTN ODU Exp MSI", e);
             }
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.inventory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous ingestion of the device inventory, decoupled from the DataTreeChangeListeners triggering it.
+ *
+ * <p>Devices to inventory are queued in a bounded work queue and processed by a pool of workers, which should not
+ * be larger than the pool of database connections. Repeated triggers for a device are coalesced: a device waits at
+ * most once in the queue, and a device triggered again while being processed is queued again once processed, so
+ * that the same device is never processed by two workers at the same time. Devices triggered while the queue is full
+ * are rejected.
+ */
+public final class InventoryIngestion implements AutoCloseable {
+    // default maximum number of connections of a dbcp2 pool
+    public static final int DEFAULT_WORKER_THREADS = 8;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(InventoryIngestion.class);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final DeviceInventory deviceInventory;
+    private final ThreadPoolExecutor executor;
+    // devices waiting for a worker, and devices triggered again while being processed, guarded by this
+    private final Map<String, Trigger> queued = new HashMap<>();
+    private final Map<String, Trigger> retriggered = new HashMap<>();
+    private final Set<String> running = new HashSet<>();
+    private final LongAdder triggerCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder lagNanos = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private final LongAdder processingNanos = new LongAdder();
+
+    private record Trigger(String openRoadmVersion, long timeNanos) {
+    }
+
+    public InventoryIngestion(DeviceInventory deviceInventory) {
+        this(deviceInventory, DEFAULT_WORKER_THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public InventoryIngestion(DeviceInventory deviceInventory, int workerThreads, int queueCapacity) {
+        this.deviceInventory = deviceInventory;
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadFactoryBuilder().setNameFormat("inventory-ingestion-%d").setDaemon(true).build());
+        LOG.info("Inventory ingestion started with {} workers", workerThreads);
+    }
+
+    /**
+     * Queue the inventory of a device. Never blocks.
+     *
+     * @param deviceId the device
+     * @param openRoadmVersion the OpenROADM version of the device
+     * @return false if the device has been rejected because the queue is full
+     */
+    public boolean submitDevice(String deviceId, String openRoadmVersion) {
+        triggerCount.increment();
+        Trigger trigger = new Trigger(openRoadmVersion, System.nanoTime());
+        synchronized (this) {
+            boolean isRunning = running.contains(deviceId);
+            Map<String, Trigger> pending = isRunning ? retriggered : queued;
+            Trigger previous = pending.get(deviceId);
+            if (previous != null) {
+                // the coalesced trigger keeps the time of the first one, so that the lag is not underestimated
+                pending.put(deviceId, new Trigger(openRoadmVersion, previous.timeNanos()));
+                coalescedCount.increment();
+                LOG.debug("Inventory of {} already queued", deviceId);
+                return true;
+            }
+            if (isRunning) {
+                retriggered.put(deviceId, trigger);
+                return true;
+            }
+            return enqueue(deviceId, trigger);
+        }
+    }
+
+    private boolean enqueue(String deviceId, Trigger trigger) {
+        queued.put(deviceId, trigger);
+        try {
+            executor.execute(() -> process(deviceId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(deviceId);
+            rejectedCount.increment();
+            LOG.warn("Inventory queue is full, inventory of {} rejected", deviceId, e);
+            return false;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void process(String deviceId) {
+        Trigger trigger;
+        synchronized (this) {
+            trigger = queued.remove(deviceId);
+            running.add(deviceId);
+        }
+        long start = System.nanoTime();
+        long lag = start - trigger.timeNanos();
+        lagNanos.add(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        try {
+            deviceInventory.initializeDevice(deviceId, trigger.openRoadmVersion());
+            processedCount.increment();
+        } catch (RuntimeException e) {
+            failedCount.increment();
+            LOG.error("Inventory of {} failed", deviceId, e);
+        } finally {
+            long duration = System.nanoTime() - start;
+            processingNanos.add(duration);
+            LOG.debug("Inventory of {} processed in {} ms, {} ms after being triggered", deviceId,
+                TimeUnit.NANOSECONDS.toMillis(duration), TimeUnit.NANOSECONDS.toMillis(lag));
+            synchronized (this) {
+                running.remove(deviceId);
+                Trigger next = retriggered.remove(deviceId);
+                if (next != null && !executor.isShutdown()) {
+                    enqueue(deviceId, next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of devices waiting for a worker.
+     *
+     * @return the size of the queue
+     */
+    public synchronized int getQueueSize() {
+        return queued.size();
+    }
+
+    /**
+     * Get the time the oldest device in the queue has been waiting for.
+     *
+     * @return the current lag, in milliseconds
+     */
+    public synchronized long getCurrentLagMillis() {
+        long now = System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(
+            queued.values().stream().mapToLong(trigger -> now - trigger.timeNanos()).max().orElse(0));
+    }
+
+    /**
+     * Get the average time between the trigger of a device inventory and its processing.
+     *
+     * @return the average lag, in milliseconds
+     */
+    public long getAverageLagMillis() {
+        long count = processedCount.sum() + failedCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(lagNanos.sum() / count);
+    }
+
+    /**
+     * Get the maximum time between the trigger of a device inventory and its processing.
+     *
+     * @return the maximum lag, in milliseconds
+     */
+    public long getMaxLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get());
+    }
+
+    /**
+     * Get the average time taken to inventory a device.
+     *
+     * @return the average processing time, in milliseconds
+     */
+    public long getAverageProcessingMillis() {
+        long count = processedCount.sum() + failedCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(processingNanos.sum() / count);
+    }
+
+    /**
+     * Get the number of device inventories triggered.
+     *
+     * @return the number of triggers
+     */
+    public long getTriggerCount() {
+        return triggerCount.sum();
+    }
+
+    /**
+     * Get the number of triggers merged with a trigger of the same device already queued.
+     *
+     * @return the number of coalesced triggers
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Get the number of triggers rejected because the queue was full.
+     *
+     * @return the number of rejected triggers
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Get the number of device inventories processed.
+     *
+     * @return the number of processed devices
+     */
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+
+    /**
+     * Get the number of device inventories which failed with an unexpected error.
+     *
+     * @return the number of failed devices
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Stop the workers. Queued devices are not processed.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOG.info("Inventory ingestion stopped, {} devices not processed", getQueueSize());
+    }
+}
@@ -32,15 +32,26 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * {@link ListenerProvider} registers {@link DataTreeChangeListener} for each network layer.
  */
-@Component
+@Component(configurationPid = "org.opendaylight.transportpce.inventory")
 public class ListenerProvider {
 
+    @ObjectClassDefinition
+    public @interface Configuration {
+        @AttributeDefinition(description = "Number of inventory workers, at most the size of the DataSource pool",
+            min = "1")
+        int inventoryWorkerThreads() default InventoryIngestion.DEFAULT_WORKER_THREADS;
+        @AttributeDefinition(description = "Maximum number of devices waiting to be inventoried", min = "1")
+        int inventoryQueueCapacity() default InventoryIngestion.DEFAULT_QUEUE_CAPACITY;
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(ListenerProvider.class);
     private static final DataObjectReference<Node> NETCONF_NODE_II = DataObjectReference
             .builder(NetworkTopology.class)
@@ -48,6 +59,7 @@ public class ListenerProvider {
             .child(Node.class)
             .build();
     private List<Registration> listeners = new ArrayList<>();
+    private final InventoryIngestion inventoryIngestion;
 
     /**
      * Constructor invoked by blueprint injects all dependencies.
@@ -55,11 +67,13 @@ public class ListenerProvider {
      * @param dataBroker dataBroker
      * @param dataSource dataSource
      * @param deviceTransactionManager deviceTransactionManager
+     * @param configuration configuration of the inventory ingestion
      */
     @Activate
     public ListenerProvider(@Reference DataBroker dataBroker,
             @Reference DataSource dataSource,
-            @Reference DeviceTransactionManager deviceTransactionManager) {
+            @Reference DeviceTransactionManager deviceTransactionManager,
+            Configuration configuration) {
 
         LOG.debug("Registering listeners...");
         OverlayNetworkChangeListener overlayNetworkListener = new OverlayNetworkChangeListener();
@@ -77,11 +91,13 @@ public class ListenerProvider {
         INode121 inode121 = new INode121(dataSource, deviceTransactionManager);
         INode inode = new INode(dataSource, inode121);
         DeviceInventory deviceInventory = new DeviceInventory(dataSource, inode);
-        DeviceListener deviceListener = new DeviceListener(deviceInventory);
+        inventoryIngestion = new InventoryIngestion(deviceInventory, configuration.inventoryWorkerThreads(),
+                configuration.inventoryQueueCapacity());
+        DeviceListener deviceListener = new DeviceListener(inventoryIngestion);
         listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, NETCONF_NODE_II,
                 deviceListener));
         LOG.info("Device change listener was successfully registered");
-        DeviceConfigListener deviceConfigListener = new DeviceConfigListener(deviceInventory);
+        DeviceConfigListener deviceConfigListener = new DeviceConfigListener(inventoryIngestion);
         listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, NETCONF_NODE_II,
                 deviceConfigListener));
         LOG.info("Device config change listener was successfully registered");
@@ -91,5 +107,15 @@ public class ListenerProvider {
     public void close() {
         listeners.forEach(lis -> lis.close());
         listeners.clear();
+        inventoryIngestion.close();
+    }
+
+    /**
+     * Get the ingestion of the device inventory, for its metrics.
+     *
+     * @return the inventory ingestion
+     */
+    public InventoryIngestion getInventoryIngestion() {
+        return inventoryIngestion;
     }
 }
@@ -15,7 +15,7 @@ import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationTyp
 import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
 import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.transportpce.common.StringConstants;
-import org.opendaylight.transportpce.inventory.DeviceInventory;
+import org.opendaylight.transportpce.inventory.InventoryIngestion;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.device.rev251205.ConnectionOper.ConnectionStatus;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev251205.NetconfNodeAugment;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev251205.netconf.node.augment.NetconfNode;
@@ -30,15 +30,16 @@ import org.slf4j.LoggerFactory;
 public class DeviceListener implements DataTreeChangeListener<Node> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DeviceListener.class);
-    private final DeviceInventory deviceInventory;
+    private final InventoryIngestion inventoryIngestion;
 
     /**
-     * Default constructor invoked by blueprint injects {@link DeviceInventory} as a persistence layer.
+     * Default constructor invoked by blueprint injects {@link InventoryIngestion} as a persistence layer.
+     * The inventory of the devices is queued, not to block the notification thread.
      *
-     * @param deviceInventory reference to the {@link DeviceInventory}
+     * @param inventoryIngestion reference to the {@link InventoryIngestion}
      */
-    public DeviceListener(DeviceInventory deviceInventory) {
-        this.deviceInventory = deviceInventory;
+    public DeviceListener(InventoryIngestion inventoryIngestion) {
+        this.inventoryIngestion = inventoryIngestion;
     }
 
     @Override
@@ -92,7 +93,7 @@ public class DeviceListener implements DataTreeChangeListener<Node> {
         }
         if (ConnectionStatus.Connected.equals(connectionStatus)) {
             LOG.info("DL The device is in {} state", connectionStatus);
-            deviceInventory.initializeDevice(nodeId, openROADMversion);
+            inventoryIngestion.submitDevice(nodeId, openROADMversion);
         } else if (ConnectionStatus.Connecting.equals(connectionStatus)
                 || ConnectionStatus.UnableToConnect.equals(connectionStatus)) {
             LOG.info("DL The device is in {} state", connectionStatus);
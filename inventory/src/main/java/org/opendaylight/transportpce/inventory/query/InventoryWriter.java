@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.inventory.query;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writer of the inventory rows of a device, in a single transaction.
+ *
+ * <p>Rows are added with their insert query and parameters. Each query is prepared once and its rows are sent to the
+ * database in JDBC batches. {@link #commit()} sends the remaining rows and commits the transaction, which is rolled
+ * back on {@link #close()} if not committed.
+ *
+ * <p>In diff mode, used when a device already in the inventory reconnects, the rows are compared with the rows of the
+ * device already stored in each table, ignoring their trailing create and update dates: unchanged rows are left
+ * untouched, only new or changed rows are inserted and the rows which no longer exist are deleted. The first column of
+ * every table is expected to be the node identifier.
+ */
+@SuppressFBWarnings(
+    value = "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING",
+    justification = "statements are derived from the constant insert queries")
+public final class InventoryWriter implements AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final Logger LOG = LoggerFactory.getLogger(InventoryWriter.class);
+    // create_date and update_date, the last columns of every device table
+    private static final int DATE_COLUMNS = 2;
+    private static final Map<String, InsertQuery> INSERT_QUERIES = new ConcurrentHashMap<>();
+
+    private final Connection connection;
+    private final String nodeId;
+    private final boolean diff;
+    private final int batchSize;
+    private final Set<String> managedQueries;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private final Map<String, Integer> pendingRows = new HashMap<>();
+    // rows of the device collected in diff mode, by insert query and then by compared values
+    private final Map<String, Map<List<String>, List<Object[]>>> deviceRows = new LinkedHashMap<>();
+    private final boolean autoCommit;
+    private int insertedRows;
+    private int deletedRows;
+    private int unchangedRows;
+    private boolean committed;
+
+    private InventoryWriter(Connection connection, String nodeId, boolean diff, Collection<String> managedQueries,
+            int batchSize) throws SQLException {
+        this.connection = connection;
+        this.nodeId = nodeId;
+        this.diff = diff;
+        this.managedQueries = new LinkedHashSet<>(managedQueries);
+        this.batchSize = batchSize;
+        this.autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+    }
+
+    /**
+     * Create a writer inserting all the rows of a device.
+     *
+     * @param connection the connection, used by a single writer at a time
+     * @param nodeId the device
+     * @return the writer
+     * @throws SQLException if the transaction can not be started
+     */
+    public static InventoryWriter insert(Connection connection, String nodeId) throws SQLException {
+        return new InventoryWriter(connection, nodeId, false, List.of(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a writer only writing the rows of a device which differ from the ones already stored.
+     *
+     * @param connection the connection, used by a single writer at a time
+     * @param nodeId the device
+     * @param managedQueries insert queries of all the tables of the device, so that the rows stored in a table are
+     *     deleted even if the device has no more row for this table
+     * @return the writer
+     * @throws SQLException if the transaction can not be started
+     */
+    public static InventoryWriter diff(Connection connection, String nodeId, Collection<String> managedQueries)
+            throws SQLException {
+        return new InventoryWriter(connection, nodeId, true, managedQueries, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Add a row of the device.
+     *
+     * @param query the insert query of the table
+     * @param parameters the values of the row
+     * @throws SQLException if the row can not be added to the batch of the query
+     */
+    public void add(String query, Object... parameters) throws SQLException {
+        if (diff) {
+            deviceRows.computeIfAbsent(query, k -> new LinkedHashMap<>())
+                .computeIfAbsent(comparedValues(parameters), k -> new ArrayList<>())
+                .add(parameters);
+        } else {
+            addBatch(query, parameters);
+        }
+    }
+
+    /**
+     * Write the remaining rows and commit the transaction.
+     *
+     * @throws SQLException if the rows can not be written
+     */
+    public void commit() throws SQLException {
+        if (diff) {
+            Set<String> queries = new LinkedHashSet<>(managedQueries);
+            queries.addAll(deviceRows.keySet());
+            for (String query : queries) {
+                writeDiff(query, deviceRows.getOrDefault(query, Map.of()));
+            }
+        }
+        for (String query : statements.keySet()) {
+            executeBatch(query);
+        }
+        connection.commit();
+        committed = true;
+        LOG.info("Inventory of {} written: {} rows inserted, {} deleted, {} unchanged", nodeId, insertedRows,
+            deletedRows, unchangedRows);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+            if (!committed) {
+                LOG.warn("Inventory of {} not written, rolling back", nodeId);
+                connection.rollback();
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void addBatch(String query, Object... parameters) throws SQLException {
+        PreparedStatement statement = statements.get(query);
+        if (statement == null) {
+            LOG.debug("Preparing {} query", query);
+            statement = connection.prepareStatement(query);
+            statements.put(query, statement);
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+        statement.addBatch();
+        if (pendingRows.merge(query, 1, Integer::sum) >= batchSize) {
+            executeBatch(query);
+        }
+    }
+
+    private void executeBatch(String query) throws SQLException {
+        if (pendingRows.getOrDefault(query, 0) == 0) {
+            return;
+        }
+        int[] counts = statements.get(query).executeBatch();
+        if (query.startsWith(InsertQuery.DELETE)) {
+            deletedRows += Arrays.stream(counts).filter(count -> count > 0).sum();
+        } else {
+            insertedRows += counts.length;
+        }
+        pendingRows.put(query, 0);
+    }
+
+    private void writeDiff(String query, Map<List<String>, List<Object[]>> rows) throws SQLException {
+        InsertQuery insertQuery = INSERT_QUERIES.computeIfAbsent(query, InsertQuery::parse);
+        Map<List<String>, List<Object[]>> storedRows = readStoredRows(insertQuery);
+        List<Object[]> deletedValues = new ArrayList<>();
+        List<Object[]> insertedParameters = new ArrayList<>();
+        for (Map.Entry<List<String>, List<Object[]>> entry : rows.entrySet()) {
+            List<Object[]> stored = storedRows.remove(entry.getKey());
+            int storedCount = stored == null ? 0 : stored.size();
+            if (storedCount == entry.getValue().size()) {
+                unchangedRows += storedCount;
+                continue;
+            }
+            // identical rows are replaced together, since they can not be told apart
+            if (stored != null) {
+                deletedValues.add(stored.get(0));
+            }
+            insertedParameters.addAll(entry.getValue());
+        }
+        storedRows.values().forEach(stored -> deletedValues.add(stored.get(0)));
+
+        Set<String> deleteQueries = new LinkedHashSet<>();
+        for (Object[] values : deletedValues) {
+            String deleteQuery = insertQuery.delete(values);
+            deleteQueries.add(deleteQuery);
+            addBatch(deleteQuery, Arrays.stream(values).filter(value -> value != null).toArray());
+        }
+        // the rows must be deleted before inserting the rows replacing them
+        for (String deleteQuery : deleteQueries) {
+            executeBatch(deleteQuery);
+        }
+        for (Object[] parameters : insertedParameters) {
+            addBatch(query, parameters);
+        }
+    }
+
+    // stored rows of the device, grouped by compared values
+    private Map<List<String>, List<Object[]>> readStoredRows(InsertQuery insertQuery) throws SQLException {
+        Map<List<String>, List<Object[]>> storedRows = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(insertQuery.select())) {
+            statement.setString(1, nodeId);
+            try (ResultSet rs = statement.executeQuery()) {
+                int columnCount = insertQuery.comparedColumns().size();
+                while (rs.next()) {
+                    Object[] values = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        values[i] = rs.getObject(i + 1);
+                    }
+                    storedRows.computeIfAbsent(comparedValues(values, columnCount), k -> new ArrayList<>())
+                        .add(values);
+                }
+            }
+        }
+        return storedRows;
+    }
+
+    private static List<String> comparedValues(Object[] parameters) {
+        return comparedValues(parameters, parameters.length - DATE_COLUMNS);
+    }
+
+    private static List<String> comparedValues(Object[] values, int count) {
+        List<String> compared = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            compared.add(values[i] == null ? null : values[i].toString());
+        }
+        return compared;
+    }
+
+    /**
+     * Table and columns of an insert query, and the queries derived from them.
+     */
+    private record InsertQuery(String table, List<String> comparedColumns) {
+        static final String DELETE = "DELETE FROM ";
+
+        static InsertQuery parse(String query) {
+            String afterInto = query.substring(query.toUpperCase(Locale.ROOT).indexOf("INTO ") + 5).trim();
+            int columnsStart = afterInto.indexOf('(');
+            List<String> columns = Arrays.stream(
+                    afterInto.substring(columnsStart + 1, afterInto.indexOf(')')).split(","))
+                .map(String::trim)
+                .toList();
+            return new InsertQuery(afterInto.substring(0, columnsStart).trim(),
+                columns.subList(0, columns.size() - DATE_COLUMNS));
+        }
+
+        String select() {
+            return "SELECT " + String.join(", ", comparedColumns) + " FROM " + table + " WHERE "
+                + comparedColumns.get(0) + " = ?";
+        }
+
+        String delete(Object[] values) {
+            List<String> conditions = new ArrayList<>(values.length);
+            for (int i = 0; i < values.length; i++) {
+                conditions.add(comparedColumns.get(i) + (values[i] == null ? " IS NULL" : " = ?"));
+            }
+            return conditions.stream().collect(Collectors.joining(" AND ", DELETE + table + " WHERE ", ""));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryIngestionTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final String BLOCKING_DEVICE = "ROADM-A1";
+    private static final String DEVICE = "ROADM-C1";
+
+    @Mock
+    private DeviceInventory deviceInventory;
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private InventoryIngestion inventoryIngestion;
+
+    @BeforeEach
+    void setUp() {
+        // the first inventory of BLOCKING_DEVICE keeps its worker busy until released
+        doAnswer(invocation -> {
+            if (BLOCKING_DEVICE.equals(invocation.getArgument(0)) && started.getCount() > 0) {
+                started.countDown();
+                assertTrue(release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "Device not released");
+            }
+            return null;
+        }).when(deviceInventory).initializeDevice(anyString(), anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        inventoryIngestion.close();
+    }
+
+    @Test
+    void repeatedTriggersOfAQueuedDeviceAreCoalesced() throws InterruptedException {
+        inventoryIngestion = new InventoryIngestion(deviceInventory, 1, 10);
+        assertTrue(inventoryIngestion.submitDevice(BLOCKING_DEVICE, "2.2.1"));
+        assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "Device not started");
+
+        assertTrue(inventoryIngestion.submitDevice(DEVICE, "1.2.1"));
+        assertTrue(inventoryIngestion.submitDevice(DEVICE, "2.2.1"));
+        assertTrue(inventoryIngestion.submitDevice(DEVICE, "7.1"));
+        assertEquals(1, inventoryIngestion.getQueueSize());
+        assertEquals(2, inventoryIngestion.getCoalescedCount());
+
+        release.countDown();
+        // the device is inventoried once, with the version of the last trigger
+        verify(deviceInventory, timeout(TIMEOUT_MILLIS)).initializeDevice(DEVICE, "7.1");
+        inventoryIngestion.close();
+        verify(deviceInventory, times(1)).initializeDevice(eq(DEVICE), anyString());
+        assertEquals(4, inventoryIngestion.getTriggerCount());
+        assertEquals(2, inventoryIngestion.getProcessedCount());
+        assertEquals(0, inventoryIngestion.getQueueSize());
+    }
+
+    @Test
+    void deviceTriggeredWhileRunningIsProcessedAgainOnceDone() throws InterruptedException {
+        inventoryIngestion = new InventoryIngestion(deviceInventory, 2, 10);
+        assertTrue(inventoryIngestion.submitDevice(BLOCKING_DEVICE, "2.2.1"));
+        assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "Device not started");
+
+        assertTrue(inventoryIngestion.submitDevice(BLOCKING_DEVICE, "2.2.1"));
+        assertTrue(inventoryIngestion.submitDevice(BLOCKING_DEVICE, "7.1"));
+        // the device is not given to the idle worker while being processed
+        assertEquals(0, inventoryIngestion.getQueueSize());
+        assertEquals(1, inventoryIngestion.getCoalescedCount());
+        verify(deviceInventory, times(1)).initializeDevice(anyString(), anyString());
+
+        release.countDown();
+        verify(deviceInventory, timeout(TIMEOUT_MILLIS)).initializeDevice(BLOCKING_DEVICE, "7.1");
+        inventoryIngestion.close();
+        verify(deviceInventory, times(2)).initializeDevice(anyString(), anyString());
+        assertEquals(3, inventoryIngestion.getTriggerCount());
+        assertEquals(2, inventoryIngestion.getProcessedCount());
+    }
+
+    @Test
+    void devicesAreRejectedWhenTheQueueIsFull() throws InterruptedException {
+        inventoryIngestion = new InventoryIngestion(deviceInventory, 1, 1);
+        assertTrue(inventoryIngestion.submitDevice(BLOCKING_DEVICE, "2.2.1"));
+        assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "Device not started");
+
+        assertTrue(inventoryIngestion.submitDevice(DEVICE, "2.2.1"));
+        assertFalse(inventoryIngestion.submitDevice("XPDR-A1", "2.2.1"));
+        assertEquals(1, inventoryIngestion.getRejectedCount());
+        assertEquals(1, inventoryIngestion.getQueueSize());
+    }
+}
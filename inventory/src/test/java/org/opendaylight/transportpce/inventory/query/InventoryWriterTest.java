@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.inventory.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+class InventoryWriterTest {
+    private static final String NODE = "ROADM-A1";
+    private static final String OTHER_NODE = "ROADM-C1";
+    private static final String FIRST_DATE = "2026-01-01 00:00:00";
+    private static final String SECOND_DATE = "2026-01-02 00:00:00";
+    private static final String QUERY = Queries.getQuery().withSchema("PUBLIC").deviceInterfaceOtnOduTxMsiInsert()
+        .get();
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) throws SQLException {
+        connection = DriverManager.getConnection(
+            "jdbc:h2:mem:" + testInfo.getTestMethod().orElseThrow().getName() + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE inv_dev_interface_odu_opu_tx_msi (node_id VARCHAR(255), "
+                + "interface_name VARCHAR(255), trib_slot VARCHAR(255), odtu_type VARCHAR(255), "
+                + "trib_port VARCHAR(255), trib_port_payload VARCHAR(255), create_date VARCHAR(255), "
+                + "update_date VARCHAR(255))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private static Object[] row(String node, String interfaceName, String tribSlot, String tribPort, String date) {
+        return new Object[] {node, interfaceName, tribSlot, "ODTU4.ts-Allocated", tribPort, "PT-21", date, date};
+    }
+
+    private void insert(Object[]... rows) throws SQLException {
+        try (InventoryWriter writer = InventoryWriter.insert(connection, NODE)) {
+            for (Object[] row : rows) {
+                writer.add(QUERY, row);
+            }
+            writer.commit();
+        }
+    }
+
+    private int count() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM inv_dev_interface_odu_opu_tx_msi")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private Set<List<Object>> rows() throws SQLException {
+        List<List<Object>> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT * FROM inv_dev_interface_odu_opu_tx_msi");
+                ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                Object[] values = new Object[rs.getMetaData().getColumnCount()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = rs.getObject(i + 1);
+                }
+                rows.add(Arrays.asList(values));
+            }
+        }
+        assertEquals(rows.size(), Set.copyOf(rows).size(), "Rows should not be duplicated");
+        return Set.copyOf(rows);
+    }
+
+    @Test
+    void insertWritesAllTheRowsAtCommit() throws SQLException {
+        insert(row(NODE, "ODU4-1", "1", "1", FIRST_DATE), row(NODE, "ODU4-1", "2", null, FIRST_DATE));
+        assertEquals(Set.of(Arrays.asList(row(NODE, "ODU4-1", "1", "1", FIRST_DATE)),
+            Arrays.asList(row(NODE, "ODU4-1", "2", null, FIRST_DATE))), rows());
+        assertTrue(connection.getAutoCommit(), "Auto-commit should be restored");
+    }
+
+    @Test
+    void fullBatchIsSentBeforeCommit() throws SQLException {
+        try (InventoryWriter writer = InventoryWriter.insert(connection, NODE)) {
+            for (int i = 0; i < InventoryWriter.DEFAULT_BATCH_SIZE; i++) {
+                writer.add(QUERY, row(NODE, "ODU4-" + i, "1", "1", FIRST_DATE));
+            }
+            assertEquals(InventoryWriter.DEFAULT_BATCH_SIZE, count(), "Full batch should be sent");
+            writer.add(QUERY, row(NODE, "ODU4-last", "1", "1", FIRST_DATE));
+            assertEquals(InventoryWriter.DEFAULT_BATCH_SIZE, count(), "Next batch should be pending");
+            writer.commit();
+        }
+        assertEquals(InventoryWriter.DEFAULT_BATCH_SIZE + 1, count());
+    }
+
+    @Test
+    void rowsAreRolledBackIfNotCommitted() throws SQLException {
+        try (InventoryWriter writer = InventoryWriter.insert(connection, NODE)) {
+            for (int i = 0; i <= InventoryWriter.DEFAULT_BATCH_SIZE; i++) {
+                writer.add(QUERY, row(NODE, "ODU4-" + i, "1", "1", FIRST_DATE));
+            }
+        }
+        assertEquals(0, count());
+        assertTrue(connection.getAutoCommit(), "Auto-commit should be restored");
+    }
+
+    @Test
+    void diffLeavesUnchangedRowsUntouched() throws SQLException {
+        insert(row(NODE, "ODU4-1", "1", "1", FIRST_DATE), row(NODE, "ODU4-1", "2", null, FIRST_DATE));
+        try (InventoryWriter writer = InventoryWriter.diff(connection, NODE, List.of(QUERY))) {
+            writer.add(QUERY, row(NODE, "ODU4-1", "2", null, SECOND_DATE));
+            writer.add(QUERY, row(NODE, "ODU4-1", "1", "1", SECOND_DATE));
+            writer.commit();
+        }
+        // the dates of the stored rows are kept
+        assertEquals(Set.of(Arrays.asList(row(NODE, "ODU4-1", "1", "1", FIRST_DATE)),
+            Arrays.asList(row(NODE, "ODU4-1", "2", null, FIRST_DATE))), rows());
+    }
+
+    @Test
+    void diffReplacesChangedRowsAndDeletesRemovedRows() throws SQLException {
+        insert(row(NODE, "ODU4-1", "1", "1", FIRST_DATE), row(NODE, "ODU4-1", "2", "2", FIRST_DATE),
+            row(NODE, "ODU4-1", "3", null, FIRST_DATE), row(OTHER_NODE, "ODU4-1", "2", "2", FIRST_DATE));
+        try (InventoryWriter writer = InventoryWriter.diff(connection, NODE, List.of(QUERY))) {
+            writer.add(QUERY, row(NODE, "ODU4-1", "1", "1", SECOND_DATE));
+            writer.add(QUERY, row(NODE, "ODU4-1", "2", "3", SECOND_DATE));
+            writer.add(QUERY, row(NODE, "ODU4-1", "4", "4", SECOND_DATE));
+            writer.commit();
+        }
+        assertEquals(Set.of(
+            Arrays.asList(row(NODE, "ODU4-1", "1", "1", FIRST_DATE)),
+            Arrays.asList(row(NODE, "ODU4-1", "2", "3", SECOND_DATE)),
+            Arrays.asList(row(NODE, "ODU4-1", "4", "4", SECOND_DATE)),
+            Arrays.asList(row(OTHER_NODE, "ODU4-1", "2", "2", FIRST_DATE))), rows());
+    }
+
+    @Test
+    void diffReplacesIdenticalRowsTogether() throws SQLException {
+        insert(row(NODE, "ODU4-1", "1", "1", FIRST_DATE), row(NODE, "ODU4-1", "1", "1", FIRST_DATE));
+        try (InventoryWriter writer = InventoryWriter.diff(connection, NODE, List.of(QUERY))) {
+            writer.add(QUERY, row(NODE, "ODU4-1", "1", "1", SECOND_DATE));
+            writer.commit();
+        }
+        assertEquals(Set.of(Arrays.asList(row(NODE, "ODU4-1", "1", "1", SECOND_DATE))), rows());
+    }
+
+    @Test
+    void diffEmptiesTheManagedTablesWithoutRows() throws SQLException {
+        insert(row(NODE, "ODU4-1", "1", "1", FIRST_DATE), row(OTHER_NODE, "ODU4-1", "1", "1", FIRST_DATE));
+        try (InventoryWriter writer = InventoryWriter.diff(connection, NODE, List.of(QUERY))) {
+            writer.commit();
+        }
+        assertEquals(Set.of(Arrays.asList(row(OTHER_NODE, "ODU4-1", "1", "1", FIRST_DATE))), rows());
+    }
+}
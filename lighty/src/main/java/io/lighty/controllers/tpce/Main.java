@@ -7,6 +7,7 @@
  */
 package io.lighty.controllers.tpce;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import io.lighty.controllers.tpce.exception.TechnicalException;
 import io.lighty.controllers.tpce.module.TransportPCE;
 import io.lighty.controllers.tpce.module.TransportPCEImpl;
@@ -154,11 +155,23 @@ public class Main {
 
         // 1. initialize and start Lighty controller (MD-SAL, Controller, YangTools,
         // Akka)
+        long stepStart = System.nanoTime();
         LightyControllerBuilder lightyControllerBuilder = new LightyControllerBuilder();
         LightyController lightyController = lightyControllerBuilder.from(controllerConfiguration).build();
         lightyController.start().get();
+        stepStart = logStep("lighty.io controller", stepStart);
 
-        // 2. Start swagger server
+        // 2. start NetConf SBP, in parallel with the northbound servers which do not depend on it
+        NetconfSBPlugin netconfSouthboundPlugin;
+        netconfSBPConfiguration = NetconfConfigUtils.injectServicesToTopologyConfig(netconfSBPConfiguration,
+                lightyController.getServices());
+        NetconfTopologyPluginBuilder netconfSBPBuilder = new NetconfTopologyPluginBuilder(
+                lightyController.getServices(), netconfSBPConfiguration);
+        netconfSouthboundPlugin = netconfSBPBuilder.from(netconfSBPConfiguration, lightyController.getServices())
+                .build();
+        ListenableFuture<Boolean> netconfStarted = netconfSouthboundPlugin.start();
+
+        // 3. Start swagger server
         LightyServerBuilder jettyServerBuilder = new LightyServerBuilder(
                 new InetSocketAddress(restConfConfiguration.getInetAddress(), restConfConfiguration.getHttpPort()));
         CommunityRestConfBuilder communityRestConfBuilder = CommunityRestConfBuilder.from(
@@ -167,25 +180,20 @@ public class Main {
                 lightyController.getServices());
         swagger.start().get();
 
-        // 3. start RestConf server
+        // 4. start RestConf server
         CommunityRestConf communityRestConf = communityRestConfBuilder.withLightyServer(jettyServerBuilder).build();
         communityRestConf.start().get();
         communityRestConf.startServer();
+        stepStart = logStep("OpenAPI and RESTCONF", stepStart);
 
-        // 4. start NetConf SBP
-        NetconfSBPlugin netconfSouthboundPlugin;
-        netconfSBPConfiguration = NetconfConfigUtils.injectServicesToTopologyConfig(netconfSBPConfiguration,
-                lightyController.getServices());
-        NetconfTopologyPluginBuilder netconfSBPBuilder = new NetconfTopologyPluginBuilder(
-                lightyController.getServices(), netconfSBPConfiguration);
-        netconfSouthboundPlugin = netconfSBPBuilder.from(netconfSBPConfiguration, lightyController.getServices())
-                .build();
-        netconfSouthboundPlugin.start().get();
+        netconfStarted.get();
+        stepStart = logStep("NETCONF southbound plugin", stepStart);
 
         // 5. start TransportPCE beans
         TransportPCE transportPCE = new TransportPCEImpl(lightyController.getServices(), activateNbiNotification,
             activateTapi, olmtimer1, olmtimer2);
         transportPCE.start().get();
+        logStep("TransportPCE", stepStart);
 
         // 6. Register shutdown hook for graceful shutdown.
         shutdownHook = new ShutdownHook(lightyController, communityRestConf, netconfSouthboundPlugin, transportPCE);
@@ -198,6 +206,12 @@ public class Main {
         shutdownHook.run();
     }
 
+    private static long logStep(String step, long stepStart) {
+        long now = System.nanoTime();
+        LOG.info("{} started in {}ms", step, (now - stepStart) / 1_000_000f);
+        return now;
+    }
+
     public static void main(String[] args) {
         Options options = buildOptions();
         try {
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.controllers.tpce.module;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dependency graph of the startup phases of TransportPCE.
+ *
+ * <p>A phase starts as soon as the phases it depends on are done, so that independent phases run in parallel. Its
+ * start offset and its duration are recorded and logged by {@link #report()}.
+ */
+final class StartupGraph implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupGraph.class);
+
+    private final ListeningExecutorService executor;
+    private final long startNanos = System.nanoTime();
+    private final List<ListenableFuture<?>> phases = new CopyOnWriteArrayList<>();
+    private final List<PhaseTiming> timings = new CopyOnWriteArrayList<>();
+
+    StartupGraph(int threads) {
+        this.executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threads,
+            new ThreadFactoryBuilder().setNameFormat("tpce-startup-%d").setDaemon(true).build()));
+    }
+
+    /**
+     * Add a phase to the graph.
+     *
+     * @param name name of the phase
+     * @param task the phase, returning the beans it creates
+     * @param dependencies phases to wait for before starting this one
+     * @return the beans created by the phase, failed if the phase or one of its dependencies failed
+     */
+    <T> ListenableFuture<T> phase(String name, Callable<T> task, ListenableFuture<?>... dependencies) {
+        ListenableFuture<T> phase = Futures.whenAllSucceed(dependencies).call(() -> {
+            long start = System.nanoTime();
+            LOG.info("Starting phase {} ...", name);
+            T beans = task.call();
+            timings.add(new PhaseTiming(name, start - startNanos, System.nanoTime() - start));
+            return beans;
+        }, executor);
+        phases.add(phase);
+        return phase;
+    }
+
+    /**
+     * Wait for all the phases.
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @throws ExecutionException if a phase failed
+     * @throws TimeoutException if the phases are not done in time
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void await(long timeout, TimeUnit unit) throws ExecutionException, TimeoutException, InterruptedException {
+        Futures.allAsList(phases).get(timeout, unit);
+    }
+
+    /**
+     * Log the start offset and the duration of the phases done, and the total startup duration.
+     */
+    void report() {
+        timings.stream()
+            .sorted(Comparator.comparingLong(PhaseTiming::offsetNanos))
+            .forEach(timing -> LOG.info("Startup phase {} started at +{} ms and took {} ms", timing.name(),
+                millis(timing.offsetNanos()), millis(timing.durationNanos())));
+        LOG.info("Startup phases done in {} ms", millis(System.nanoTime() - startNanos));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private record PhaseTiming(String name, long offsetNanos, long durationNanos) {
+    }
+}
@@ -7,13 +7,22 @@
  */
 package io.lighty.controllers.tpce.module;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.lighty.core.controller.api.AbstractLightyModule;
 import io.lighty.core.controller.api.LightyServices;
-import java.util.ArrayList;
+import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
-import org.opendaylight.mdsal.binding.api.NotificationService;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.mdsal.binding.api.RpcService;
 import org.opendaylight.transportpce.common.crossconnect.CrossConnect;
@@ -32,6 +41,7 @@ import org.opendaylight.transportpce.common.mapping.PortMappingVersion221;
 import org.opendaylight.transportpce.common.mapping.PortMappingVersion710;
 import org.opendaylight.transportpce.common.metadata.OCMetaDataTransaction;
 import org.opendaylight.transportpce.common.metadata.OCMetaDataTransactionImpl;
+import org.opendaylight.transportpce.common.metrics.MetricsProvider;
 import org.opendaylight.transportpce.common.network.NetworkTransactionImpl;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.common.openconfiginterfaces.OpenConfigInterfaces;
@@ -42,8 +52,9 @@ import org.opendaylight.transportpce.common.openroadminterfaces.OpenRoadmInterfa
 import org.opendaylight.transportpce.common.openroadminterfaces.OpenRoadmInterfacesImpl121;
 import org.opendaylight.transportpce.common.openroadminterfaces.OpenRoadmInterfacesImpl221;
 import org.opendaylight.transportpce.common.openroadminterfaces.OpenRoadmInterfacesImpl710;
+import org.opendaylight.transportpce.common.trace.RequestTracer;
+import org.opendaylight.transportpce.common.trace.RequestTracerProvider;
 import org.opendaylight.transportpce.nbinotifications.impl.NbiNotificationsProvider;
-import org.opendaylight.transportpce.networkmodel.NetConfTopologyListener;
 import org.opendaylight.transportpce.networkmodel.NetworkModelProvider;
 import org.opendaylight.transportpce.networkmodel.NetworkUtilsImpl;
 import org.opendaylight.transportpce.networkmodel.listeners.PortMappingListener;
@@ -83,16 +94,31 @@ import org.opendaylight.transportpce.tapi.listeners.TapiNetworkModelNotification
 import org.opendaylight.transportpce.tapi.topology.TapiNetworkModelServiceImpl;
 import org.opendaylight.transportpce.tapi.topology.TapiNetworkUtilsImpl;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
-import org.opendaylight.transportpce.tapi.utils.TapiLink;
 import org.opendaylight.transportpce.tapi.utils.TapiLinkImpl;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-
+/**
+ * TransportPCE beans for lighty.io.
+ *
+ * <p>The beans are created by {@link #initProcedure()} in startup phases run in parallel when they do not depend on
+ * each other. The TAPI bootstrap, which converts the whole OpenROADM topology, goes on in the background after the
+ * startup: the TAPI RPCs are available when it is done.
+ */
 public class TransportPCEImpl extends AbstractLightyModule implements TransportPCE {
     private static final Logger LOG = LoggerFactory.getLogger(TransportPCEImpl.class);
     private static final long MAX_TIME_FOR_TRANSACTION = 1500;
+    private static final int STARTUP_THREADS = 4;
+    private static final long STARTUP_TIMEOUT_MINUTES = 5;
+    private final LightyServices lightyServices;
+    private final boolean activateNbiNotification;
+    private final boolean activateTapi;
+    private final String olmtimer1;
+    private final String olmtimer2;
+    // metrics and request tracer exposed over JMX
+    private final MetricsProvider metricsProvider;
+    private final RequestTracerProvider requestTracerProvider;
     // transaction beans
     // cannot use interface for DeviceTransactionManagerImpl
     // because implementation has additional public methods ...
@@ -100,62 +126,194 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
     private final NetworkTransactionService networkTransaction;
     private final OCMetaDataTransaction ocMetaDataTransaction;
     // network model beans
-    private final NetworkModelProvider networkModelProvider;
+    private NetworkModelProvider networkModelProvider;
+    // pce beans
+    private PathComputationServiceImpl pathComputationService;
     // service-handler beans
-    private final ServiceHandlerProvider servicehandlerProvider;
+    private ServiceHandlerProvider servicehandlerProvider;
     // T-api
     private TapiProvider tapiProvider;
+    private TapiNetworkModelNotificationHandler tapiNetworkModelNotificationHandler;
+    private TapiLinkImpl tapiLink;
+    private ExecutorService tapiBootstrapExecutor;
     // nbi-notifications beans
     private NbiNotificationsProvider nbiNotificationsProvider;
-    private List<Registration> rpcRegistrations = new ArrayList<>();
+    // registered by the startup phases running in parallel
+    private final List<Registration> rpcRegistrations = new CopyOnWriteArrayList<>();
 
     public TransportPCEImpl(
             LightyServices lightyServices, boolean activateNbiNotification, boolean activateTapi,
             String olmtimer1, String olmtimer2) {
+        this.lightyServices = lightyServices;
+        this.activateNbiNotification = activateNbiNotification;
+        this.activateTapi = activateTapi;
+        this.olmtimer1 = olmtimer1;
+        this.olmtimer2 = olmtimer2;
+        metricsProvider = new MetricsProvider();
+        requestTracerProvider =
+            new RequestTracerProvider(ManagementFactory.getPlatformMBeanServer(), RequestTracer.instance(), 0);
         LOG.info("Initializing transaction providers ...");
         deviceTransactionManager =
             new DeviceTransactionManagerImpl(lightyServices.getBindingMountPointService(), MAX_TIME_FOR_TRANSACTION);
         DataBroker dataBroker = lightyServices.getBindingDataBroker();
         networkTransaction = new NetworkTransactionImpl(dataBroker);
         ocMetaDataTransaction = new OCMetaDataTransactionImpl(dataBroker);
+    }
+
+    @Override
+    protected boolean initProcedure() {
+        DataBroker dataBroker = lightyServices.getBindingDataBroker();
+        try (StartupGraph graph = new StartupGraph(STARTUP_THREADS)) {
+            ListenableFuture<PortMapping> portMapping = graph.phase("port-mapping",
+                () -> initPortMapping(dataBroker));
+            ListenableFuture<DeviceInterfaces> deviceInterfaces = graph.phase("device-interfaces",
+                () -> initDeviceInterfaces(dataBroker, Futures.getDone(portMapping)), portMapping);
+            ListenableFuture<NetworkModelBeans> networkModel = graph.phase("network-model",
+                () -> initNetworkModel(dataBroker, Futures.getDone(portMapping)), portMapping);
+            ListenableFuture<PathComputationServiceImpl> pce = graph.phase("pce",
+                () -> initPce(Futures.getDone(portMapping)), portMapping);
+            graph.phase("olm",
+                () -> initOlm(dataBroker, Futures.getDone(portMapping), Futures.getDone(deviceInterfaces)),
+                portMapping, deviceInterfaces);
+            ListenableFuture<RendererServiceOperations> renderer = graph.phase("renderer",
+                () -> initRenderer(dataBroker, Futures.getDone(portMapping), Futures.getDone(deviceInterfaces)),
+                portMapping, deviceInterfaces);
+            ListenableFuture<ServiceHandlerBeans> serviceHandler = graph.phase("service-handler",
+                () -> initServiceHandler(dataBroker, Futures.getDone(pce), Futures.getDone(renderer),
+                    Futures.getDone(networkModel).service()),
+                pce, renderer, networkModel);
+            ListenableFuture<TapiBeans> tapi = Futures.immediateFuture(null);
+            if (activateTapi) {
+                // the conversion of the OpenROADM topology to TAPI must not delay the startup
+                tapiBootstrapExecutor = Executors.newSingleThreadExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("tpce-tapi-bootstrap").setDaemon(true).build());
+                tapi = graph.phase("tapi", () -> initTapi(dataBroker, Futures.getDone(networkModel).service(),
+                    Futures.getDone(serviceHandler).serviceDataStoreOperations()), networkModel, serviceHandler);
+            }
+            ListenableFuture<NbiNotificationsProvider> nbiNotifications = activateNbiNotification
+                ? graph.phase("nbi-notifications", this::initNbiNotifications)
+                : Futures.immediateFuture(null);
+            try {
+                graph.await(STARTUP_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            } finally {
+                // keep the beans created, to close them on stop even if the startup failed
+                NetworkModelBeans networkModelBeans = doneOrNull(networkModel);
+                networkModelProvider = networkModelBeans == null ? null : networkModelBeans.provider();
+                pathComputationService = doneOrNull(pce);
+                ServiceHandlerBeans serviceHandlerBeans = doneOrNull(serviceHandler);
+                servicehandlerProvider = serviceHandlerBeans == null ? null : serviceHandlerBeans.provider();
+                TapiBeans tapiBeans = doneOrNull(tapi);
+                tapiProvider = tapiBeans == null ? null : tapiBeans.provider();
+                tapiNetworkModelNotificationHandler = tapiBeans == null ? null : tapiBeans.notificationHandler();
+                tapiLink = tapiBeans == null ? null : tapiBeans.tapiLink();
+                nbiNotificationsProvider = doneOrNull(nbiNotifications);
+                graph.report();
+            }
+            if (tapiProvider != null) {
+                LOG.info("Initializing tapi provider, TAPI RPCs are available when its bootstrap is done ...");
+            }
+            LOG.info("Init done.");
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.error("TransportPCE startup failed", e);
+            return false;
+        } catch (InterruptedException e) {
+            LOG.error("TransportPCE startup interrupted", e);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean stopProcedure() {
+        if (nbiNotificationsProvider != null) {
+            nbiNotificationsProvider.close();
+            LOG.info("Shutting down nbi-notifications provider ...");
+        }
+        if (tapiProvider != null) {
+            tapiProvider.close();
+            LOG.info("Shutting down tapi provider ...");
+        }
+        if (tapiLink != null) {
+            // closes the NEP state index listener
+            tapiLink.close();
+        }
+        if (tapiNetworkModelNotificationHandler != null) {
+            tapiNetworkModelNotificationHandler.close();
+        }
+        if (tapiBootstrapExecutor != null) {
+            tapiBootstrapExecutor.shutdownNow();
+        }
+        if (servicehandlerProvider != null) {
+            LOG.info("Shutting down service-handler provider ...");
+            servicehandlerProvider.close();
+        }
+        if (pathComputationService != null) {
+            LOG.info("Shutting down PCE beans ...");
+            // closes the GNPy topology cache and its listeners
+            pathComputationService.close();
+        }
+        if (networkModelProvider != null) {
+            LOG.info("Shutting down network-model provider ...");
+            networkModelProvider.close();
+        }
+        LOG.info("Shutting down transaction providers ...");
+        deviceTransactionManager.preDestroy();
+        LOG.info("Closing registered RPCs...");
+        for (Registration reg : rpcRegistrations) {
+            reg.close();
+        }
+        requestTracerProvider.close();
+        metricsProvider.close();
+        LOG.info("Shutdown done.");
+        return true;
+    }
+
+    private DeviceInterfaces initDeviceInterfaces(DataBroker dataBroker, PortMapping portMapping) {
+        MappingUtils mappingUtils = new MappingUtilsImpl(dataBroker);
+        return new DeviceInterfaces(
+                mappingUtils,
+                initCrossConnect(mappingUtils),
+                initOpenRoadmInterfaces(mappingUtils, portMapping),
+                initOpenConfigInterfaces());
+    }
 
+    private NetworkModelBeans initNetworkModel(DataBroker dataBroker, PortMapping portMapping) {
         LOG.info("Creating network-model beans ...");
-        PortMapping portMapping = initPortMapping(dataBroker);
         NotificationPublishService notificationPublishService = lightyServices.getBindingNotificationPublishService();
         NetworkModelService networkModelService = new NetworkModelServiceImpl(dataBroker, deviceTransactionManager,
                 networkTransaction, portMapping, notificationPublishService);
-        new NetConfTopologyListener(networkModelService, dataBroker, deviceTransactionManager, portMapping);
         new PortMappingListener(networkModelService);
+        new NetworkUtilsImpl(dataBroker, lightyServices.getRpcProviderService());
+        return new NetworkModelBeans(networkModelService, new NetworkModelProvider(networkTransaction, dataBroker,
+                networkModelService, deviceTransactionManager, portMapping, lightyServices.getNotificationService(),
+                new FrequenciesServiceImpl(dataBroker, notificationPublishService)));
+    }
 
-        RpcProviderService rpcProviderService = lightyServices.getRpcProviderService();
-        NotificationService notificationService = lightyServices.getNotificationService();
-        new NetworkUtilsImpl(dataBroker, rpcProviderService);
-        networkModelProvider = new NetworkModelProvider(networkTransaction, dataBroker, networkModelService,
-                deviceTransactionManager, portMapping, notificationService, new FrequenciesServiceImpl(dataBroker,
-                notificationPublishService));
-
+    private PathComputationServiceImpl initPce(PortMapping portMapping) {
         LOG.info("Creating PCE beans ...");
         // TODO: pass those parameters through command line
-        PathComputationService pathComputationService = new PathComputationServiceImpl(
+        PathComputationServiceImpl pathComputationServiceImpl = new PathComputationServiceImpl(
                 networkTransaction,
-                notificationPublishService,
+                lightyServices.getBindingNotificationPublishService(),
                 new GnpyConsumerImpl(
                     "http://127.0.0.1:8008", "gnpy", "gnpy", lightyServices.getAdapterContext().currentSerializer()),
                 portMapping);
-        rpcRegistrations.add(new PceServiceRPCImpl(rpcProviderService, pathComputationService).getRegisteredRpc());
+        rpcRegistrations.add(new PceServiceRPCImpl(lightyServices.getRpcProviderService(), pathComputationServiceImpl)
+                .getRegisteredRpc());
+        return pathComputationServiceImpl;
+    }
 
+    private OlmPowerServiceRpcImpl initOlm(DataBroker dataBroker, PortMapping portMapping,
+            DeviceInterfaces deviceInterfaces) {
         LOG.info("Creating OLM beans ...");
-        MappingUtils mappingUtils = new MappingUtilsImpl(dataBroker);
-        CrossConnect crossConnect = initCrossConnect(mappingUtils);
-        OpenRoadmInterfaces openRoadmInterfaces = initOpenRoadmInterfaces(mappingUtils, portMapping);
-        OpenConfigInterfaces openConfigInterfaces = initOpenConfigInterfaces();
         OlmPowerServiceRpcImpl olmPowerServiceRpc = new OlmPowerServiceRpcImpl(
             new OlmPowerServiceImpl(
                     dataBroker,
                     new PowerMgmtImpl(
-                            openRoadmInterfaces,
-                            openConfigInterfaces,
-                            crossConnect,
+                            deviceInterfaces.openRoadmInterfaces(),
+                            deviceInterfaces.openConfigInterfaces(),
+                            deviceInterfaces.crossConnect(),
                             deviceTransactionManager,
                             networkTransaction,
                             portMapping,
@@ -163,12 +321,19 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
                             Long.valueOf(olmtimer2).longValue()),
                     deviceTransactionManager,
                     portMapping,
-                    mappingUtils,
-                    openRoadmInterfaces),
-            rpcProviderService);
+                    deviceInterfaces.mappingUtils(),
+                    deviceInterfaces.openRoadmInterfaces()),
+            lightyServices.getRpcProviderService());
         rpcRegistrations.add(olmPowerServiceRpc.getRegisteredRpc());
+        return olmPowerServiceRpc;
+    }
 
+    private RendererServiceOperations initRenderer(DataBroker dataBroker, PortMapping portMapping,
+            DeviceInterfaces deviceInterfaces) {
         LOG.info("Creating renderer beans ...");
+        MappingUtils mappingUtils = deviceInterfaces.mappingUtils();
+        OpenRoadmInterfaces openRoadmInterfaces = deviceInterfaces.openRoadmInterfaces();
+        CrossConnect crossConnect = deviceInterfaces.crossConnect();
         new OpenRoadmInterfaceFactory(mappingUtils, portMapping, openRoadmInterfaces);
         DeviceRendererService deviceRendererService = new DeviceRendererServiceImpl(
                 dataBroker,
@@ -186,12 +351,11 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
                 portMapping,
                 null);
         //FIXME: need mdsal.binding;api.RpcService from LightyServices
-        RpcService rpcService = lightyServices.getRpcConsumerRegistry();
         RendererServiceOperations rendererServiceOperations = new RendererServiceOperationsImpl(
                 deviceRendererService, otnDeviceRendererService, dataBroker,
-                new NotificationSender(notificationPublishService),
+                new NotificationSender(lightyServices.getBindingNotificationPublishService()),
                 portMapping,
-                rpcService);
+                lightyServices.getRpcConsumerRegistry());
         rpcRegistrations.add(new DeviceRendererRPCImpl(
                         lightyServices.getRpcProviderService(),
                         deviceRendererService,
@@ -201,8 +365,15 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
                 rendererServiceOperations,
                 lightyServices.getRpcProviderService())
             .getRegisteredRpc());
+        return rendererServiceOperations;
+    }
 
+    private ServiceHandlerBeans initServiceHandler(DataBroker dataBroker,
+            PathComputationService pathComputationService, RendererServiceOperations rendererServiceOperations,
+            NetworkModelService networkModelService) {
         LOG.info("Creating service-handler beans ...");
+        NotificationPublishService notificationPublishService = lightyServices.getBindingNotificationPublishService();
+        RpcService rpcService = lightyServices.getRpcConsumerRegistry();
         ServiceDataStoreOperations serviceDataStoreOperations = new ServiceDataStoreOperationsImpl(dataBroker);
         RendererNotificationHandler rendererListener =
             new RendererNotificationHandler(pathComputationService, notificationPublishService, networkModelService);
@@ -212,7 +383,7 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
         NetworkModelNotificationHandler networkListener = new NetworkModelNotificationHandler(
                 notificationPublishService, serviceDataStoreOperations);
         ServicehandlerImpl servicehandler = new ServicehandlerImpl(
-                rpcProviderService,
+                lightyServices.getRpcProviderService(),
                 serviceDataStoreOperations,
                 pceListenerImpl,
                 rendererListener,
@@ -224,82 +395,54 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
                 rendererServiceOperations,
                 notificationPublishService);
         rpcRegistrations.add(servicehandler.getRegisteredRpc());
-        servicehandlerProvider = new ServiceHandlerProvider(
+        return new ServiceHandlerBeans(serviceDataStoreOperations, new ServiceHandlerProvider(
                 dataBroker,
-                notificationService,
+                lightyServices.getNotificationService(),
                 serviceDataStoreOperations,
                 pceListenerImpl,
                 rendererListener,
                 networkListener,
-                new ServiceListener(rpcService, serviceDataStoreOperations, notificationPublishService));
-
-        if (activateTapi) {
-            LOG.info("Creating tapi beans ...");
-            TapiContext tapiContext = new TapiContext(networkTransaction);
-            TapiLink tapiLink = new TapiLinkImpl(networkTransaction,tapiContext);
-            new TapiNetworkUtilsImpl(rpcProviderService, networkTransaction, tapiLink);
-            tapiProvider = new TapiProvider(
-                    dataBroker,
-                    rpcProviderService,
-                    rpcService,
-                    notificationService,
-                    notificationPublishService,
-                    networkTransaction,
-                    serviceDataStoreOperations,
-                    networkModelService,
-                    new TapiNetworkModelNotificationHandler(networkTransaction, notificationPublishService),
-                    new TapiNetworkModelServiceImpl(
-                            networkTransaction,
-                            deviceTransactionManager,
-                            tapiLink,
-                            notificationPublishService),
-                    tapiLink,
-                    tapiContext);
-            rpcRegistrations.add(tapiProvider.getRegisteredRpcs());
-        }
-        if (activateNbiNotification) {
-            LOG.info("Creating nbi-notifications beans ...");
-            nbiNotificationsProvider = new NbiNotificationsProvider(
-                    rpcProviderService,
-                    notificationService,
-                    lightyServices.getAdapterContext().currentSerializer(),
-                    networkTransaction, null);
-        }
+                new ServiceListener(rpcService, serviceDataStoreOperations, notificationPublishService)));
     }
 
-    @Override
-    protected boolean initProcedure() {
-        if (tapiProvider != null) {
-            LOG.info("Initializing tapi provider ...");
-        }
-        if (nbiNotificationsProvider != null) {
-            LOG.info("Initializing nbi-notifications provider ...");
-        }
-        LOG.info("Init done.");
-        return true;
+    private TapiBeans initTapi(DataBroker dataBroker, NetworkModelService networkModelService,
+            ServiceDataStoreOperations serviceDataStoreOperations) {
+        LOG.info("Creating tapi beans ...");
+        NotificationPublishService notificationPublishService = lightyServices.getBindingNotificationPublishService();
+        RpcProviderService rpcProviderService = lightyServices.getRpcProviderService();
+        TapiContext tapiContext = new TapiContext(networkTransaction);
+        TapiLinkImpl tapiLink = new TapiLinkImpl(networkTransaction,tapiContext);
+        new TapiNetworkUtilsImpl(rpcProviderService, networkTransaction, tapiLink);
+        TapiNetworkModelNotificationHandler notificationHandler =
+            new TapiNetworkModelNotificationHandler(dataBroker, networkTransaction, notificationPublishService);
+        // TapiProvider closes its RPC registration itself
+        return new TapiBeans(notificationHandler, tapiLink, new TapiProvider(
+                dataBroker,
+                rpcProviderService,
+                lightyServices.getRpcConsumerRegistry(),
+                lightyServices.getNotificationService(),
+                notificationPublishService,
+                networkTransaction,
+                serviceDataStoreOperations,
+                networkModelService,
+                notificationHandler,
+                new TapiNetworkModelServiceImpl(
+                        networkTransaction,
+                        deviceTransactionManager,
+                        tapiLink,
+                        notificationPublishService),
+                tapiLink,
+                tapiContext,
+                tapiBootstrapExecutor));
     }
 
-    @Override
-    protected boolean stopProcedure() {
-        if (nbiNotificationsProvider != null) {
-            nbiNotificationsProvider.close();
-            LOG.info("Shutting down nbi-notifications provider ...");
-        }
-        if (tapiProvider != null) {
-            tapiProvider.close();
-            LOG.info("Shutting down service-handler provider ...");
-        }
-        servicehandlerProvider.close();
-        LOG.info("Shutting down network-model provider ...");
-        networkModelProvider.close();
-        LOG.info("Shutting down transaction providers ...");
-        deviceTransactionManager.preDestroy();
-        LOG.info("Closing registered RPCs...");
-        for (Registration reg : rpcRegistrations) {
-            reg.close();
-        }
-        LOG.info("Shutdown done.");
-        return true;
+    private NbiNotificationsProvider initNbiNotifications() {
+        LOG.info("Creating nbi-notifications beans ...");
+        return new NbiNotificationsProvider(
+                lightyServices.getRpcProviderService(),
+                lightyServices.getNotificationService(),
+                lightyServices.getAdapterContext().currentSerializer(),
+                networkTransaction, null);
     }
 
     private PortMapping initPortMapping(DataBroker dataBroker) {
@@ -336,4 +479,30 @@ public class TransportPCEImpl extends AbstractLightyModule implements TransportP
         return new CrossConnectImpl(deviceTransactionManager, mappingUtils, crossConnectImpl121,
                 crossConnectImpl221, crossConnectImpl710);
     }
+
+    private static <T> T doneOrNull(ListenableFuture<T> future) {
+        if (!future.isDone()) {
+            return null;
+        }
+        try {
+            return Futures.getDone(future);
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private record DeviceInterfaces(MappingUtils mappingUtils, CrossConnect crossConnect,
+            OpenRoadmInterfaces openRoadmInterfaces, OpenConfigInterfaces openConfigInterfaces) {
+    }
+
+    private record NetworkModelBeans(NetworkModelService service, NetworkModelProvider provider) {
+    }
+
+    private record TapiBeans(TapiNetworkModelNotificationHandler notificationHandler, TapiLinkImpl tapiLink,
+            TapiProvider provider) {
+    }
+
+    private record ServiceHandlerBeans(ServiceDataStoreOperations serviceDataStoreOperations,
+            ServiceHandlerProvider provider) {
+    }
 }
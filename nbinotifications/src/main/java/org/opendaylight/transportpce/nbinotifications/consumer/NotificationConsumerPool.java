@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.consumer;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.opendaylight.transportpce.common.converter.JsonStringConverter;
+import org.opendaylight.transportpce.nbinotifications.consumer.NotificationRingBuffer.BufferedNotification;
+import org.opendaylight.transportpce.nbinotifications.serialization.ConfigConstants;
+import org.opendaylight.transportpce.nbinotifications.utils.NbiNotificationsUtils;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived Kafka consumer of the notifications of a given type, serving the get-notifications RPCs from memory.
+ *
+ * <p>A single consumer, polled by a background thread, reads all the partitions of the topics that were requested at
+ * least once. Partitions are assigned rather than subscribed to, so that following a new topic does not trigger any
+ * consumer group rebalance. The most recent notifications of each topic are kept in a bounded
+ * {@link NotificationRingBuffer}, from which the RPCs are answered.
+ *
+ * <p>The read position of each subscription, a consumer group or a TAPI notification subscription, is kept per topic
+ * so that successive reads only return the notifications published in between. As the committed offsets of a Kafka
+ * consumer group, the positions of a subscription are dropped once it has not been read for a week, or when the TAPI
+ * notification subscription is deleted. Notifications can also be queried from a given offset or timestamp, without
+ * moving the read position of any subscription.
+ *
+ * @param <T> type of the notifications converted by the deserializer
+ * @param <D> type of the notifications returned by the RPCs
+ */
+public class NotificationConsumerPool<T extends DataObject, D> implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationConsumerPool.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    // Maximum wait for the notifications already published when a topic is read for the first time
+    private static final long LOAD_TIMEOUT_MS = 1000;
+    private static final long METADATA_REFRESH_NS = TimeUnit.SECONDS.toNanos(10);
+    @VisibleForTesting
+    static final long SUBSCRIPTION_RETENTION_NS = TimeUnit.DAYS.toNanos(7);
+    private static final long SUBSCRIPTION_PRUNING_NS = TimeUnit.MINUTES.toNanos(10);
+
+    private final String clientId;
+    private final Consumer<String, D> consumer;
+    private final int capacity;
+    private final boolean background;
+    private final Map<String, NotificationRingBuffer<D>> buffers = new ConcurrentHashMap<>();
+    private final Map<String, SubscriptionPositions> positions = new ConcurrentHashMap<>();
+    // Topics followed but whose partitions are not assigned yet, only accessed by the polling thread
+    private final Set<String> unassignedTopics = new HashSet<>();
+    private final Set<TopicPartition> assignment = new HashSet<>();
+    private final Set<String> newTopics = ConcurrentHashMap.newKeySet();
+    private long nextMetadataRefresh;
+    private long nextSubscriptionPruning;
+    private volatile boolean running;
+    private Thread pollingThread;
+    private boolean closed;
+
+    /**
+     * Create the consumer pool of a notification type. No connection is made before the first read.
+     *
+     * @param clientId Kafka client id of the consumer
+     * @param subscriberServer Kafka bootstrap servers, the ones of subscriber.properties if blank
+     * @param deserializer converter used by the value deserializer
+     * @param deserializerConf value deserializer class
+     * @param capacity number of notifications buffered per topic
+     */
+    public NotificationConsumerPool(String clientId, String subscriberServer, JsonStringConverter<T> deserializer,
+            Class<?> deserializerConf, int capacity) {
+        Properties propsConsumer = NbiNotificationsUtils.loadProperties("subscriber.properties");
+        propsConsumer.put(ConsumerConfig.CLIENT_ID_CONFIG, clientId);
+        propsConsumer.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        propsConsumer.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        propsConsumer.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG , deserializerConf);
+        propsConsumer.put(ConfigConstants.CONVERTER , deserializer);
+        if (subscriberServer != null && !subscriberServer.isBlank()) {
+            propsConsumer.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, subscriberServer);
+        }
+        LOG.info("Creation of consumer pool {} with properties {}", clientId, propsConsumer);
+        this.clientId = clientId;
+        this.consumer = new KafkaConsumer<>(propsConsumer);
+        this.capacity = capacity;
+        this.background = true;
+    }
+
+    /**
+     * Create a consumer pool without polling thread, {@link #pollOnce()} being called by the tests.
+     */
+    @VisibleForTesting
+    public NotificationConsumerPool(Consumer<String, D> consumer, int capacity) {
+        this.clientId = "test";
+        this.consumer = consumer;
+        this.capacity = capacity;
+        this.background = false;
+    }
+
+    /**
+     * Read the notifications of a topic published since the last read of a subscription.
+     * The first read of a subscription returns all the buffered notifications.
+     *
+     * @param subscription id of the subscription, such as a consumer group id
+     * @param topic the topic
+     * @return the notifications, in consumption order
+     */
+    public List<D> read(String subscription, String topic) {
+        SubscriptionPositions subscriptionPositions = positions.computeIfAbsent(subscription,
+            key -> new SubscriptionPositions());
+        List<BufferedNotification<D>> notifications;
+        NotificationRingBuffer<D> buffer = loadedBuffer(topic);
+        synchronized (subscriptionPositions) {
+            subscriptionPositions.lastRead = System.nanoTime();
+            notifications = buffer.after(subscriptionPositions.topics.getOrDefault(topic, 0L));
+            if (!notifications.isEmpty()) {
+                subscriptionPositions.topics.put(topic, notifications.get(notifications.size() - 1).sequence());
+            }
+        }
+        return values(notifications);
+    }
+
+    /**
+     * Read the buffered notifications of a topic from a given offset of one of its partitions.
+     *
+     * @param topic the topic
+     * @param partition the partition
+     * @param offset offset of the first notification to return
+     * @return the notifications, in consumption order
+     */
+    public List<D> readSinceOffset(String topic, int partition, long offset) {
+        return values(loadedBuffer(topic).matching(
+            notification -> notification.partition() == partition && notification.offset() >= offset));
+    }
+
+    /**
+     * Read the buffered notifications of a topic published since a given time.
+     *
+     * @param topic the topic
+     * @param timestamp time in milliseconds since epoch
+     * @return the notifications, in consumption order
+     */
+    public List<D> readSinceTimestamp(String topic, long timestamp) {
+        return values(loadedBuffer(topic).matching(notification -> notification.timestamp() >= timestamp));
+    }
+
+    /**
+     * Forget the read positions of a subscription.
+     *
+     * @param subscription id of the subscription
+     */
+    public void removeSubscription(String subscription) {
+        positions.remove(subscription);
+    }
+
+    /**
+     * Forget the read positions of the subscriptions not read for longer than {@link #SUBSCRIPTION_RETENTION_NS}.
+     *
+     * @param now current value of {@link System#nanoTime()}
+     */
+    @VisibleForTesting
+    void pruneIdleSubscriptions(long now) {
+        positions.entrySet().removeIf(entry -> {
+            SubscriptionPositions subscriptionPositions = entry.getValue();
+            synchronized (subscriptionPositions) {
+                if (now - subscriptionPositions.lastRead <= SUBSCRIPTION_RETENTION_NS) {
+                    return false;
+                }
+            }
+            LOG.debug("Consumer pool {} dropping the positions of idle subscription {}", clientId, entry.getKey());
+            return true;
+        });
+    }
+
+    private static <D> List<D> values(List<BufferedNotification<D>> notifications) {
+        List<D> result = new ArrayList<>(notifications.size());
+        for (BufferedNotification<D> notification : notifications) {
+            if (notification.value() != null) {
+                result.add(notification.value());
+            }
+        }
+        return result;
+    }
+
+    private NotificationRingBuffer<D> loadedBuffer(String topic) {
+        NotificationRingBuffer<D> buffer = buffers.computeIfAbsent(topic, key -> {
+            LOG.info("Consumer pool {} following topic '{}'", clientId, key);
+            newTopics.add(key);
+            return new NotificationRingBuffer<>(capacity);
+        });
+        if (background && startPolling()) {
+            try {
+                if (!buffer.awaitLoaded(LOAD_TIMEOUT_MS)) {
+                    LOG.debug("Notifications of topic '{}' are still being loaded", topic);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return buffer;
+    }
+
+    private synchronized boolean startPolling() {
+        if (closed) {
+            return false;
+        }
+        if (pollingThread == null) {
+            running = true;
+            pollingThread = new Thread(this::pollLoop, "nbinotifications-" + clientId);
+            pollingThread.setDaemon(true);
+            pollingThread.start();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void pollLoop() {
+        try {
+            while (running) {
+                try {
+                    pollOnce();
+                } catch (WakeupException e) {
+                    LOG.debug("Consumer pool {} woken up", clientId);
+                } catch (RuntimeException e) {
+                    LOG.error("Consumer pool {} failed to poll notifications", clientId, e);
+                    Thread.sleep(POLL_TIMEOUT.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            consumer.close();
+        }
+    }
+
+    /**
+     * Assign the partitions of the newly followed topics, then poll and buffer the notifications.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting for the first topic to follow
+     */
+    @VisibleForTesting
+    void pollOnce() throws InterruptedException {
+        long now = System.nanoTime();
+        if (now - nextSubscriptionPruning >= 0) {
+            pruneIdleSubscriptions(now);
+            nextSubscriptionPruning = now + SUBSCRIPTION_PRUNING_NS;
+        }
+        updateAssignment();
+        if (assignment.isEmpty()) {
+            Thread.sleep(POLL_TIMEOUT.toMillis());
+            return;
+        }
+        for (ConsumerRecord<String, D> record : consumer.poll(POLL_TIMEOUT)) {
+            NotificationRingBuffer<D> buffer = buffers.get(record.topic());
+            if (buffer != null) {
+                buffer.add(record.partition(), record.offset(), record.timestamp(), record.value());
+            }
+        }
+        updateLoadedTopics();
+    }
+
+    private void updateAssignment() {
+        boolean added = false;
+        for (var it = newTopics.iterator(); it.hasNext();) {
+            unassignedTopics.add(it.next());
+            it.remove();
+            added = true;
+        }
+        // topics not created yet are looked up again periodically
+        if (unassignedTopics.isEmpty() || !added && System.nanoTime() - nextMetadataRefresh < 0) {
+            return;
+        }
+        List<TopicPartition> newPartitions = new ArrayList<>();
+        for (var it = unassignedTopics.iterator(); it.hasNext();) {
+            String topic = it.next();
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+            if (partitions == null || partitions.isEmpty()) {
+                // the topic does not exist yet, nothing was published on it
+                buffers.get(topic).setLoaded();
+                continue;
+            }
+            for (PartitionInfo partition : partitions) {
+                newPartitions.add(new TopicPartition(topic, partition.partition()));
+            }
+            it.remove();
+        }
+        nextMetadataRefresh = System.nanoTime() + METADATA_REFRESH_NS;
+        if (!newPartitions.isEmpty()) {
+            assignment.addAll(newPartitions);
+            consumer.assign(assignment);
+            consumer.seekToBeginning(newPartitions);
+            LOG.debug("Consumer pool {} assigned partitions {}", clientId, newPartitions);
+        }
+    }
+
+    private void updateLoadedTopics() {
+        List<TopicPartition> loading = new ArrayList<>();
+        for (TopicPartition partition : assignment) {
+            if (!buffers.get(partition.topic()).isLoaded()) {
+                loading.add(partition);
+            }
+        }
+        if (loading.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(loading);
+        Set<String> notLoaded = new HashSet<>();
+        for (TopicPartition partition : loading) {
+            Long endOffset = endOffsets.get(partition);
+            if (endOffset != null && consumer.position(partition) < endOffset) {
+                notLoaded.add(partition.topic());
+            }
+        }
+        for (TopicPartition partition : loading) {
+            if (!notLoaded.contains(partition.topic())) {
+                buffers.get(partition.topic()).setLoaded();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        running = false;
+        if (pollingThread == null) {
+            consumer.close();
+        } else {
+            // the consumer is closed by the polling thread
+            consumer.wakeup();
+        }
+        buffers.values().forEach(NotificationRingBuffer::setLoaded);
+        LOG.info("Consumer pool {} closed", clientId);
+    }
+
+    // read positions of a subscription per topic, guarded by the instance lock
+    private static final class SubscriptionPositions {
+        private final Map<String, Long> topics = new HashMap<>();
+        private long lastRead;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Bounded buffer of the most recent notifications consumed from a topic, all partitions together.
+ *
+ * <p>Each notification gets a sequence number, increasing in the order the notifications were consumed, which is used
+ * as read position by the subscriptions. Once the buffer is full, the oldest notifications are overwritten.
+ *
+ * @param <D> type of the notifications
+ */
+final class NotificationRingBuffer<D> {
+
+    private final BufferedNotification<D>[] entries;
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    // sequence number of the next notification, the first one being numbered 1
+    private long nextSequence = 1;
+
+    @SuppressWarnings("unchecked")
+    NotificationRingBuffer(int capacity) {
+        this.entries = new BufferedNotification[capacity];
+    }
+
+    synchronized void add(int partition, long offset, long timestamp, D value) {
+        entries[(int) (nextSequence % entries.length)] =
+            new BufferedNotification<>(nextSequence, partition, offset, timestamp, value);
+        nextSequence++;
+    }
+
+    /**
+     * Get the notifications buffered after a given position.
+     *
+     * @param sequence read position, 0 to get all the buffered notifications
+     * @return the notifications, in consumption order
+     */
+    synchronized List<BufferedNotification<D>> after(long sequence) {
+        long first = Math.max(sequence + 1, nextSequence - entries.length);
+        List<BufferedNotification<D>> result = new ArrayList<>((int) Math.max(0, nextSequence - first));
+        for (long seq = Math.max(first, 1); seq < nextSequence; seq++) {
+            result.add(entries[(int) (seq % entries.length)]);
+        }
+        return result;
+    }
+
+    /**
+     * Get the buffered notifications matching a filter.
+     *
+     * @param filter the filter
+     * @return the notifications, in consumption order
+     */
+    synchronized List<BufferedNotification<D>> matching(Predicate<BufferedNotification<D>> filter) {
+        List<BufferedNotification<D>> result = new ArrayList<>();
+        for (BufferedNotification<D> notification : after(0)) {
+            if (filter.test(notification)) {
+                result.add(notification);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Mark the buffer as holding all the notifications published before the topic was followed.
+     */
+    void setLoaded() {
+        loaded.countDown();
+    }
+
+    boolean isLoaded() {
+        return loaded.getCount() == 0;
+    }
+
+    boolean awaitLoaded(long timeoutMs) throws InterruptedException {
+        return loaded.await(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Notification consumed from Kafka.
+     *
+     * @param sequence position of the notification in the buffer
+     * @param partition partition of the record
+     * @param offset offset of the record in its partition
+     * @param timestamp timestamp of the record, in milliseconds since epoch
+     * @param value the notification
+     * @param <D> type of the notification
+     */
+    record BufferedNotification<D>(long sequence, int partition, long offset, long timestamp, D value) {
+    }
+}
@@ -8,7 +8,6 @@
 package org.opendaylight.transportpce.nbinotifications.impl;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import org.opendaylight.mdsal.binding.api.NotificationService;
@@ -16,6 +15,7 @@ import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.nbinotifications.consumer.NotificationConsumerPool;
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.CreateNotificationSubscriptionServiceImpl;
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.DeleteNotificationSubscriptionServiceImpl;
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.GetNotificationListImpl;
@@ -25,14 +25,19 @@ import org.opendaylight.transportpce.nbinotifications.impl.rpc.GetNotificationsA
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.GetNotificationsProcessServiceImpl;
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.GetSupportedNotificationTypesImpl;
 import org.opendaylight.transportpce.nbinotifications.listener.NbiNotificationsHandler;
-import org.opendaylight.transportpce.nbinotifications.producer.Publisher;
+import org.opendaylight.transportpce.nbinotifications.serialization.NotificationAlarmServiceDeserializer;
+import org.opendaylight.transportpce.nbinotifications.serialization.NotificationServiceDeserializer;
+import org.opendaylight.transportpce.nbinotifications.serialization.TapiNotificationDeserializer;
 import org.opendaylight.transportpce.nbinotifications.utils.TopicManager;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationAlarmService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationProcessService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.get.notifications.alarm.service.output.NotificationsAlarmService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.get.notifications.process.service.output.NotificationsProcessService;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.Context1;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.context.NotificationContext;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.get.notification.list.output.Notification;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
 import org.opendaylight.yangtools.binding.data.codec.spi.BindingDOMCodecServices;
 import org.opendaylight.yangtools.concepts.Registration;
@@ -57,11 +62,12 @@ public class NbiNotificationsProvider {
     }
 
     private static final Logger LOG = LoggerFactory.getLogger(NbiNotificationsProvider.class);
-    private Map<String, Publisher<NotificationProcessService>> publishersServiceMap;
-    private Map<String, Publisher<NotificationAlarmService>> publishersAlarmMap;
     private Registration listenerRegistration;
     private Registration rpcRegistration;
     private NetworkTransactionService networkTransactionService;
+    private final NotificationConsumerPool<NotificationProcessService, NotificationsProcessService> processConsumerPool;
+    private final NotificationConsumerPool<NotificationAlarmService, NotificationsAlarmService> alarmConsumerPool;
+    private final NotificationConsumerPool<NotificationTapiService, Notification> tapiConsumerPool;
 
     @Activate
     public NbiNotificationsProvider(@Reference RpcProviderService rpcProviderService,
@@ -100,25 +106,29 @@ public class NbiNotificationsProvider {
                 new JsonStringConverter<>(bindingDOMCodecServices);
         LOG.info("tapi converter: {}", converterTapiService);
         topicManager.setTapiConverter(converterTapiService);
+        processConsumerPool = new NotificationConsumerPool<>("nbinotifications-process-reader", subscriberServer,
+            converterService, NotificationServiceDeserializer.class, NotificationConsumerPool.DEFAULT_CAPACITY);
+        alarmConsumerPool = new NotificationConsumerPool<>("nbinotifications-alarm-reader", subscriberServer,
+            converterAlarmService, NotificationAlarmServiceDeserializer.class,
+            NotificationConsumerPool.DEFAULT_CAPACITY);
+        tapiConsumerPool = new NotificationConsumerPool<>("nbinotifications-tapi-reader", subscriberServer,
+            converterTapiService, TapiNotificationDeserializer.class, NotificationConsumerPool.DEFAULT_CAPACITY);
 
         rpcRegistration = rpcProviderService.registerRpcImplementations(
-                new GetNotificationsProcessServiceImpl(converterService, subscriberServer),
-                new GetNotificationsAlarmServiceImpl(converterAlarmService, subscriberServer),
+                new GetNotificationsProcessServiceImpl(processConsumerPool),
+                new GetNotificationsAlarmServiceImpl(alarmConsumerPool),
                 new GetSupportedNotificationTypesImpl(this),
                 new CreateNotificationSubscriptionServiceImpl(this, topicManager),
-                new DeleteNotificationSubscriptionServiceImpl(networkTransactionService, topicManager),
+                new DeleteNotificationSubscriptionServiceImpl(networkTransactionService, topicManager,
+                    tapiConsumerPool),
                 new GetNotificationSubscriptionServiceDetailsImpl(this),
                 new GetNotificationSubscriptionServiceListImpl(this),
-                new GetNotificationListImpl(converterTapiService, subscriberServer, networkTransactionService,
-                        topicManager));
+                new GetNotificationListImpl(tapiConsumerPool, networkTransactionService, topicManager));
 
         NbiNotificationsHandler notificationsListener = new NbiNotificationsHandler(
             topicManager.getProcessTopicMap(), topicManager.getAlarmTopicMap(), topicManager.getTapiTopicMap());
         listenerRegistration = notificationService.registerCompositeListener(
             notificationsListener.getCompositeListener());
-        topicManager.setNbiNotificationsListener(notificationsListener);
-        publishersServiceMap = topicManager.getProcessTopicMap();
-        publishersAlarmMap = topicManager.getAlarmTopicMap();
         LOG.info("NbiNotificationsProvider Session Initiated");
     }
 
@@ -127,12 +137,10 @@ public class NbiNotificationsProvider {
      */
     @Deactivate
     public void close() {
-        for (Publisher<NotificationProcessService> publisher : publishersServiceMap.values()) {
-            publisher.close();
-        }
-        for (Publisher<NotificationAlarmService> publisherAlarm : publishersAlarmMap.values()) {
-            publisherAlarm.close();
-        }
+        TopicManager.getInstance().closeProducers();
+        processConsumerPool.close();
+        alarmConsumerPool.close();
+        tapiConsumerPool.close();
         rpcRegistration.close();
         listenerRegistration.close();
         LOG.info("NbiNotificationsProvider Closed");
@@ -14,7 +14,9 @@ import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.nbinotifications.consumer.NotificationConsumerPool;
 import org.opendaylight.transportpce.nbinotifications.utils.TopicManager;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.Context1;
@@ -23,6 +25,7 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev22112
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.DeleteNotificationSubscriptionServiceOutput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.DeleteNotificationSubscriptionServiceOutputBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.context.NotificationContext;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.get.notification.list.output.Notification;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.context.NotifSubscription;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.context.NotifSubscriptionKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.subscription.service.SubscriptionFilter;
@@ -40,11 +43,14 @@ public class DeleteNotificationSubscriptionServiceImpl implements DeleteNotifica
 
     private final NetworkTransactionService networkTransactionService;
     private final TopicManager topicManager;
+    private final NotificationConsumerPool<NotificationTapiService, Notification> consumerPool;
 
     public DeleteNotificationSubscriptionServiceImpl(
-            NetworkTransactionService networkTransactionService, TopicManager topicManager) {
+            NetworkTransactionService networkTransactionService, TopicManager topicManager,
+            NotificationConsumerPool<NotificationTapiService, Notification> consumerPool) {
         this.networkTransactionService = networkTransactionService;
         this.topicManager = topicManager;
+        this.consumerPool = consumerPool;
     }
 
     @Override
@@ -80,6 +86,7 @@ public class DeleteNotificationSubscriptionServiceImpl implements DeleteNotifica
                     this.topicManager.deleteTapiTopic(objectUuid.getValue());
                 }
             }
+            this.consumerPool.removeSubscription(notifSubsUuid.getValue());
             return RpcResultBuilder
                 .success(new DeleteNotificationSubscriptionServiceOutputBuilder().build())
                 .buildFuture();
@@ -16,10 +16,8 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
-import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
-import org.opendaylight.transportpce.nbinotifications.consumer.Subscriber;
-import org.opendaylight.transportpce.nbinotifications.serialization.TapiNotificationDeserializer;
+import org.opendaylight.transportpce.nbinotifications.consumer.NotificationConsumerPool;
 import org.opendaylight.transportpce.nbinotifications.utils.TopicManager;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
@@ -47,15 +45,13 @@ import org.slf4j.LoggerFactory;
 public class GetNotificationListImpl implements GetNotificationList {
     private static final Logger LOG = LoggerFactory.getLogger(GetNotificationListImpl.class);
 
-    private final JsonStringConverter<NotificationTapiService> converterTapiService;
-    private final String server;
+    private final NotificationConsumerPool<NotificationTapiService, Notification> consumerPool;
     private final NetworkTransactionService networkTransactionService;
     private final TopicManager topicManager;
 
-    public GetNotificationListImpl(JsonStringConverter<NotificationTapiService> converterTapiService, String server,
+    public GetNotificationListImpl(NotificationConsumerPool<NotificationTapiService, Notification> consumerPool,
             NetworkTransactionService networkTransactionService, TopicManager topicManager) {
-        this.converterTapiService = converterTapiService;
-        this.server = server;
+        this.consumerPool = consumerPool;
         this.networkTransactionService = networkTransactionService;
         this.topicManager = topicManager;
     }
@@ -90,15 +86,12 @@ public class GetNotificationListImpl implements GetNotificationList {
             for (Map.Entry<SubscriptionFilterKey, SubscriptionFilter> sfEntry :
                     notifSubscription.getSubscriptionFilter().entrySet()) {
                 for (Uuid objectUuid:sfEntry.getValue().getRequestedObjectIdentifier()) {
-                    if (!this.topicManager.getTapiTopicMap().containsKey(objectUuid.getValue())) {
+                    if (!this.topicManager.touchTapiTopic(objectUuid.getValue())) {
                         LOG.warn("Topic doesnt exist for {}", objectUuid.getValue());
                         continue;
                     }
                     LOG.info("Going to get notifications for topic {}", objectUuid.getValue());
-                    Subscriber<NotificationTapiService, Notification> subscriber = new Subscriber<>(
-                        objectUuid.getValue(), objectUuid.getValue(), server, converterTapiService,
-                        TapiNotificationDeserializer.class);
-                    notificationTapiList.addAll(subscriber.subscribe(objectUuid.getValue(), Notification.QNAME));
+                    notificationTapiList.addAll(consumerPool.read(notifSubsUuid.getValue(), objectUuid.getValue()));
                 }
             }
             LOG.info("TAPI notifications = {}", notificationTapiList);
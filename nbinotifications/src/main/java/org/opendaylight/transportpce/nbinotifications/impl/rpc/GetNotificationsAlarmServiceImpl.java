@@ -8,9 +8,9 @@
 package org.opendaylight.transportpce.nbinotifications.impl.rpc;
 
 import com.google.common.util.concurrent.ListenableFuture;
-import org.opendaylight.transportpce.common.converter.JsonStringConverter;
-import org.opendaylight.transportpce.nbinotifications.consumer.Subscriber;
-import org.opendaylight.transportpce.nbinotifications.serialization.NotificationAlarmServiceDeserializer;
+import java.util.List;
+import org.opendaylight.transportpce.nbinotifications.consumer.NotificationConsumerPool;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.nbi.notifications.replay.rev261019.GetNotificationsAlarmServiceInput1;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsAlarmService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsAlarmServiceInput;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsAlarmServiceOutput;
@@ -26,13 +26,11 @@ import org.slf4j.LoggerFactory;
 public class GetNotificationsAlarmServiceImpl implements GetNotificationsAlarmService {
     private static final Logger LOG = LoggerFactory.getLogger(GetNotificationsAlarmServiceImpl.class);
 
-    private final JsonStringConverter<NotificationAlarmService> converterAlarmService;
-    private final String server;
+    private final NotificationConsumerPool<NotificationAlarmService, NotificationsAlarmService> consumerPool;
 
-    public GetNotificationsAlarmServiceImpl(JsonStringConverter<NotificationAlarmService> converterAlarmService,
-            String server) {
-        this.converterAlarmService = converterAlarmService;
-        this.server = server;
+    public GetNotificationsAlarmServiceImpl(
+            NotificationConsumerPool<NotificationAlarmService, NotificationsAlarmService> consumerPool) {
+        this.consumerPool = consumerPool;
     }
 
     @Override
@@ -43,13 +41,21 @@ public class GetNotificationsAlarmServiceImpl implements GetNotificationsAlarmSe
             LOG.warn("Missing mandatory params for input {}", input);
             return RpcResultBuilder.success(new GetNotificationsAlarmServiceOutputBuilder().build()).buildFuture();
         }
+        String topic = "alarm" + input.getConnectionType().getName();
+        GetNotificationsAlarmServiceInput1 replay = input.augmentation(GetNotificationsAlarmServiceInput1.class);
+        List<NotificationsAlarmService> notifications;
+        if (replay != null && replay.getSinceOffset() != null) {
+            notifications = consumerPool.readSinceOffset(topic,
+                replay.getSincePartition() == null ? 0 : replay.getSincePartition(),
+                replay.getSinceOffset().longValue());
+        } else if (replay != null && replay.getSinceTimestamp() != null) {
+            notifications = consumerPool.readSinceTimestamp(topic, replay.getSinceTimestamp().longValue());
+        } else {
+            notifications = consumerPool.read(input.getGroupId(), topic);
+        }
         return RpcResultBuilder
             .success(new GetNotificationsAlarmServiceOutputBuilder()
-                .setNotificationsAlarmService(
-                    new Subscriber<NotificationAlarmService, NotificationsAlarmService>(
-                            input.getIdConsumer(), input.getGroupId(), server, converterAlarmService,
-                            NotificationAlarmServiceDeserializer.class)
-                        .subscribe("alarm" + input.getConnectionType().getName(), NotificationsAlarmService.QNAME))
+                .setNotificationsAlarmService(notifications)
                 .build())
             .buildFuture();
     }
@@ -8,9 +8,9 @@
 package org.opendaylight.transportpce.nbinotifications.impl.rpc;
 
 import com.google.common.util.concurrent.ListenableFuture;
-import org.opendaylight.transportpce.common.converter.JsonStringConverter;
-import org.opendaylight.transportpce.nbinotifications.consumer.Subscriber;
-import org.opendaylight.transportpce.nbinotifications.serialization.NotificationServiceDeserializer;
+import java.util.List;
+import org.opendaylight.transportpce.nbinotifications.consumer.NotificationConsumerPool;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.nbi.notifications.replay.rev261019.GetNotificationsProcessServiceInput1;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsProcessService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsProcessServiceInput;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsProcessServiceOutput;
@@ -26,13 +26,11 @@ import org.slf4j.LoggerFactory;
 public class GetNotificationsProcessServiceImpl implements GetNotificationsProcessService {
     private static final Logger LOG = LoggerFactory.getLogger(GetNotificationsProcessServiceImpl.class);
 
-    private final JsonStringConverter<NotificationProcessService> converterService;
-    private final String server;
+    private final NotificationConsumerPool<NotificationProcessService, NotificationsProcessService> consumerPool;
 
-    public GetNotificationsProcessServiceImpl(JsonStringConverter<NotificationProcessService> converterService,
-            String server) {
-        this.converterService = converterService;
-        this.server = server;
+    public GetNotificationsProcessServiceImpl(
+            NotificationConsumerPool<NotificationProcessService, NotificationsProcessService> consumerPool) {
+        this.consumerPool = consumerPool;
     }
 
     @Override
@@ -43,15 +41,22 @@ public class GetNotificationsProcessServiceImpl implements GetNotificationsProce
             LOG.warn("Missing mandatory params for input {}", input);
             return RpcResultBuilder.success(new GetNotificationsProcessServiceOutputBuilder().build()).buildFuture();
         }
+        String topic = input.getConnectionType().getName();
+        GetNotificationsProcessServiceInput1 replay = input.augmentation(GetNotificationsProcessServiceInput1.class);
+        List<NotificationsProcessService> notifications;
+        if (replay != null && replay.getSinceOffset() != null) {
+            notifications = consumerPool.readSinceOffset(topic,
+                replay.getSincePartition() == null ? 0 : replay.getSincePartition(),
+                replay.getSinceOffset().longValue());
+        } else if (replay != null && replay.getSinceTimestamp() != null) {
+            notifications = consumerPool.readSinceTimestamp(topic, replay.getSinceTimestamp().longValue());
+        } else {
+            notifications = consumerPool.read(input.getGroupId(), topic);
+        }
         return RpcResultBuilder
-            .success(
-                new GetNotificationsProcessServiceOutputBuilder()
-                    .setNotificationsProcessService(
-                        new Subscriber<NotificationProcessService, NotificationsProcessService>(
-                                input.getIdConsumer(), input.getGroupId(), server, converterService,
-                                NotificationServiceDeserializer.class)
-                            .subscribe(input.getConnectionType().getName(), NotificationsProcessService.QNAME))
-                    .build())
+            .success(new GetNotificationsProcessServiceOutputBuilder()
+                .setNotificationsProcessService(notifications)
+                .build())
             .buildFuture();
     }
 }
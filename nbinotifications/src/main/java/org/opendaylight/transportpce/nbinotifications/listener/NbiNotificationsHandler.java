@@ -10,6 +10,7 @@ package org.opendaylight.transportpce.nbinotifications.listener;
 import java.util.Map;
 import java.util.Set;
 import org.opendaylight.mdsal.binding.api.NotificationService.CompositeListener;
+import org.opendaylight.transportpce.common.trace.RequestTrace;
 import org.opendaylight.transportpce.nbinotifications.producer.Publisher;
 import org.opendaylight.transportpce.nbinotifications.utils.NbiNotificationsUtils;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationAlarmService;
@@ -26,9 +27,9 @@ import org.slf4j.LoggerFactory;
 
 public class NbiNotificationsHandler {
     private static final Logger LOG = LoggerFactory.getLogger(NbiNotificationsHandler.class);
-    private Map<String, Publisher<NotificationProcessService>> publishersServiceMap;
-    private Map<String, Publisher<NotificationAlarmService>> publishersAlarmMap;
-    private Map<String, Publisher<NotificationTapiService>> tapiPublisherMap;
+    private final Map<String, Publisher<NotificationProcessService>> publishersServiceMap;
+    private final Map<String, Publisher<NotificationAlarmService>> publishersAlarmMap;
+    private final Map<String, Publisher<NotificationTapiService>> tapiPublisherMap;
 
     public NbiNotificationsHandler(Map<String, Publisher<NotificationProcessService>> publishersServiceMap,
                                         Map<String, Publisher<NotificationAlarmService>> publishersAlarmMap,
@@ -52,11 +53,11 @@ public class NbiNotificationsHandler {
     void onPublishNotificationProcessService(PublishNotificationProcessService notification) {
         LOG.info("Receiving request for publishing notification service");
         String publisherName = notification.getPublisherName();
-        if (!publishersServiceMap.containsKey(publisherName)) {
+        Publisher<NotificationProcessService> publisher = publishersServiceMap.get(publisherName);
+        if (publisher == null) {
             LOG.error("Unknown publisher {}", publisherName);
             return;
         }
-        Publisher<NotificationProcessService> publisher = publishersServiceMap.get(publisherName);
         NotificationProcessServiceBuilder notificationProcessServiceBuilder = new NotificationProcessServiceBuilder()
                 .setCommonId(notification.getCommonId())
                 .setConnectionType(notification.getConnectionType())
@@ -67,58 +68,51 @@ public class NbiNotificationsHandler {
                 .setServiceName(notification.getServiceName())
                 .setServiceZEnd(notification.getServiceZEnd());
 
-        if (notification.getIsTempService() == null || !notification.getIsTempService()) {
-            publisher.sendEvent(notificationProcessServiceBuilder
-                .build(), notification.getConnectionType().getName());
-        } else {
-            // A-to-Z and Z-to-A containers are only needed for temp-service-create notification
-            publisher.sendEvent(notificationProcessServiceBuilder
-                    .setAToZ(notification.getAToZ())
-                    .setZToA(notification.getZToA())
+        try (RequestTrace trace = RequestTrace.start("notification-publish", notification.getServiceName())) {
+            if (notification.getIsTempService() == null || !notification.getIsTempService()) {
+                publisher.sendEvent(notificationProcessServiceBuilder
                     .build(), notification.getConnectionType().getName());
+            } else {
+                // A-to-Z and Z-to-A containers are only needed for temp-service-create notification
+                publisher.sendEvent(notificationProcessServiceBuilder
+                        .setAToZ(notification.getAToZ())
+                        .setZToA(notification.getZToA())
+                        .build(), notification.getConnectionType().getName());
+            }
         }
     }
 
     void onPublishNotificationAlarmService(PublishNotificationAlarmService notification) {
         LOG.info("Receiving request for publishing notification alarm service");
         String publisherName = notification.getPublisherName();
-        if (!publishersAlarmMap.containsKey(publisherName)) {
+        Publisher<NotificationAlarmService> publisherAlarm = publishersAlarmMap.get(publisherName);
+        if (publisherAlarm == null) {
             LOG.error("Unknown topic {}", publisherName);
             return;
         }
-        Publisher<NotificationAlarmService> publisherAlarm = publishersAlarmMap.get(publisherName);
-        publisherAlarm.sendEvent(new NotificationAlarmServiceBuilder()
-                .setConnectionType(notification.getConnectionType())
-                .setMessage(notification.getMessage())
-                .setOperationalState(notification.getOperationalState())
-                .setServiceName(notification.getServiceName())
-                        .build(), "alarm" + notification.getConnectionType().getName());
+        try (RequestTrace trace = RequestTrace.start("alarm-publish", notification.getServiceName())) {
+            publisherAlarm.sendEvent(new NotificationAlarmServiceBuilder()
+                    .setConnectionType(notification.getConnectionType())
+                    .setMessage(notification.getMessage())
+                    .setOperationalState(notification.getOperationalState())
+                    .setServiceName(notification.getServiceName())
+                            .build(), "alarm" + notification.getConnectionType().getName());
+        }
     }
 
     void onPublishTapiNotificationService(PublishTapiNotificationService notification) {
         LOG.info("Receiving request for publishing TAPI notification");
         String topic = notification.getTopic();
-        if (!tapiPublisherMap.containsKey(topic)) {
+        // a single lookup, the topic may be deleted or evicted concurrently
+        Publisher<NotificationTapiService> publisher = tapiPublisherMap.get(topic);
+        if (publisher == null) {
             LOG.error("Unknown topic {}", topic);
             return;
         }
-        Publisher<NotificationTapiService> publisher = tapiPublisherMap.get(topic);
         publisher.sendEvent(new NotificationTapiServiceBuilder(
                 NbiNotificationsUtils.transformTapiNotification(notification)).build(), topic);
     }
 
-    public void setPublishersServiceMap(Map<String, Publisher<NotificationProcessService>> publishersServiceMap) {
-        this.publishersServiceMap = publishersServiceMap;
-    }
-
-    public void setPublishersAlarmMap(Map<String, Publisher<NotificationAlarmService>> publishersAlarmMap) {
-        this.publishersAlarmMap = publishersAlarmMap;
-    }
-
-    public void setTapiPublishersMap(Map<String, Publisher<NotificationTapiService>> tapiPublishersMap) {
-        this.tapiPublisherMap = tapiPublishersMap;
-    }
-
     public Publisher<NotificationTapiService> getTapiPublisherFromTopic(String topic) {
         return this.tapiPublisherMap.get(topic);
     }
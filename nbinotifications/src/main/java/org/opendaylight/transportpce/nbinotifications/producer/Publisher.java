@@ -8,52 +8,77 @@
 package org.opendaylight.transportpce.nbinotifications.producer;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.util.Properties;
-import org.apache.kafka.clients.producer.KafkaProducer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.kafka.clients.producer.Producer;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.common.serialization.StringSerializer;
-import org.opendaylight.transportpce.common.converter.JsonStringConverter;
-import org.opendaylight.transportpce.nbinotifications.serialization.ConfigConstants;
-import org.opendaylight.transportpce.nbinotifications.utils.NbiNotificationsUtils;
+import org.opendaylight.transportpce.common.metrics.Counter;
+import org.opendaylight.transportpce.common.metrics.Metrics;
+import org.opendaylight.transportpce.common.trace.RequestTrace;
 import org.opendaylight.yangtools.binding.DataObject;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Publisher of the notifications of a subscriber, through a producer shared with the other publishers.
+ *
+ * <p>The notifications published on each topic are counted in the shared {@link Metrics} registry, labelled with the
+ * topic.
+ *
+ * @param <T> type of the notifications
+ */
 public class Publisher<T extends DataObject> {
-    private static final Logger LOG = LoggerFactory.getLogger(Publisher.class);
+
+    @VisibleForTesting
+    static final String PUBLISHED_METRIC = "transportpce_nbi_published_total";
 
     private final String id;
-    private final Producer<String, T> producer;
-
-    public Publisher(String id, String publisherServer, JsonStringConverter<T> serializer, Class<?> serializerConf) {
-        Properties properties = NbiNotificationsUtils.loadProperties("publisher.properties");
-        properties.put(ProducerConfig.CLIENT_ID_CONFIG, id);
-        properties.put(ProducerConfig.RECONNECT_BACKOFF_MS_CONFIG, 600000);
-        if (publisherServer != null && !publisherServer.isBlank()) {
-            properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, publisherServer);
-        }
-        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG , serializerConf);
-        properties.put(ConfigConstants.CONVERTER , serializer);
-        LOG.info("Creation publisher for id {} with properties {}", id, properties);
-        producer = new KafkaProducer<>(properties);
+    private final SharedProducer<T> producer;
+    private final boolean ownProducer;
+    // counters of the topics published on, kept to avoid a registry lookup per notification
+    private final Map<String, Counter> publishedCounters = new ConcurrentHashMap<>();
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    public Publisher(String id, SharedProducer<T> producer) {
+        this.producer = producer;
         this.id = id;
+        this.ownProducer = false;
     }
 
     @VisibleForTesting Publisher(String id, Producer<String, T> producer) {
-        this.producer = producer;
+        this.producer = new SharedProducer<>(id, producer);
         this.id = id;
+        this.ownProducer = true;
     }
 
+    /**
+     * Close the publisher. The shared producer is left open, it is closed by its owner.
+     */
     public void close() {
-        producer.close();
+        if (ownProducer) {
+            producer.close();
+        }
     }
 
     public void sendEvent(T notification, String topic) {
-        LOG.info("SendEvent request to topic '{}' ", topic);
-        producer.send(new ProducerRecord<>(topic, id, notification));
-        producer.flush();
+        RequestTrace.current().event("notification", "send event to topic '{}'", topic);
+        producer.send(topic, id, notification);
+        publishedCounters.computeIfAbsent(topic, key -> Metrics.counter(PUBLISHED_METRIC, "topic", key)).increment();
+        lastActivityNanos = System.nanoTime();
+    }
+
+    /**
+     * Record an activity of the subscriber of this publisher, such as a read of its notifications, so that its topic
+     * is not considered idle.
+     */
+    public void touch() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    /**
+     * Get the time of the last notification published, or of the last {@link #touch()}, as given by
+     * {@link System#nanoTime()}. Publishers which were never used return their creation time.
+     *
+     * @return the time of the last activity
+     */
+    public long getLastActivityNanos() {
+        return lastActivityNanos;
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.producer;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.opendaylight.transportpce.common.converter.JsonStringConverter;
+import org.opendaylight.transportpce.common.metrics.Counter;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
+import org.opendaylight.transportpce.nbinotifications.serialization.ConfigConstants;
+import org.opendaylight.transportpce.nbinotifications.utils.NbiNotificationsUtils;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Kafka producer shared by all the publishers of a given notification type.
+ *
+ * <p>A single producer, with its I/O thread, buffers and metadata, serves all the topics of a notification type.
+ * Events are sent asynchronously and batched by the producer according to the linger and batch settings of
+ * publisher.properties. Send failures are accounted for in the completion callback, together with the number of
+ * events still waiting for an acknowledgement and the send latency, which are also published in the shared
+ * {@link Metrics} registry, labelled with the client id.
+ *
+ * @param <T> type of the notifications
+ */
+public class SharedProducer<T extends DataObject> implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedProducer.class);
+    private static final String LATENCY_METRIC = "transportpce_kafka_send_seconds";
+    private static final String FAILURES_METRIC = "transportpce_kafka_send_failures_total";
+
+    private final String clientId;
+    private final Producer<String, T> producer;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder acknowledged = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final Histogram latencyHistogram;
+    private final Counter failureCounter;
+
+    /**
+     * Create the producer of a notification type.
+     *
+     * @param clientId Kafka client id of the producer
+     * @param publisherServer Kafka bootstrap servers, the ones of publisher.properties if blank
+     * @param serializer converter used by the value serializer
+     * @param serializerConf value serializer class
+     */
+    public SharedProducer(String clientId, String publisherServer, JsonStringConverter<T> serializer,
+            Class<?> serializerConf) {
+        Properties properties = NbiNotificationsUtils.loadProperties("publisher.properties");
+        properties.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
+        properties.put(ProducerConfig.RECONNECT_BACKOFF_MS_CONFIG, 600000);
+        if (publisherServer != null && !publisherServer.isBlank()) {
+            properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, publisherServer);
+        }
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG , serializerConf);
+        properties.put(ConfigConstants.CONVERTER , serializer);
+        LOG.info("Creation of shared producer {} with properties {}", clientId, properties);
+        this.producer = new KafkaProducer<>(properties);
+        this.clientId = clientId;
+        this.latencyHistogram = Metrics.histogram(LATENCY_METRIC, "client", clientId);
+        this.failureCounter = Metrics.counter(FAILURES_METRIC, "client", clientId);
+    }
+
+    @VisibleForTesting
+    SharedProducer(String clientId, Producer<String, T> producer) {
+        this.producer = producer;
+        this.clientId = clientId;
+        this.latencyHistogram = Metrics.histogram(LATENCY_METRIC, "client", clientId);
+        this.failureCounter = Metrics.counter(FAILURES_METRIC, "client", clientId);
+    }
+
+    /**
+     * Send an event asynchronously.
+     *
+     * @param topic destination topic
+     * @param key key of the record
+     * @param notification the event
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void send(String topic, String key, T notification) {
+        long start = System.nanoTime();
+        sent.increment();
+        try {
+            producer.send(new ProducerRecord<>(topic, key, notification), (metadata, exception) -> {
+                long latency = System.nanoTime() - start;
+                acknowledged.increment();
+                totalLatencyNanos.add(latency);
+                maxLatencyNanos.accumulateAndGet(latency, Math::max);
+                latencyHistogram.record(latency);
+                if (exception != null) {
+                    failed.increment();
+                    failureCounter.increment();
+                    LOG.error("Failed to send event with key {} to topic '{}'", key, topic, exception);
+                }
+            });
+        } catch (RuntimeException e) {
+            // send() also fails synchronously, on serialization errors or when the buffer stays full
+            acknowledged.increment();
+            failed.increment();
+            failureCounter.increment();
+            LOG.error("Failed to send event with key {} to topic '{}'", key, topic, e);
+        }
+    }
+
+    /**
+     * Get the number of events sent.
+     *
+     * @return the number of events sent, successfully or not
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Get the number of events whose sending failed.
+     *
+     * @return the number of failures
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Get the backlog of the producer.
+     *
+     * @return the number of events sent but not yet acknowledged by the Kafka brokers
+     */
+    public long getBacklog() {
+        return sent.sum() - acknowledged.sum();
+    }
+
+    /**
+     * Get the mean send latency, from the call to {@link #send(String, String, Object)} to the acknowledgement.
+     *
+     * @return the mean latency in milliseconds, 0 if no event has been acknowledged yet
+     */
+    public double getMeanSendLatencyMillis() {
+        long count = acknowledged.sum();
+        return count == 0 ? 0 : totalLatencyNanos.sum() / (count * 1_000_000.0);
+    }
+
+    /**
+     * Get the maximum send latency, from the call to {@link #send(String, String, Object)} to the acknowledgement.
+     *
+     * @return the maximum latency in milliseconds
+     */
+    public double getMaxSendLatencyMillis() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public void close() {
+        LOG.info("Closing shared producer {}: {} events sent, {} failed, backlog {}", clientId, getSentCount(),
+            getFailedCount(), getBacklog());
+        producer.close();
+    }
+}
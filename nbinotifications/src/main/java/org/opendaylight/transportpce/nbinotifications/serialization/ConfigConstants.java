@@ -12,5 +12,9 @@ public final class ConfigConstants {
     }
 
     public static final String CONVERTER = "converter";
+    /**
+     * Comma separated list of the topics whose notifications are published in {@link SerializationFormat#BINARY}.
+     */
+    public static final String BINARY_TOPICS = "nbinotifications.binary.topics";
 
 }
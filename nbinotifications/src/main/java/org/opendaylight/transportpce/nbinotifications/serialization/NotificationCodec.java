@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.opendaylight.transportpce.common.converter.JsonStringConverter;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encoding of the notifications of a Kafka serializer or deserializer, in the {@link SerializationFormat} of their
+ * topic.
+ *
+ * <p>Topics are published in JSON unless listed in the {@link ConfigConstants#BINARY_TOPICS} configuration. Since the
+ * format is recognized from the first byte of the notifications, the deserializers read both formats whatever their
+ * configuration.
+ *
+ * @param <T> type of the notifications
+ */
+public final class NotificationCodec<T extends DataObject> {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationCodec.class);
+
+    private final JsonStringConverter<T> converter;
+    private final Set<String> binaryTopics;
+
+    NotificationCodec(JsonStringConverter<T> converter, Set<String> binaryTopics) {
+        this.converter = converter;
+        this.binaryTopics = binaryTopics;
+    }
+
+    /**
+     * Create the codec of a serializer or deserializer from its configuration.
+     *
+     * @param configs configuration of the serializer or deserializer
+     * @param <T> type of the notifications
+     * @return the codec, or null if no {@link ConfigConstants#CONVERTER} is configured
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends DataObject> NotificationCodec<T> fromConfigs(Map<String, ?> configs) {
+        if (!(configs.get(ConfigConstants.CONVERTER) instanceof JsonStringConverter<?> converter)) {
+            return null;
+        }
+        Object topics = configs.get(ConfigConstants.BINARY_TOPICS);
+        Set<String> binaryTopics = switch (topics) {
+            case String topicList -> Arrays.stream(topicList.split(","))
+                .map(String::trim)
+                .filter(topic -> !topic.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+            case Collection<?> topicList -> topicList.stream()
+                .map(Object::toString)
+                .collect(Collectors.toUnmodifiableSet());
+            case null, default -> Set.of();
+        };
+        return new NotificationCodec<>((JsonStringConverter<T>) converter, binaryTopics);
+    }
+
+    /**
+     * Get the format of the notifications published on a topic.
+     *
+     * @param topic the topic
+     * @return the format
+     */
+    public SerializationFormat formatOf(String topic) {
+        return binaryTopics.contains(topic) ? SerializationFormat.BINARY : SerializationFormat.JSON;
+    }
+
+    /**
+     * Serialize a notification in the format of its topic.
+     *
+     * @param topic topic of the notification
+     * @param id identifier of the notification container
+     * @param data the notification
+     * @return the serialized notification
+     * @throws IOException if the notification can not be serialized
+     */
+    public byte[] serialize(String topic, DataObjectIdentifier<T> id, T data) throws IOException {
+        if (formatOf(topic) == SerializationFormat.JSON) {
+            return converter.createJsonBytesFromDataObject(id, data, JSONCodecFactorySupplier.RFC7951);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(SerializationFormat.BINARY_MARKER);
+        try (NormalizedNodeDataOutput output = NormalizedNodeStreamVersion.current()
+                .newDataOutput(new DataOutputStream(outputStream))) {
+            output.writeNormalizedNode(converter.getBindingDOMCodecServices().toNormalizedDataObject(id, data).node());
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Deserialize a notification, whatever its format.
+     *
+     * @param name name of the notification container
+     * @param data the serialized notification
+     * @return the notification, or null if it can not be deserialized
+     */
+    @SuppressWarnings("unchecked")
+    public T deserialize(QName name, byte[] data) {
+        if (SerializationFormat.of(data) == SerializationFormat.JSON) {
+            return converter.createDataObjectFromInputStream(YangInstanceIdentifier.of(name),
+                new ByteArrayInputStream(data), JSONCodecFactorySupplier.RFC7951);
+        }
+        try {
+            NormalizedNode node = NormalizedNodeDataInput
+                .newDataInput(new DataInputStream(new ByteArrayInputStream(data, 1, data.length - 1)))
+                .readNormalizedNode();
+            return (T) converter.getBindingDOMCodecServices()
+                .fromNormalizedNode(YangInstanceIdentifier.of(name), node)
+                .getValue();
+        } catch (IOException e) {
+            LOG.warn("An error occured during parsing binary notification", e);
+            return null;
+        }
+    }
+
+    /**
+     * Describe a serialized notification for logging purpose.
+     *
+     * @param data the serialized notification
+     * @return the notification itself in JSON, its size in binary format
+     */
+    static String describe(byte[] data) {
+        return SerializationFormat.of(data) == SerializationFormat.JSON
+            ? new String(data, StandardCharsets.UTF_8)
+            : "binary notification of " + data.length + " bytes";
+    }
+}
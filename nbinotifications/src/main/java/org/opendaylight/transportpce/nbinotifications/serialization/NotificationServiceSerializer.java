@@ -8,33 +8,26 @@
 package org.opendaylight.transportpce.nbinotifications.serialization;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import org.apache.kafka.common.serialization.Serializer;
-import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationProcessService;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
-import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class NotificationServiceSerializer implements Serializer<NotificationProcessService> {
     private static final Logger LOG = LoggerFactory.getLogger(NotificationServiceSerializer.class);
-    private JsonStringConverter<NotificationProcessService> converter;
+    private NotificationCodec<NotificationProcessService> codec;
 
-    @SuppressWarnings("unchecked")
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
         LOG.info("Deserializer configuration {}", configs);
-        if (configs.containsKey(ConfigConstants.CONVERTER)
-                && configs.get(ConfigConstants.CONVERTER) instanceof JsonStringConverter<?>) {
-            converter = (JsonStringConverter<NotificationProcessService>) configs.get(ConfigConstants.CONVERTER);
-        }
+        codec = NotificationCodec.fromConfigs(configs);
     }
 
     @Override
     public byte[] serialize(String topic, NotificationProcessService data) {
-        if (converter == null) {
+        if (codec == null) {
             throw new IllegalArgumentException("Converter should be configured through configure method of serializer");
         }
         if (data == null) {
@@ -43,9 +36,11 @@ public class NotificationServiceSerializer implements Serializer<NotificationPro
         try {
             DataObjectIdentifier<NotificationProcessService> iid = DataObjectIdentifier
                     .builder(NotificationProcessService.class).build();
-            String serialized = converter.createJsonStringFromDataObject(iid, data, JSONCodecFactorySupplier.RFC7951);
-            LOG.info("Serialized event {}", serialized);
-            return serialized.getBytes(StandardCharsets.UTF_8);
+            byte[] serialized = codec.serialize(topic, iid, data);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Serialized event {}", NotificationCodec.describe(serialized));
+            }
+            return serialized;
         } catch (IOException e) {
             LOG.error("exception raised during serialization", e);
             return new byte[0];
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.serialization;
+
+/**
+ * Formats of the notifications published on Kafka.
+ */
+public enum SerializationFormat {
+    /**
+     * RFC 7951 YANG JSON, the default format, meant for external consumers.
+     */
+    JSON,
+    /**
+     * Compact binary format, meant for internal consumers. The notification is encoded with the yangtools binary
+     * NormalizedNode stream format, after a {@link #BINARY_MARKER} byte.
+     */
+    BINARY;
+
+    /**
+     * First byte of the notifications in binary format, which can not start any JSON document.
+     */
+    public static final byte BINARY_MARKER = 0;
+
+    /**
+     * Get the format of a serialized notification.
+     *
+     * @param data the serialized notification
+     * @return the format of the notification
+     */
+    public static SerializationFormat of(byte[] data) {
+        return data.length > 0 && data[0] == BINARY_MARKER ? BINARY : JSON;
+    }
+}
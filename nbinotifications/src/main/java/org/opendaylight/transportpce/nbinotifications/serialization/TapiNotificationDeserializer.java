@@ -7,11 +7,9 @@
  */
 package org.opendaylight.transportpce.nbinotifications.serialization;
 
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.common.serialization.Deserializer;
-import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.Name;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.NameBuilder;
@@ -27,39 +25,31 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev22112
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.TargetObjectName;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.TargetObjectNameBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.TargetObjectNameKey;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class TapiNotificationDeserializer implements Deserializer<Notification> {
     private static final Logger LOG = LoggerFactory.getLogger(TapiNotificationDeserializer.class);
-    private JsonStringConverter<NotificationTapiService> converter;
+    private NotificationCodec<NotificationTapiService> codec;
 
-    @SuppressWarnings("unchecked")
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
         LOG.info("Tapi Deserializer configuration {}", configs);
-        if (configs.containsKey(ConfigConstants.CONVERTER)
-            && configs.get(ConfigConstants.CONVERTER) instanceof JsonStringConverter<?>) {
-            converter = (JsonStringConverter<NotificationTapiService>) configs.get(ConfigConstants.CONVERTER);
-        }
+        codec = NotificationCodec.fromConfigs(configs);
     }
 
     @Override
     public Notification deserialize(String topic, byte[] data) {
-        if (converter == null) {
+        if (codec == null) {
             throw new IllegalArgumentException(
                 "Converter should be configured through configure method of deserializer");
         }
-        String value = new String(data, StandardCharsets.UTF_8);
         // The message published is
         // org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService
         // we have to map it to
         // org.opendaylight.yang.gen.v1
         // .urn.onf.otcc.yang.tapi.notification.rev221121.get.notification.list.output.Notification
-        NotificationTapiService mappedString = converter.createDataObjectFromJsonString(
-            YangInstanceIdentifier.of(NotificationTapiService.QNAME), value, JSONCodecFactorySupplier.RFC7951);
+        NotificationTapiService mappedString = codec.deserialize(NotificationTapiService.QNAME, data);
         if (mappedString == null) {
             return null;
         }
@@ -8,33 +8,26 @@
 package org.opendaylight.transportpce.nbinotifications.serialization;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import org.apache.kafka.common.serialization.Serializer;
-import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
-import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class TapiNotificationSerializer implements Serializer<NotificationTapiService> {
     private static final Logger LOG = LoggerFactory.getLogger(TapiNotificationSerializer.class);
-    private JsonStringConverter<NotificationTapiService> converter;
+    private NotificationCodec<NotificationTapiService> codec;
 
-    @SuppressWarnings("unchecked")
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
         LOG.info("Deserializer configuration {}", configs);
-        if (configs.containsKey(ConfigConstants.CONVERTER)
-                && configs.get(ConfigConstants.CONVERTER) instanceof JsonStringConverter<?>) {
-            converter = (JsonStringConverter<NotificationTapiService>) configs.get(ConfigConstants.CONVERTER);
-        }
+        codec = NotificationCodec.fromConfigs(configs);
     }
 
     @Override
     public byte[] serialize(String topic, NotificationTapiService data) {
-        if (converter == null) {
+        if (codec == null) {
             throw new IllegalArgumentException(
                     "Converter should be configured through configure method of serializer");
         }
@@ -45,9 +38,11 @@ public class TapiNotificationSerializer implements Serializer<NotificationTapiSe
         try {
             DataObjectIdentifier<NotificationTapiService> iid = DataObjectIdentifier
                     .builder(NotificationTapiService.class).build();
-            String serialized = converter.createJsonStringFromDataObject(iid, data, JSONCodecFactorySupplier.RFC7951);
-            LOG.info("Serialized event {}", serialized);
-            return serialized.getBytes(StandardCharsets.UTF_8);
+            byte[] serialized = codec.serialize(topic, iid, data);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Serialized event {}", NotificationCodec.describe(serialized));
+            }
+            return serialized;
         } catch (IOException e) {
             LOG.error("Event couldnt be serialized", e);
             return new byte[0];
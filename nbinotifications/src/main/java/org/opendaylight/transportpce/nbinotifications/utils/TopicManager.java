@@ -7,11 +7,13 @@
  */
 package org.opendaylight.transportpce.nbinotifications.utils;
 
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.transportpce.common.converter.JsonStringConverter;
-import org.opendaylight.transportpce.nbinotifications.listener.NbiNotificationsHandler;
 import org.opendaylight.transportpce.nbinotifications.producer.Publisher;
+import org.opendaylight.transportpce.nbinotifications.producer.SharedProducer;
 import org.opendaylight.transportpce.nbinotifications.serialization.NotificationAlarmServiceSerializer;
 import org.opendaylight.transportpce.nbinotifications.serialization.NotificationServiceSerializer;
 import org.opendaylight.transportpce.nbinotifications.serialization.TapiNotificationSerializer;
@@ -21,19 +23,43 @@ import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapi
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Registry of the Kafka topics on which NBI notifications are published.
+ *
+ * <p>Topics are kept in {@link TopicRegistry} instances, whose map views are shared with the notification handler:
+ * subscription changes are visible to the publish path without being pushed to it. Tapi topics are created by
+ * subscriptions. Their publishers are evicted when idle for {@link #TAPI_TOPIC_IDLE_TIMEOUT}, or when there are more
+ * than {@link #MAX_TAPI_TOPICS}, and are created again at the next notification or read of the topic as long as it is
+ * subscribed to.
+ *
+ * <p>The subscribed tapi topics themselves are not bounded: a topic is kept from the creation of the subscription
+ * requesting it until the deletion of that subscription, as the subscription is kept in the notification context. As
+ * all the tapi publishers share a single Kafka producer, eviction only frees the small publisher objects and bounds the
+ * size of the registry copied on every topic change. It does not bound the memory used by the subscriptions, which is
+ * only released by deleting them.
+ */
 public final class TopicManager {
 
+    public static final int MAX_TAPI_TOPICS = 10000;
+    public static final Duration TAPI_TOPIC_IDLE_TIMEOUT = Duration.ofDays(1);
+
     private static final Logger LOG = LoggerFactory.getLogger(TopicManager.class);
     private static TopicManager instance = new TopicManager();
 
-    private Map<String, Publisher<NotificationTapiService>> tapiPublisherMap = new HashMap<>();
-    private String publisherServer;
-    private JsonStringConverter<NotificationTapiService> tapiConverter;
-    private NbiNotificationsHandler nbiNotificationsListener;
-    private Map<String, Publisher<NotificationAlarmService>> alarmPublisherMap = new HashMap<>();
-    private Map<String, Publisher<NotificationProcessService>> processPublisherMap = new HashMap<>();
-    private JsonStringConverter<NotificationProcessService> processConverter;
-    private JsonStringConverter<NotificationAlarmService> alarmConverter;
+    // topics of the tapi subscriptions, whose publishers may have been evicted, removed with their subscription
+    private final Set<String> subscribedTapiTopics = ConcurrentHashMap.newKeySet();
+    private final TopicRegistry<NotificationTapiService> tapiTopics =
+        new TopicRegistry<>(MAX_TAPI_TOPICS, TAPI_TOPIC_IDLE_TIMEOUT, this::reloadTapiPublisher);
+    private final TopicRegistry<NotificationAlarmService> alarmTopics = TopicRegistry.unbounded();
+    private final TopicRegistry<NotificationProcessService> processTopics = TopicRegistry.unbounded();
+    private volatile String publisherServer;
+    private volatile JsonStringConverter<NotificationTapiService> tapiConverter;
+    private volatile JsonStringConverter<NotificationProcessService> processConverter;
+    private volatile JsonStringConverter<NotificationAlarmService> alarmConverter;
+    // One Kafka producer per notification type, shared by the publishers of all the topics of this type
+    private SharedProducer<NotificationProcessService> processProducer;
+    private SharedProducer<NotificationAlarmService> alarmProducer;
+    private SharedProducer<NotificationTapiService> tapiProducer;
 
     private TopicManager() {
     }
@@ -42,10 +68,6 @@ public final class TopicManager {
         return instance;
     }
 
-    public void setNbiNotificationsListener(NbiNotificationsHandler nbiNotificationsListener) {
-        this.nbiNotificationsListener = nbiNotificationsListener;
-    }
-
     public void setProcessConverter(JsonStringConverter<NotificationProcessService> processConverter) {
         this.processConverter = processConverter;
     }
@@ -62,58 +84,100 @@ public final class TopicManager {
         this.publisherServer = publisherServer;
     }
 
-    public void addProcessTopic(String topic) {
+    public synchronized void addProcessTopic(String topic) {
         LOG.info("Adding process topic: {}", topic);
-        processPublisherMap.put(topic, new Publisher<>(topic, publisherServer, processConverter,
-            NotificationServiceSerializer.class));
-        if (this.nbiNotificationsListener != null) {
-            this.nbiNotificationsListener.setPublishersServiceMap(processPublisherMap);
+        if (processProducer == null) {
+            processProducer = new SharedProducer<>("nbinotifications-process", publisherServer, processConverter,
+                NotificationServiceSerializer.class);
         }
+        processTopics.put(topic, new Publisher<>(topic, processProducer));
     }
 
-    public void addAlarmTopic(String topic) {
+    public synchronized void addAlarmTopic(String topic) {
         LOG.info("Adding alarm topic: {}", topic);
-        alarmPublisherMap.put(topic, new Publisher<>(topic, publisherServer, alarmConverter,
-                NotificationAlarmServiceSerializer.class));
-        if (this.nbiNotificationsListener != null) {
-            this.nbiNotificationsListener.setPublishersAlarmMap(alarmPublisherMap);
+        if (alarmProducer == null) {
+            alarmProducer = new SharedProducer<>("nbinotifications-alarm", publisherServer, alarmConverter,
+                NotificationAlarmServiceSerializer.class);
         }
+        alarmTopics.put(topic, new Publisher<>(topic, alarmProducer));
     }
 
     public void addTapiTopic(String topic) {
-        if (tapiPublisherMap.containsKey(topic)) {
+        subscribedTapiTopics.add(topic);
+        if (tapiTopics.contains(topic)) {
             LOG.info("Tapi topic: {} already exists", topic);
             return;
         }
         LOG.info("Adding new tapi topic: {}", topic);
-        tapiPublisherMap.put(topic, new Publisher<>(topic, publisherServer, tapiConverter,
-            TapiNotificationSerializer.class));
-        if (this.nbiNotificationsListener != null) {
-            this.nbiNotificationsListener.setTapiPublishersMap(tapiPublisherMap);
-        }
+        // the producer is obtained first, the registry lock must not be held while locking the topic manager
+        SharedProducer<NotificationTapiService> producer = getTapiProducer();
+        tapiTopics.putIfAbsent(topic, () -> new Publisher<>(topic, producer));
     }
 
     public void deleteTapiTopic(String topic) {
-        if (!tapiPublisherMap.containsKey(topic)) {
+        boolean subscribed = subscribedTapiTopics.remove(topic);
+        if (!tapiTopics.remove(topic) && !subscribed) {
             LOG.info("Tapi topic: {} doesnt exist", topic);
             return;
         }
-        LOG.info("Deleting tapi topic: {}", topic);
-        tapiPublisherMap.remove(topic);
-        if (this.nbiNotificationsListener != null) {
-            this.nbiNotificationsListener.setTapiPublishersMap(tapiPublisherMap);
+        LOG.info("Deleted tapi topic: {}", topic);
+    }
+
+    /**
+     * Check that a tapi topic exists, and record a read of its notifications so that it is not evicted as idle.
+     *
+     * @param topic the topic
+     * @return true if the topic exists
+     */
+    public boolean touchTapiTopic(String topic) {
+        Publisher<NotificationTapiService> publisher = tapiTopics.get(topic);
+        if (publisher == null) {
+            return false;
         }
+        publisher.touch();
+        return true;
     }
 
     public Map<String, Publisher<NotificationTapiService>> getTapiTopicMap() {
-        return this.tapiPublisherMap;
+        return tapiTopics.asMap();
     }
 
     public Map<String, Publisher<NotificationAlarmService>> getAlarmTopicMap() {
-        return this.alarmPublisherMap;
+        return alarmTopics.asMap();
     }
 
     public Map<String, Publisher<NotificationProcessService>> getProcessTopicMap() {
-        return this.processPublisherMap;
+        return processTopics.asMap();
+    }
+
+    /**
+     * Close the shared producers and forget the publishers relying on them.
+     * Producers are created again when new topics are added.
+     */
+    public synchronized void closeProducers() {
+        for (SharedProducer<?> producer : new SharedProducer<?>[] {processProducer, alarmProducer, tapiProducer}) {
+            if (producer != null) {
+                producer.close();
+            }
+        }
+        processProducer = null;
+        alarmProducer = null;
+        tapiProducer = null;
+        processTopics.clear();
+        alarmTopics.clear();
+        subscribedTapiTopics.clear();
+        tapiTopics.clear();
+    }
+
+    private Publisher<NotificationTapiService> reloadTapiPublisher(String topic) {
+        return subscribedTapiTopics.contains(topic) ? new Publisher<>(topic, getTapiProducer()) : null;
+    }
+
+    private synchronized SharedProducer<NotificationTapiService> getTapiProducer() {
+        if (tapiProducer == null) {
+            tapiProducer = new SharedProducer<>("nbinotifications-tapi", publisherServer, tapiConverter,
+                TapiNotificationSerializer.class);
+        }
+        return tapiProducer;
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.utils;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.opendaylight.transportpce.nbinotifications.producer.Publisher;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the publishers of a notification type, indexed by topic.
+ *
+ * <p>The registry is read on the publish path of every notification and updated on every subscription change. Updates
+ * are serialized and copy the current map into a new immutable snapshot, so that readers only do a volatile read and
+ * never wait for, nor see a partial, update.
+ *
+ * <p>A registry may be bounded. Topics without activity since the idle timeout are then evicted when a topic is added,
+ * and the least recently active topic is evicted when the maximum number of topics is reached. A bounded registry may
+ * be given a loader of the publishers of the topics still in use: a topic evicted while in use is registered again at
+ * the next lookup of its publisher, so that eviction only frees the publishers until they are needed again.
+ *
+ * @param <T> type of the notifications
+ */
+public final class TopicRegistry<T extends DataObject> {
+    private static final Logger LOG = LoggerFactory.getLogger(TopicRegistry.class);
+
+    private final int maxTopics;
+    private final long idleTimeoutNanos;
+    private final Function<String, Publisher<T>> loader;
+    private final Map<String, Publisher<T>> view = new AbstractMap<>() {
+        @Override
+        public Set<Entry<String, Publisher<T>>> entrySet() {
+            return snapshot.entrySet();
+        }
+
+        @Override
+        public Publisher<T> get(Object key) {
+            return key instanceof String topic ? TopicRegistry.this.get(topic) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return snapshot.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return snapshot.size();
+        }
+    };
+    private volatile Map<String, Publisher<T>> snapshot = Map.of();
+
+    /**
+     * Create a bounded registry.
+     *
+     * @param maxTopics maximum number of topics
+     * @param idleTimeout time after which a topic without activity is evicted, zero to never evict idle topics
+     */
+    public TopicRegistry(int maxTopics, Duration idleTimeout) {
+        this(maxTopics, idleTimeout, topic -> null);
+    }
+
+    /**
+     * Create a bounded registry which registers again the evicted topics still in use.
+     *
+     * @param maxTopics maximum number of topics
+     * @param idleTimeout time after which a topic without activity is evicted, zero to never evict idle topics
+     * @param loader function creating the publisher of a topic not registered, or returning null if the topic is
+     *     not in use. It is called without holding the lock of the registry.
+     */
+    public TopicRegistry(int maxTopics, Duration idleTimeout, Function<String, Publisher<T>> loader) {
+        this.maxTopics = maxTopics;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.loader = loader;
+    }
+
+    /**
+     * Create a registry which never evicts its topics.
+     *
+     * @param <T> type of the notifications
+     * @return the registry
+     */
+    public static <T extends DataObject> TopicRegistry<T> unbounded() {
+        return new TopicRegistry<>(Integer.MAX_VALUE, Duration.ZERO);
+    }
+
+    /**
+     * Get the publisher of a topic, registering it again with the loader of the registry if it was evicted.
+     *
+     * @param topic the topic
+     * @return the publisher, or null if the topic is unknown
+     */
+    public Publisher<T> get(String topic) {
+        Publisher<T> publisher = snapshot.get(topic);
+        return publisher != null ? publisher : load(topic);
+    }
+
+    /**
+     * Check whether a topic is registered. Evicted topics are not registered until their publisher is looked up.
+     *
+     * @param topic the topic
+     * @return true if the topic is registered
+     */
+    public boolean contains(String topic) {
+        return snapshot.containsKey(topic);
+    }
+
+    /**
+     * Get a read-only view of the registry. The view always reflects the current content of the registry and can be
+     * read concurrently with its updates.
+     *
+     * @return the view
+     */
+    public Map<String, Publisher<T>> asMap() {
+        return view;
+    }
+
+    /**
+     * Register the publisher of a topic, replacing its current publisher if any.
+     *
+     * @param topic the topic
+     * @param publisher the publisher of the topic
+     */
+    public synchronized void put(String topic, Publisher<T> publisher) {
+        if (!snapshot.containsKey(topic)) {
+            makeRoom();
+        }
+        Map<String, Publisher<T>> copy = new HashMap<>(snapshot);
+        copy.put(topic, publisher);
+        snapshot = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Register the publisher of a topic, unless the topic is already registered.
+     *
+     * @param topic the topic
+     * @param publisherSupplier supplier of the publisher, only called if the topic is not registered
+     * @return true if the topic has been registered
+     */
+    public synchronized boolean putIfAbsent(String topic, Supplier<Publisher<T>> publisherSupplier) {
+        if (snapshot.containsKey(topic)) {
+            return false;
+        }
+        put(topic, publisherSupplier.get());
+        return true;
+    }
+
+    /**
+     * Unregister a topic and close its publisher.
+     *
+     * @param topic the topic
+     * @return true if the topic was registered
+     */
+    public synchronized boolean remove(String topic) {
+        if (!snapshot.containsKey(topic)) {
+            return false;
+        }
+        Map<String, Publisher<T>> copy = new HashMap<>(snapshot);
+        copy.remove(topic).close();
+        snapshot = Collections.unmodifiableMap(copy);
+        return true;
+    }
+
+    /**
+     * Unregister all the topics and close their publishers.
+     */
+    public synchronized void clear() {
+        snapshot.values().forEach(Publisher::close);
+        snapshot = Map.of();
+    }
+
+    /**
+     * Evict the topics without activity since the idle timeout.
+     *
+     * @return the evicted topics
+     */
+    public synchronized List<String> evictIdleTopics() {
+        if (idleTimeoutNanos <= 0) {
+            return List.of();
+        }
+        long now = System.nanoTime();
+        List<String> idleTopics = snapshot.entrySet().stream()
+            .filter(entry -> now - entry.getValue().getLastActivityNanos() > idleTimeoutNanos)
+            .map(Entry::getKey)
+            .toList();
+        evict(idleTopics, "idle");
+        return idleTopics;
+    }
+
+    private Publisher<T> load(String topic) {
+        Publisher<T> loaded = loader.apply(topic);
+        if (loaded == null) {
+            return null;
+        }
+        synchronized (this) {
+            Publisher<T> current = snapshot.get(topic);
+            if (current != null) {
+                // registered concurrently
+                loaded.close();
+                return current;
+            }
+            LOG.info("Registering again evicted topic {}", topic);
+            put(topic, loaded);
+            return loaded;
+        }
+    }
+
+    private void makeRoom() {
+        evictIdleTopics();
+        if (snapshot.size() >= maxTopics) {
+            evict(snapshot.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().getLastActivityNanos()))
+                .map(Entry::getKey)
+                .stream()
+                .toList(), "least recently active");
+        }
+    }
+
+    private void evict(List<String> topics, String reason) {
+        if (topics.isEmpty()) {
+            return;
+        }
+        Map<String, Publisher<T>> copy = new HashMap<>(snapshot);
+        for (String topic : topics) {
+            LOG.info("Evicting {} topic {}", reason, topic);
+            copy.remove(topic).close();
+        }
+        snapshot = Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationProcessService;
+
+class NotificationConsumerPoolTest {
+    private static final String TOPIC = "topic";
+    private static final TopicPartition PARTITION0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION1 = new TopicPartition(TOPIC, 1);
+
+    private MockConsumer<String, String> mockConsumer;
+
+    @BeforeEach
+    void setUp() {
+        mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        mockConsumer.updatePartitions(TOPIC, List.of(
+            new PartitionInfo(TOPIC, 0, null, null, null),
+            new PartitionInfo(TOPIC, 1, null, null, null)));
+        mockConsumer.updateBeginningOffsets(Map.of(PARTITION0, 0L, PARTITION1, 0L));
+        mockConsumer.updateEndOffsets(Map.of(PARTITION0, 0L, PARTITION1, 0L));
+    }
+
+    private static List<String> sorted(List<String> notifications) {
+        return notifications.stream().sorted().toList();
+    }
+
+    @Test
+    void readReturnsTheNotificationsOfAllPartitionsSinceTheLastRead() throws InterruptedException {
+        NotificationConsumerPool<NotificationProcessService, String> pool =
+            new NotificationConsumerPool<>(mockConsumer, NotificationConsumerPool.DEFAULT_CAPACITY);
+        assertTrue(pool.read("group", TOPIC).isEmpty(), "Topic should not be followed yet");
+        pool.pollOnce();
+        assertEquals(List.of(PARTITION0, PARTITION1), mockConsumer.assignment().stream()
+            .sorted((tp1, tp2) -> Integer.compare(tp1.partition(), tp2.partition())).toList());
+
+        mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0L, "key", "event1"));
+        mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 1, 0L, "key", "event2"));
+        pool.pollOnce();
+        // records of different partitions are not ordered
+        assertEquals(List.of("event1", "event2"), sorted(pool.read("group", TOPIC)));
+        assertTrue(pool.read("group", TOPIC).isEmpty(), "Notifications should only be read once per group");
+
+        mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 1L, "key", "event3"));
+        pool.pollOnce();
+        assertEquals(List.of("event3"), pool.read("group", TOPIC));
+        assertEquals(List.of("event1", "event2", "event3"), sorted(pool.read("otherGroup", TOPIC)));
+
+        pool.close();
+        assertTrue(mockConsumer.closed(), "Consumer should be closed");
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset, long timestamp, String value) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, timestamp, TimestampType.CREATE_TIME,
+            ConsumerRecord.NULL_SIZE, ConsumerRecord.NULL_SIZE, "key", value, new RecordHeaders(), Optional.empty());
+    }
+
+    @Test
+    void notificationsAreReadSinceAnOffsetOrATimestamp() throws InterruptedException {
+        NotificationConsumerPool<NotificationProcessService, String> pool =
+            new NotificationConsumerPool<>(mockConsumer, NotificationConsumerPool.DEFAULT_CAPACITY);
+        pool.read("group", TOPIC);
+        pool.pollOnce();
+        mockConsumer.addRecord(record(0, 0L, 1000L, "event1"));
+        mockConsumer.addRecord(record(1, 0L, 2000L, "event2"));
+        mockConsumer.addRecord(record(0, 1L, 3000L, "event3"));
+        mockConsumer.addRecord(record(0, 2L, 4000L, "event4"));
+        pool.pollOnce();
+
+        assertEquals(List.of("event3", "event4"), pool.readSinceOffset(TOPIC, 0, 1L));
+        assertEquals(List.of("event2"), pool.readSinceOffset(TOPIC, 1, 0L));
+        assertTrue(pool.readSinceOffset(TOPIC, 0, 3L).isEmpty(), "No notification after the last offset");
+        assertEquals(List.of("event2", "event3", "event4"), sorted(pool.readSinceTimestamp(TOPIC, 2000L)));
+        assertTrue(pool.readSinceTimestamp(TOPIC, 5000L).isEmpty(), "No notification after the last timestamp");
+        // the read position of the subscriptions is left untouched
+        assertEquals(List.of("event1", "event2", "event3", "event4"), sorted(pool.read("group", TOPIC)));
+    }
+
+    @Test
+    void bufferKeepsTheMostRecentNotifications() throws InterruptedException {
+        NotificationConsumerPool<NotificationProcessService, String> pool = new NotificationConsumerPool<>(
+            mockConsumer, 2);
+        pool.read("group", TOPIC);
+        pool.pollOnce();
+        for (long offset = 0; offset < 3; offset++) {
+            mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, "key", "event" + offset));
+        }
+        pool.pollOnce();
+        assertEquals(List.of("event1", "event2"), pool.read("group", TOPIC));
+    }
+
+    @Test
+    void removedSubscriptionReadsAgainFromTheOldestNotification() throws InterruptedException {
+        NotificationConsumerPool<NotificationProcessService, String> pool =
+            new NotificationConsumerPool<>(mockConsumer, NotificationConsumerPool.DEFAULT_CAPACITY);
+        pool.read("subscription", TOPIC);
+        pool.pollOnce();
+        mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0L, "key", "event1"));
+        pool.pollOnce();
+        assertEquals(List.of("event1"), pool.read("subscription", TOPIC));
+        pool.removeSubscription("subscription");
+        assertEquals(List.of("event1"), pool.read("subscription", TOPIC));
+    }
+
+    @Test
+    void idleSubscriptionsArePruned() throws InterruptedException {
+        NotificationConsumerPool<NotificationProcessService, String> pool =
+            new NotificationConsumerPool<>(mockConsumer, NotificationConsumerPool.DEFAULT_CAPACITY);
+        pool.read("idleGroup", TOPIC);
+        pool.pollOnce();
+        mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0L, "key", "event1"));
+        pool.pollOnce();
+        assertEquals(List.of("event1"), pool.read("idleGroup", TOPIC));
+
+        pool.pruneIdleSubscriptions(System.nanoTime());
+        assertTrue(pool.read("idleGroup", TOPIC).isEmpty(), "Recently read subscription should be kept");
+        pool.pruneIdleSubscriptions(System.nanoTime() + NotificationConsumerPool.SUBSCRIPTION_RETENTION_NS + 1);
+        assertEquals(List.of("event1"), pool.read("idleGroup", TOPIC));
+    }
+}
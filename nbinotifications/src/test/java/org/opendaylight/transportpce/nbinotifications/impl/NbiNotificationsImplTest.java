@@ -8,11 +8,19 @@
 package org.opendaylight.transportpce.nbinotifications.impl;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +31,7 @@ import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.transportpce.common.network.NetworkTransactionImpl;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.nbinotifications.consumer.NotificationConsumerPool;
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.CreateNotificationSubscriptionServiceImpl;
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.GetNotificationListImpl;
 import org.opendaylight.transportpce.nbinotifications.impl.rpc.GetNotificationsAlarmServiceImpl;
@@ -30,6 +39,8 @@ import org.opendaylight.transportpce.nbinotifications.impl.rpc.GetNotificationsP
 import org.opendaylight.transportpce.nbinotifications.utils.NotificationServiceDataUtils;
 import org.opendaylight.transportpce.nbinotifications.utils.TopicManager;
 import org.opendaylight.transportpce.test.AbstractTest;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.nbi.notifications.replay.rev261019.GetNotificationsAlarmServiceInput1Builder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.nbi.notifications.replay.rev261019.GetNotificationsProcessServiceInput1Builder;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.ConnectionType;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsAlarmServiceInputBuilder;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotificationsAlarmServiceOutput;
@@ -38,10 +49,16 @@ import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.GetNotifications
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationAlarmService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationProcessService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.get.notifications.alarm.service.output.NotificationsAlarmService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.get.notifications.alarm.service.output.NotificationsAlarmServiceBuilder;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.get.notifications.process.service.output.NotificationsProcessService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.get.notifications.process.service.output.NotificationsProcessServiceBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.CreateNotificationSubscriptionServiceOutput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.GetNotificationListInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.GetNotificationListOutput;
+import org.opendaylight.yangtools.binding.DataObject;
 import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.Uint64;
 
 @ExtendWith(MockitoExtension.class)
 public class NbiNotificationsImplTest extends AbstractTest {
@@ -50,20 +67,20 @@ public class NbiNotificationsImplTest extends AbstractTest {
     RpcProviderService rpcProviderRegistry;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private NotificationConsumerPool<NotificationProcessService, NotificationsProcessService> processConsumerPool;
+    @Mock
+    private NotificationConsumerPool<NotificationAlarmService, NotificationsAlarmService> alarmConsumerPool;
 
     private NbiNotificationsProvider nbiNotifications;
     public static NetworkTransactionService networkTransactionService;
     private TopicManager topicManager;
-    private JsonStringConverter<NotificationProcessService> converterProcess;
-    private JsonStringConverter<NotificationAlarmService> converterAlarm;
     private JsonStringConverter<NotificationTapiService> converterTapi;
 
     @BeforeEach
     void setUp() throws ExecutionException, InterruptedException {
         topicManager = TopicManager.getInstance();
         networkTransactionService = new NetworkTransactionImpl(getDataBroker());
-        converterProcess = new JsonStringConverter<>(getDataStoreContextUtil().getBindingDOMCodecServices());
-        converterAlarm = new JsonStringConverter<>(getDataStoreContextUtil().getBindingDOMCodecServices());
         converterTapi = new JsonStringConverter<>(getDataStoreContextUtil().getBindingDOMCodecServices());
         topicManager.setTapiConverter(converterTapi);
         NotificationServiceDataUtils.createTapiContext(networkTransactionService);
@@ -73,10 +90,15 @@ public class NbiNotificationsImplTest extends AbstractTest {
                 networkTransactionService);
     }
 
+    private static <T extends DataObject, D> NotificationConsumerPool<T, D> consumerPool() {
+        return new NotificationConsumerPool<>(new MockConsumer<>(OffsetResetStrategy.EARLIEST),
+            NotificationConsumerPool.DEFAULT_CAPACITY);
+    }
+
     @Test
     void getNotificationsServiceEmptyDataTest() throws InterruptedException, ExecutionException {
         ListenableFuture<RpcResult<GetNotificationsProcessServiceOutput>> result =
-            new GetNotificationsProcessServiceImpl(converterProcess, "localhost:8080")
+            new GetNotificationsProcessServiceImpl(consumerPool())
                 .invoke(new GetNotificationsProcessServiceInputBuilder().build());
         assertNull(result.get().getResult().getNotificationsProcessService(), "Should be null");
     }
@@ -84,7 +106,7 @@ public class NbiNotificationsImplTest extends AbstractTest {
     @Test
     void getNotificationsServiceTest() throws InterruptedException, ExecutionException {
         ListenableFuture<RpcResult<GetNotificationsProcessServiceOutput>> result =
-            new GetNotificationsProcessServiceImpl(converterProcess, "localhost:8080")
+            new GetNotificationsProcessServiceImpl(consumerPool())
                 .invoke(new GetNotificationsProcessServiceInputBuilder()
                     .setGroupId("groupId")
                     .setIdConsumer("consumerId")
@@ -96,7 +118,7 @@ public class NbiNotificationsImplTest extends AbstractTest {
     @Test
     void getNotificationsAlarmServiceTest() throws InterruptedException, ExecutionException {
         ListenableFuture<RpcResult<GetNotificationsAlarmServiceOutput>> result =
-            new GetNotificationsAlarmServiceImpl(converterAlarm, "localhost:8080")
+            new GetNotificationsAlarmServiceImpl(consumerPool())
                 .invoke(new GetNotificationsAlarmServiceInputBuilder()
                     .setGroupId("groupId")
                     .setIdConsumer("consumerId")
@@ -105,6 +127,49 @@ public class NbiNotificationsImplTest extends AbstractTest {
         assertNull(result.get().getResult().getNotificationsAlarmService(), "Should be null");
     }
 
+    @Test
+    void getNotificationsServiceSinceOffsetTest() throws InterruptedException, ExecutionException {
+        NotificationsProcessService notification = new NotificationsProcessServiceBuilder()
+            .setServiceName("service1")
+            .build();
+        when(processConsumerPool.readSinceOffset("service", 1, 5L)).thenReturn(List.of(notification));
+        ListenableFuture<RpcResult<GetNotificationsProcessServiceOutput>> result =
+            new GetNotificationsProcessServiceImpl(processConsumerPool)
+                .invoke(new GetNotificationsProcessServiceInputBuilder()
+                    .setGroupId("groupId")
+                    .setIdConsumer("consumerId")
+                    .setConnectionType(ConnectionType.Service)
+                    .addAugmentation(new GetNotificationsProcessServiceInput1Builder()
+                        .setSincePartition(1)
+                        .setSinceOffset(Uint64.valueOf(5))
+                        .setSinceTimestamp(Uint64.valueOf(1000))
+                        .build())
+                    .build());
+        assertEquals(List.of(notification), result.get().getResult().getNotificationsProcessService());
+        // the read position of the group is left untouched
+        verify(processConsumerPool, never()).read(anyString(), anyString());
+    }
+
+    @Test
+    void getNotificationsAlarmServiceSinceTimestampTest() throws InterruptedException, ExecutionException {
+        NotificationsAlarmService notification = new NotificationsAlarmServiceBuilder()
+            .setServiceName("service1")
+            .build();
+        when(alarmConsumerPool.readSinceTimestamp("alarmservice", 1000L)).thenReturn(List.of(notification));
+        ListenableFuture<RpcResult<GetNotificationsAlarmServiceOutput>> result =
+            new GetNotificationsAlarmServiceImpl(alarmConsumerPool)
+                .invoke(new GetNotificationsAlarmServiceInputBuilder()
+                    .setGroupId("groupId")
+                    .setIdConsumer("consumerId")
+                    .setConnectionType(ConnectionType.Service)
+                    .addAugmentation(new GetNotificationsAlarmServiceInput1Builder()
+                        .setSinceTimestamp(Uint64.valueOf(1000))
+                        .build())
+                    .build());
+        assertEquals(List.of(notification), result.get().getResult().getNotificationsAlarmService());
+        verify(alarmConsumerPool, never()).read(anyString(), anyString());
+    }
+
     @Test
     void createTapiNotificationSubscriptionServiceTest() throws InterruptedException, ExecutionException {
         ListenableFuture<RpcResult<CreateNotificationSubscriptionServiceOutput>> result =
@@ -120,7 +185,7 @@ public class NbiNotificationsImplTest extends AbstractTest {
                 new CreateNotificationSubscriptionServiceImpl(nbiNotifications, topicManager)
             .invoke(NotificationServiceDataUtils.buildNotificationSubscriptionServiceInputBuilder().build());
         ListenableFuture<RpcResult<GetNotificationListOutput>> result2 =
-            new GetNotificationListImpl(converterTapi, "localhost:8080", networkTransactionService, topicManager)
+            new GetNotificationListImpl(consumerPool(), networkTransactionService, topicManager)
                 .invoke(new GetNotificationListInputBuilder()
                     .setTimeRange(null)
                     .setSubscriptionId(result.get().getResult().getSubscriptionService().getUuid())
@@ -27,6 +27,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendaylight.mdsal.binding.api.NotificationService;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.transportpce.common.converter.JsonStringConverter;
+import org.opendaylight.transportpce.common.metrics.Counter;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.transportpce.common.network.NetworkTransactionImpl;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.nbinotifications.impl.NbiNotificationsProvider;
@@ -106,9 +108,13 @@ public class PublisherTest extends AbstractTest {
         NotificationProcessService notificationProcessService = converterService
                 .createDataObjectFromJsonString(YangInstanceIdentifier.of(NotificationProcessService.QNAME),
                         json, JSONCodecFactorySupplier.RFC7951);
-        publisherService.sendEvent(notificationProcessService, notificationProcessService.getConnectionType().name());
+        String topic = notificationProcessService.getConnectionType().name();
+        Counter published = Metrics.counter(Publisher.PUBLISHED_METRIC, "topic", topic);
+        long publishedBefore = published.getCount();
+        publisherService.sendEvent(notificationProcessService, topic);
         assertEquals(1, mockProducer.history().size(), "We should have one message");
         assertEquals("test", mockProducer.history().get(0).key(), "Key should be test");
+        assertEquals(publishedBefore + 1, published.getCount(), "Message should be counted for its topic");
     }
 
     @Test
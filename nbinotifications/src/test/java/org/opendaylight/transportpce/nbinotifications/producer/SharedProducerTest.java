@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationProcessService;
+
+class SharedProducerTest {
+
+    private final NotificationProcessService notification = mock(NotificationProcessService.class);
+    private final MockProducer<String, NotificationProcessService> mockProducer =
+        new MockProducer<>(false, new StringSerializer(), (topic, data) -> new byte[0]);
+
+    @Test
+    void sendIsAsynchronousAndAccounted() {
+        SharedProducer<NotificationProcessService> producer = new SharedProducer<>("test", mockProducer);
+        producer.send("PceListener", "PceListener", notification);
+        producer.send("ServiceHandler", "ServiceHandler", notification);
+        assertEquals(2, producer.getSentCount());
+        assertEquals(2, producer.getBacklog());
+        assertEquals(0, producer.getFailedCount());
+
+        assertTrue(mockProducer.completeNext());
+        assertTrue(mockProducer.errorNext(new TimeoutException("no broker")));
+        assertEquals(0, producer.getBacklog());
+        assertEquals(1, producer.getFailedCount());
+        assertTrue(producer.getMaxSendLatencyMillis() >= producer.getMeanSendLatencyMillis());
+        producer.close();
+        assertTrue(mockProducer.closed());
+    }
+
+    @Test
+    void publishersShareTheProducer() {
+        SharedProducer<NotificationProcessService> producer = new SharedProducer<>("test", mockProducer);
+        Publisher<NotificationProcessService> pcePublisher = new Publisher<>("PceListener", producer);
+        Publisher<NotificationProcessService> rendererPublisher = new Publisher<>("RendererListener", producer);
+        pcePublisher.sendEvent(notification, "topic1");
+        rendererPublisher.sendEvent(notification, "topic2");
+        assertEquals(List.of("PceListener", "RendererListener"),
+            mockProducer.history().stream().map(ProducerRecord::key).toList());
+        assertFalse(mockProducer.flushed(), "Events should not be flushed one by one");
+
+        pcePublisher.close();
+        assertFalse(mockProducer.closed(), "The shared producer should only be closed by its owner");
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.common.converter.JsonStringConverter;
+import org.opendaylight.transportpce.test.AbstractTest;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationAlarmService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationProcessService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.get.notifications.process.service.output.NotificationsProcessService;
+import org.opendaylight.yangtools.binding.DataObject;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+
+public class NotificationCodecTest extends AbstractTest {
+    private static final String JSON_TOPIC = "json";
+    private static final String BINARY_TOPIC = "binary";
+
+    private <T extends DataObject> T read(QName name, String file) throws IOException {
+        return new JsonStringConverter<T>(getDataStoreContextUtil().getBindingDOMCodecServices())
+            .createDataObjectFromJsonString(YangInstanceIdentifier.of(name),
+                Files.readString(Path.of("src/test/resources/" + file)), JSONCodecFactorySupplier.RFC7951);
+    }
+
+    private <T extends DataObject> NotificationCodec<T> codec() {
+        return new NotificationCodec<>(
+            new JsonStringConverter<>(getDataStoreContextUtil().getBindingDOMCodecServices()), Set.of(BINARY_TOPIC));
+    }
+
+    private static <T extends DataObject> void assertRoundTrip(NotificationCodec<T> codec, QName name,
+            DataObjectIdentifier<T> id, T notification) throws IOException {
+        byte[] json = codec.serialize(JSON_TOPIC, id, notification);
+        byte[] binary = codec.serialize(BINARY_TOPIC, id, notification);
+        assertEquals(SerializationFormat.JSON, SerializationFormat.of(json));
+        assertEquals(SerializationFormat.BINARY, SerializationFormat.of(binary));
+        assertEquals(notification, codec.deserialize(name, json), "JSON round trip should not alter the notification");
+        assertEquals(notification, codec.deserialize(name, binary),
+            "Binary round trip should not alter the notification");
+    }
+
+    @Test
+    void processNotificationRoundTrip() throws IOException {
+        assertRoundTrip(codec(), NotificationProcessService.QNAME,
+            DataObjectIdentifier.builder(NotificationProcessService.class).build(),
+            read(NotificationProcessService.QNAME, "event.json"));
+    }
+
+    @Test
+    void alarmNotificationRoundTrip() throws IOException {
+        assertRoundTrip(codec(), NotificationAlarmService.QNAME,
+            DataObjectIdentifier.builder(NotificationAlarmService.class).build(),
+            read(NotificationAlarmService.QNAME, "event_alarm_service.json"));
+    }
+
+    @Test
+    void tapiNotificationRoundTrip() throws IOException {
+        assertRoundTrip(codec(), NotificationTapiService.QNAME,
+            DataObjectIdentifier.builder(NotificationTapiService.class).build(),
+            read(NotificationTapiService.QNAME, "tapi_event.json"));
+    }
+
+    @Test
+    void formatIsSelectedPerTopic() throws IOException {
+        JsonStringConverter<NotificationProcessService> converter =
+            new JsonStringConverter<>(getDataStoreContextUtil().getBindingDOMCodecServices());
+        Map<String, Object> configs = Map.of(ConfigConstants.CONVERTER, converter,
+            ConfigConstants.BINARY_TOPICS, "other, " + BINARY_TOPIC);
+        NotificationServiceSerializer serializer = new NotificationServiceSerializer();
+        serializer.configure(configs, false);
+        // deserializers read both formats, whatever their configuration
+        NotificationServiceDeserializer deserializer = new NotificationServiceDeserializer();
+        deserializer.configure(Map.of(ConfigConstants.CONVERTER, converter), false);
+
+        NotificationProcessService notification = read(NotificationProcessService.QNAME, "event.json");
+        byte[] json = serializer.serialize(JSON_TOPIC, notification);
+        byte[] binary = serializer.serialize(BINARY_TOPIC, notification);
+        assertEquals(SerializationFormat.JSON, SerializationFormat.of(json));
+        assertEquals(SerializationFormat.BINARY, SerializationFormat.of(binary));
+        NotificationsProcessService fromJson = deserializer.deserialize(JSON_TOPIC, json);
+        assertNotNull(fromJson);
+        assertEquals(fromJson, deserializer.deserialize(BINARY_TOPIC, binary));
+        serializer.close();
+        deserializer.close();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.nbinotifications.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.nbinotifications.producer.Publisher;
+import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.NotificationTapiService;
+
+class TopicRegistryTest {
+
+    @SuppressWarnings("unchecked")
+    private static Publisher<NotificationTapiService> publisher(Duration idleFor) {
+        Publisher<NotificationTapiService> publisher = mock(Publisher.class);
+        when(publisher.getLastActivityNanos()).thenReturn(System.nanoTime() - idleFor.toNanos());
+        return publisher;
+    }
+
+    @Test
+    void viewReflectsUpdatesWithoutBeingRepublished() {
+        TopicRegistry<NotificationTapiService> registry = TopicRegistry.unbounded();
+        Map<String, Publisher<NotificationTapiService>> view = registry.asMap();
+        Publisher<NotificationTapiService> publisher = publisher(Duration.ZERO);
+        assertTrue(registry.putIfAbsent("topic", () -> publisher));
+        assertFalse(registry.putIfAbsent("topic", () -> publisher(Duration.ZERO)),
+            "Existing topic should not be replaced");
+        assertSame(publisher, view.get("topic"));
+
+        // iterating over the view while the registry is updated works on the snapshot of the iteration start
+        registry.put("other", publisher(Duration.ZERO));
+        for (String topic : view.keySet()) {
+            registry.remove(topic);
+        }
+        assertTrue(view.isEmpty(), "All topics should be removed");
+        verify(publisher, times(1)).close();
+        assertFalse(registry.remove("topic"), "Removed topic should not be found");
+    }
+
+    @Test
+    void idleTopicsAreEvicted() {
+        TopicRegistry<NotificationTapiService> registry = new TopicRegistry<>(100, Duration.ofHours(1));
+        registry.put("idle", publisher(Duration.ofHours(2)));
+        registry.put("active", publisher(Duration.ofMinutes(1)));
+        assertEquals(List.of("idle"), registry.evictIdleTopics());
+        assertEquals(Set.of("active"), registry.asMap().keySet());
+    }
+
+    @Test
+    void leastRecentlyActiveTopicIsEvictedWhenFull() {
+        TopicRegistry<NotificationTapiService> registry = new TopicRegistry<>(2, Duration.ZERO);
+        registry.put("old", publisher(Duration.ofMinutes(10)));
+        registry.put("recent", publisher(Duration.ofMinutes(1)));
+        registry.put("recent", publisher(Duration.ZERO));
+        assertEquals(Set.of("old", "recent"), registry.asMap().keySet(), "Replacing a topic should not evict");
+        registry.put("new", publisher(Duration.ZERO));
+        assertEquals(Set.of("recent", "new"), registry.asMap().keySet());
+    }
+
+    @Test
+    void evictedTopicInUseIsRegisteredAgainOnLookup() {
+        Publisher<NotificationTapiService> reloaded = publisher(Duration.ZERO);
+        TopicRegistry<NotificationTapiService> registry = new TopicRegistry<>(1, Duration.ZERO,
+            topic -> "subscribed".equals(topic) ? reloaded : null);
+        registry.put("subscribed", publisher(Duration.ofMinutes(1)));
+        registry.put("other", publisher(Duration.ZERO));
+        assertFalse(registry.contains("subscribed"), "Least recently active topic should be evicted");
+
+        assertSame(reloaded, registry.asMap().get("subscribed"));
+        assertEquals(Set.of("subscribed"), registry.asMap().keySet());
+        assertSame(reloaded, registry.get("subscribed"));
+        assertNull(registry.get("other"), "Topic not in use should not be registered again");
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs device onboarding and offboarding tasks outside of the datastore listener thread.
+ * Tasks related to distinct nodes are processed in parallel on a bounded pool of threads, while tasks related to
+ * the same node are processed one after the other, in submission order. The queue of a node is dropped as soon as
+ * it is drained, so that nodes which are deleted or disconnected do not leave anything behind.
+ */
+public class DeviceOnboardingExecutor implements AutoCloseable {
+
+    public static final String QUEUE_STAGE = "queue";
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceOnboardingExecutor.class);
+    private static final int DEFAULT_POOL_SIZE = 8;
+
+    private final ExecutorService ownedExecutor;
+    private final Executor executor;
+    // per node, only updated through the atomic operations of the map
+    private final Map<String, NodeQueue> nodeQueues = new ConcurrentHashMap<>();
+    private final Map<String, StageStatistics> stageStatistics = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    /**
+     * Instantiate the DeviceOnboardingExecutor with its own pool of threads.
+     */
+    public DeviceOnboardingExecutor() {
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Instantiate the DeviceOnboardingExecutor with its own pool of threads.
+     *
+     * @param poolSize maximum number of nodes onboarded in parallel
+     */
+    public DeviceOnboardingExecutor(int poolSize) {
+        this.ownedExecutor = Executors.newFixedThreadPool(poolSize);
+        this.executor = ownedExecutor;
+    }
+
+    /**
+     * Specific constructor dedicated to JUnit tests.
+     *
+     * @param executor Executor running the tasks, typically a direct executor
+     */
+    @VisibleForTesting
+    public DeviceOnboardingExecutor(Executor executor) {
+        this.ownedExecutor = null;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedule a task related to a node.
+     *
+     * @param nodeId node the task relates to
+     * @param task the task to run
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void submit(String nodeId, Runnable task) {
+        long queuedAt = System.nanoTime();
+        queueDepth.incrementAndGet();
+        NodeQueue nodeQueue = nodeQueues.compute(nodeId, (k, queue) -> {
+            NodeQueue acquired = queue == null ? new NodeQueue(MoreExecutors.newSequentialExecutor(executor)) : queue;
+            acquired.pending++;
+            return acquired;
+        });
+        try {
+            nodeQueue.executor.execute(() -> {
+                record(QUEUE_STAGE, System.nanoTime() - queuedAt);
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    // Do not let a failure prevent the next tasks of the node from running
+                    LOG.error("Processing of node {} failed", nodeId, e);
+                } finally {
+                    release(nodeId);
+                    LOG.debug("Node {} processed, {} task(s) still pending", nodeId, queueDepth.decrementAndGet());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release(nodeId);
+            queueDepth.decrementAndGet();
+            LOG.error("Unable to schedule processing of node {}", nodeId, e);
+        }
+    }
+
+    private void release(String nodeId) {
+        // the queue is drained once its last task is done: the next task of the node gets a new queue
+        nodeQueues.computeIfPresent(nodeId, (k, queue) -> --queue.pending == 0 ? null : queue);
+    }
+
+    /**
+     * Run a processing stage and record its duration.
+     *
+     * @param stage name of the stage
+     * @param action the stage to run
+     * @return the result of the stage
+     */
+    public <T> T timed(String stage, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(stage, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * Run a processing stage and record its duration.
+     *
+     * @param stage name of the stage
+     * @param action the stage to run
+     */
+    public void timed(String stage, Runnable action) {
+        timed(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get the number of tasks submitted and not yet completed.
+     *
+     * @return the current queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Get the number of nodes with tasks submitted and not yet completed.
+     *
+     * @return the number of node queues
+     */
+    public int getNodeQueueCount() {
+        return nodeQueues.size();
+    }
+
+    /**
+     * Get the latency statistics recorded so far, per stage.
+     *
+     * @return an immutable copy of the statistics, the time spent waiting in the queue being reported under the
+     *     {@link #QUEUE_STAGE} stage
+     */
+    public Map<String, StageStatistics> getStageStatistics() {
+        return Map.copyOf(stageStatistics);
+    }
+
+    private void record(String stage, long durationNanos) {
+        stageStatistics.computeIfAbsent(stage, k -> new StageStatistics()).record(durationNanos);
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor == null) {
+            return;
+        }
+        ownedExecutor.shutdown();
+        try {
+            if (!ownedExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOG.warn("{} node task(s) still running, interrupting them", queueDepth.get());
+                ownedExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ownedExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Tasks of a node, run one after the other.
+     */
+    private static final class NodeQueue {
+        private final Executor executor;
+        // number of tasks submitted and not yet completed
+        private int pending;
+
+        NodeQueue(Executor executor) {
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Latency statistics of a processing stage.
+     */
+    public static final class StageStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long durationNanos) {
+            count.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+        }
+
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + getCount() + ", total=" + getTotalMillis() + "ms, max=" + getMaxMillis() + "ms";
+        }
+    }
+}
@@ -55,15 +55,22 @@ import org.slf4j.LoggerFactory;
  * This is the entry-point of TransportPCE. This class listen to the NETCONF Topology to detect new Netconf Node
  * connection to the controller. It triggers the creation of an abstracted node in the portmapping and its
  * representation in openroadm topologies.
+ * Every node modification of a change batch is handled. The onboarding itself runs on a bounded pool of threads,
+ * in parallel for distinct nodes and in order for a given node, so that the datastore listener thread is never
+ * blocked by device reads.
  */
-public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
+public class NetConfTopologyListener implements DataTreeChangeListener<Node>, AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(NetConfTopologyListener.class);
+    private static final String CREATE_NODE_STAGE = "create-node";
+    private static final String REGISTER_NODE_STAGE = "register-node";
+    private static final String DELETE_NODE_STAGE = "delete-node";
     private final NetworkModelService networkModelService;
     private final DataBroker dataBroker;
     private final DeviceTransactionManager deviceTransactionManager;
     private final Map<String, NodeRegistration> registrations;
     private final PortMapping portMapping;
+    private final DeviceOnboardingExecutor onboardingExecutor;
 
     /**
      * Instantiate the NetConfTopologyListener.
@@ -83,13 +90,20 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
         this.deviceTransactionManager = deviceTransactionManager;
         this.registrations = new ConcurrentHashMap<>();
         this.portMapping = portMapping;
+        this.onboardingExecutor = new DeviceOnboardingExecutor();
     }
 
     /** {@inheritDoc} */
     @Override
     public void onDataTreeChanged(List<DataTreeModification<Node>> changes) {
-        LOG.info("onDataTreeChanged - {}", this.getClass().getSimpleName());
-        DataObjectModification<Node> rootNode = changes.getLast().getRootNode();
+        LOG.info("onDataTreeChanged - {} - {} modification(s)", this.getClass().getSimpleName(), changes.size());
+        for (DataTreeModification<Node> change : changes) {
+            onNodeModification(change.getRootNode());
+        }
+        LOG.debug("{} node task(s) pending", onboardingExecutor.getQueueDepth());
+    }
+
+    private void onNodeModification(DataObjectModification<Node> rootNode) {
         switch (rootNode) {
             case DataObjectWritten<Node> writtenNode -> {
                 // Do nothing, just wait for the node to be connected and then process it in the DataObjectModified
@@ -100,21 +114,7 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
             }
             case DataObjectDeleted<Node> deletedNode -> {
                 String nodeId = deletedNode.dataBefore().key().getNodeId().getValue();
-                NodeDatamodelType type = null;
-                if (portMapping.getNode(nodeId) != null) {
-                    type = portMapping.getNode(nodeId).getDatamodelType();
-                }
-                if (type != null && type.getName().equalsIgnoreCase("OPENCONFIG")) {
-                    if (this.networkModelService.deleteOpenConfignode(nodeId)) {
-                        onDeviceDisConnected(nodeId);
-                        LOG.info("Device {} correctly disconnected from controller", nodeId);
-                    }
-                } else {
-                    if (this.networkModelService.deleteOpenRoadmnode(nodeId)) {
-                        onDeviceDisConnected(nodeId);
-                        LOG.info("Device {} correctly disconnected from controller", nodeId);
-                    }
-                }
+                onboardingExecutor.submit(nodeId, () -> onNodeDeleted(nodeId));
             }
             case DataObjectModified<Node> modifiedNode -> {
                 NetconfNode netconfNodeBefore = modifiedNode.dataBefore().augmentation(NetconfNodeAugment.class)
@@ -125,36 +125,7 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
                 if (ConnectionStatus.Connecting.equals(netconfNodeBefore.getConnectionStatus())
                         && ConnectionStatus.Connected.equals(netconfNodeAfter.getConnectionStatus())) {
                     LOG.info("Connecting Node: {}", nodeId);
-                    Optional<AvailableCapability> deviceCapability = netconfNodeAfter
-                            .getAvailableCapabilities().getAvailableCapability().stream()
-                                    .filter(cp -> cp.getCapability()
-                                            .contains(StringConstants.OPENROADM_DEVICE_MODEL_NAME)
-                                                && getOpenRoadmDeviceCapabilities().contains(cp.getCapability()))
-                                    .sorted((c1, c2) -> c2.getCapability().compareTo(c1.getCapability()))
-                                    .findFirst();
-                    if (!deviceCapability.isEmpty()) {
-                        this.networkModelService
-                                .createOpenRoadmNode(nodeId, deviceCapability.orElseThrow().getCapability());
-                        onDeviceConnected(nodeId, deviceCapability.orElseThrow().getCapability());
-                        LOG.info("OpenRoadm device {} correctly connected to controller", nodeId);
-                    } else {
-                        deviceCapability = netconfNodeAfter.getAvailableCapabilities().getAvailableCapability().stream()
-                                .filter(cp -> cp.getCapability()
-                                        .matches("(.*)" + StringConstants.OPENCONFIG_XPDR_DEVICE_MODEL))
-                                .sorted((c1, c2) -> c2.getCapability().compareTo(c1.getCapability()))
-                                .findFirst();
-                        if (deviceCapability.isEmpty()) {
-                            LOG.error("Unable to get openroadm-device-capability or openconfig-device-capability");
-                            return;
-                        }
-                        IpAddress ipAddress = netconfNodeAfter.getHost().getIpAddress();
-                        this.networkModelService.createOpenConfigNode(
-                                nodeId,
-                                deviceCapability.orElseThrow().getCapability(),
-                                ipAddress);
-                        onDeviceConnected(nodeId, deviceCapability.orElseThrow().getCapability());
-                        LOG.info("OpenConfig device {} correctly connected to controller", nodeId);
-                    }
+                    onboardingExecutor.submit(nodeId, () -> onNodeConnected(nodeId, netconfNodeAfter));
                 }
                 if (ConnectionStatus.Connected.equals(netconfNodeBefore.getConnectionStatus())
                         && ConnectionStatus.Connecting.equals(netconfNodeAfter.getConnectionStatus())) {
@@ -164,6 +135,71 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
         }
     }
 
+    private void onNodeDeleted(String nodeId) {
+        NodeDatamodelType type = null;
+        if (portMapping.getNode(nodeId) != null) {
+            type = portMapping.getNode(nodeId).getDatamodelType();
+        }
+        if (type != null && type.getName().equalsIgnoreCase("OPENCONFIG")) {
+            if (onboardingExecutor.timed(DELETE_NODE_STAGE,
+                    () -> this.networkModelService.deleteOpenConfignode(nodeId))) {
+                onDeviceDisConnected(nodeId);
+                LOG.info("Device {} correctly disconnected from controller", nodeId);
+            }
+        } else {
+            if (onboardingExecutor.timed(DELETE_NODE_STAGE,
+                    () -> this.networkModelService.deleteOpenRoadmnode(nodeId))) {
+                onDeviceDisConnected(nodeId);
+                LOG.info("Device {} correctly disconnected from controller", nodeId);
+            }
+        }
+    }
+
+    private void onNodeConnected(String nodeId, NetconfNode netconfNodeAfter) {
+        Optional<AvailableCapability> deviceCapability = netconfNodeAfter
+                .getAvailableCapabilities().getAvailableCapability().stream()
+                        .filter(cp -> cp.getCapability()
+                                .contains(StringConstants.OPENROADM_DEVICE_MODEL_NAME)
+                                    && getOpenRoadmDeviceCapabilities().contains(cp.getCapability()))
+                        .sorted((c1, c2) -> c2.getCapability().compareTo(c1.getCapability()))
+                        .findFirst();
+        if (!deviceCapability.isEmpty()) {
+            onboardingExecutor.timed(CREATE_NODE_STAGE, () -> this.networkModelService
+                    .createOpenRoadmNode(nodeId, deviceCapability.orElseThrow().getCapability()));
+            onboardingExecutor.timed(REGISTER_NODE_STAGE,
+                    () -> onDeviceConnected(nodeId, deviceCapability.orElseThrow().getCapability()));
+            LOG.info("OpenRoadm device {} correctly connected to controller", nodeId);
+            return;
+        }
+        Optional<AvailableCapability> ocDeviceCapability = netconfNodeAfter.getAvailableCapabilities()
+                .getAvailableCapability().stream()
+                        .filter(cp -> cp.getCapability()
+                                .matches("(.*)" + StringConstants.OPENCONFIG_XPDR_DEVICE_MODEL))
+                        .sorted((c1, c2) -> c2.getCapability().compareTo(c1.getCapability()))
+                        .findFirst();
+        if (ocDeviceCapability.isEmpty()) {
+            LOG.error("Unable to get openroadm-device-capability or openconfig-device-capability");
+            return;
+        }
+        IpAddress ipAddress = netconfNodeAfter.getHost().getIpAddress();
+        onboardingExecutor.timed(CREATE_NODE_STAGE, () -> this.networkModelService.createOpenConfigNode(
+                nodeId,
+                ocDeviceCapability.orElseThrow().getCapability(),
+                ipAddress));
+        onboardingExecutor.timed(REGISTER_NODE_STAGE,
+                () -> onDeviceConnected(nodeId, ocDeviceCapability.orElseThrow().getCapability()));
+        LOG.info("OpenConfig device {} correctly connected to controller", nodeId);
+    }
+
+    /**
+     * Stop processing node modifications. Pending onboarding tasks are given a chance to complete.
+     */
+    @Override
+    public void close() {
+        onboardingExecutor.close();
+        LOG.info("Onboarding statistics per stage: {}", onboardingExecutor.getStageStatistics());
+    }
+
     /**
      * This method is to get open roadm device capabilities supported by TPCE.
      */
@@ -233,6 +269,7 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
      * @param deviceTransactionManager Manages data transactions with the netconf devices
      * @param portMapping Store the abstraction view of the netconf device
      * @param registrations Map with all listeners registered for a netconf device
+     * @param onboardingExecutor Runs the processing of the node modifications
      */
     @VisibleForTesting
     public NetConfTopologyListener(
@@ -240,12 +277,14 @@ public class NetConfTopologyListener implements DataTreeChangeListener<Node> {
             final DataBroker dataBroker,
             DeviceTransactionManager deviceTransactionManager,
             PortMapping portMapping,
-            Map<String, NodeRegistration> registrations) {
+            Map<String, NodeRegistration> registrations,
+            DeviceOnboardingExecutor onboardingExecutor) {
         this.networkModelService = networkModelService;
         this.dataBroker = dataBroker;
         this.deviceTransactionManager = deviceTransactionManager;
         this.portMapping = portMapping;
         this.registrations = registrations;
+        this.onboardingExecutor = onboardingExecutor;
     }
 
     private boolean checkSupportedStream(
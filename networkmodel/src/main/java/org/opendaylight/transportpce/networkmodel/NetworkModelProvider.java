@@ -122,6 +122,7 @@ public class NetworkModelProvider {
         LOG.info("NetworkModelProvider Closed");
         listeners.forEach(lis -> lis.close());
         listeners.clear();
+        topologyListener.close();
         serviceHandlerListenerRegistration.close();
     }
 }
@@ -104,7 +104,10 @@ public class DeviceListener221 {
                 case "Interface":
                     String interfaceName = path.firstKeyOf(Interface.class).getName();
                     LOG.info("interface {} modified on device {}", interfaceName, this.nodeId);
-                    Mapping oldMapping2 = portMapping.getMappingFromOtsInterface(nodeId, interfaceName);
+                    Mapping otsMapping = portMapping.getMappingFromOtsInterface(nodeId, interfaceName);
+                    Mapping oldMapping2 = otsMapping == null
+                        ? portMapping.getMappingFromOmsInterface(nodeId, interfaceName)
+                        : otsMapping;
                     if (oldMapping2 == null) {
                         return;
                     }
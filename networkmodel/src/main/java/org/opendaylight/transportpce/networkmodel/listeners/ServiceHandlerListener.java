@@ -10,6 +10,7 @@ package org.opendaylight.transportpce.networkmodel.listeners;
 
 import java.util.Set;
 import org.opendaylight.mdsal.binding.api.NotificationService.CompositeListener;
+import org.opendaylight.transportpce.common.trace.RequestTrace;
 import org.opendaylight.transportpce.networkmodel.service.FrequenciesService;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.servicehandler.rev201125.ServiceRpcResultSh;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.service.types.rev250110.ServiceNotificationTypes;
@@ -88,7 +89,9 @@ public class ServiceHandlerListener {
     private void onServiceCreation(ServiceRpcResultSh notification) {
         if (notification.getAToZDirection() != null || notification.getZToADirection() != null) {
             LOG.info("Update topology with used frequency by service {}", notification.getServiceName());
-            service.allocateFrequencies(notification.getAToZDirection(), notification.getZToADirection());
+            try (RequestTrace trace = RequestTrace.start("frequency-allocation", notification.getServiceName())) {
+                service.allocateFrequencies(notification.getAToZDirection(), notification.getZToADirection());
+            }
         }
     }
 
@@ -100,7 +103,9 @@ public class ServiceHandlerListener {
         if (notification.getAToZDirection() != null || notification.getZToADirection() != null) {
             LOG.info("Update topology with no more used frequency by deleted service {}",
                     notification.getServiceName());
-            service.releaseFrequencies(notification.getAToZDirection(), notification.getZToADirection());
+            try (RequestTrace trace = RequestTrace.start("frequency-release", notification.getServiceName())) {
+                service.releaseFrequencies(notification.getAToZDirection(), notification.getZToADirection());
+            }
         }
     }
 
@@ -29,6 +29,7 @@ import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.Timeouts;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
 import org.opendaylight.transportpce.common.fixedflex.GridUtils;
+import org.opendaylight.transportpce.common.trace.RequestTrace;
 import org.opendaylight.transportpce.networkmodel.util.OpenRoadmTopology;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkmodel.rev201116.TopologyUpdateResultBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.networkmodel.rev201116.topology.update.result.TopologyChanges;
@@ -80,6 +81,7 @@ import org.slf4j.LoggerFactory;
 public class FrequenciesServiceImpl implements FrequenciesService {
 
     private static final Logger LOG = LoggerFactory.getLogger(FrequenciesServiceImpl.class);
+    private static final String STAGE = "frequencies-update";
     private final DataBroker dataBroker;
     private final AvailFreqMapsKey availFreqMapKey = new AvailFreqMapsKey(GridConstant.C_BAND);
     private final NotificationPublishService notificationPublishService;
@@ -117,7 +119,9 @@ public class FrequenciesServiceImpl implements FrequenciesService {
      */
     private void updateFrequencies(AToZDirection atoZDirection, ZToADirection ztoADirection, boolean used) {
         if (atoZDirection != null && atoZDirection.getAToZMinFrequency() != null) {
-            LOG.info("Update frequencies for a to z direction {}, used {}", atoZDirection, used);
+            LOG.info("Update frequencies for a to z direction from {} to {}, used {}",
+                    atoZDirection.getAToZMinFrequency(), atoZDirection.getAToZMaxFrequency(), used);
+            RequestTrace.current().event(STAGE, "a to z direction {}", atoZDirection);
             List<NodeIdPair> atozTpIds = getAToZTpList(atoZDirection);
             Decimal64 atozMinFrequency = atoZDirection.getAToZMinFrequency().getValue();
             Decimal64 atozMaxFrequency = atoZDirection.getAToZMaxFrequency().getValue();
@@ -137,7 +141,9 @@ public class FrequenciesServiceImpl implements FrequenciesService {
                     used);
         }
         if (ztoADirection != null && ztoADirection.getZToAMinFrequency() != null) {
-            LOG.info("Update frequencies for z to a direction {}, used {}", ztoADirection, used);
+            LOG.info("Update frequencies for z to a direction from {} to {}, used {}",
+                    ztoADirection.getZToAMinFrequency(), ztoADirection.getZToAMaxFrequency(), used);
+            RequestTrace.current().event(STAGE, "z to a direction {}", ztoADirection);
             List<NodeIdPair> ztoaTpIds = getZToATpList(ztoADirection);
             Decimal64 ztoaMinFrequency = ztoADirection.getZToAMinFrequency().getValue();
             Decimal64 ztoaMaxFrequency = ztoADirection.getZToAMaxFrequency().getValue();
@@ -764,14 +770,14 @@ public class FrequenciesServiceImpl implements FrequenciesService {
             return availFreqMapsMap;
         }
         BitSet bitSetFreq = BitSet.valueOf(availFreqMaps.getFreqMap());
-        LOG.debug(
-             "Update frequency map from index {}, to index {}, min frequency {}, max frequency {}, available {} {}",
-             beginIndex, endIndex, atozMinFrequency, atozMaxFrequency, !used, bitSetFreq);
+        RequestTrace trace = RequestTrace.current();
+        if (trace.isEnabled()) {
+            trace.event(STAGE, "Update frequency map from index {}, to index {}, min frequency {}, max frequency {},"
+                + " available {} {}", beginIndex, endIndex, atozMinFrequency, atozMaxFrequency, !used, bitSetFreq);
+        }
         //if used = true then bit must be set to false to indicate the slot is no more available
         bitSetFreq.set(beginIndex, endIndex, !used);
-        LOG.debug(
-            "Updated frequency map from index {}, to index {}, min frequency {}, max frequency {}, available {} {}",
-            beginIndex, endIndex, atozMinFrequency, atozMaxFrequency, !used, bitSetFreq);
+        trace.event(STAGE, "Updated frequency map {}", bitSetFreq);
         AvailFreqMaps updatedAvailFreqMaps = new AvailFreqMapsBuilder(availFreqMaps)
                 .setFreqMap(Arrays.copyOf(bitSetFreq.toByteArray(), GridConstant.NB_OCTECTS))
                 .build();
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.networkmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.Test;
+
+class DeviceOnboardingExecutorTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final DeviceOnboardingExecutor onboardingExecutor = new DeviceOnboardingExecutor(tasks::add);
+
+    @Test
+    void nodeQueueIsDroppedOnceDrained() {
+        List<String> processed = new ArrayList<>();
+        onboardingExecutor.submit("node1", () -> processed.add("node1-connected"));
+        onboardingExecutor.submit("node1", () -> processed.add("node1-deleted"));
+        onboardingExecutor.submit("node2", () -> processed.add("node2-connected"));
+        assertEquals(2, onboardingExecutor.getNodeQueueCount());
+        assertEquals(3, onboardingExecutor.getQueueDepth());
+
+        runPendingTasks();
+        assertEquals(3, processed.size());
+        assertTrue(processed.indexOf("node1-connected") < processed.indexOf("node1-deleted"));
+        assertEquals(0, onboardingExecutor.getNodeQueueCount());
+        assertEquals(0, onboardingExecutor.getQueueDepth());
+
+        onboardingExecutor.submit("node1", () -> processed.add("node1-reconnected"));
+        assertEquals(1, onboardingExecutor.getNodeQueueCount());
+        runPendingTasks();
+        assertEquals("node1-reconnected", processed.get(processed.size() - 1));
+        assertEquals(0, onboardingExecutor.getNodeQueueCount());
+    }
+
+    @Test
+    void failedTaskReleasesTheNodeQueue() {
+        onboardingExecutor.submit("node1", () -> {
+            throw new IllegalStateException("device unreachable");
+        });
+        runPendingTasks();
+        assertEquals(0, onboardingExecutor.getNodeQueueCount());
+        assertEquals(0, onboardingExecutor.getQueueDepth());
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
@@ -8,6 +8,8 @@
 
 package org.opendaylight.transportpce.networkmodel;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -17,7 +19,9 @@ import static org.mockito.Mockito.when;
 import static org.opendaylight.transportpce.common.StringConstants.OPENCONFIG_DEVICE_VERSION_1_9_0;
 import static org.opendaylight.transportpce.common.StringConstants.OPENROADM_DEVICE_VERSION_2_2_1;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -76,6 +80,8 @@ public class NetConfTopologyListenerTest {
     private Nodes nodes;
     @Mock
     private NodeDatamodelType nodeDatamodelType;
+    private final DeviceOnboardingExecutor onboardingExecutor =
+        new DeviceOnboardingExecutor(MoreExecutors.directExecutor());
 
     @Test
     void testOnDataTreeChangedWhenDeleteNode() {
@@ -94,7 +100,7 @@ public class NetConfTopologyListenerTest {
         when(portMapping.getNode("netconfNode1").getDatamodelType()).thenReturn(NodeDatamodelType
                 .valueOf("OPENROADM"));
         NetConfTopologyListener listener = new NetConfTopologyListener(networkModelService, dataBroker,
-            deviceTransactionManager, portMapping, registrations);
+            deviceTransactionManager, portMapping, registrations, onboardingExecutor);
         listener.onDataTreeChanged(changes);
         verify(ch, times(1)).getRootNode();
         verify(node, times(1)).dataBefore();
@@ -119,7 +125,7 @@ public class NetConfTopologyListenerTest {
         when(portMapping.getNode("netconfNode1").getDatamodelType()).thenReturn(NodeDatamodelType
                 .valueOf("OPENCONFIG"));
         NetConfTopologyListener listener = new NetConfTopologyListener(networkModelService, dataBroker,
-                deviceTransactionManager, portMapping, registrations);
+                deviceTransactionManager, portMapping, registrations, onboardingExecutor);
         listener.onDataTreeChanged(changes);
         verify(ch, times(1)).getRootNode();
         verify(node, times(1)).dataBefore();
@@ -143,7 +149,7 @@ public class NetConfTopologyListenerTest {
         when(node.dataAfter()).thenReturn(netconfNodeAfter);
 
         NetConfTopologyListener listener = new NetConfTopologyListener(networkModelService, dataBroker,
-            deviceTransactionManager, portMapping);
+            deviceTransactionManager, portMapping, new HashMap<>(), onboardingExecutor);
         listener.onDataTreeChanged(changes);
         verify(ch, times(1)).getRootNode();
         verify(node, times(2)).dataBefore();
@@ -151,6 +157,30 @@ public class NetConfTopologyListenerTest {
         verify(networkModelService, times(1)).createOpenRoadmNode(anyString(), anyString());
     }
 
+    @Test
+    void testOnDataTreeChangedWhenAddSeveralNodes() {
+        final List<DataTreeModification<Node>> changes = new ArrayList<>();
+        for (String nodeId : List.of("netconfNode1", "netconfNode2")) {
+            final DataObjectModified<Node> node = mock();
+            @SuppressWarnings("unchecked") final DataTreeModification<Node> ch = mock(DataTreeModification.class);
+            changes.add(ch);
+            when(ch.getRootNode()).thenReturn(node);
+            when(node.dataBefore()).thenReturn(
+                getNetconfNode(nodeId, ConnectionStatus.Connecting, OPENROADM_DEVICE_VERSION_2_2_1));
+            when(node.dataAfter()).thenReturn(
+                getNetconfNode(nodeId, ConnectionStatus.Connected, OPENROADM_DEVICE_VERSION_2_2_1));
+        }
+
+        NetConfTopologyListener listener = new NetConfTopologyListener(networkModelService, dataBroker,
+            deviceTransactionManager, portMapping, new HashMap<>(), onboardingExecutor);
+        listener.onDataTreeChanged(changes);
+        verify(networkModelService, times(1)).createOpenRoadmNode(eq("netconfNode1"), anyString());
+        verify(networkModelService, times(1)).createOpenRoadmNode(eq("netconfNode2"), anyString());
+        assertEquals(0, onboardingExecutor.getQueueDepth());
+        assertEquals(0, onboardingExecutor.getNodeQueueCount());
+        assertEquals(2, onboardingExecutor.getStageStatistics().get(DeviceOnboardingExecutor.QUEUE_STAGE).getCount());
+    }
+
     @Test
     void testOnDataTreeChangedWhenDisconnectingNode() {
         final DataObjectModified<Node> node = mock();
@@ -167,7 +197,7 @@ public class NetConfTopologyListenerTest {
         when(node.dataAfter()).thenReturn(netconfNodeAfter);
 
         NetConfTopologyListener listener = new NetConfTopologyListener(networkModelService, dataBroker,
-            deviceTransactionManager, portMapping);
+            deviceTransactionManager, portMapping, new HashMap<>(), onboardingExecutor);
         listener.onDataTreeChanged(changes);
         verify(ch, times(1)).getRootNode();
         verify(node, times(2)).dataBefore();
@@ -189,7 +219,7 @@ public class NetConfTopologyListenerTest {
         when(node.dataAfter()).thenReturn(netconfNode);
 
         NetConfTopologyListener listener = new NetConfTopologyListener(networkModelService, dataBroker,
-            deviceTransactionManager, portMapping);
+            deviceTransactionManager, portMapping, new HashMap<>(), onboardingExecutor);
         listener.onDataTreeChanged(changes);
         verify(ch, times(1)).getRootNode();
         verify(node, never()).dataBefore();
@@ -73,6 +73,19 @@ public class DeviceListener221Test {
         verify(portMapping, timeout(2000).times(1)).updateMapping("node1", oldMapping);
     }
 
+    @Test
+    void testOnChangeNotificationWhenOmsInterfaceUpdated() {
+        ImmutableList<Edit> editList = createEditListWithInterface();
+        when(notification.getEdit()).thenReturn(editList);
+        when(portMapping.getMappingFromOtsInterface("node1", "interface-1")).thenReturn(null);
+        when(portMapping.getMappingFromOmsInterface("node1", "interface-1")).thenReturn(oldMapping);
+
+        DeviceListener221 listener = new DeviceListener221("node1", portMapping);
+        listener.onChangeNotification(notification);
+        verify(portMapping, times(1)).getMappingFromOmsInterface("node1", "interface-1");
+        verify(portMapping, timeout(2000).times(1)).updateMapping("node1", oldMapping);
+    }
+
     @Test
     void testOnChangeNotificationWhenNoEditList() {
         when(notification.getEdit()).thenReturn(null);
@@ -45,6 +45,8 @@ import org.opendaylight.transportpce.common.device.observer.EventSubscriber;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
 import org.opendaylight.transportpce.common.mapping.MappingUtils;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.transportpce.common.openroadminterfaces.OpenRoadmInterfaces;
 import org.opendaylight.transportpce.olm.power.PowerMgmt;
 import org.opendaylight.transportpce.olm.util.NodeInterfaceKey;
@@ -73,7 +75,6 @@ import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev21
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.olm.rev210618.get.pm.output.Measurements;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.OpenroadmNodeVersion;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.MappingKey;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmLinkType;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.resource.types.rev161014.ResourceTypeEnum;
@@ -102,6 +103,12 @@ import org.slf4j.event.Level;
 @Component
 public class OlmPowerServiceImpl implements OlmPowerService {
     private static final Logger LOG = LoggerFactory.getLogger(OlmPowerServiceImpl.class);
+    private static final String OPERATION_METRIC = "transportpce_olm_operation_seconds";
+    private static final Histogram POWER_SETUP_LATENCY =
+        Metrics.histogram(OPERATION_METRIC, "operation", "power-setup");
+    private static final Histogram POWER_TURNDOWN_LATENCY =
+        Metrics.histogram(OPERATION_METRIC, "operation", "power-turndown");
+    private static final Histogram GET_PM_LATENCY = Metrics.histogram(OPERATION_METRIC, "operation", "get-pm");
     private final MappingUtils mappingUtils;
     private final OpenRoadmInterfaces openRoadmInterfaces;
     private final DataBroker dataBroker;
@@ -136,8 +143,10 @@ public class OlmPowerServiceImpl implements OlmPowerService {
             return pmOutputBuilder.build();
         }
         LOG.info("Now calling get pm data");
+        long start = System.nanoTime();
         pmOutputBuilder = OlmUtils.pmFetch(pmInput, deviceTransactionManager,
             nodeVersion);
+        GET_PM_LATENCY.recordSince(start);
         return pmOutputBuilder.build();
     }
 
@@ -171,10 +180,9 @@ public class OlmPowerServiceImpl implements OlmPowerService {
      */
     private Map<NodeInterfaceKey, List<GetPmOutput>> getPmAll(String realNodeId) {
         LOG.info(" ------ Fetching data for realNode: {} --------", realNodeId);
-        Map<MappingKey, Mapping> mappingMap = portMapping.getNode(realNodeId).getMapping();
         GetPmInput getPmInput = createPmInput(realNodeId);
         Map<String, List<GetPmOutput>> pmOutputMap = getPmAll(getPmInput);
-        Map<NodeInterfaceKey, List<GetPmOutput>> outputMap = updateKeys(pmOutputMap, realNodeId, mappingMap);
+        Map<NodeInterfaceKey, List<GetPmOutput>> outputMap = updateKeys(pmOutputMap, realNodeId);
 
         if (outputMap == null || outputMap.isEmpty()) {
             LOG.info("OTS PM not found for NodeId: {}", realNodeId);
@@ -205,7 +213,9 @@ public class OlmPowerServiceImpl implements OlmPowerService {
     public ServicePowerSetupOutput servicePowerSetup(ServicePowerSetupInput powerSetupInput) {
         Subscriber errorSubscriber = new EventSubscriber();
         ServicePowerSetupOutputBuilder powerSetupOutput = new ServicePowerSetupOutputBuilder();
+        long start = System.nanoTime();
         boolean successValPowerCalculation = powerMgmt.setPower(powerSetupInput, errorSubscriber);
+        POWER_SETUP_LATENCY.recordSince(start);
         if (successValPowerCalculation) {
             powerSetupOutput.setResult(ResponseCodes.SUCCESS_RESULT);
         } else {
@@ -224,7 +234,10 @@ public class OlmPowerServiceImpl implements OlmPowerService {
 
         ServicePowerTurndownOutputBuilder powerTurnDownOutput = new ServicePowerTurndownOutputBuilder();
         // TODO add flag or return failure instead of string
-        if (powerMgmt.powerTurnDown(powerTurndownInput)) {
+        long start = System.nanoTime();
+        boolean success = powerMgmt.powerTurnDown(powerTurndownInput);
+        POWER_TURNDOWN_LATENCY.recordSince(start);
+        if (success) {
             powerTurnDownOutput.setResult(ResponseCodes.SUCCESS_RESULT);
         } else {
             powerTurnDownOutput.setResult(ResponseCodes.FAILED_RESULT);
@@ -398,14 +411,13 @@ public class OlmPowerServiceImpl implements OlmPowerService {
      * discards the OMS entries.
      */
     private Map<NodeInterfaceKey, List<GetPmOutput>> updateKeys(Map<String, List<GetPmOutput>> outputMap,
-                                                                String realNodeId,
-                                                                Map<MappingKey, Mapping> mapping) {
+                                                                String realNodeId) {
 
         Map<NodeInterfaceKey, List<GetPmOutput>> transformed =
                 outputMap.entrySet().stream()
                         .sorted(Map.Entry.comparingByKey(Comparator.reverseOrder()))
                         .collect(Collectors.toMap(
-                                e -> replaceInterfaceWithNodeId(e.getKey(), realNodeId, mapping),
+                                e -> replaceInterfaceWithNodeId(e.getKey(), realNodeId),
                                 e -> new ArrayList<>(e.getValue()),          // defensive copy
                                 (left, right) -> {
                                     left.addAll(right);
@@ -416,18 +428,13 @@ public class OlmPowerServiceImpl implements OlmPowerService {
         return transformed;
     }
 
-    private NodeInterfaceKey replaceInterfaceWithNodeId(String key,
-                                                        String realNodeId, Map<MappingKey, Mapping> mapping) {
-        for (Entry<MappingKey, Mapping> mapEntry:mapping.entrySet()) {
-            if (hasValidInterface(mapEntry, key)) {
-                return new NodeInterfaceKey(realNodeId, mapEntry.getValue().getLogicalConnectionPoint());
-            }
+    private NodeInterfaceKey replaceInterfaceWithNodeId(String key, String realNodeId) {
+        // indexed port-mapping lookups, by supporting OTS interface first and then by supporting OMS interface
+        Mapping mapping = portMapping.getMappingFromOtsInterface(realNodeId, key);
+        if (mapping == null) {
+            mapping = portMapping.getMappingFromOmsInterface(realNodeId, key);
         }
-        return null;
-    }
-
-    private static boolean hasValidInterface(Entry<MappingKey, Mapping> mapEntry, String key) {
-        return key.equals(mapEntry.getValue().getSupportingOts()) || key.equals(mapEntry.getValue().getSupportingOms());
+        return mapping == null ? null : new NodeInterfaceKey(realNodeId, mapping.getLogicalConnectionPoint());
     }
 
     private static GetPmInput createPmInput(String realNodeId) {
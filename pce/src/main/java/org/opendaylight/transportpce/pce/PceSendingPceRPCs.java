@@ -13,6 +13,8 @@ import org.opendaylight.transportpce.common.device.observer.EventSubscriber;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.pce.constraints.OperatorConstraints;
 import org.opendaylight.transportpce.pce.constraints.PceConstraints;
@@ -23,6 +25,7 @@ import org.opendaylight.transportpce.pce.frequency.spectrum.FrequencySpectrum;
 import org.opendaylight.transportpce.pce.frequency.spectrum.index.SpectrumIndex;
 import org.opendaylight.transportpce.pce.gnpy.GnpyException;
 import org.opendaylight.transportpce.pce.gnpy.GnpyResult;
+import org.opendaylight.transportpce.pce.gnpy.GnpyTopoCache;
 import org.opendaylight.transportpce.pce.gnpy.GnpyUtilitiesImpl;
 import org.opendaylight.transportpce.pce.gnpy.consumer.GnpyConsumer;
 import org.opendaylight.transportpce.pce.graph.PceGraph;
@@ -56,6 +59,14 @@ public class PceSendingPceRPCs {
 
     /* Logging. */
     private static final Logger LOG = LoggerFactory.getLogger(PceSendingPceRPCs.class);
+    /* Duration of the path computation stages. */
+    private static final String STAGE_METRIC = "transportpce_pce_stage_seconds";
+    private static final Histogram CONSTRAINTS_STAGE = Metrics.histogram(STAGE_METRIC, "stage", "constraints");
+    private static final Histogram NETWORK_ANALYSIS_STAGE =
+        Metrics.histogram(STAGE_METRIC, "stage", "network-analysis");
+    private static final Histogram PATH_DESCRIPTION_STAGE =
+        Metrics.histogram(STAGE_METRIC, "stage", "path-description");
+    private static final Histogram GNPY_STAGE = Metrics.histogram(STAGE_METRIC, "stage", "gnpy");
     /* define procedure success (or not ). */
     private PceResult rc = new PceResult();
 
@@ -74,6 +85,7 @@ public class PceSendingPceRPCs {
     private String message;
     private String responseCode;
     private final GnpyConsumer gnpyConsumer;
+    private GnpyTopoCache gnpyTopoCache;
     private PortMapping portMapping;
     // Define the termination points whose reservation status is not taken into account during the pruning process
     private Endpoints endpoints;
@@ -116,6 +128,15 @@ public class PceSendingPceRPCs {
         this.pceOperMode = pceOperationalMode;
     }
 
+    /**
+     * Share a GNPy topology cache, to avoid extracting the GNPy topology from the datastore for every request.
+     *
+     * @param gnpyTopoCache the GNPy topology cache
+     */
+    public void setGnpyTopoCache(GnpyTopoCache gnpyTopoCache) {
+        this.gnpyTopoCache = gnpyTopoCache;
+    }
+
     public void cancelResourceReserve() {
         success = false;
         LOG.info("Wait for 10s til beginning the PCE cancelResourceReserve request");
@@ -137,7 +158,9 @@ public class PceSendingPceRPCs {
             input, endpoints);
         PceCalculation nwAnalizer = new PceCalculation(input, networkTransaction, hardConstraints, softConstraints, rc,
                 portMapping, endpoints, pceOperMode);
+        long start = System.nanoTime();
         nwAnalizer.retrievePceNetwork();
+        NETWORK_ANALYSIS_STAGE.recordSince(start);
         rc = nwAnalizer.getReturnStructure();
         String serviceType = nwAnalizer.getServiceType();
         if (!rc.getStatus()) {
@@ -199,7 +222,9 @@ public class PceSendingPceRPCs {
         PcePathDescription description = new PcePathDescription(graph.getPathAtoZ(), nwAnalizer.getAllPceLinks(), rc);
         description.setAendOperationalMode(graph.getAendOperationalMode());
         description.setZendOperationalMode(graph.getZendOperationalMode());
+        start = System.nanoTime();
         description.buildDescriptions();
+        PATH_DESCRIPTION_STAGE.recordSince(start);
         rc = description.getReturnStructure();
         if (!rc.getStatus()) {
             LOG.error("In pathComputationWithConstraints, description: result = {}", rc);
@@ -209,9 +234,11 @@ public class PceSendingPceRPCs {
 
     public void pathComputation() {
 
+        long start = System.nanoTime();
         PceConstraintsCalc constraints = new PceConstraintsCalc(input, networkTransaction);
         pceHardConstraints = constraints.getPceHardConstraints();
         pceSoftConstraints = constraints.getPceSoftConstraints();
+        CONSTRAINTS_STAGE.recordSince(start);
         pathComputationWithConstraints(pceHardConstraints, pceSoftConstraints, PceConstraintMode.Loose);
         this.success = rc.getStatus();
         this.message = rc.getMessage();
@@ -227,8 +254,9 @@ public class PceSendingPceRPCs {
             //Connect to Gnpy to check path feasibility and recompute another path in case of path non-feasibility
             try {
                 if (gnpyConsumer.isAvailable()) {
-                    GnpyUtilitiesImpl gnpy = new GnpyUtilitiesImpl(networkTransaction, input,
-                            gnpyConsumer);
+                    GnpyUtilitiesImpl gnpy = gnpyTopoCache == null
+                        ? new GnpyUtilitiesImpl(networkTransaction, input, gnpyConsumer)
+                        : new GnpyUtilitiesImpl(gnpyTopoCache, input, gnpyConsumer);
                     if (rc.getStatus() && gnpyToCheckFeasiblity(atoz,ztoa,gnpy)) {
                         setPathDescription(new PathDescriptionBuilder().setAToZDirection(atoz).setZToADirection(ztoa));
                         return;
@@ -254,7 +282,10 @@ public class PceSendingPceRPCs {
             throws GnpyException {
 
         //Call GNPy for path verification
-        if (gnpy.verifyComputationByGnpy(atoz, ztoa, pceHardConstraints)) {
+        long start = System.nanoTime();
+        boolean feasible = gnpy.verifyComputationByGnpy(atoz, ztoa, pceHardConstraints);
+        GNPY_STAGE.recordSince(start);
+        if (feasible) {
             LOG.info("In pceSendingPceRPC: the path is feasible according to Gnpy");
             gnpyAtoZ = gnpy.getGnpyAtoZ();
             gnpyZtoA = gnpy.getGnpyZtoA();
@@ -268,7 +299,9 @@ public class PceSendingPceRPCs {
         //Call GNPy in the case of non feasibility
         LOG.info("In pceSendingPceRPC: the path is not feasible according to Gnpy");
         HardConstraints gnpyPathAsHC = null;
+        long start = System.nanoTime();
         gnpyPathAsHC = gnpy.askNewPathFromGnpy(pceHardConstraints);
+        GNPY_STAGE.recordSince(start);
         if (gnpyPathAsHC == null) {
             LOG.info("In pceSendingPceRPC: GNPy failed to find another path");
             this.success = false;
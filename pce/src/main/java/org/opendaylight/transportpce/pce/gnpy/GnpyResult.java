@@ -41,13 +41,33 @@ public class GnpyResult {
     private List<String> ordNodeList = new ArrayList<>();
 
     public GnpyResult(Result result, GnpyTopoImpl gnpyTopo) throws GnpyException {
+        this(result, gnpyTopo, null);
+    }
+
+    /**
+     * Analyze the response to one of the path requests of a GNPy result.
+     *
+     * @param result the GNPy result
+     * @param gnpyTopo the topology sent to GNPy
+     * @param requestId identifier of the path request, the first response is used if null
+     * @throws GnpyException if the result has no response or no response to the path request
+     */
+    public GnpyResult(Result result, GnpyTopoImpl gnpyTopo, String requestId) throws GnpyException {
         this.ordNodeList = gnpyTopo.getElementsList();
         List<Response> responses = new ArrayList<>(result.nonnullResponse().values());
         if (responses.isEmpty()) {
             throw new GnpyException("In GnpyResult: the response from GNpy is null!");
         }
-        LOG.info("The response id is {}; ", responses.get(0).getResponseId());
-        this.response = responses.get(0);
+        if (requestId == null) {
+            this.response = responses.get(0);
+        } else {
+            this.response = responses.stream()
+                .filter(candidate -> requestId.equals(candidate.getResponseId()))
+                .findFirst()
+                .orElseThrow(() -> new GnpyException(
+                    String.format("In GnpyResult: no response from GNPy to the path request %s", requestId)));
+        }
+        LOG.info("The response id is {}; ", this.response.getResponseId());
     }
 
     public boolean getPathFeasibility() {
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.transportpce.pce.gnpy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.InstanceIdentifiers;
+import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev180226.networks.Network;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Versioned cache of the GNPy topology shared by all path computations.
+ *
+ * <p>The GNPy topology is extracted from the openroadm-topology and openroadm-network CONFIGURATION trees. It is built
+ * on first use and then reused by every request until a DataTreeChangeListener registered on these two networks
+ * reports a change, which bumps the topology version: the next request builds the topology again.
+ * Without data broker, no change can be tracked and the topology is built for every request.
+ */
+public class GnpyTopoCache implements DataTreeChangeListener<Network>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GnpyTopoCache.class);
+
+    private final NetworkTransactionService networkTransactionService;
+    private final List<Registration> registrations = new ArrayList<>();
+    // Bumped on every change notified by the datastore, to avoid caching a topology built from outdated data
+    private final AtomicLong version = new AtomicLong();
+    private GnpyTopoImpl topology;
+    private long topologyVersion;
+
+    public GnpyTopoCache(NetworkTransactionService networkTransactionService) {
+        this.networkTransactionService = networkTransactionService;
+        DataBroker dataBroker = networkTransactionService == null ? null : networkTransactionService.getDataBroker();
+        if (dataBroker != null) {
+            registrations.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+                InstanceIdentifiers.OPENROADM_TOPOLOGY_II, this));
+            registrations.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+                InstanceIdentifiers.OPENROADM_NETWORK_II, this));
+        }
+    }
+
+    @Override
+    public void onDataTreeChanged(@NonNull List<DataTreeModification<Network>> changes) {
+        long newVersion = version.incrementAndGet();
+        LOG.debug("GNPy topology outdated by {} network changes, now at version {}", changes.size(), newVersion);
+    }
+
+    /**
+     * Get the GNPy topology corresponding to the current openroadm topology.
+     *
+     * @return the topology, shared with concurrent requests and not to be modified
+     * @throws GnpyException if the topology can not be extracted
+     */
+    public GnpyTopoImpl get() throws GnpyException {
+        if (registrations.isEmpty()) {
+            return new GnpyTopoImpl(networkTransactionService);
+        }
+        synchronized (this) {
+            long currentVersion = version.get();
+            if (topology != null && topologyVersion == currentVersion) {
+                return topology;
+            }
+            GnpyTopoImpl built = new GnpyTopoImpl(networkTransactionService);
+            // A change notified while building may not be part of the topology, which must then be built again
+            if (version.get() == currentVersion) {
+                topology = built;
+                topologyVersion = currentVersion;
+                LOG.info("GNPy topology version {} built with {} elements", currentVersion,
+                    built.getElements().size());
+            }
+            return built;
+        }
+    }
+
+    /**
+     * Get the version of the topology, incremented on every change of the openroadm topology or network.
+     *
+     * @return the current version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public void close() {
+        registrations.forEach(Registration::close);
+        registrations.clear();
+        synchronized (this) {
+            topology = null;
+        }
+    }
+}
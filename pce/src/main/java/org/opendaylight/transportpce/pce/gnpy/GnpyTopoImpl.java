@@ -21,6 +21,8 @@ import java.util.stream.IntStream;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.request.Topology;
+import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.request.TopologyBuilder;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.network.topology.rev220615.Coordinate;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.network.topology.rev220615.Km;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.network.topology.rev220615.edfa.params.Operational;
@@ -63,6 +65,7 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.rev
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.Network1;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.network.topology.rev180226.networks.network.Link;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.binding.util.BindingMap;
 import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -88,6 +91,8 @@ public class GnpyTopoImpl {
     private Map<String, List<String>> mapLinkFiber = new HashMap<>();
     //List of Xponders
     private List<String> trxList = new ArrayList<>();
+    //GNPy topology container, built once and sent with every request
+    private Topology topology;
     private static final double LATITUDE = 0;
     private static final double LONGITUTE = 0;
     private static final String REGION = "N/A";
@@ -431,20 +436,37 @@ public class GnpyTopoImpl {
         return true;
     }
 
+    /**
+     * Get the topology container of the GNPy requests, built on first use from the elements and connections.
+     *
+     * @return the topology container
+     */
+    public synchronized Topology getTopology() {
+        if (topology == null) {
+            topology = new TopologyBuilder()
+                .setElements(elements.values().stream().collect(BindingMap.toMap()))
+                .setConnections(connections)
+                .build();
+        }
+        return topology;
+    }
+
     public Map<ElementsKey, Elements> getElements() {
         return elements;
     }
 
-    public void setElements(Map<ElementsKey, Elements> elements) {
+    public synchronized void setElements(Map<ElementsKey, Elements> elements) {
         this.elements = elements;
+        this.topology = null;
     }
 
     public List<Connections> getConnections() {
         return connections;
     }
 
-    public void setConnections(List<Connections> connections) {
+    public synchronized void setConnections(List<Connections> connections) {
         this.connections = connections;
+        this.topology = null;
     }
 
     public List<String> getElementsList() {
@@ -8,7 +8,6 @@
 
 package org.opendaylight.transportpce.pce.gnpy;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.pce.constraints.PceConstraints;
@@ -49,7 +48,26 @@ public class GnpyUtilitiesImpl {
     public GnpyUtilitiesImpl(NetworkTransactionService networkTransaction, PathComputationRequestInput input,
             GnpyConsumer gnpyConsumer)
         throws GnpyException {
-        this.gnpyTopo = new GnpyTopoImpl(networkTransaction);
+        this(new GnpyTopoImpl(networkTransaction), input, gnpyConsumer);
+    }
+
+    /**
+     * Instantiate the GNPy utilities with the topology of a shared cache, which is only extracted again from the
+     * datastore when the openroadm topology has changed.
+     *
+     * @param gnpyTopoCache the topology cache
+     * @param input the path computation request
+     * @param gnpyConsumer the GNPy client
+     * @throws GnpyException if the topology can not be extracted
+     */
+    public GnpyUtilitiesImpl(GnpyTopoCache gnpyTopoCache, PathComputationRequestInput input,
+            GnpyConsumer gnpyConsumer)
+        throws GnpyException {
+        this(gnpyTopoCache.get(), input, gnpyConsumer);
+    }
+
+    private GnpyUtilitiesImpl(GnpyTopoImpl gnpyTopo, PathComputationRequestInput input, GnpyConsumer gnpyConsumer) {
+        this.gnpyTopo = gnpyTopo;
         this.input = input;
         this.gnpyAtoZ = null;
         this.gnpyZtoA = null;
@@ -64,25 +82,28 @@ public class GnpyUtilitiesImpl {
             throw new GnpyException("In GnpyUtilities: the path transmitted to Gnpy is null");
         }
 
+        // Both directions are checked by a single GNPy request, so that the topology is only sent once
+        String atozRequestId = requestId.toString();
         GnpyServiceImpl gnpySvc1 = new GnpyServiceImpl(input, atoz, requestId, gnpyTopo, pceHardConstraints);
-        this.gnpyAtoZ = gnpyResponseOneDirection(gnpySvc1);
-        boolean isPcePathFeasible = false;
-        isPcePathFeasible = this.gnpyAtoZ.getPathFeasibility();
+        requestId = Uint32.valueOf((requestId.toJava()) + 1);
+        String ztoaRequestId = requestId.toString();
         GnpyServiceImpl gnpySvc2 = new GnpyServiceImpl(input, ztoa, requestId, gnpyTopo, pceHardConstraints);
-        this.gnpyZtoA = gnpyResponseOneDirection(gnpySvc2);
-        isPcePathFeasible &= this.gnpyZtoA.getPathFeasibility();
-        return isPcePathFeasible;
+        requestId = Uint32.valueOf((requestId.toJava()) + 1);
+        Result gnpyResponse = getGnpyResponse(List.of(gnpySvc1, gnpySvc2));
+        if (gnpyResponse == null) {
+            throw new GnpyException("In GnpyUtilities: no response from GNPy server");
+        }
+        this.gnpyAtoZ = new GnpyResult(gnpyResponse, gnpyTopo, atozRequestId);
+        this.gnpyAtoZ.analyzeResult();
+        this.gnpyZtoA = new GnpyResult(gnpyResponse, gnpyTopo, ztoaRequestId);
+        this.gnpyZtoA.analyzeResult();
+        return this.gnpyAtoZ.getPathFeasibility() && this.gnpyZtoA.getPathFeasibility();
     }
 
     public GnpyResult gnpyResponseOneDirection(GnpyServiceImpl gnpySvc) throws GnpyException {
         requestId = Uint32.valueOf((requestId.toJava()) + 1);
-        List<PathRequest> pathRequestList = new ArrayList<>(gnpySvc.getPathRequest().values());
-        List<Synchronization> synchronizationList = gnpySvc.getSynchronization();
         // Send the computed path to GNPY tool
-        List<Elements> elementsList = new ArrayList<>(gnpyTopo.getElements().values());
-        List<Connections> connectionsList = gnpyTopo.getConnections();
-        Result gnpyResponse = getGnpyResponse(elementsList, connectionsList, pathRequestList,
-                synchronizationList);
+        Result gnpyResponse = getGnpyResponse(List.of(gnpySvc));
         // Analyze the response
         if (gnpyResponse == null) {
             throw new GnpyException("In GnpyUtilities: no response from GNPy server");
@@ -128,6 +149,19 @@ public class GnpyUtilitiesImpl {
             .build());
     }
 
+    private Result getGnpyResponse(List<GnpyServiceImpl> gnpySvcs) {
+        // The topology container is built once per topology and shared by all the requests
+        return gnpyConsumer.computePaths(new RequestBuilder()
+            .setTopology(gnpyTopo.getTopology())
+            .setService(
+                new ServiceBuilder()
+                .setPathRequest(gnpySvcs.stream()
+                        .flatMap(gnpySvc -> gnpySvc.getPathRequest().values().stream())
+                        .collect(BindingMap.toMap()))
+                .build())
+            .build());
+    }
+
     public GnpyResult getGnpyAtoZ() {
         return gnpyAtoZ;
     }
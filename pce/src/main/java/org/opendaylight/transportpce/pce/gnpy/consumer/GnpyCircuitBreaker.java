@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.gnpy.consumer;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Availability of the GNPy server, as seen from the outcome of the requests sent to it.
+ *
+ * <p>The last known status is cached for a while, so that the status endpoint is not requested before every path
+ * computation. Consecutive failures to reach the server open the circuit: no request is sent to the server until the
+ * open duration has elapsed. The next request then decides whether the circuit is closed again or reopened.
+ */
+final class GnpyCircuitBreaker {
+    static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    static final Duration DEFAULT_STATUS_TTL = Duration.ofSeconds(10);
+    static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(60);
+
+    private static final Logger LOG = LoggerFactory.getLogger(GnpyCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long statusTtlNanos;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private int consecutiveFailures;
+    private boolean open;
+    private long openedAtNanos;
+    private Boolean status;
+    private long statusAtNanos;
+
+    GnpyCircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_STATUS_TTL, DEFAULT_OPEN_DURATION, System::nanoTime);
+    }
+
+    GnpyCircuitBreaker(int failureThreshold, Duration statusTtl, Duration openDuration, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.statusTtlNanos = statusTtl.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Check whether a request may be sent to the server.
+     *
+     * @return false while the circuit is open
+     */
+    synchronized boolean allowRequest() {
+        return !open || clock.getAsLong() - openedAtNanos >= openNanos;
+    }
+
+    /**
+     * Get the last known status of the server, if still valid.
+     *
+     * @return the status, or empty if the server must be requested
+     */
+    synchronized Optional<Boolean> getCachedStatus() {
+        if (open) {
+            return allowRequest() ? Optional.empty() : Optional.of(false);
+        }
+        return status != null && clock.getAsLong() - statusAtNanos < statusTtlNanos
+            ? Optional.of(status) : Optional.empty();
+    }
+
+    /**
+     * Record that the server answered a request.
+     */
+    synchronized void recordSuccess() {
+        if (open) {
+            LOG.info("GNPy server reachable again, closing the circuit");
+        }
+        open = false;
+        consecutiveFailures = 0;
+        setStatus(true);
+    }
+
+    /**
+     * Record that the server could not be reached.
+     */
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        setStatus(false);
+        if (open || consecutiveFailures >= failureThreshold) {
+            LOG.info("GNPy server unreachable {} times in a row, no request sent to it for {} s",
+                consecutiveFailures, Duration.ofNanos(openNanos).toSeconds());
+            open = true;
+            openedAtNanos = clock.getAsLong();
+        }
+    }
+
+    synchronized boolean isOpen() {
+        return open;
+    }
+
+    private void setStatus(boolean available) {
+        status = available;
+        statusAtNanos = clock.getAsLong();
+    }
+}
@@ -7,7 +7,7 @@
  */
 package org.opendaylight.transportpce.pce.gnpy.consumer;
 
-
+import java.util.concurrent.CompletableFuture;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.Request;
 import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.Result;
 
@@ -16,6 +16,7 @@ public interface GnpyConsumer {
 
     /**
      * Check if api is available or not.
+     * The last known status may be returned instead of requesting the api.
      * @return true os available, false otherwise.
      */
     boolean isAvailable();
@@ -25,6 +26,15 @@ public interface GnpyConsumer {
      * @param request GnpyApi.
      * @return Result the result of pat computation.
      */
-    Result computePaths(Request request);
+    default Result computePaths(Request request) {
+        return computePathsAsync(request).join();
+    }
+
+    /**
+     * Asynchronous path computation request.
+     * @param request GnpyApi.
+     * @return a future completed with the result of path computation, or with null if the computation failed.
+     */
+    CompletableFuture<Result> computePathsAsync(Request request);
 
 }
@@ -16,6 +16,9 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.opendaylight.transportpce.common.converter.JsonStringConverter;
 import org.opendaylight.yang.gen.v1.gnpy.gnpy.api.rev220221.Request;
 import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.Result;
@@ -48,11 +51,17 @@ public class GnpyConsumerImpl implements GnpyConsumer {
     private static final Logger LOG = LoggerFactory.getLogger(GnpyConsumerImpl.class);
     private static final String STATUS_ENDPOINT = "/api/v1/status";
     private static final String PATH_COMPUTATION_ENDPOINT = "/api/v1/path-computation";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(5);
+    // a hung server must fail the path computation, so that it is seen by the circuit breaker
+    private static final Duration PATH_COMPUTATION_TIMEOUT = Duration.ofSeconds(60);
     private final HttpClient client;
     private final URI statusUri;
     private final URI pathComputationUri;
     private final JsonStringConverter<Request> requestConverter;
     private final JsonStringConverter<Result> resultConverter;
+    private final GnpyCircuitBreaker circuitBreaker;
+    private final Duration pathComputationTimeout;
 
     @Activate
     public GnpyConsumerImpl(final Configuration configuration,
@@ -62,8 +71,20 @@ public class GnpyConsumerImpl implements GnpyConsumer {
 
     public GnpyConsumerImpl(String baseUrl, String username, String password,
             BindingDOMCodecServices bindingDOMCodecServices) {
+        this(baseUrl, username, password, bindingDOMCodecServices, new GnpyCircuitBreaker());
+    }
+
+    GnpyConsumerImpl(String baseUrl, String username, String password,
+            BindingDOMCodecServices bindingDOMCodecServices, GnpyCircuitBreaker circuitBreaker) {
+        this(baseUrl, username, password, bindingDOMCodecServices, circuitBreaker, PATH_COMPUTATION_TIMEOUT);
+    }
+
+    GnpyConsumerImpl(String baseUrl, String username, String password,
+            BindingDOMCodecServices bindingDOMCodecServices, GnpyCircuitBreaker circuitBreaker,
+            Duration pathComputationTimeout) {
         LOG.info("baseUrl: {}, username: {}, password: {}", baseUrl, username, password);
         this.client = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
                 .authenticator(new Authenticator() {
                     @Override
                     protected PasswordAuthentication getPasswordAuthentication() {
@@ -74,6 +95,8 @@ public class GnpyConsumerImpl implements GnpyConsumer {
                 }).build();
         this.statusUri = URI.create(baseUrl + STATUS_ENDPOINT);
         this.pathComputationUri = URI.create(baseUrl + PATH_COMPUTATION_ENDPOINT);
+        this.circuitBreaker = circuitBreaker;
+        this.pathComputationTimeout = pathComputationTimeout;
         requestConverter = new JsonStringConverter<>(bindingDOMCodecServices);
         resultConverter = new JsonStringConverter<>(bindingDOMCodecServices);
     }
@@ -85,21 +108,35 @@ public class GnpyConsumerImpl implements GnpyConsumer {
 
     @Override
     public boolean isAvailable() {
+        // The status is only requested when the last known one is outdated, and not while the circuit is open
+        Optional<Boolean> cachedStatus = circuitBreaker.getCachedStatus();
+        if (cachedStatus.isPresent()) {
+            LOG.debug("GNPy available {} (cached)", cachedStatus.orElseThrow());
+            return cachedStatus.orElseThrow();
+        }
         try {
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(statusUri)
+                    .timeout(STATUS_TIMEOUT)
                     .GET()
                     .build();
 
             HttpResponse<String> response = client.send(request,
                     HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
             LOG.info("GNPy available {}", response.statusCode() == 200);
-            return response.statusCode() == 200;
+            if (response.statusCode() == 200) {
+                circuitBreaker.recordSuccess();
+                return true;
+            }
+            circuitBreaker.recordFailure();
+            return false;
         } catch (ConnectException e) {
             LOG.info("Connection to GNPy refused or server simply not available: {}", e.getMessage());
+            circuitBreaker.recordFailure();
             return false;
         } catch (IOException e) {
             LOG.info("GNPy is not available ", e);
+            circuitBreaker.recordFailure();
             return false;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -108,39 +145,57 @@ public class GnpyConsumerImpl implements GnpyConsumer {
     }
 
     @Override
-    public Result computePaths(final Request request) {
+    public CompletableFuture<Result> computePathsAsync(final Request request) {
+        if (!circuitBreaker.allowRequest()) {
+            LOG.info("GNPy is not available, path computation request not sent");
+            return CompletableFuture.completedFuture(null);
+        }
+        String requestBody;
         try {
-            String requestBody = requestConverter.createJsonStringFromDataObject(
+            requestBody = requestConverter.createJsonStringFromDataObject(
                             DataObjectIdentifier.builder(Request.class).build(),
                             request,
                             JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02)
                     .replace("gnpy-network-topology:", "");
-            LOG.info("requestbody = {}", requestBody);
-
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(pathComputationUri)
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .build();
-            httpRequest.headers().map().forEach((k, v) -> LOG.info("header {}: {}", k, v));
-            HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            LOG.info("response = {}", response);
+        } catch (IOException e) {
+            LOG.info("Something went wrong while requesting GNPy ", e);
+            return CompletableFuture.completedFuture(null);
+        }
+        LOG.debug("requestbody = {}", requestBody);
 
-            if (response.statusCode() == 201) {
-                LOG.info("response body = {}", response.body());
+        HttpRequest httpRequest = HttpRequest.newBuilder()
+                .uri(pathComputationUri)
+                .timeout(pathComputationTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
+                .build();
+        return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+            .handle((response, error) -> {
+                if (error != null) {
+                    LOG.info("Something went wrong while requesting GNPy ", error);
+                    circuitBreaker.recordFailure();
+                    return null;
+                }
+                // Any answer, even an error, shows that the server is reachable
+                circuitBreaker.recordSuccess();
+                LOG.info("response = {}", response);
+                if (response.statusCode() != 201) {
+                    LOG.info("Error response: {}", response.body());
+                    return null;
+                }
+                LOG.debug("response body = {}", response.body());
                 return resultConverter.createDataObjectFromJsonString(YangInstanceIdentifier.of(Result.QNAME),
                         response.body(),
                         JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02);
-            } else {
-                LOG.info("Error response: {}", response.body());
-                return null;
-            }
-        } catch (IOException e) {
-            LOG.info("Something went wrong while requesting GNPy ", e);
-            return null;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return null;
-        }
+            });
+    }
+
+    /**
+     * Check whether requests are currently not sent to GNPy because it has not been reachable for a while.
+     *
+     * @return true if the circuit breaker is open
+     */
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
     }
 }
@@ -27,7 +27,10 @@ import org.opendaylight.transportpce.common.ResponseCodes;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.device.observer.Ignore;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.common.trace.RequestTrace;
 import org.opendaylight.transportpce.pce.constraints.PceConstraints;
 import org.opendaylight.transportpce.pce.input.ClientInput;
 import org.opendaylight.transportpce.pce.networkanalyzer.PceLink;
@@ -46,6 +49,11 @@ import org.slf4j.LoggerFactory;
 public class PceGraph {
     /* Logging. */
     private static final Logger LOG = LoggerFactory.getLogger(PceGraph.class);
+    private static final String STAGE_METRIC = "transportpce_pce_stage_seconds";
+    private static final Histogram GRAPH_BUILD_STAGE = Metrics.histogram(STAGE_METRIC, "stage", "graph-build");
+    private static final Histogram K_SHORTEST_PATHS_STAGE =
+        Metrics.histogram(STAGE_METRIC, "stage", "k-shortest-paths");
+    private static final Histogram PATH_VALIDATION_STAGE = Metrics.histogram(STAGE_METRIC, "stage", "path-validation");
 
     ////////////////////////// for Graph ///////////////////////////
     // how many paths to bring
@@ -106,22 +114,29 @@ public class PceGraph {
     public boolean calcPath(Subscriber errorSubscriber) {
 
         LOG.info(" In PCE GRAPH calcPath : K SHORT PATHS algorithm ");
+        RequestTrace trace = RequestTrace.current();
 
+        long start = System.nanoTime();
         Graph<String, PceGraphEdge> weightedGraph =
                 new DefaultDirectedWeightedGraph<>(PceGraphEdge.class);
         populateWithNodes(weightedGraph);
         populateWithLinks(weightedGraph);
+        GRAPH_BUILD_STAGE.recordSince(start);
 
-        LOG.info(" InPCEGRAPHLine112 calcPath weightedGraph is {}", weightedGraph);
-        if (!runKgraphs(weightedGraph)) {
+        trace.event("graph-build", "weighted graph {}", weightedGraph);
+        start = System.nanoTime();
+        boolean pathsFound = runKgraphs(weightedGraph);
+        K_SHORTEST_PATHS_STAGE.recordSince(start);
+        if (!pathsFound) {
             LOG.error("In calcPath : pceResult {}", pceResult);
             return false;
         }
         // validate found paths
+        start = System.nanoTime();
         pceResult.error();
         for (Entry<Integer, GraphPath<String, PceGraphEdge>> entry : allWPaths.entrySet()) {
             GraphPath<String, PceGraphEdge> path = entry.getValue();
-            LOG.info("validating path n° {} - {}", entry.getKey(), path.getVertexList());
+            trace.event("path-validation", "validating path n° {} - {}", entry.getKey(), path.getVertexList());
             PostAlgoPathValidator papv = new PostAlgoPathValidator(
                     networkTransactionService,
                     spectrumConstraint,
@@ -133,11 +148,13 @@ public class PceGraph {
             this.aendOperationalMode = papv.getAendOperationalMode();
             this.zendOperationalMode = papv.getZendOperationalMode();
             if (ResponseCodes.RESPONSE_OK.equals(pceResult.getResponseCode())) {
-                LOG.info("Path is validated");
+                trace.event("path-validation", "path n° {} is validated", entry.getKey());
             } else {
                 errorSubscriber.error(pceResult.getMessage());
                 LOG.warn("In calcPath: post algo validations DROPPED the path {}; for following cause: {}",
                     path, pceResult.getLocalCause());
+                Metrics.counter("transportpce_pce_rejected_paths_total", "cause",
+                    pceResult.getLocalCause() == null ? "UNKNOWN" : pceResult.getLocalCause().name()).increment();
                 continue;
             }
 
@@ -173,6 +190,7 @@ public class PceGraph {
             break;
 
         }
+        PATH_VALIDATION_STAGE.recordSince(start);
 
         if (shortestPathAtoZ != null) {
             LOG.info("In calcPath CHOOSEN PATH for wl [{}], min freq {}, max freq {}, hops {}, path AtoZ {}",
@@ -195,22 +213,22 @@ public class PceGraph {
             }
             return false;
         }
-        LOG.info(" In runKgraphs : weighted graph is : {}", weightedGraph);
+        RequestTrace trace = RequestTrace.current();
         PathValidator<String, PceGraphEdge> wpv = new InAlgoPathValidator();
 
         // YenShortestPath on weightedGraph
         YenKShortestPath<String, PceGraphEdge> swp = new YenKShortestPath<>(weightedGraph, wpv);
         List<GraphPath<String, PceGraphEdge>> weightedPathList;
-        LOG.info("kpathsToBring : {}", kpathsToBring);
+        trace.event("k-shortest-paths", "kpathsToBring : {}", kpathsToBring);
         if (apceNode.getNodeUuid() == null && zpceNode.getNodeUuid() == null) {
             weightedPathList = swp
                 .getPaths(apceNode.getNodeId().getValue(), zpceNode.getNodeId().getValue(), kpathsToBring);
         } else {
-            LOG.info("in Pce Graph RunKGraph line201, search for a path between :{} AND {}",
+            trace.event("k-shortest-paths", "search for a path between {} and {}",
                 apceNode.getNodeUuid().getValue(), zpceNode.getNodeUuid().getValue());
             weightedPathList = swp
                 .getPaths(apceNode.getNodeUuid().getValue(), zpceNode.getNodeUuid().getValue(), kpathsToBring);
-            LOG.info("in Pce Graph RunKGraph line204, weighted path list :{} ", weightedPathList);
+            trace.event("k-shortest-paths", "weighted path list {}", weightedPathList);
         }
         allWPaths = IntStream
             .range(0, weightedPathList.size())
@@ -224,9 +242,11 @@ public class PceGraph {
             return false;
         }
 
-        // debug print
-        allWPaths
-            .forEach((k, v) -> LOG.info("path n° {} - weight: {} - path: {}", k, v.getWeight(), v.getVertexList()));
+        LOG.debug("In runKgraphs : algorithm found {} paths", allWPaths.size());
+        if (trace.isEnabled()) {
+            allWPaths.forEach((k, v) -> trace.event("k-shortest-paths", "path n° {} - weight: {} - path: {}", k,
+                v.getWeight(), v.getVertexList()));
+        }
         return true;
     }
 
@@ -243,28 +263,33 @@ public class PceGraph {
             LOG.error("In addLinkToGraph link dest node is null : {}", pcelink);
             return false;
         }
-        LOG.info("In addLinkToGraphLine 237 validated link between nodes : {} & {} of type {} and Uuid {}",
-            source.getNodeId(), dest.getNodeId(), pcelink.getlinkType(), pcelink.getLinkId());
+        RequestTrace trace = RequestTrace.current();
+        if (trace.isEnabled()) {
+            trace.event("graph-build", "validated link between nodes {} & {} of type {} and id {}",
+                source.getNodeId(), dest.getNodeId(), pcelink.getlinkType(), pcelink.getLinkId());
+        }
         return true;
     }
 
     private void populateWithNodes(Graph<String, PceGraphEdge> weightedGraph) {
+        RequestTrace trace = RequestTrace.current();
         Iterator<Map.Entry<NodeId, PceNode>> nodes = allPceNodes.entrySet().iterator();
         while (nodes.hasNext()) {
             Map.Entry<NodeId, PceNode> node = nodes.next();
             if (node.getValue().getState() != null && State.InService.equals(node.getValue().getState())) {
                 weightedGraph.addVertex(node.getValue().getNodeId().getValue());
-                LOG.info("In populateWithNodes add to Vertices node :  {}", node.getValue().getNodeId());
+                trace.event("graph-build", "add to vertices node {}", node.getValue().getNodeId());
             } else if (node.getValue().getOperationalState() != null
                 && OperationalState.ENABLED.equals(node.getValue().getOperationalState())) {
                 weightedGraph.addVertex(node.getValue().getNodeUuid().getValue());
-                LOG.info("In populateWithNodes add to Vertices tapi node :  {} of Uuid {}",
+                trace.event("graph-build", "add to vertices tapi node {} of Uuid {}",
                     node.getValue().getNodeId(), node.getValue().getNodeUuid());
             }
         }
     }
 
     private boolean populateWithLinks(Graph<String, PceGraphEdge> weightedGraph) {
+        RequestTrace trace = RequestTrace.current();
 
         Iterator<Map.Entry<NodeId, PceNode>> nodes = allPceNodes.entrySet().iterator();
         while (nodes.hasNext()) {
@@ -281,12 +306,11 @@ public class PceGraph {
             LOG.debug("In Graph populateWithLinks: use node for graph {}", pcenode);
 
             for (PceLink link : links) {
-                LOG.info("In Graph populateWithLinks node {} : add edge to graph {}",
-                    pcenode.getNodeId(), link.getLinkId());
+                trace.event("graph-build", "node {} : add edge to graph {}", pcenode.getNodeId(), link.getLinkId());
 
                 if (!validateLinkforGraph(link)) {
-                    LOG.info("PceGraph populateWithLinks Line279: Link {} of type {} is not valid",
-                        link.getLinkId(), link.getlinkType());
+                    trace.event("graph-build", "link {} of type {} is not valid", link.getLinkId(),
+                        link.getlinkType());
                     continue;
                 }
                 PceGraphEdge graphLink = new PceGraphEdge(link);
@@ -294,7 +318,7 @@ public class PceGraph {
                 weightedGraph.addEdge(link.getSourceId(), link.getDestId(), graphLink);
 
                 weightedGraph.setEdgeWeight(graphLink, chooseWeight(link));
-                LOG.info("In Graph populateWithLinks added Edge :  {}", link.getLinkId());
+                trace.event("graph-build", "added edge {}", link.getLinkId());
             }
         }
         return true;
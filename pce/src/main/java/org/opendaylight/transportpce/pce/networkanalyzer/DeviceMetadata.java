@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.networkanalyzer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.transportpce.common.mapping.MappingUtilsImpl;
+import org.opendaylight.transportpce.pce.node.mccapabilities.McCapability;
+import org.opendaylight.transportpce.pce.node.mccapabilities.NodeMcCapability;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilities;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.Nodes;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.nodes.NodeInfo;
+
+/**
+ * Device level information needed to validate the openroadm-topology nodes of a device.
+ *
+ * <p>The version and the MC capabilities are extracted once from the port-mapping of the device, so that the
+ * validation of each of its degrees, SRGs or xponders does not require any further datastore read.
+ */
+final class DeviceMetadata {
+
+    static final DeviceMetadata UNKNOWN = new DeviceMetadata(null, List.of());
+
+    private final String nodeVersion;
+    private final List<McCapabilities> mcCapabilities;
+    private final Map<String, McCapability> mcCapabilityByModule = new ConcurrentHashMap<>();
+
+    private DeviceMetadata(String nodeVersion, List<McCapabilities> mcCapabilities) {
+        this.nodeVersion = nodeVersion;
+        this.mcCapabilities = mcCapabilities;
+    }
+
+    /**
+     * Extract the metadata of a device from its port-mapping.
+     *
+     * @param deviceNodeId openroadm-network level node identifier
+     * @param node port-mapping of the device, may be null
+     * @return the device metadata, {@link #UNKNOWN} if the device has no port-mapping
+     */
+    static DeviceMetadata of(String deviceNodeId, Nodes node) {
+        if (node == null || node.getNodeInfo() == null) {
+            return UNKNOWN;
+        }
+        NodeInfo nodeInfo = node.getNodeInfo();
+        String nodeVersion = MappingUtilsImpl.toOpenRoadmVersion(deviceNodeId, nodeInfo);
+        if (nodeVersion == null) {
+            nodeVersion = MappingUtilsImpl.toOpenConfigVersion(deviceNodeId, nodeInfo);
+        }
+        return new DeviceMetadata(nodeVersion, List.copyOf(node.nonnullMcCapabilities().values()));
+    }
+
+    /**
+     * Get the OpenROADM or OpenConfig version of the device.
+     *
+     * @return the device version or null if the device is neither a managed OpenROADM nor OpenConfig device
+     */
+    String getNodeVersion() {
+        return nodeVersion;
+    }
+
+    /**
+     * Get the mc capability of an openroadm-topology node of the device.
+     *
+     * @param nodeId openroadm-topology level node identifier, ending with DEGx or SRGx or XPDRx
+     * @return mc capability
+     */
+    McCapability getMcCapability(String nodeId) {
+        String[] params = nodeId.split("-");
+        // DEGx or SRGx or XPDRx
+        String moduleName = params[params.length - 1];
+        return mcCapabilityByModule.computeIfAbsent(moduleName, this::findMcCapability);
+    }
+
+    private McCapability findMcCapability(String moduleName) {
+        for (McCapabilities mcCapabitility : mcCapabilities) {
+            if (mcCapabitility.getMcNodeName().contains("XPDR")
+                    || mcCapabitility.getMcNodeName().contains(moduleName)) {
+                return new NodeMcCapability(mcCapabitility);
+            }
+        }
+        return new NodeMcCapability();
+    }
+}
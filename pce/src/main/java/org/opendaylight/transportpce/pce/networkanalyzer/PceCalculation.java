@@ -25,22 +25,20 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.device.observer.EventSubscriber;
 import org.opendaylight.transportpce.common.device.observer.Subscriber;
-import org.opendaylight.transportpce.common.mapping.MappingUtils;
-import org.opendaylight.transportpce.common.mapping.MappingUtilsImpl;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.common.service.ServiceTypes;
+import org.opendaylight.transportpce.common.trace.RequestTrace;
 import org.opendaylight.transportpce.pce.PceComplianceCheck;
 import org.opendaylight.transportpce.pce.PceSendingPceRPCs;
 import org.opendaylight.transportpce.pce.constraints.PceConstraints;
 import org.opendaylight.transportpce.pce.networkanalyzer.port.Factory;
 import org.opendaylight.transportpce.pce.networkanalyzer.port.Preference;
 import org.opendaylight.transportpce.pce.networkanalyzer.port.PreferenceFactory;
-import org.opendaylight.transportpce.pce.node.mccapabilities.McCapability;
 import org.opendaylight.transportpce.pce.node.mccapabilities.NodeMcCapability;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.PathComputationRequestInput;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.path.computation.reroute.request.input.Endpoints;
-import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilities;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilitiesBuilder;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilitiesKey;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
@@ -86,6 +84,12 @@ import org.slf4j.event.Level;
 public class PceCalculation {
     /* Logging. */
     private static final Logger LOG = LoggerFactory.getLogger(PceCalculation.class);
+    private static final String STAGE = "network-analysis";
+    private static final String NODES_METRIC = "transportpce_pce_analyzed_nodes_total";
+    private static final String LINKS_METRIC = "transportpce_pce_analyzed_links_total";
+    private static final String OUTCOME = "outcome";
+    private static final String RETAINED = "retained";
+    private static final String PRUNED = "pruned";
     private NetworkTransactionService networkTransactionService;
 
     ///////////// data parsed from Input/////////////////
@@ -154,7 +158,8 @@ public class PceCalculation {
         NONE, HARD_EXCLUDE, HARD_INCLUDE, HARD_DIVERSITY, SOFT_EXCLUDE, SOFT_INCLUDE, SOFT_DIVERSITY;
     }
 
-    private MappingUtils mappingUtils;
+    // Device metadata resolved once per device for the whole network analysis
+    private final Map<String, DeviceMetadata> deviceMetadata = new HashMap<>();
     public TapiMapUtils tapiMappingUtils;
 
     public PceCalculation(PathComputationRequestInput input, NetworkTransactionService networkTransactionService,
@@ -164,7 +169,6 @@ public class PceCalculation {
         this.networkTransactionService = networkTransactionService;
         this.returnStructure = rc;
         this.pceHardConstraints = pceHardConstraints;
-        this.mappingUtils = new MappingUtilsImpl(networkTransactionService.getDataBroker());
         this.tapiMappingUtils = new TapiMapUtils(networkTransactionService.getDataBroker());
         LOG.debug("instancing TapiMapUtils {}", tapiMappingUtils.getClass());
         this.portMapping = portMapping;
@@ -180,7 +184,6 @@ public class PceCalculation {
         this.networkTransactionService = networkTransactionService;
         this.returnStructure = rc;
         this.pceHardConstraints = pceHardConstraints;
-        this.mappingUtils = new MappingUtilsImpl(networkTransactionService.getDataBroker());
         this.tapiMappingUtils = new TapiMapUtils(networkTransactionService.getDataBroker());
         LOG.debug("instancing TapiMapUtils {}", tapiMappingUtils.getClass());
         this.portMapping = portMapping;
@@ -206,6 +209,7 @@ public class PceCalculation {
                 return;
             }
             printNodesInfo(allPceNodes);
+            countPruning(allTapiNodes.size(), allTapiLinks.size());
             returnStructure.success();
         } else {
             if (!readMdSal(subscriber)) {
@@ -218,11 +222,19 @@ public class PceCalculation {
                 return;
             }
             printNodesInfo(allPceNodes);
+            countPruning(allNodes.size(), allLinks.size());
             returnStructure.success();
         }
 
     }
 
+    private void countPruning(int nodes, int links) {
+        Metrics.counter(NODES_METRIC, OUTCOME, RETAINED).add(allPceNodes.size());
+        Metrics.counter(NODES_METRIC, OUTCOME, PRUNED).add(Math.max(0, nodes - allPceNodes.size()));
+        Metrics.counter(LINKS_METRIC, OUTCOME, RETAINED).add(allPceLinks.size());
+        Metrics.counter(LINKS_METRIC, OUTCOME, PRUNED).add(Math.max(0, links - allPceLinks.size()));
+    }
+
     private boolean parseInput() {
         if (!PceComplianceCheck.checkString(input.getServiceAEnd().getServiceFormat().getName())
                 || !PceComplianceCheck.checkString(input.getServiceZEnd().getServiceFormat().getName())
@@ -343,7 +355,7 @@ public class PceCalculation {
                         String val2 = l2.getSource() != null ? l2.getSource().getSourceTp().getValue() : "";
                         return val1.compareTo(val2);
                     }).collect(Collectors.toList());
-            LOG.info("allLinks {}", allLinks);
+            RequestTrace.current().event(STAGE, "allLinks {}", allLinks);
         }
         if (allNodes == null || allNodes.isEmpty()) {
             LOG.error("PceCalculation:readMdSal: no nodes ");
@@ -489,7 +501,7 @@ public class PceCalculation {
                 .collect(Collectors.toList());
         for (org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Link tapiLink: linkList) {
             Map<Uuid, Uuid> linkKey = new HashMap<>();
-            LOG.info("PceCalculation:readTapiTopology , Add Link {} to allTapiLink", tapiLink.getName());
+            RequestTrace.current().event(STAGE, "readTapiTopology : add link {} to allTapiLink", tapiLink.getName());
             linkKey.put(tapiLink.getUuid(), topoUuid);
             allTapiLinks.put(linkKey, tapiLink);
         }
@@ -553,7 +565,7 @@ public class PceCalculation {
                     validateOtnNode(node);
                 }
 
-                LOG.info("analyzeNw: allPceNodes {}", allPceNodes);
+                RequestTrace.current().event(STAGE, "analyzeNw: allPceNodes {}", allPceNodes);
 
                 if (aendPceNode == null || zendPceNode == null) {
                     LOG.error("PceCalculation:analyzeNw : Error reading nodes: A or Z do not present in the network");
@@ -595,13 +607,16 @@ public class PceCalculation {
 
         LOG.info("PceCalculation:analyzeTapiNw: allTapiNodes size {}, allLinks size {}",
             allTapiNodes.size(), allTapiLinks.size());
-        LOG.info("PceCalculation:analyzeTapiNw : allTapiNodes contains {}, allLinks size contains {}",
-            allTapiNodes.values().stream()
-                .map(org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Node::getName)
-                .collect(Collectors.toList()),
-            allTapiLinks.values().stream()
-            .map(org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Link::getName)
-            .collect(Collectors.toList()));
+        RequestTrace trace = RequestTrace.current();
+        if (trace.isEnabled()) {
+            trace.event(STAGE, "analyzeTapiNw : allTapiNodes contains {}, allLinks contains {}",
+                allTapiNodes.values().stream()
+                    .map(org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Node::getName)
+                    .collect(Collectors.toList()),
+                allTapiLinks.values().stream()
+                    .map(org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Link::getName)
+                    .collect(Collectors.toList()));
+        }
         LOG.info("PceCalculation:analyzeTapiNw : ServiceType = {}", serviceType);
         switch (serviceType) {
             case StringConstants.SERVICE_TYPE_100GE_T:
@@ -677,8 +692,7 @@ public class PceCalculation {
                     }
                     return false;
                 }
-                LOG.info("PceCalculation:AnalyzeTapiNW): entering validation process for connections : {}",
-                    allCons);
+                trace.event(STAGE, "analyzeTapiNw : entering validation process for connections {}", allCons);
                 for (Map.Entry<Uuid, Connection> connection : allCons.entrySet()) {
                     validateTapiCons(connection.getValue());
                 }
@@ -686,9 +700,7 @@ public class PceCalculation {
         }
 
         LOG.info("analyzeNw: allPceNodes size {}, allPceLinks size {}", allPceNodes.size(), allPceLinks.size());
-        LOG.info("analyzeNw: allPceLinks {}",
-            allPceLinks.entrySet().stream().map(Map.Entry::getValue).collect(Collectors.toList()).stream()
-            .map(PceLink::toString).collect(Collectors.toList()));
+        trace.event(STAGE, "analyzeTapiNw : allPceLinks {}", allPceLinks.values());
 
         if ((allPceNodes.size() == 0) || (allPceLinks.size() == 0)) {
             if (allPceNodes.size() == 0) {
@@ -801,7 +813,8 @@ public class PceCalculation {
         // that should have identified Source and Dest.
         allPceLinks.put(new LinkId(pcelink.getLinkId()), pcelink);
         allPceNodes.get(sourceNodeId).addOutgoingLink(pcelink);
-        LOG.info("analyzeTapiNw828: Express_LINK added to source and to allPceLinks {}", pcelink.getLinkId());
+        RequestTrace.current().event(STAGE, "analyzeTapiNw : Express_LINK added to source and to allPceLinks {}",
+            pcelink.getLinkId());
         return true;
     }
 
@@ -941,7 +954,8 @@ public class PceCalculation {
                     connection.getName(), OperationalState.DISABLED);
             return false;
         }
-        LOG.info("validateTapiCons: calling processPceTapiOtnLink for connection {}", connection.getName());
+        RequestTrace.current().event(STAGE, "validateTapiCons: calling processPceTapiOtnLink for connection {}",
+            connection.getName());
         return processPceTapiOtnLink(new TopologyKey(connection.getConnectionEndPoint().entrySet().stream()
                 .findFirst().orElseThrow().getKey().getTopologyUuid()), connection, source, dest);
     }
@@ -968,19 +982,16 @@ public class PceCalculation {
         }
 
         LOG.debug("PceCalculation:validateNode : Device node id {} for {}", deviceNodeId, node);
-        String nodeVersion;
-        if (mappingUtils.getOpenRoadmVersion(deviceNodeId) != null) {
-            nodeVersion = mappingUtils.getOpenRoadmVersion(deviceNodeId);
-        } else if (mappingUtils.getOpenConfigVersion(deviceNodeId) != null) {
-            nodeVersion = mappingUtils.getOpenConfigVersion(deviceNodeId);
-        } else {
+        DeviceMetadata metadata = deviceMetadata(deviceNodeId);
+        String nodeVersion = metadata.getNodeVersion();
+        if (nodeVersion == null) {
             LOG.warn("PceCalculation:validateNode ; Unmanaged node {} which is of neither OpenROADM nor OpenConfig"
                 + " managed version", deviceNodeId);
             return;
         }
         OpenroadmNodeType nodeType = node1.getNodeType();
         PceOpticalNode pceNode = new PceOpticalNode(deviceNodeId, this.serviceType, portMapping, node, nodeType,
-            nodeVersion, mcCapabilities(deviceNodeId, node.getNodeId()));
+            nodeVersion, metadata.getMcCapability(node.getNodeId().getValue()));
 
         if (endpoints != null) {
             pceNode.setEndpoints(endpoints);
@@ -1210,7 +1221,7 @@ public class PceCalculation {
             this.zendPceNode = pceOtnNode;
         }
         allPceNodes.put(pceOtnNode.getNodeId(), pceOtnNode);
-        LOG.info("PceCalculation:validateOtnNode : node {} is saved", node.getNodeId().getValue());
+        RequestTrace.current().event(STAGE, "validateOtnNode : node {} is saved", node.getNodeId().getValue());
     }
 
 
@@ -1275,7 +1286,7 @@ public class PceCalculation {
         }
         allPceNodes.put(new NodeId(otnNode.getNodeUuid().getValue()), otnNode);
         this.uuidToNodeId.put(otnNode.getNodeUuid(), otnNode.getNodeId());
-        LOG.info("PceCalculation:validateTapiOtnNode : node {} is saved", node.getName());
+        RequestTrace.current().event(STAGE, "validateTapiOtnNode : node {} is saved", node.getName());
     }
 
     private ConstraintTypes validateNodeConstraints(PceNode pcenode) {
@@ -1407,10 +1418,8 @@ public class PceCalculation {
                 this.azSrgs.add(nodeId);
                 break;
             case XPONDER:
-                LOG.info("endTapiPceNode 1317: Xponder pceNodeId {}", pceNode.getNodeId().getValue());
-                LOG.info("endTapiPceNode 1318: Xponder pceNodeUuid {}", pceNode.getNodeUuid().getValue());
-                LOG.info("endTapiPceNode 1319: Input.serviceAend nodeId {}", this.input.getServiceAEnd().getNodeId());
-                LOG.info("endTapiPceNode 1320: Input.serviceZend nodeId {}", this.input.getServiceZEnd().getNodeId());
+                RequestTrace.current().event(STAGE, "endTapiPceNode : Xponder pceNodeId {} of Uuid {}",
+                    pceNode.getNodeId().getValue(), pceNode.getNodeUuid().getValue());
                 if (tapiXpdrIsValidEnd(nodeId.toString(), pceNode, true)) {
                     this.aendPceNode = pceNode;
                     LOG.info("PceCalculation:endTapiPceNode : Node {} identified as AEND Node",
@@ -1904,33 +1913,23 @@ public class PceCalculation {
     }
 
     private static void printNodesInfo(Map<NodeId, PceNode> allPceNodes) {
-        allPceNodes.forEach(((nodeId, pceNode) -> {
-            LOG.debug("In printNodes in node {} : outgoing links {} ", pceNode.getNodeId().getValue(),
-                    pceNode.getOutgoingLinks());
-        }));
+        RequestTrace trace = RequestTrace.current();
+        if (trace.isEnabled()) {
+            allPceNodes.forEach((nodeId, pceNode) -> trace.event(STAGE, "node {} : outgoing links {}",
+                pceNode.getNodeId().getValue(), pceNode.getOutgoingLinks()));
+        }
     }
 
     /**
-     * Get mc capability for device.
+     * Get the metadata of a device.
+     * The port-mapping of each device is only looked up once per network analysis, whatever the number of its
+     * degrees, SRGs or xponders in the openroadm-topology.
      * @param deviceNodeId String
-     * @param nodeId NodeId
-     * @return mc capability
+     * @return device metadata
      */
-    private McCapability mcCapabilities(String deviceNodeId, NodeId nodeId) {
-        // nodeId: openroadm-topology level node
+    private DeviceMetadata deviceMetadata(String deviceNodeId) {
         // deviceNodeId: openroadm-network level node
-        List<McCapabilities> mcCapabilities = mappingUtils.getMcCapabilitiesForNode(deviceNodeId);
-        String[] params = nodeId.getValue().split("-");
-        // DEGx or SRGx or XPDRx
-        String moduleName = params[params.length - 1];
-        for (McCapabilities mcCapabitility : mcCapabilities) {
-            if (mcCapabitility.getMcNodeName().contains("XPDR")
-                    || mcCapabitility.getMcNodeName().contains(moduleName)) {
-
-                return new NodeMcCapability(mcCapabitility);
-            }
-        }
-        return new NodeMcCapability();
+        return deviceMetadata.computeIfAbsent(deviceNodeId, id -> DeviceMetadata.of(id, portMapping.getNode(id)));
     }
 
     private Uuid getUuidFromInput(String inString) {
@@ -18,11 +18,15 @@ import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
+import org.opendaylight.transportpce.common.trace.RequestTrace;
 import org.opendaylight.transportpce.pce.PceComplianceCheck;
 import org.opendaylight.transportpce.pce.PceComplianceCheckResult;
 import org.opendaylight.transportpce.pce.PceSendingPceRPCs;
 import org.opendaylight.transportpce.pce.gnpy.GnpyResult;
+import org.opendaylight.transportpce.pce.gnpy.GnpyTopoCache;
 import org.opendaylight.transportpce.pce.gnpy.consumer.GnpyConsumer;
 import org.opendaylight.yang.gen.v1.gnpy.path.rev220615.result.Response;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.pce.rev240205.CancelResourceReserveInput;
@@ -58,6 +62,7 @@ import org.opendaylight.yang.gen.v1.http.org.transportpce.b.c._interface.service
 import org.opendaylight.yangtools.binding.util.BindingMap;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,11 +71,16 @@ import org.slf4j.LoggerFactory;
 public class PathComputationServiceImpl implements PathComputationService {
 
     private static final Logger LOG = LoggerFactory.getLogger(PathComputationServiceImpl.class);
+    private static final Histogram PATH_COMPUTATION_LATENCY =
+        Metrics.histogram("transportpce_pce_request_seconds", "rpc", "path-computation-request");
+    private static final Histogram REROUTE_LATENCY =
+        Metrics.histogram("transportpce_pce_request_seconds", "rpc", "path-computation-reroute-request");
     private final NotificationPublishService notificationPublishService;
     private NetworkTransactionService networkTransactionService;
     private final ListeningExecutorService executor;
     private ServicePathRpcResult notification = null;
     private final GnpyConsumer gnpyConsumer;
+    private final GnpyTopoCache gnpyTopoCache;
     private PortMapping portMapping;
     private static String pceOperationalMode;
     public static final String OR_PCE_OPER_MODE = "OpenROADM-PCE-Operation-Mode";
@@ -85,10 +95,17 @@ public class PathComputationServiceImpl implements PathComputationService {
         this.networkTransactionService = networkTransactionService;
         this.executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(5));
         this.gnpyConsumer = gnpyConsumer;
+        this.gnpyTopoCache = new GnpyTopoCache(networkTransactionService);
         this.portMapping = portMapping;
         LOG.info("PathComputationServiceImpl instantiated");
     }
 
+    @Deactivate
+    public void close() {
+        gnpyTopoCache.close();
+        LOG.info("PathComputationServiceImpl closed");
+    }
+
     @SuppressFBWarnings(
         value = "UPM_UNCALLED_PRIVATE_METHOD",
         justification = "false positive, this method is used by public method cancelResourceReserve")
@@ -173,7 +190,7 @@ public class PathComputationServiceImpl implements PathComputationService {
     public ListenableFuture<PathComputationRequestOutput> pathComputationRequest(PathComputationRequestInput input) {
         LOG.debug("input parameters are : input = {}", input.toString());
         evaluatePceOperType(input.getServiceName());
-        return executor.submit(new Callable<PathComputationRequestOutput>() {
+        return PATH_COMPUTATION_LATENCY.time(executor.submit(new Callable<PathComputationRequestOutput>() {
 
             @Override
             public PathComputationRequestOutput call() throws Exception {
@@ -212,7 +229,11 @@ public class PathComputationServiceImpl implements PathComputationService {
                 PceSendingPceRPCs sendingPCE =
                     new PceSendingPceRPCs(input, networkTransactionService, gnpyConsumer, portMapping,
                         getPceOperationalMode());
-                sendingPCE.pathComputation();
+                sendingPCE.setGnpyTopoCache(gnpyTopoCache);
+                try (RequestTrace trace = RequestTrace.start("path-computation", input.getServiceName())) {
+                    sendingPCE.pathComputation();
+                    trace.event("result", "{} {}", sendingPCE.getResponseCode(), sendingPCE.getMessage());
+                }
                 String message = sendingPCE.getMessage();
                 String responseCode = sendingPCE.getResponseCode();
                 LOG.info("PCE response: {} {}", message, responseCode);
@@ -300,14 +321,14 @@ public class PathComputationServiceImpl implements PathComputationService {
                 }
                 return output.build();
             }
-        });
+        }));
     }
 
     @Override
     public ListenableFuture<PathComputationRerouteRequestOutput> pathComputationRerouteRequest(
             PathComputationRerouteRequestInput input) {
         evaluatePceOperType("NotAUuid");
-        return executor.submit(() -> {
+        return REROUTE_LATENCY.time(executor.submit(() -> {
             PathComputationRerouteRequestOutputBuilder output = new PathComputationRerouteRequestOutputBuilder();
             ConfigurationResponseCommonBuilder configurationResponseCommon = new ConfigurationResponseCommonBuilder()
                     .setRequestId("none");
@@ -336,7 +357,12 @@ public class PathComputationServiceImpl implements PathComputationService {
                     .build();
             PceSendingPceRPCs sendingPCE = new PceSendingPceRPCs(pathComputationInput, networkTransactionService,
                     gnpyConsumer, portMapping, input.getEndpoints(), getPceOperationalMode());
-            sendingPCE.pathComputation();
+            sendingPCE.setGnpyTopoCache(gnpyTopoCache);
+            // reroute requests have no service name: they are only traced by sampling
+            try (RequestTrace trace = RequestTrace.start("path-computation-reroute", null)) {
+                sendingPCE.pathComputation();
+                trace.event("result", "{} {}", sendingPCE.getResponseCode(), sendingPCE.getMessage());
+            }
             String message = sendingPCE.getMessage();
             String responseCode = sendingPCE.getResponseCode();
             LOG.info("PCE response: {} {}", message, responseCode);
@@ -347,7 +373,7 @@ public class PathComputationServiceImpl implements PathComputationService {
                             .setResponseMessage(message)
                             .build())
                     .build();
-        });
+        }));
     }
 
     public GnpyResponse generateGnpyResponse(Response responseGnpy, String pathDir) {
@@ -12,11 +12,18 @@ import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -26,6 +33,7 @@ import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.AfterEach;
@@ -169,7 +177,8 @@ class GnpyUtilitiesImplTest extends AbstractTest {
                         .withStatus(201)
                         .withHeader("Content-Type", "application/json")
                         .withBody(Files
-                                .readString(Path.of("src", "test", "resources", "gnpy", "gnpy_result_no_path.json")))));
+                                .readString(Path.of("src", "test", "resources", "gnpy",
+                                        "gnpy_result_no_path_both_directions.json")))));
         // build AtoZ
         AToZDirectionBuilder atoZDirectionBldr = buildAtZ();
         // build ZtoA
@@ -185,6 +194,53 @@ class GnpyUtilitiesImplTest extends AbstractTest {
                 ztoADirectionBldr.build(),
                 pceHardConstraints);
         assertFalse(result, "Gnpy Computation should be false");
+        verify(1, postRequestedFor(urlEqualTo("/api/v1/path-computation")));
+    }
+
+    @Test
+    void verifyComputationByGnpyWithoutResponseToARequestTest() throws Exception {
+        // GNPy only answers the request 1 (z to a), not the request 0 (a to z)
+        stubFor(post(urlEqualTo("/api/v1/path-computation"))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Files
+                                .readString(Path.of("src", "test", "resources", "gnpy", "gnpy_result_no_path.json")))));
+        gnpyUtilitiesImpl = new GnpyUtilitiesImpl(networkTransaction,
+                PceTestData.getGnpyPCERequest("XPONDER-1", "XPONDER-2"),
+                gnpyConsumer);
+        PceConstraints pceHardConstraints = new PceConstraintsCalc(PceTestData.getPCE_simpletopology_test1_request(),
+                networkTransaction).getPceHardConstraints();
+        GnpyException exception = assertThrows(GnpyException.class,
+            () -> gnpyUtilitiesImpl.verifyComputationByGnpy(buildAtZ().build(), buildZtoA().build(),
+                pceHardConstraints));
+        assertEquals("In GnpyResult: no response from GNPy to the path request 0", exception.getMessage());
+    }
+
+    @Test
+    void gnpyTopoCacheTest() throws Exception {
+        DataObjectIdentifier<Network> networkIdentifier = DataObjectIdentifier.builder(Networks.class)
+                .child(Network.class, new NetworkKey(new NetworkId(StringConstants.OPENROADM_NETWORK)))
+                .build();
+        Network network = networkTransaction.read(LogicalDatastoreType.CONFIGURATION, networkIdentifier).get()
+                .orElseThrow();
+        try (GnpyTopoCache gnpyTopoCache = new GnpyTopoCache(networkTransaction)) {
+            // initial notifications of the existing openroadm-network and openroadm-topology
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> assertEquals(2, gnpyTopoCache.getVersion(), "Unexpected number of network changes"));
+            GnpyTopoImpl topology = gnpyTopoCache.get();
+            assertSame(topology, gnpyTopoCache.get(), "Topology should be reused while the network is unchanged");
+            assertSame(topology.getTopology(), topology.getTopology(), "GNPy topology should be built once");
+
+            networkTransaction.delete(LogicalDatastoreType.CONFIGURATION, networkIdentifier);
+            networkTransaction.commit().get();
+            saveOpenRoadmNetwork(network, StringConstants.OPENROADM_NETWORK);
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                () -> assertEquals(4, gnpyTopoCache.getVersion(), "Unexpected number of network changes"));
+            GnpyTopoImpl rebuilt = gnpyTopoCache.get();
+            assertNotSame(topology, rebuilt, "Topology should be rebuilt after a network change");
+            assertEquals(topology.getElements().size(), rebuilt.getElements().size());
+        }
     }
 
     private AToZDirectionBuilder buildAtZ() {
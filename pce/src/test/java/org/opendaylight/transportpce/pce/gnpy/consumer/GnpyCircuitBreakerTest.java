@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.gnpy.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class GnpyCircuitBreakerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final GnpyCircuitBreaker circuitBreaker =
+        new GnpyCircuitBreaker(2, Duration.ofSeconds(10), Duration.ofSeconds(60), clock::get);
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void statusIsCachedUntilOutdated() {
+        assertEquals(Optional.empty(), circuitBreaker.getCachedStatus(), "No status should be known at first");
+        circuitBreaker.recordSuccess();
+        advance(Duration.ofSeconds(9));
+        assertEquals(Optional.of(true), circuitBreaker.getCachedStatus());
+        advance(Duration.ofSeconds(1));
+        assertEquals(Optional.empty(), circuitBreaker.getCachedStatus(), "Outdated status should not be used");
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        assertFalse(circuitBreaker.isOpen(), "A success should reset the failure count");
+        circuitBreaker.recordFailure();
+        assertTrue(circuitBreaker.isOpen());
+        assertFalse(circuitBreaker.allowRequest());
+        advance(Duration.ofSeconds(59));
+        assertEquals(Optional.of(false), circuitBreaker.getCachedStatus(), "Open circuit should not be probed");
+    }
+
+    @Test
+    void trialRequestClosesOrReopensCircuit() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        advance(Duration.ofSeconds(60));
+        assertTrue(circuitBreaker.allowRequest(), "A trial request should be allowed after the open duration");
+        assertEquals(Optional.empty(), circuitBreaker.getCachedStatus());
+        circuitBreaker.recordFailure();
+        assertFalse(circuitBreaker.allowRequest(), "A failed trial should reopen the circuit");
+
+        advance(Duration.ofSeconds(60));
+        circuitBreaker.recordSuccess();
+        assertFalse(circuitBreaker.isOpen());
+        assertEquals(Optional.of(true), circuitBreaker.getCachedStatus());
+    }
+}
@@ -11,16 +11,25 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.Fault;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -96,4 +105,93 @@ class GnpyConsumerTest {
         LOG.info("Response received {}", result);
         assertNotNull(result, "Result should not be null");
     }
+
+    @Test
+    void statusIsCachedTest() throws IOException {
+        stubFor(get(urlEqualTo("/api/v1/status"))
+                .willReturn(okJson(Files.readString(Path.of("src", "test", "resources", "gnpy", "gnpy_status.json")))));
+        GnpyConsumer gnpyConsumer = new GnpyConsumerImpl("http://localhost:9998",
+                "mylogin",
+                "mypassword",
+                AbstractTest.getDataStoreContextUtil().getBindingDOMCodecServices());
+
+        assertTrue(gnpyConsumer.isAvailable(), "Gnpy should be available");
+        assertTrue(gnpyConsumer.isAvailable(), "Gnpy should still be available");
+        verify(1, getRequestedFor(urlEqualTo("/api/v1/status")));
+    }
+
+    @Test
+    void computePathsAsyncTest() throws Exception {
+        stubFor(post(urlEqualTo("/api/v1/path-computation"))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Files.readString(
+                                Path.of("src", "test", "resources", "gnpy", "gnpy_result_with_path.json")))));
+        GnpyConsumer gnpyConsumer = new GnpyConsumerImpl("http://localhost:9998",
+                "mylogin",
+                "mypassword",
+                AbstractTest.getDataStoreContextUtil().getBindingDOMCodecServices());
+        Request request = readRequest();
+
+        CompletableFuture<Result> first = gnpyConsumer.computePathsAsync(request);
+        CompletableFuture<Result> second = gnpyConsumer.computePathsAsync(request);
+
+        assertNotNull(first.get(), "Result should not be null");
+        assertEquals(first.get(), second.get(), "Same request should give the same result");
+        assertTrue(gnpyConsumer.isAvailable(), "Answered requests should show Gnpy available");
+        verify(0, getRequestedFor(urlEqualTo("/api/v1/status")));
+    }
+
+    @Test
+    void circuitBreakerTest() throws Exception {
+        stubFor(get(urlEqualTo("/api/v1/status"))
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+        stubFor(post(urlEqualTo("/api/v1/path-computation"))
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+        GnpyConsumerImpl gnpyConsumer = new GnpyConsumerImpl("http://localhost:9998",
+                "mylogin",
+                "mypassword",
+                AbstractTest.getDataStoreContextUtil().getBindingDOMCodecServices(),
+                new GnpyCircuitBreaker(2, Duration.ZERO, Duration.ofMinutes(1), System::nanoTime));
+
+        assertFalse(gnpyConsumer.isAvailable(), "Gnpy should not be available");
+        assertFalse(gnpyConsumer.isCircuitOpen(), "A single failure should not open the circuit");
+        assertNull(gnpyConsumer.computePathsAsync(readRequest()).get(), "Unreachable Gnpy should give no result");
+        assertTrue(gnpyConsumer.isCircuitOpen());
+
+        // no more request while the circuit is open
+        int requestCount = wireMockServer.getAllServeEvents().size();
+        assertFalse(gnpyConsumer.isAvailable());
+        assertNull(gnpyConsumer.computePaths(readRequest()));
+        assertEquals(requestCount, wireMockServer.getAllServeEvents().size(), "Gnpy should not be requested");
+    }
+
+    @Test
+    void computePathsTimeoutTest() throws Exception {
+        stubFor(post(urlEqualTo("/api/v1/path-computation"))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withFixedDelay(5000)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(Files.readString(
+                                Path.of("src", "test", "resources", "gnpy", "gnpy_result_with_path.json")))));
+        GnpyConsumerImpl gnpyConsumer = new GnpyConsumerImpl("http://localhost:9998",
+                "mylogin",
+                "mypassword",
+                AbstractTest.getDataStoreContextUtil().getBindingDOMCodecServices(),
+                new GnpyCircuitBreaker(1, Duration.ZERO, Duration.ofMinutes(1), System::nanoTime),
+                Duration.ofMillis(200));
+
+        assertNull(gnpyConsumer.computePathsAsync(readRequest()).get(1, TimeUnit.SECONDS),
+                "Gnpy not answering in time should give no result");
+        assertTrue(gnpyConsumer.isCircuitOpen(), "A timeout should be seen as a failure");
+    }
+
+    private Request readRequest() throws IOException {
+        return gnpyApiConverter.createDataObjectFromJsonString(
+                YangInstanceIdentifier.of(Request.QNAME),
+                Files.readString(Path.of("src/test/resources/gnpy/gnpy_request.json")),
+                JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02);
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.pce.networkanalyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.common.StringConstants;
+import org.opendaylight.transportpce.pce.node.mccapabilities.McCapability;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.OpenconfigNodeVersion;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.OpenroadmNodeVersion;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilities;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mc.capabilities.McCapabilitiesBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.Nodes;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.NodesBuilder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.nodes.NodeInfoBuilder;
+import org.opendaylight.yang.gen.v1.http.org.openroadm.common.optical.channel.types.rev200529.FrequencyGHz;
+
+class DeviceMetadataTest {
+
+    @Test
+    void openRoadmDeviceMetadata() {
+        McCapabilities deg1 = new McCapabilitiesBuilder().setMcNodeName("DEG1-TTP")
+            .setSlotWidthGranularity(FrequencyGHz.getDefaultInstance("12.5"))
+            .setCenterFreqGranularity(FrequencyGHz.getDefaultInstance("6.25"))
+            .build();
+        McCapabilities srg1 = new McCapabilitiesBuilder().setMcNodeName("SRG1-PP").build();
+        Nodes node = new NodesBuilder().setNodeId("ROADM-A1")
+            .setNodeInfo(new NodeInfoBuilder().setOpenroadmVersion(OpenroadmNodeVersion._71).build())
+            .setMcCapabilities(Map.of(deg1.key(), deg1, srg1.key(), srg1))
+            .build();
+
+        DeviceMetadata metadata = DeviceMetadata.of("ROADM-A1", node);
+
+        assertEquals(StringConstants.OPENROADM_DEVICE_VERSION_7_1, metadata.getNodeVersion());
+        McCapability degCapability = metadata.getMcCapability("ROADM-A1-DEG1");
+        assertEquals(0, new BigDecimal("12.5").compareTo(degCapability.slotWidthGranularity()));
+        assertEquals(0, new BigDecimal("6.25").compareTo(degCapability.centerFrequencyGranularity()));
+        assertSame(degCapability, metadata.getMcCapability("ROADM-A1-DEG1"));
+        assertEquals(0, BigDecimal.valueOf(50).compareTo(
+            metadata.getMcCapability("ROADM-A1-SRG1").slotWidthGranularity()));
+    }
+
+    @Test
+    void openConfigDeviceMetadata() {
+        Nodes node = new NodesBuilder().setNodeId("OC-XPDR")
+            .setNodeInfo(new NodeInfoBuilder().setOpenconfigVersion(OpenconfigNodeVersion._190).build())
+            .build();
+
+        assertEquals(StringConstants.OPENCONFIG_DEVICE_VERSION_1_9_0,
+            DeviceMetadata.of("OC-XPDR", node).getNodeVersion());
+    }
+
+    @Test
+    void unknownDeviceMetadata() {
+        assertSame(DeviceMetadata.UNKNOWN, DeviceMetadata.of("ROADM-Z", null));
+        assertNull(DeviceMetadata.UNKNOWN.getNodeVersion());
+    }
+}
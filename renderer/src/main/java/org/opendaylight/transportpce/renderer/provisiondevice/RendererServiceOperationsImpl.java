@@ -30,6 +30,8 @@ import org.opendaylight.transportpce.common.ResponseCodes;
 import org.opendaylight.transportpce.common.StringConstants;
 import org.opendaylight.transportpce.common.Timeouts;
 import org.opendaylight.transportpce.common.mapping.PortMapping;
+import org.opendaylight.transportpce.common.metrics.Histogram;
+import org.opendaylight.transportpce.common.metrics.Metrics;
 import org.opendaylight.transportpce.common.service.ServiceTypes;
 import org.opendaylight.transportpce.renderer.ModelMappingUtils;
 import org.opendaylight.transportpce.renderer.ServicePathInputData;
@@ -95,6 +97,19 @@ import org.slf4j.LoggerFactory;
 public class RendererServiceOperationsImpl implements RendererServiceOperations {
 
     private static final Logger LOG = LoggerFactory.getLogger(RendererServiceOperationsImpl.class);
+    private static final String OPERATION_METRIC = "transportpce_renderer_operation_seconds";
+    private static final String STEP_METRIC = "transportpce_renderer_step_seconds";
+    private static final Histogram IMPLEMENTATION_LATENCY =
+        Metrics.histogram(OPERATION_METRIC, "operation", "service-implementation");
+    private static final Histogram DELETE_LATENCY = Metrics.histogram(OPERATION_METRIC, "operation", "service-delete");
+    private static final Histogram DEVICE_RENDERING_STEP = Metrics.histogram(STEP_METRIC, "step", "device-rendering");
+    private static final Histogram OTN_DEVICE_RENDERING_STEP =
+        Metrics.histogram(STEP_METRIC, "step", "otn-device-rendering");
+    private static final Histogram OLM_POWER_SETUP_STEP = Metrics.histogram(STEP_METRIC, "step", "olm-power-setup");
+    private static final Histogram OLM_POWER_TURNDOWN_STEP =
+        Metrics.histogram(STEP_METRIC, "step", "olm-power-turndown");
+    private static final Histogram ACTIVATION_TEST_STEP =
+        Metrics.histogram(STEP_METRIC, "step", "service-activation-test");
     private static final String DEVICE_RENDERING_ROLL_BACK_MSG =
             "Device rendering was not successful! Rendering will be rolled back.";
     private static final String OLM_ROLL_BACK_MSG =
@@ -137,7 +152,7 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
             serviceImplementation(ServiceImplementationRequestInput input, boolean isTempService) {
         LOG.info("Calling service impl request {}", input.getServiceName());
         LOG.debug("Check if it is temp-service {}", isTempService);
-        return executor.submit(new Callable<ServiceImplementationRequestOutput>() {
+        return IMPLEMENTATION_LATENCY.time(executor.submit(new Callable<ServiceImplementationRequestOutput>() {
 
             @Override
             public ServiceImplementationRequestOutput call() throws Exception {
@@ -218,14 +233,14 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
                 return ModelMappingUtils
                     .createServiceImplResponse(ResponseCodes.RESPONSE_OK, OPERATION_SUCCESSFUL);
             }
-        });
+        }));
     }
 
     @Override
     public ListenableFuture<ServiceDeleteOutput> serviceDelete(ServiceDeleteInput input, Services service) {
         String serviceName = input.getServiceName();
         LOG.info("Calling service delete request {}", serviceName);
-        return executor.submit(new Callable<ServiceDeleteOutput>() {
+        return DELETE_LATENCY.time(executor.submit(new Callable<ServiceDeleteOutput>() {
 
             @Override
             public ServiceDeleteOutput call() throws Exception {
@@ -316,7 +331,7 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
                 return ModelMappingUtils
                         .createServiceDeleteResponse(ResponseCodes.RESPONSE_OK, OPERATION_SUCCESSFUL);
             }
-        });
+        }));
     }
 
     @SuppressFBWarnings(
@@ -422,7 +437,7 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
                         transactionHistory));
 
         ListenableFuture<List<DeviceRenderingResult>> renderingCombinedFuture =
-            Futures.allAsList(atozrenderingFuture, ztoarenderingFuture);
+            DEVICE_RENDERING_STEP.time(Futures.allAsList(atozrenderingFuture, ztoarenderingFuture));
 
         List<DeviceRenderingResult> renderingResults = new ArrayList<>(2);
         try {
@@ -484,7 +499,7 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
                 new OtnDeviceRenderingTask(this.otnDeviceRenderer, otnServicePathZtoA, serviceType));
 
         ListenableFuture<List<OtnDeviceRenderingResult>> renderingCombinedFuture =
-            Futures.allAsList(atozrenderingFuture, ztoarenderingFuture);
+            OTN_DEVICE_RENDERING_STEP.time(Futures.allAsList(atozrenderingFuture, ztoarenderingFuture));
         List<OtnDeviceRenderingResult> otnRenderingResults = new ArrayList<>(2);
         try {
             LOG.info("Waiting for A-Z and Z-A device renderers ...");
@@ -546,7 +561,7 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
                 this.executor.submit(
                     new OlmPowerSetupTask(rpcService.getRpc(ServicePowerSetup.class), powerSetupInputZtoA));
         ListenableFuture<List<OLMRenderingResult>> olmFutures =
-                Futures.allAsList(olmPowerSetupFutureAtoZ, olmPowerSetupFutureZtoA);
+                OLM_POWER_SETUP_STEP.time(Futures.allAsList(olmPowerSetupFutureAtoZ, olmPowerSetupFutureZtoA));
 
         List<OLMRenderingResult> olmResults = new ArrayList<>();
         try {
@@ -729,8 +744,11 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
 
 
         if (!isOpenConfig) {
-            if (!isServiceActivated(sourceNode.getNodeId(), srcNetworkTp)
-                    || !isServiceActivated(destNode.getNodeId(), dstNetowrkTp)) {
+            long start = System.nanoTime();
+            boolean activated = isServiceActivated(sourceNode.getNodeId(), srcNetworkTp)
+                && isServiceActivated(destNode.getNodeId(), dstNetowrkTp);
+            ACTIVATION_TEST_STEP.recordSince(start);
+            if (!activated) {
                 rollbackProcessor.rollbackAll();
                 sendNotifications(
                         ServicePathNotificationTypes.ServiceImplementationRequest,
@@ -775,7 +793,8 @@ public class RendererServiceOperationsImpl implements RendererServiceOperations
                             rpcService));
 
             ListenableFuture<List<OLMRenderingResult>> olmPowerTurnDownFutures =
-                    Futures.allAsList(olmPowerTurnDownFutureAtoZ, olmPowerTurnDownFutureZtoA);
+                    OLM_POWER_TURNDOWN_STEP.time(
+                        Futures.allAsList(olmPowerTurnDownFutureAtoZ, olmPowerTurnDownFutureZtoA));
 
             List<OLMRenderingResult> olmRenderingResults;
             // OLM turn down power
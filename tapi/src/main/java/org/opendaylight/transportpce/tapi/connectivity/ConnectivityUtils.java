@@ -22,7 +22,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -47,6 +46,7 @@ import org.opendaylight.transportpce.tapi.topology.TopologyUtils;
 import org.opendaylight.transportpce.tapi.utils.GenericServiceEndpoint;
 import org.opendaylight.transportpce.tapi.utils.ServiceEndpointType;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiUuidFactory;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.Network;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.MappingKey;
@@ -423,8 +423,7 @@ public final class ConnectivityUtils {
         LOG.info("CU : EndPoints of connectivity services = {}", endPointMap);
         // Services Names
         this.serviceName = service.getServiceName();
-        this.serviceUuid =
-            new Uuid(UUID.nameUUIDFromBytes(service.getServiceName().getBytes(StandardCharsets.UTF_8)).toString());
+        this.serviceUuid = TapiUuidFactory.uuid(service.getServiceName());
         Name name =
             new NameBuilder().setValueName("Connectivity Service Name").setValue(serviceName).build();
         // Population of the ConnectionVsService list of services, with their supporting services
@@ -495,14 +494,12 @@ public final class ConnectivityUtils {
 
         Map<String, Uuid> nodeToTopoUuidMap = new HashMap<>();
         for (String node : xpdrNodelist) {
-            Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(
-                String.join("+", node, TapiConstants.XPDR).getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nodeUuid = TapiUuidFactory.uuid(node, TapiConstants.XPDR);
             nodeToTopoUuidMap.put(node, tapiContext.getTopoUuidFromNode(nodeUuid));
         }
         Map<String, Uuid> rdmnodeToTopoUuidMap = new HashMap<>();
         for (String node : rdmNodelist) {
-            Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(
-                String.join("+", node, TapiConstants.PHTNC_MEDIA).getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nodeUuid = TapiUuidFactory.uuid(node, TapiConstants.PHTNC_MEDIA);
             rdmnodeToTopoUuidMap.put(node, tapiContext.getTopoUuidFromNode(nodeUuid));
         }
         // TODO -> for 10GB eth and ODU services there are no ROADMs in path description as they use the OTU link,
@@ -1258,8 +1255,7 @@ public final class ConnectivityUtils {
 
     private OpenroadmNodeType getOpenroadmType(String nodeName) {
         LOG.info("Node name = {}", nodeName);
-        Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(
-            String.join("+",nodeName, TapiConstants.XPDR).getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nodeUuid = TapiUuidFactory.uuid(nodeName, TapiConstants.XPDR);
         org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node tapiNode =
             this.tapiContext.getTapiNode(this.tapiContext.getTopoUuidFromNode(nodeUuid), nodeUuid);
         return tapiNode == null
@@ -1794,9 +1790,8 @@ public final class ConnectivityUtils {
         org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.ConnectionEndPoint adCep1 =
             cepMap.get(
                 new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
-                        .cep.list.ConnectionEndPointKey(new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", "CEP", tp1.split("\\+")[0], qual, tp1.split("\\+")[1]))
-                        .getBytes(StandardCharsets.UTF_8)).toString())));
+                        .cep.list.ConnectionEndPointKey(
+                    TapiUuidFactory.uuid("CEP", tp1.split("\\+")[0], qual, tp1.split("\\+")[1])));
         LOG.debug("CU:createTopConnection : Cep corresponding to first end of the connection = {}", adCep1);
         org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
                 .connection.ConnectionEndPoint cep1 =
@@ -1811,9 +1806,7 @@ public final class ConnectivityUtils {
             cepMap.get(
                 new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
                         .cep.list.ConnectionEndPointKey(
-                    new Uuid(UUID.nameUUIDFromBytes(
-                        (String.join("+", "CEP", tp2.split("\\+")[0], qual, tp2.split("\\+")[1]))
-                            .getBytes(StandardCharsets.UTF_8)).toString())));
+                    TapiUuidFactory.uuid("CEP", tp2.split("\\+")[0], qual, tp2.split("\\+")[1])));
         LOG.debug("CU:createTopConnection : Cep corresponding to second end of the connection {}", adCep2);
         org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
                 .connection.ConnectionEndPoint cep2 =
@@ -1835,7 +1828,7 @@ public final class ConnectivityUtils {
         }
         return new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
                 .connectivity.context.ConnectionBuilder()
-            .setUuid(new Uuid(UUID.nameUUIDFromBytes(topConnName.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid(topConnName))
             .setName(Map.of(connName.key(), connName))
             .setConnectionEndPoint(new HashMap<>(Map.of(cep1.key(), cep1, cep2.key(), cep2)))
             .setOperationalState(this.conCreationModeActive ? OperationalState.ENABLED : OperationalState.DISABLED)
@@ -1913,7 +1906,7 @@ public final class ConnectivityUtils {
         // TODO: lower connection, supported link.......
         return new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
                 .connectivity.context.ConnectionBuilder()
-            .setUuid(new Uuid(UUID.nameUUIDFromBytes(crossConnName.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid(crossConnName))
             .setName(Map.of(connName.key(), connName))
             .setConnectionEndPoint(new HashMap<>(Map.of(cepServ1.key(), cepServ1, cepServ2.key(), cepServ2)))
             //.setOperationalState(this.conCreationModeActive ? OperationalState.ENABLED : OperationalState.DISABLED)
@@ -1938,10 +1931,8 @@ public final class ConnectivityUtils {
             .setValue(String.join("+", "CEP", extendedNepId))
             .build();
         ParentNodeEdgePoint pnep = new ParentNodeEdgePointBuilder()
-            .setNodeEdgePointUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nepId.getBytes(StandardCharsets.UTF_8)).toString()))
-            .setNodeUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nepNodeId.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setNodeEdgePointUuid(TapiUuidFactory.uuid(nepId))
+            .setNodeUuid(TapiUuidFactory.uuid(nepNodeId))
             .setTopologyUuid(topoUuid)
             .build();
         String clientQualifier = "";
@@ -1965,19 +1956,14 @@ public final class ConnectivityUtils {
         ClientNodeEdgePoint cnep = null;
         if (!clientQualifier.equals("")) {
             cnep = new ClientNodeEdgePointBuilder()
-                .setNodeEdgePointUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", id.split("\\+")[0], clientQualifier, id.split("\\+")[1]))
-                        .getBytes(StandardCharsets.UTF_8)).toString()))
-                .setNodeUuid(new Uuid(UUID.nameUUIDFromBytes(
-                        nepNodeId.getBytes(StandardCharsets.UTF_8)).toString()))
+                .setNodeEdgePointUuid(TapiUuidFactory.uuid(id.split("\\+")[0], clientQualifier, id.split("\\+")[1]))
+                .setNodeUuid(TapiUuidFactory.uuid(nepNodeId))
                 .setTopologyUuid(topoUuid)
                 .build();
         }
         // TODO: add augmentation with the corresponding cep-spec (i.e. MC, OTSiMC...)
         ConnectionEndPointBuilder cepBldr = new ConnectionEndPointBuilder()
-            .setUuid(new Uuid(UUID.nameUUIDFromBytes(
-                (String.join("+", "CEP", extendedNepId))
-                    .getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid("CEP", extendedNepId))
             .setParentNodeEdgePoint(pnep)
             .setName(Map.of(cepName.key(), cepName))
             .setConnectionPortRole(PortRole.SYMMETRIC)
@@ -2044,9 +2030,9 @@ public final class ConnectivityUtils {
 
     private double getClientRateFromNep(String id, String qualifier, Uuid topoUuid) {
         String nepId = String.join("+", id.split("\\+")[0], qualifier, id.split("\\+")[1]);
-        Uuid nepUuid = new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nepUuid = TapiUuidFactory.uuid(nepId);
         String nepNodeId = String.join("+",id.split("\\+")[0], TapiConstants.XPDR);
-        Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(nepNodeId.getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nodeUuid = TapiUuidFactory.uuid(nepNodeId);
         var onep = getNepFromDS(topoUuid, nodeUuid, nepUuid);
         Double minRate = 999999.9;
         if (onep == null) {
@@ -2083,8 +2069,8 @@ public final class ConnectivityUtils {
             String id, String qualifier, Uuid topoUuid) {
         String nepId = String.join("+", id.split("\\+")[0], qualifier, id.split("\\+")[1]);
         String nepNodeId = String.join("+",id.split("\\+")[0], TapiConstants.XPDR);
-        Uuid nepUuid = new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString());
-        Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(nepNodeId.getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nepUuid = TapiUuidFactory.uuid(nepId);
+        Uuid nodeUuid = TapiUuidFactory.uuid(nepNodeId);
         //Capture initial OTSiMC/OTS nep from DataStore
         var onep = getNepFromDS(topoUuid, nodeUuid, nepUuid);
         //create a new onepBuilder set with current settings
@@ -2119,8 +2105,8 @@ public final class ConnectivityUtils {
             .build();
         onepBdr.addAugmentation(onep1);
         addNepToTopology(topoUuid,
-            new Uuid(UUID.nameUUIDFromBytes(nepNodeId.getBytes(StandardCharsets.UTF_8)).toString()),
-            new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString()),
+            TapiUuidFactory.uuid(nepNodeId),
+            TapiUuidFactory.uuid(nepId),
             onepBdr.build(), false);
     }
 
@@ -2170,8 +2156,8 @@ public final class ConnectivityUtils {
         }
         String nepId = String.join("+", id.split("\\+")[0], qualifier, id.split("\\+")[1]);
         String nepNodeId = String.join("+",id.split("\\+")[0], TapiConstants.XPDR);
-        Uuid nepUuid = new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString());
-        Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(nepNodeId.getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nepUuid = TapiUuidFactory.uuid(nepId);
+        Uuid nodeUuid = TapiUuidFactory.uuid(nepNodeId);
         //Capture initial OTSiMC/OTS nep from DataStore
         var onep = getNepFromDS(topoUuid, nodeUuid, nepUuid);
         if (onep == null) {
@@ -2252,8 +2238,8 @@ public final class ConnectivityUtils {
         }
 
         addNepToTopology(topoUuid,
-            new Uuid(UUID.nameUUIDFromBytes(nepNodeId.getBytes(StandardCharsets.UTF_8)).toString()),
-            new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString()),
+            TapiUuidFactory.uuid(nepNodeId),
+            TapiUuidFactory.uuid(nepId),
             onepBdr.build(), false);
     }
 
@@ -2395,9 +2381,7 @@ public final class ConnectivityUtils {
             ZToA firstElement =
                 mapztoa.values().stream().filter(ztoa -> ztoa.getId().equals("0")).findFirst().orElseThrow();
             TerminationPoint tp = (TerminationPoint) firstElement.getResource().getResource();
-            Uuid sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.MC, tp.getTpId()))
-                    .getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.MC, tp.getTpId());
             LOG.info("SIP name = {}", String.join("+", tp.getTpNodeId(), TapiConstants.MC, tp.getTpId()));
             for (ServiceInterfacePoint sip:this.sipMap.values()) {
                 if (sip.getUuid().equals(sipUuid)) {
@@ -2418,9 +2402,7 @@ public final class ConnectivityUtils {
                     mapztoa.values().stream().filter(ztoa -> ztoa.getId().equals("2")).findFirst().orElseThrow();
                 tp = (TerminationPoint) firstElement.getResource().getResource();
                 // Network-Network ports --> iODU layer SIPs TODO --> updated to E_ODU
-                sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.I_ODU, tp.getTpId()))
-                        .getBytes(StandardCharsets.UTF_8)).toString());
+                sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.I_ODU, tp.getTpId());
                 LOG.info("SIP name = {}", String.join("+", tp.getTpNodeId(), TapiConstants.I_ODU, tp.getTpId()));
                 break;
             case OTU:
@@ -2428,9 +2410,7 @@ public final class ConnectivityUtils {
                     mapztoa.values().stream().filter(ztoa -> ztoa.getId().equals("2")).findFirst().orElseThrow();
                 tp = (TerminationPoint) firstElement.getResource().getResource();
                 // Network-Network ports --> iOTSi layer SIPs
-                sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.I_OTSI, tp.getTpId()))
-                        .getBytes(StandardCharsets.UTF_8)).toString());
+                sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.I_OTSI, tp.getTpId());
                 LOG.info("SIP name = {}", String.join("+", tp.getTpNodeId(), TapiConstants.I_OTSI, tp.getTpId()));
                 break;
             case Ethernet:
@@ -2439,9 +2419,7 @@ public final class ConnectivityUtils {
                     mapztoa.values().stream().filter(ztoa -> ztoa.getId().equals("0")).findFirst().orElseThrow();
                 tp = (TerminationPoint) firstElement.getResource().getResource();
                 // Client-client ports --> DSR layer SIPs
-                sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.DSR, tp.getTpId()))
-                        .getBytes(StandardCharsets.UTF_8)).toString());
+                sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.DSR, tp.getTpId());
                 LOG.info("SIP name = {}", String.join("+", tp.getTpNodeId(), TapiConstants.DSR, tp.getTpId()));
                 break;
             default:
@@ -2477,9 +2455,7 @@ public final class ConnectivityUtils {
                 mapatoz.values().stream().filter(atoz -> atoz.getId().equals("0")).findFirst().orElseThrow();
             LOG.info("First element of service path = {}", firstElement.getResource().getResource());
             TerminationPoint tp = (TerminationPoint) firstElement.getResource().getResource();
-            Uuid sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.MC, tp.getTpId()))
-                    .getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.MC, tp.getTpId());
             LOG.info("ROADM SIP name = {}",
                 String.join("+", tp.getTpNodeId(), TapiConstants.MC, tp.getTpId()));
             for (ServiceInterfacePoint sip:this.sipMap.values()) {
@@ -2500,9 +2476,7 @@ public final class ConnectivityUtils {
                     mapatoz.values().stream().filter(atoz -> atoz.getId().equals("2")).findFirst().orElseThrow();
                 tp = (TerminationPoint) firstElement.getResource().getResource();
                 // Network-Network ports --> iODU layer SIPs. TODO -> updated to eODU
-                sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.I_ODU, tp.getTpId()))
-                        .getBytes(StandardCharsets.UTF_8)).toString());
+                sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.I_ODU, tp.getTpId());
                 LOG.info("ODU XPDR SIP name = {}",
                     String.join("+", tp.getTpNodeId(), TapiConstants.I_ODU, tp.getTpId()));
                 break;
@@ -2511,9 +2485,7 @@ public final class ConnectivityUtils {
                     mapatoz.values().stream().filter(atoz -> atoz.getId().equals("2")).findFirst().orElseThrow();
                 tp = (TerminationPoint) firstElement.getResource().getResource();
                 // Network-Network ports --> iOTSi layer SIPs
-                sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.I_OTSI, tp.getTpId()))
-                        .getBytes(StandardCharsets.UTF_8)).toString());
+                sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.I_OTSI, tp.getTpId());
                 LOG.info("OTU XPDR SIP name = {}",
                     String.join("+", tp.getTpNodeId(), TapiConstants.I_OTSI, tp.getTpId()));
                 break;
@@ -2523,9 +2495,7 @@ public final class ConnectivityUtils {
                     mapatoz.values().stream().filter(atoz -> atoz.getId().equals("0")).findFirst().orElseThrow();
                 tp = (TerminationPoint) firstElement.getResource().getResource();
                 // Client-client ports --> DSR layer SIPs
-                sipUuid = new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", "SIP", tp.getTpNodeId(), TapiConstants.DSR, tp.getTpId()))
-                        .getBytes(StandardCharsets.UTF_8)).toString());
+                sipUuid = TapiUuidFactory.uuid("SIP", tp.getTpNodeId(), TapiConstants.DSR, tp.getTpId());
                 LOG.info("DSR XPDR SIP name = {}",
                     String.join("+", tp.getTpNodeId(), TapiConstants.DSR, tp.getTpId()));
                 break;
@@ -2547,7 +2517,7 @@ public final class ConnectivityUtils {
             ConnectionEndPoint cep) {
         String nepId = String.join("+", node, qual, spcRdmAD.split("\\+")[1]);
         String nodeNepId = String.join("+", node, TapiConstants.PHTNC_MEDIA);
-        Uuid nodeNepUuid = new Uuid(UUID.nameUUIDFromBytes(nodeNepId.getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nodeNepUuid = TapiUuidFactory.uuid(nodeNepId);
         LOG.debug("NEP id before Merge = {}", nepId);
         LOG.debug("Node of NEP id before Merge = {}", nodeNepId);
         // Give uuids so that it is easier to look for things: topology uuid, node uuid, nep uuid, cep
@@ -2557,7 +2527,7 @@ public final class ConnectivityUtils {
             //nodeUuid,
             nodeNepUuid,
             //nepUuid,
-            new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString()),
+            TapiUuidFactory.uuid(nepId),
             cep);
     }
 
@@ -2568,13 +2538,9 @@ public final class ConnectivityUtils {
             //topoUuid,
             topoUuid,
             //nodeUuid,
-            new Uuid(UUID.nameUUIDFromBytes(
-                    String.join("+", node, nodeLayer).getBytes(StandardCharsets.UTF_8))
-                .toString()),
+            TapiUuidFactory.uuid(node, nodeLayer),
             //nepUuid,
-            new Uuid(UUID.nameUUIDFromBytes(
-                    String.join("+", node, qual, spcXpdrNet.split("\\+")[1]).getBytes(StandardCharsets.UTF_8))
-                .toString()),
+            TapiUuidFactory.uuid(node, qual, spcXpdrNet.split("\\+")[1]),
             cep);
     }
 
@@ -2582,7 +2548,7 @@ public final class ConnectivityUtils {
             OwnedNodeEdgePoint onep) {
         String nepId = String.join("+", orNodeId, qual, orTpId);
         String nepNodeId = String.join("+", orNodeId, TapiConstants.PHTNC_MEDIA);
-        Uuid nodeNepUuid = new Uuid(UUID.nameUUIDFromBytes(nepNodeId.getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nodeNepUuid = TapiUuidFactory.uuid(nepNodeId);
         LOG.debug("NEP id before Merge = {}", nepId);
         LOG.debug("Node of NEP id before Merge = {}", nepNodeId);
         // Give uuids putRdmNepInTopologyContextso that it is easier to look for things:
@@ -2593,7 +2559,7 @@ public final class ConnectivityUtils {
             //nodeUuid,
             nodeNepUuid,
             //nepUuid,
-            new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString()),
+            TapiUuidFactory.uuid(nepId),
             onep, true);
     }
 
@@ -2945,26 +2911,12 @@ public final class ConnectivityUtils {
         return this.tapiContext.getTapiCEP(
             topoUuid,
             //nodeUuid,
-            new Uuid(UUID.nameUUIDFromBytes(
-                (String.join("+",
-                        spcXpdrNetwork.split("\\+")[0],
-                        TapiConstants.XPDR)
-                    .getBytes(StandardCharsets.UTF_8))).toString()),
+            TapiUuidFactory.uuid(spcXpdrNetwork.split("\\+")[0], TapiConstants.XPDR),
             //nepUuid,
-            new Uuid(UUID.nameUUIDFromBytes(
-                (String.join("+",
-                        spcXpdrNetwork.split("\\+")[0],
-                        TapiConstants.I_ODU,
-                        spcXpdrNetwork.split("\\+")[1])
-                    .getBytes(StandardCharsets.UTF_8))).toString()),
+            TapiUuidFactory.uuid(spcXpdrNetwork.split("\\+")[0], TapiConstants.I_ODU, spcXpdrNetwork.split("\\+")[1]),
             //cepUuid,
-            new Uuid(UUID.nameUUIDFromBytes(
-                (String.join("+",
-                        "CEP",
-                        spcXpdrNetwork.split("\\+")[0],
-                        TapiConstants.I_ODU,
-                        spcXpdrNetwork.split("\\+")[1]))
-                    .getBytes(StandardCharsets.UTF_8)).toString()));
+            TapiUuidFactory.uuid(
+                "CEP", spcXpdrNetwork.split("\\+")[0], TapiConstants.I_ODU, spcXpdrNetwork.split("\\+")[1]));
     }
 
     private String getAssociatedNetworkPort(String spcXpdrClient, List<String> xpdrNetworkTplist) {
@@ -3075,9 +3027,7 @@ public final class ConnectivityUtils {
                         org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node.class,
                         new NodeKey(
                             //nodeUUID
-                            new Uuid(UUID.nameUUIDFromBytes(
-                                (String.join("+",xpdr.getKey(), TapiConstants.XPDR))
-                                    .getBytes(StandardCharsets.UTF_8)).toString())))
+                            TapiUuidFactory.uuid(xpdr.getKey(), TapiConstants.XPDR)))
                     .build();
             try {
                 Optional<org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node> optNode =
@@ -3113,7 +3063,7 @@ public final class ConnectivityUtils {
         if (uuidRegex.matcher(inString).matches()) {
             outUuid = new Uuid(inString);
         } else {
-            outUuid = new Uuid(UUID.nameUUIDFromBytes(inString.getBytes(StandardCharsets.UTF_8)).toString());
+            outUuid = TapiUuidFactory.uuid(inString);
         }
         return outUuid;
     }
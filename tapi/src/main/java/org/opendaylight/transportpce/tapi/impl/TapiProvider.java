@@ -7,9 +7,19 @@
  */
 package org.opendaylight.transportpce.tapi.impl;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.NotificationService;
@@ -35,6 +45,7 @@ import org.opendaylight.transportpce.tapi.impl.rpc.GetServiceInterfacePointDetai
 import org.opendaylight.transportpce.tapi.impl.rpc.GetServiceInterfacePointListImpl;
 import org.opendaylight.transportpce.tapi.impl.rpc.GetTopologyDetailsImpl;
 import org.opendaylight.transportpce.tapi.impl.rpc.GetTopologyListImpl;
+import org.opendaylight.transportpce.tapi.impl.rpc.TopologyDetailsCache;
 import org.opendaylight.transportpce.tapi.listeners.TapiNetworkModelNotificationHandler;
 import org.opendaylight.transportpce.tapi.listeners.TapiPceNotificationHandler;
 import org.opendaylight.transportpce.tapi.listeners.TapiRendererNotificationHandler;
@@ -84,6 +95,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Class to register TAPI interface Service and Notification.
  *
+ * <p>The bootstrap converts the whole OpenROADM topology and services to TAPI before registering the RPCs and the
+ * listeners. It runs on the executor given to the provider, in the background when the executor is not a direct one,
+ * and its completion is reported by {@link #getReadiness()}. A bootstrap still running when the provider is closed
+ * stops at its next step, and its registrations are closed as soon as they are done.
+ *
  * @author Gilles Thouenon (gilles.thouenon@orange.com) on behalf of Orange
  *
  */
@@ -107,16 +123,17 @@ public class TapiProvider {
     // 2 following constants
     public static final Uuid TAPI_TOPO_UUID = TapiConstants.T0_FULL_MULTILAYER_UUID;
     public static final String TOPOLOGICAL_MODE = "Full";
+    private static final long BOOTSTRAP_CLOSE_TIMEOUT_SECONDS = 60;
     private final DataBroker dataBroker;
     private final NetworkModelService netModServ;
     private final NetworkTransactionService networkTransactionService;
     private final ServiceDataStoreOperations serviceDataStoreOperations;
-    private List<Registration> listeners;
-    private Registration rpcRegistration;
-    private Registration pcelistenerRegistration;
-    private Registration rendererlistenerRegistration;
-    private Registration servicehandlerlistenerRegistration;
-    private Registration tapinetworkmodellistenerRegistration;
+    private final ListenableFuture<Void> readiness;
+    // registrations done by the bootstrap, and state of the bootstrap and of the provider, guarded by this
+    private final List<Registration> registrations = new ArrayList<>();
+    private boolean bootstrapStarted;
+    private boolean closed;
+    private volatile Registration rpcRegistration;
 
     @Activate
     public TapiProvider(@Reference DataBroker dataBroker,
@@ -131,10 +148,61 @@ public class TapiProvider {
             @Reference TapiNetworkModelService tapiNetworkModelServiceImpl,
             @Reference TapiLink tapiLink,
             @Reference TapiContext tapiContext) {
+        this(dataBroker, rpcProviderService, rpcService, notificationService, notificationPublishService,
+            networkTransactionService, serviceDataStoreOperations, networkModelService,
+            tapiNetworkModelNotificationHandler, tapiNetworkModelServiceImpl, tapiLink, tapiContext,
+            MoreExecutors.directExecutor());
+        // the bootstrap is done: fail the activation as before if it failed
+        Futures.getUnchecked(readiness);
+    }
+
+    public TapiProvider(DataBroker dataBroker,
+            RpcProviderService rpcProviderService,
+            RpcService rpcService,
+            NotificationService notificationService,
+            NotificationPublishService notificationPublishService,
+            NetworkTransactionService networkTransactionService,
+            ServiceDataStoreOperations serviceDataStoreOperations,
+            NetworkModelService networkModelService,
+            TapiNetworkModelNotificationHandler tapiNetworkModelNotificationHandler,
+            TapiNetworkModelService tapiNetworkModelServiceImpl,
+            TapiLink tapiLink,
+            TapiContext tapiContext,
+            Executor bootstrapExecutor) {
         this.dataBroker = dataBroker;
         this.networkTransactionService = networkTransactionService;
         this.serviceDataStoreOperations = serviceDataStoreOperations;
         this.netModServ = networkModelService;
+        long start = System.nanoTime();
+        this.readiness = Futures.submit(
+            () -> bootstrap(rpcProviderService, rpcService, notificationService, notificationPublishService,
+                tapiNetworkModelNotificationHandler, tapiNetworkModelServiceImpl, tapiLink, tapiContext),
+            bootstrapExecutor);
+        Futures.addCallback(readiness, new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                LOG.info("TAPI ready, bootstrap done in {} ms", (System.nanoTime() - start) / 1_000_000);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                if (throwable instanceof CancellationException) {
+                    LOG.info("TAPI bootstrap stopped, TapiProvider closed");
+                } else {
+                    LOG.error("TAPI bootstrap failed, TAPI RPCs are not available", throwable);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void bootstrap(RpcProviderService rpcProviderService, RpcService rpcService,
+            NotificationService notificationService, NotificationPublishService notificationPublishService,
+            TapiNetworkModelNotificationHandler tapiNetworkModelNotificationHandler,
+            TapiNetworkModelService tapiNetworkModelServiceImpl, TapiLink tapiLink, TapiContext tapiContext) {
+        synchronized (this) {
+            checkNotClosed();
+            bootstrapStarted = true;
+        }
         netModServ.createTapiExtNodeAtInit();
         LOG.info("TapiProvider Session Initiated");
         LOG.info("Empty TAPI context created: {}", tapiContext.getTapiContext());
@@ -147,11 +215,14 @@ public class TapiProvider {
                 tapiContext, this.serviceDataStoreOperations);
         tapiInitialORMapping.performTopoInitialMapping();
         tapiInitialORMapping.performServInitialMapping();
+        checkNotClosed();
         TapiPceNotificationHandler pceListenerImpl = new TapiPceNotificationHandler(dataBroker, connectivityUtils);
         TapiRendererNotificationHandler rendererListenerImpl = new TapiRendererNotificationHandler(dataBroker,
                 notificationPublishService);
 
-        rpcRegistration = rpcProviderService.registerRpcImplementations(
+        TopologyDetailsCache topologyDetailsCache = new TopologyDetailsCache(dataBroker);
+        register(topologyDetailsCache::close);
+        rpcRegistration = register(rpcProviderService.registerRpcImplementations(
                 new CreateConnectivityServiceImpl(rpcService, tapiContext, connectivityUtils, pceListenerImpl,
                         rendererListenerImpl),
                 new GetConnectivityServiceDetailsImpl(tapiContext),
@@ -159,33 +230,34 @@ public class TapiProvider {
                 new DeleteConnectivityServiceImpl(rpcService, tapiContext, networkTransactionService),
                 new GetConnectivityServiceListImpl(tapiContext),
                 new GetNodeDetailsImpl(tapiContext),
-                new GetTopologyDetailsImpl(tapiContext, topologyUtils, tapiLink, networkTransactionService),
+                new GetTopologyDetailsImpl(tapiContext, topologyUtils, tapiLink, networkTransactionService,
+                        topologyDetailsCache),
                 new GetNodeEdgePointDetailsImpl(tapiContext),
                 new GetLinkDetailsImpl(tapiContext),
                 new GetTopologyListImpl(tapiContext, topologyUtils),
                 new GetServiceInterfacePointDetailsImpl(tapiContext),
-                new GetServiceInterfacePointListImpl(tapiContext));
+                new GetServiceInterfacePointListImpl(tapiContext)));
 
-        this.listeners = new ArrayList<>();
         TapiNetconfTopologyListener topologyListener = new TapiNetconfTopologyListener(tapiNetworkModelServiceImpl);
         TapiOrLinkListener orLinkListener = new TapiOrLinkListener(tapiLink, networkTransactionService, topologyUtils);
         TapiPortMappingListener tapiPortMappingListener = new TapiPortMappingListener(tapiNetworkModelServiceImpl,
                 networkTransactionService);
-        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, LINK_II,
+        register(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION, LINK_II,
                 orLinkListener));
-        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, NETCONF_NODE_II,
+        register(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, NETCONF_NODE_II,
                 topologyListener));
-        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+        register(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
                 InstanceIdentifiers.PORTMAPPING_NODE_II, tapiPortMappingListener));
         TapiListener tapiListener = new TapiListener();
-        listeners.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+        register(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
                 DataObjectReference.builder(ServiceInterfacePoints.class).build(),
                 tapiListener));
         // Notification Listener
-        pcelistenerRegistration = notificationService.registerCompositeListener(pceListenerImpl.getCompositeListener());
+        Registration pcelistenerRegistration = register(
+            notificationService.registerCompositeListener(pceListenerImpl.getCompositeListener()));
         LOG.debug("Pce Listener Registration in TapiProvider : {}", pcelistenerRegistration);
-        rendererlistenerRegistration = notificationService
-            .registerCompositeListener(rendererListenerImpl.getCompositeListener());
+        Registration rendererlistenerRegistration = register(notificationService
+            .registerCompositeListener(rendererListenerImpl.getCompositeListener()));
         LOG.debug("Renderer Listener Registration in TapiProvider : {}", rendererlistenerRegistration);
         TapiServiceNotificationHandler serviceHandlerListenerImpl = new TapiServiceNotificationHandler(
                 dataBroker,
@@ -193,7 +265,8 @@ public class TapiProvider {
                         dataBroker,
                         networkTransactionService,
                         serviceDataStoreOperations,
-                        tapiContext),
+                        tapiContext,
+                        tapiLink),
                 new OpenRoadmTopologyUpdate(
                         new MdSalOwnedNodeEdgePointRepository(networkTransactionService),
                         new OpenRoadmToTapiTerminationPointMappingFactory(
@@ -208,11 +281,11 @@ public class TapiProvider {
                         )
                 )
         );
-        servicehandlerlistenerRegistration = notificationService
-            .registerCompositeListener(serviceHandlerListenerImpl.getCompositeListener());
+        Registration servicehandlerlistenerRegistration = register(notificationService
+            .registerCompositeListener(serviceHandlerListenerImpl.getCompositeListener()));
         LOG.debug("SH Listener Registration in TapiProvider : {}", servicehandlerlistenerRegistration);
-        tapinetworkmodellistenerRegistration = notificationService
-            .registerCompositeListener(tapiNetworkModelNotificationHandler.getCompositeListener());
+        Registration tapinetworkmodellistenerRegistration = register(notificationService
+            .registerCompositeListener(tapiNetworkModelNotificationHandler.getCompositeListener()));
         LOG.debug("Network Model Listener Registration in TapiProvider : {}", tapinetworkmodellistenerRegistration);
     }
 
@@ -221,18 +294,70 @@ public class TapiProvider {
      */
     @Deactivate
     public void close() {
+        boolean started;
+        synchronized (this) {
+            closed = true;
+            started = bootstrapStarted;
+        }
+        // a bootstrap not started yet will not start, a running one stops at its next step
+        if (started) {
+            awaitBootstrap();
+        }
         netModServ.deleteTapiExtNode();
-        listeners.forEach(lis -> lis.close());
-        listeners.clear();
-        pcelistenerRegistration.close();
-        rendererlistenerRegistration.close();
-        servicehandlerlistenerRegistration.close();
-        tapinetworkmodellistenerRegistration.close();
-        rpcRegistration.close();
+        List<Registration> done;
+        synchronized (this) {
+            done = new ArrayList<>(registrations);
+            registrations.clear();
+        }
+        Lists.reverse(done).forEach(Registration::close);
         LOG.info("TapiProvider Session Closed");
     }
 
+    /**
+     * Get the readiness of TAPI.
+     *
+     * @return a future completed when the bootstrap is done and the TAPI RPCs are registered, failed if the
+     *     bootstrap failed
+     */
+    public ListenableFuture<Void> getReadiness() {
+        return readiness;
+    }
+
+    /**
+     * Get the registration of the TAPI RPCs.
+     *
+     * @return the registration, null until the bootstrap is done
+     */
     public Registration getRegisteredRpcs() {
         return rpcRegistration;
     }
+
+    private void awaitBootstrap() {
+        try {
+            readiness.get(BOOTSTRAP_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            LOG.debug("Closing TapiProvider after a failed bootstrap", e);
+        } catch (TimeoutException e) {
+            LOG.warn("TAPI bootstrap still running after {} s, its remaining registrations will be closed when done",
+                BOOTSTRAP_CLOSE_TIMEOUT_SECONDS);
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for the TAPI bootstrap", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized Registration register(Registration registration) {
+        if (closed) {
+            registration.close();
+            throw new CancellationException("TapiProvider closed during the TAPI bootstrap");
+        }
+        registrations.add(registration);
+        return registration;
+    }
+
+    private synchronized void checkNotClosed() {
+        if (closed) {
+            throw new CancellationException("TapiProvider closed before the end of the TAPI bootstrap");
+        }
+    }
 }
@@ -8,7 +8,6 @@
 package org.opendaylight.transportpce.tapi.impl.rpc;
 
 import com.google.common.util.concurrent.ListenableFuture;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -21,6 +20,7 @@ import org.opendaylight.transportpce.tapi.connectivity.ConnectivityUtils;
 import org.opendaylight.transportpce.tapi.listeners.TapiPceNotificationHandler;
 import org.opendaylight.transportpce.tapi.listeners.TapiRendererNotificationHandler;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiUuidFactory;
 import org.opendaylight.transportpce.tapi.validation.CreateConnectivityServiceValidation;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreate;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.service.rev250110.ServiceCreateInput;
@@ -84,7 +84,7 @@ public class CreateConnectivityServiceImpl implements CreateConnectivityService
         if (input.getName() != null && !input.getName().entrySet().isEmpty()
                 && input.getName().entrySet().stream().findFirst().orElseThrow().getValue() != null) {
             serviceName = input.getName().entrySet().stream().findFirst().orElseThrow().getValue().getValue();
-            serviceUuid = new Uuid(UUID.nameUUIDFromBytes(serviceName.getBytes(StandardCharsets.UTF_8)).toString());
+            serviceUuid = TapiUuidFactory.uuid(serviceName);
         } else {
             serviceUuid = new Uuid(UUID.randomUUID().toString());
         }
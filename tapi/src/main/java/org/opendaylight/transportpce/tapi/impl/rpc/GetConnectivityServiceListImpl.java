@@ -11,6 +11,9 @@ import com.google.common.util.concurrent.ListenableFuture;
 import java.util.HashMap;
 import java.util.Map;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiPage;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetConnectivityServiceListInput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetConnectivityServiceListOutput1Builder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceList;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceListInput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceListOutput;
@@ -46,15 +49,37 @@ public class GetConnectivityServiceListImpl implements GetConnectivityServiceLis
                 .withError(ErrorType.RPC, "No services exist in datastore")
                 .buildFuture();
         }
-
+        GetConnectivityServiceListInput1 paging = input.augmentation(GetConnectivityServiceListInput1.class);
+        TapiPage<ConnectivityService> page;
+        try {
+            page = paging == null
+                ? TapiPage.of(connMap.values(), ConnectivityService::getUuid, connServ -> true, null, null)
+                : TapiPage.of(connMap.values(), ConnectivityService::getUuid,
+                    connServ -> (paging.getLayerProtocolName() == null
+                            || paging.getLayerProtocolName().equals(connServ.getLayerProtocolName()))
+                        && (paging.getOperationalState() == null
+                            || paging.getOperationalState().equals(connServ.getOperationalState())),
+                    paging.getContinuationToken(),
+                    paging.getPageSize() == null ? null : paging.getPageSize().toJava());
+        } catch (IllegalArgumentException e) {
+            LOG.error("Invalid paging of the services", e);
+            return RpcResultBuilder.<GetConnectivityServiceListOutput>failed()
+                .withError(ErrorType.RPC, e.getMessage())
+                .buildFuture();
+        }
         Map<ServiceKey, Service> serviceMap = new HashMap<>();
-        for (ConnectivityService connectivityService: connMap.values()) {
+        for (ConnectivityService connectivityService: page.getItems()) {
             Service service = new ServiceBuilder(connectivityService).build();
             serviceMap.put(service.key(), service);
         }
-        return RpcResultBuilder
-            .success(new GetConnectivityServiceListOutputBuilder().setService(serviceMap).build())
-            .buildFuture();
+        GetConnectivityServiceListOutputBuilder output = new GetConnectivityServiceListOutputBuilder()
+            .setService(serviceMap);
+        if (page.getContinuationToken() != null) {
+            output.addAugmentation(new GetConnectivityServiceListOutput1Builder()
+                .setContinuationToken(page.getContinuationToken())
+                .build());
+        }
+        return RpcResultBuilder.success(output.build()).buildFuture();
     }
 
 }
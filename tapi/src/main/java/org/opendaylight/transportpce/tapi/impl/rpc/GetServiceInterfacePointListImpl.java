@@ -11,6 +11,9 @@ import com.google.common.util.concurrent.ListenableFuture;
 import java.util.HashMap;
 import java.util.Map;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.transportpce.tapi.utils.TapiPage;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetServiceInterfacePointListInput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetServiceInterfacePointListOutput1Builder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointList;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointListInput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointListOutput;
@@ -42,14 +45,36 @@ public class GetServiceInterfacePointListImpl implements GetServiceInterfacePoin
                 .withError(ErrorType.RPC, "No sips in datastore")
                 .buildFuture();
         }
+        GetServiceInterfacePointListInput1 paging = input.augmentation(GetServiceInterfacePointListInput1.class);
+        TapiPage<ServiceInterfacePoint> page;
+        try {
+            page = paging == null
+                ? TapiPage.of(sips.values(), ServiceInterfacePoint::getUuid, sip -> true, null, null)
+                : TapiPage.of(sips.values(), ServiceInterfacePoint::getUuid,
+                    sip -> (paging.getLayerProtocolName() == null
+                            || paging.getLayerProtocolName().equals(sip.getLayerProtocolName()))
+                        && (paging.getOperationalState() == null
+                            || paging.getOperationalState().equals(sip.getOperationalState())),
+                    paging.getContinuationToken(),
+                    paging.getPageSize() == null ? null : paging.getPageSize().toJava());
+        } catch (IllegalArgumentException e) {
+            return RpcResultBuilder.<GetServiceInterfacePointListOutput>failed()
+                .withError(ErrorType.RPC, e.getMessage())
+                .buildFuture();
+        }
         Map<SipKey, Sip> outSipMap = new HashMap<>();
-        for (ServiceInterfacePoint sip : sips.values()) {
+        for (ServiceInterfacePoint sip : page.getItems()) {
             Sip si = new SipBuilder(sip).build();
             outSipMap.put(si.key(), si);
         }
-        return RpcResultBuilder
-            .success(new GetServiceInterfacePointListOutputBuilder().setSip(outSipMap).build())
-            .buildFuture();
+        GetServiceInterfacePointListOutputBuilder output = new GetServiceInterfacePointListOutputBuilder()
+            .setSip(outSipMap);
+        if (page.getContinuationToken() != null) {
+            output.addAugmentation(new GetServiceInterfacePointListOutput1Builder()
+                .setContinuationToken(page.getContinuationToken())
+                .build());
+        }
+        return RpcResultBuilder.success(output.build()).buildFuture();
     }
 
 }
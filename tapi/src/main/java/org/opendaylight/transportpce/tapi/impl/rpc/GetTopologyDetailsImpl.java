@@ -7,8 +7,9 @@
  */
 package org.opendaylight.transportpce.tapi.impl.rpc;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import java.nio.charset.StandardCharsets;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -19,7 +20,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,10 +35,14 @@ import org.opendaylight.transportpce.tapi.topology.TapiTopologyException;
 import org.opendaylight.transportpce.tapi.topology.TopologyUtils;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
+import org.opendaylight.transportpce.tapi.utils.TapiPage;
+import org.opendaylight.transportpce.tapi.utils.TapiUuidFactory;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.MappingKey;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.Nodes;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.NodesKey;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetTopologyDetailsInput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetTopologyDetailsOutput1Builder;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.TerminationPoint1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.network.types.rev250110.OpenroadmLinkType;
@@ -61,7 +65,6 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.glob
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.NameKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePoint;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.ServiceInterfacePointKey;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Context1;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.FORWARDINGRULEMAYFORWARDACROSSGROUP;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.GetTopologyDetails;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.GetTopologyDetailsInput;
@@ -99,35 +102,71 @@ import org.slf4j.LoggerFactory;
 
 public class GetTopologyDetailsImpl implements GetTopologyDetails {
     private static final Logger LOG = LoggerFactory.getLogger(GetTopologyDetailsImpl.class);
+    private static final Uuid TOPOLOGY_UUID_100G = TapiUuidFactory.uuid(TapiConstants.TPDR_100G);
 
     private final TapiContext tapiContext;
     private final TopologyUtils topologyUtils;
     private final TapiLink tapiLink;
     private final NetworkTransactionService networkTransactionService;
+    private final TopologyDetailsCache topologyDetailsCache;
     private Map<ServiceInterfacePointKey, ServiceInterfacePoint> tapiSips;
 
     public GetTopologyDetailsImpl(TapiContext tapiContext, TopologyUtils topologyUtils, TapiLink tapiLink,
             NetworkTransactionService networkTransactionService) {
+        this(tapiContext, topologyUtils, tapiLink, networkTransactionService, null);
+    }
+
+    /**
+     * Instantiate the RPC implementation serving topologies from materialized views.
+     *
+     * @param tapiContext TAPI context
+     * @param topologyUtils topology utilities
+     * @param tapiLink TAPI link utilities
+     * @param networkTransactionService network transaction service
+     * @param topologyDetailsCache materialized views of the topologies, null to build topologies on every call
+     */
+    public GetTopologyDetailsImpl(TapiContext tapiContext, TopologyUtils topologyUtils, TapiLink tapiLink,
+            NetworkTransactionService networkTransactionService, TopologyDetailsCache topologyDetailsCache) {
         this.tapiContext = tapiContext;
         this.topologyUtils = topologyUtils;
         this.tapiLink = tapiLink;
         this.tapiSips = new HashMap<>();
         this.networkTransactionService = networkTransactionService;
+        this.topologyDetailsCache = topologyDetailsCache;
     }
 
     @Override
     public ListenableFuture<RpcResult<GetTopologyDetailsOutput>> invoke(GetTopologyDetailsInput input) {
-        Uuid topoId = input.getTopologyId();
+        ListenableFuture<RpcResult<GetTopologyDetailsOutput>> result = getTopologyDetails(input.getTopologyId());
+        GetTopologyDetailsInput1 paging = input.augmentation(GetTopologyDetailsInput1.class);
+        if (paging == null) {
+            return result;
+        }
+        return Futures.transform(result,
+            rpcResult -> rpcResult.isSuccessful() ? pageNodes(rpcResult.getResult(), paging) : rpcResult,
+            MoreExecutors.directExecutor());
+    }
+
+    private ListenableFuture<RpcResult<GetTopologyDetailsOutput>> getTopologyDetails(Uuid topoId) {
+        TopologyDetailsCache.Source source =
+            TOPOLOGY_UUID_100G.equals(topoId) || TapiConstants.T0_MULTILAYER_UUID.equals(topoId)
+                ? TopologyDetailsCache.Source.OPENROADM
+                : TopologyDetailsCache.Source.TAPI;
+        if (topologyDetailsCache != null) {
+            TopologyDetailsCache.View view = topologyDetailsCache.get(topoId, source);
+            if (view != null) {
+                LOG.debug("Topology {} served from cache", topoId);
+                return RpcResultBuilder.success(view.getOutput()).buildFuture();
+            }
+        }
+        long version = topologyDetailsCache == null ? 0 : topologyDetailsCache.getVersion(source);
         org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology topology;
-        Uuid topologyUuid100G = new Uuid(
-                UUID.nameUUIDFromBytes(TapiConstants.TPDR_100G.getBytes(StandardCharsets.UTF_8)).toString());
-        if (!topologyUuid100G.equals(topoId)
+        if (!TOPOLOGY_UUID_100G.equals(topoId)
                 && !TapiConstants.T0_TAPI_MULTILAYER_UUID.equals(topoId)
                 && !TapiConstants.T0_MULTILAYER_UUID.equals(topoId)) {
             Map<TopologyKey,
                     org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology>
-                topologyMap = this.tapiContext.getTapiContext().augmentation(Context1.class).getTopologyContext()
-                    .getTopology();
+                topologyMap = this.tapiContext.getTopologyContext();
             if (topologyMap == null || (
                     !topologyMap.containsKey(new TopologyKey(new Uuid(TapiConstants.T0_FULL_MULTILAYER_UUID)))
                     && !topologyMap.containsKey(new TopologyKey(new Uuid(TapiConstants.SBI_TAPI_TOPOLOGY_UUID)))
@@ -139,42 +178,98 @@ public class GetTopologyDetailsImpl implements GetTopologyDetails {
                     .buildFuture();
             }
             topology = topologyMap.get(new TopologyKey(topoId));
-            return RpcResultBuilder.success(new GetTopologyDetailsOutputBuilder()
-                .setTopology(this.topologyUtils.transformTopology(topology))
-                .build())
-                .buildFuture();
+            return RpcResultBuilder.success(buildOutput(topoId, source, version, topology)).buildFuture();
         }
-        if (input.getTopologyId().equals(TapiConstants.T0_TAPI_MULTILAYER_UUID)) {
+        if (topoId.equals(TapiConstants.T0_TAPI_MULTILAYER_UUID)) {
             LOG.info("Building TAPI Topology abstraction for {}", topoId);
             topology = createAbsTopologyFromTapiTopo();
-            return RpcResultBuilder.success(new GetTopologyDetailsOutputBuilder()
-                .setTopology(this.topologyUtils.transformTopology(topology)).build())
-                .buildFuture();
+            return RpcResultBuilder.success(buildOutput(topoId, source, version, topology)).buildFuture();
         }
-        if (topologyUuid100G.equals(topoId)
-                || TapiConstants.T0_MULTILAYER_UUID.equals(topoId)) {
-            try {
-                LOG.info("Building TAPI Topology abstraction for {}", topoId);
+        try {
+            TopologyDetailsCache.View otnView = topologyDetailsCache == null
+                ? null
+                : topologyDetailsCache.get(TapiConstants.T0_MULTILAYER_UUID, source);
+            if (otnView == null) {
+                LOG.info("Building TAPI Topology abstraction for {}", TapiConstants.T0_MULTILAYER_UUID);
                 topology = createAbstractedOtnTopology();
+                GetTopologyDetailsOutput output = buildOutput(TapiConstants.T0_MULTILAYER_UUID, source, version,
+                    topology);
                 if (topoId.equals(TapiConstants.T0_MULTILAYER_UUID)) {
-                    return RpcResultBuilder.success(new GetTopologyDetailsOutputBuilder()
-                        .setTopology(this.topologyUtils.transformTopology(topology)).build())
-                        .buildFuture();
+                    return RpcResultBuilder.success(output).buildFuture();
                 }
-                topology = createAbstracted100GTpdrTopology(topology);
-                return RpcResultBuilder.success(new GetTopologyDetailsOutputBuilder()
-                    .setTopology(this.topologyUtils.transformTopology(topology)).build())
-                    .buildFuture();
-            } catch (TapiTopologyException e) {
-                LOG.error("error building TAPI topology", e);
-                return RpcResultBuilder.<GetTopologyDetailsOutput>failed()
-                    .withError(ErrorType.RPC, "Error building topology")
-                    .buildFuture();
+            } else {
+                topology = otnView.getTopology();
             }
+            LOG.info("Building TAPI Topology abstraction for {}", topoId);
+            topology = createAbstracted100GTpdrTopology(topology);
+            return RpcResultBuilder.success(buildOutput(topoId, source, version, topology)).buildFuture();
+        } catch (TapiTopologyException e) {
+            LOG.error("error building TAPI topology", e);
+            return RpcResultBuilder.<GetTopologyDetailsOutput>failed()
+                .withError(ErrorType.RPC, "Error building topology")
+                .buildFuture();
+        }
+    }
+
+    private GetTopologyDetailsOutput buildOutput(Uuid topoId, TopologyDetailsCache.Source source, long version,
+            org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology topology) {
+        GetTopologyDetailsOutput output = new GetTopologyDetailsOutputBuilder()
+            .setTopology(this.topologyUtils.transformTopology(topology))
+            .build();
+        if (topologyDetailsCache != null) {
+            topologyDetailsCache.put(topoId, source, version, topology, output);
+        }
+        return output;
+    }
+
+    /**
+     * Keep in the topology the page of nodes requested and the links ending on one of these nodes.
+     *
+     * @param output the whole topology
+     * @param paging the page and the filters requested
+     * @return the output with the page of the topology or an error if the paging is invalid
+     */
+    private RpcResult<GetTopologyDetailsOutput> pageNodes(GetTopologyDetailsOutput output,
+            GetTopologyDetailsInput1 paging) {
+        org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.get.topology.details.output.Topology
+            topology = output.getTopology();
+        TapiPage<org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node> page;
+        try {
+            page = TapiPage.of(topology.nonnullNode().values(),
+                org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node::getUuid,
+                node -> (paging.getNodeId() == null || paging.getNodeId().equals(node.getUuid()))
+                    && (paging.getLayerProtocolName() == null || (node.getLayerProtocolName() != null
+                        && node.getLayerProtocolName().contains(paging.getLayerProtocolName())))
+                    && (paging.getOperationalState() == null
+                        || paging.getOperationalState().equals(node.getOperationalState())),
+                paging.getContinuationToken(),
+                paging.getPageSize() == null ? null : paging.getPageSize().toJava());
+        } catch (IllegalArgumentException e) {
+            LOG.error("Invalid paging of topology {}", topology.getUuid(), e);
+            return RpcResultBuilder.<GetTopologyDetailsOutput>failed()
+                .withError(ErrorType.RPC, e.getMessage())
+                .build();
+        }
+        Map<NodeKey, org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node> nodes =
+            page.getItems().stream().collect(Collectors.toMap(node -> node.key(), node -> node));
+        Map<LinkKey, org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Link> links =
+            topology.nonnullLink().values().stream()
+                .filter(link -> link.nonnullNodeEdgePoint().values().stream()
+                    .anyMatch(nep -> nodes.containsKey(new NodeKey(nep.getNodeUuid()))))
+                .collect(Collectors.toMap(link -> link.key(), link -> link));
+        GetTopologyDetailsOutputBuilder pageOutput = new GetTopologyDetailsOutputBuilder(output)
+            .setTopology(
+                new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.get.topology.details.output
+                        .TopologyBuilder(topology)
+                    .setNode(nodes)
+                    .setLink(links)
+                    .build());
+        if (page.getContinuationToken() != null) {
+            pageOutput.addAugmentation(new GetTopologyDetailsOutput1Builder()
+                .setContinuationToken(page.getContinuationToken())
+                .build());
         }
-        return RpcResultBuilder.<GetTopologyDetailsOutput>failed()
-            .withError(ErrorType.RPC, "Invalid Topology name")
-            .buildFuture();
+        return RpcResultBuilder.success(pageOutput.build()).build();
     }
 
     public Topology createAbstracted100GTpdrTopology(Topology topology) {
@@ -192,8 +287,7 @@ public class GetTopologyDetailsImpl implements GetTopologyDetails {
                 .setValue(TapiConstants.TPDR_100G)
                 .setValueName("TAPI Topology Name")
                 .build();
-        Uuid topoUuid = new Uuid(UUID.nameUUIDFromBytes(TapiConstants.TPDR_100G.getBytes(StandardCharsets.UTF_8))
-            .toString());
+        Uuid topoUuid = TapiUuidFactory.uuid(TapiConstants.TPDR_100G);
         org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node node =
             createTapiNode(nep100GTpdrList, topoUuid);
         return new TopologyBuilder()
@@ -247,8 +341,7 @@ public class GetTopologyDetailsImpl implements GetTopologyDetails {
                 = new HashMap<>();
         Map<LinkKey, org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Link> tapiLinkList
                 = new HashMap<>();
-        Uuid topoUuid = new Uuid(
-                UUID.nameUUIDFromBytes(TapiConstants.T0_MULTILAYER.getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid topoUuid = TapiUuidFactory.uuid(TapiConstants.T0_MULTILAYER);
         ConvertTopoORtoTapiNbi tapiAbstractFactory = new ConvertTopoORtoTapiNbi(topoUuid, this.tapiLink);
         ORtoTapiTopoConversionTools tapiFactory = new ORtoTapiTopoConversionTools(topoUuid);
         Iterator<Entry<String, List<String>>> it = networkPortMap.entrySet().iterator();
@@ -345,7 +438,7 @@ public class GetTopologyDetailsImpl implements GetTopologyDetails {
         for (OwnedNodeEdgePoint ownedNodeEdgePoint : nepList) {
             onepMap.put(ownedNodeEdgePoint.key(), ownedNodeEdgePoint);
         }
-        Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(name.getValue().getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nodeUuid = TapiUuidFactory.uuid(name.getValue());
         return new NodeBuilder()
                 .setUuid(nodeUuid)
                 .setName(Map.of(name.key(), name))
@@ -452,8 +545,7 @@ public class GetTopologyDetailsImpl implements GetTopologyDetails {
             .setRiskIdentifierList(Set.of("risk identifier1", "risk identifier2"))
             .build();
         NodeRuleGroup nodeRuleGroup = new NodeRuleGroupBuilder()
-                .setUuid(new Uuid(UUID.nameUUIDFromBytes(("rdm infra node rule group").getBytes(StandardCharsets.UTF_8))
-                    .toString()))
+                .setUuid(TapiUuidFactory.uuid("rdm infra node rule group"))
                 .setRule(new HashMap<RuleKey, Rule>(Map.of(rule.key(), rule)))
                 .setNodeEdgePoint(nepMap)
                 .setRiskCharacteristic(Map.of(riskCharacteristic.key(), riskCharacteristic))
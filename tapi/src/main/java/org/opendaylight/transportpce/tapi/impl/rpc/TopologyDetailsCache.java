@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.impl.rpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.common.InstanceIdentifiers;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Context1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.GetTopologyDetailsOutput;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.context.TopologyContext;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Materialized views of the topologies served by the GetTopologyDetails RPC.
+ *
+ * <p>Topologies are built on first request and then served from memory as long as their sources have not changed.
+ * Sources are tracked through two version counters, bumped by DataTreeChangeListeners:
+ * <ul>
+ *   <li>the OpenROADM version, for the openroadm-topology, the otn-topology and the port-mapping, from which the
+ *   T0 multi-layer and the 100G transponder abstracted topologies are built,</li>
+ *   <li>the TAPI version, for the TAPI topology context, from which the other topologies are served.</li>
+ * </ul>
+ * A view built from a given version of its source is only cached if no change was notified during the build.
+ */
+public class TopologyDetailsCache implements AutoCloseable {
+
+    /**
+     * Source of the topologies served by the GetTopologyDetails RPC.
+     */
+    public enum Source {
+        OPENROADM, TAPI
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(TopologyDetailsCache.class);
+    private static final DataObjectIdentifier<TopologyContext> TAPI_TOPOLOGY_CONTEXT_II = DataObjectIdentifier
+        .builder(Context.class)
+        .augmentation(Context1.class)
+        .child(TopologyContext.class)
+        .build();
+
+    private final Map<Source, AtomicLong> versions = Map.of(
+        Source.OPENROADM, new AtomicLong(),
+        Source.TAPI, new AtomicLong());
+    private final Map<Uuid, View> views = new ConcurrentHashMap<>();
+    private final List<Registration> registrations = new ArrayList<>();
+
+    /**
+     * Instantiate the cache and register the listeners on the sources of the topologies.
+     *
+     * @param dataBroker the data broker
+     */
+    public TopologyDetailsCache(DataBroker dataBroker) {
+        registrations.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+            InstanceIdentifiers.OPENROADM_TOPOLOGY_II, changes -> sourceChanged(Source.OPENROADM)));
+        registrations.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+            InstanceIdentifiers.OTN_NETWORK_II, changes -> sourceChanged(Source.OPENROADM)));
+        registrations.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.CONFIGURATION,
+            InstanceIdentifiers.PORTMAPPING_NODE_II, changes -> sourceChanged(Source.OPENROADM)));
+        registrations.add(dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL,
+            TAPI_TOPOLOGY_CONTEXT_II, changes -> sourceChanged(Source.TAPI)));
+    }
+
+    /**
+     * Get the current version of a source.
+     * This version acts as an ETag of all the topologies built from this source: as long as it is unchanged,
+     * the topologies served are unchanged too.
+     *
+     * @param source source of the topologies
+     * @return the current version of the source
+     */
+    public long getVersion(Source source) {
+        return versions.get(source).get();
+    }
+
+    /**
+     * Get the materialized view of a topology if it is up to date.
+     *
+     * @param topoId uuid of the topology
+     * @param source source the topology is built from
+     * @return the view or null if it has never been built or if its source has changed since
+     */
+    View get(Uuid topoId, Source source) {
+        View view = views.get(topoId);
+        return view == null || view.version != getVersion(source) ? null : view;
+    }
+
+    /**
+     * Store the materialized view of a topology.
+     * The view is dropped if its source changed since the given version, since it may already be outdated.
+     *
+     * @param topoId uuid of the topology
+     * @param source source the topology is built from
+     * @param version version of the source read before building the topology
+     * @param topology the topology as built from its source
+     * @param output the RPC output built from this topology
+     */
+    void put(Uuid topoId, Source source, long version, Topology topology, GetTopologyDetailsOutput output) {
+        if (version == getVersion(source)) {
+            views.put(topoId, new View(version, topology, output));
+        }
+    }
+
+    private void sourceChanged(Source source) {
+        long version = versions.get(source).incrementAndGet();
+        LOG.debug("{} topologies changed, version {}", source, version);
+    }
+
+    @Override
+    public void close() {
+        registrations.stream().filter(Objects::nonNull).forEach(Registration::close);
+        registrations.clear();
+        views.clear();
+    }
+
+    /**
+     * Topology built from a given version of its source, along with the corresponding RPC output.
+     */
+    static final class View {
+        private final long version;
+        private final Topology topology;
+        private final GetTopologyDetailsOutput output;
+
+        private View(long version, Topology topology, GetTopologyDetailsOutput output) {
+            this.version = version;
+            this.topology = topology;
+            this.output = output;
+        }
+
+        Topology getTopology() {
+            return topology;
+        }
+
+        GetTopologyDetailsOutput getOutput() {
+            return output;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.listeners;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.ConnectionEndPoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.LowerConnection;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.Connection;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityService;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext;
+
+/**
+ * Reverse index over the TAPI connectivity context.
+ *
+ * <p>Resolves, from a set of OwnedNodeEdgePoint UUIDs, the connections that terminate on them, the upper
+ * connections that use those as lower connections and the connectivity services built on top of them, so that a
+ * NEP state change only re-evaluates the objects it actually impacts. The index is built once from a snapshot of
+ * the connectivity context and then kept up to date connection by connection and service by service.
+ * It is not thread-safe.
+ */
+final class TapiConnectivityIndex {
+
+    private final Map<Uuid, Connection> connections = new HashMap<>();
+    private final Map<Uuid, ConnectivityService> services = new HashMap<>();
+    private final Map<Uuid, Set<Uuid>> connectionsByNep = new HashMap<>();
+    private final Map<Uuid, Set<Uuid>> upperConnectionsByConnection = new HashMap<>();
+    private final Map<Uuid, Set<Uuid>> servicesByConnection = new HashMap<>();
+    private final Map<String, Set<Uuid>> servicesByServiceLevel = new HashMap<>();
+
+    TapiConnectivityIndex() {
+    }
+
+    static TapiConnectivityIndex of(ConnectivityContext connContext) {
+        TapiConnectivityIndex index = new TapiConnectivityIndex();
+        if (connContext.getConnection() != null) {
+            for (Connection conn : connContext.getConnection().values()) {
+                index.putConnection(conn);
+            }
+        }
+        if (connContext.getConnectivityService() != null) {
+            for (ConnectivityService connService : connContext.getConnectivityService().values()) {
+                index.putConnectivityService(connService);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Add or replace a connection.
+     *
+     * @param conn the connection
+     */
+    void putConnection(Connection conn) {
+        removeConnection(conn.getUuid());
+        connections.put(conn.getUuid(), conn);
+        if (conn.getConnectionEndPoint() != null) {
+            for (ConnectionEndPoint cep : conn.getConnectionEndPoint().values()) {
+                connectionsByNep.computeIfAbsent(cep.getNodeEdgePointUuid(), k -> new HashSet<>())
+                    .add(conn.getUuid());
+            }
+        }
+        if (conn.getLowerConnection() != null) {
+            for (LowerConnection lowerConn : conn.getLowerConnection().values()) {
+                upperConnectionsByConnection.computeIfAbsent(lowerConn.getConnectionUuid(), k -> new HashSet<>())
+                    .add(conn.getUuid());
+            }
+        }
+    }
+
+    /**
+     * Remove a connection.
+     *
+     * @param connUuid UUID of the connection
+     */
+    void removeConnection(Uuid connUuid) {
+        Connection conn = connections.remove(connUuid);
+        if (conn == null) {
+            return;
+        }
+        if (conn.getConnectionEndPoint() != null) {
+            for (ConnectionEndPoint cep : conn.getConnectionEndPoint().values()) {
+                removeFrom(connectionsByNep, cep.getNodeEdgePointUuid(), connUuid);
+            }
+        }
+        if (conn.getLowerConnection() != null) {
+            for (LowerConnection lowerConn : conn.getLowerConnection().values()) {
+                removeFrom(upperConnectionsByConnection, lowerConn.getConnectionUuid(), connUuid);
+            }
+        }
+    }
+
+    /**
+     * Add or replace a connectivity service.
+     *
+     * @param connService the connectivity service
+     */
+    void putConnectivityService(ConnectivityService connService) {
+        removeConnectivityService(connService.getUuid());
+        services.put(connService.getUuid(), connService);
+        if (connService.getConnection() != null) {
+            for (org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
+                    .connectivity.service.Connection conn : connService.getConnection().values()) {
+                servicesByConnection.computeIfAbsent(conn.getConnectionUuid(), k -> new HashSet<>())
+                    .add(connService.getUuid());
+            }
+        }
+        if (connService.getConnectivityConstraint() != null
+                && connService.getConnectivityConstraint().getServiceLevel() != null) {
+            servicesByServiceLevel.computeIfAbsent(connService.getConnectivityConstraint().getServiceLevel(),
+                    k -> new HashSet<>())
+                .add(connService.getUuid());
+        }
+    }
+
+    /**
+     * Remove a connectivity service.
+     *
+     * @param connServUuid UUID of the connectivity service
+     */
+    void removeConnectivityService(Uuid connServUuid) {
+        ConnectivityService connService = services.remove(connServUuid);
+        if (connService == null) {
+            return;
+        }
+        if (connService.getConnection() != null) {
+            for (org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
+                    .connectivity.service.Connection conn : connService.getConnection().values()) {
+                removeFrom(servicesByConnection, conn.getConnectionUuid(), connServUuid);
+            }
+        }
+        if (connService.getConnectivityConstraint() != null
+                && connService.getConnectivityConstraint().getServiceLevel() != null) {
+            removeFrom(servicesByServiceLevel, connService.getConnectivityConstraint().getServiceLevel(),
+                connServUuid);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Uuid>> reverseIndex, K key, Uuid uuid) {
+        Set<Uuid> uuids = reverseIndex.get(key);
+        if (uuids != null && uuids.remove(uuid) && uuids.isEmpty()) {
+            reverseIndex.remove(key);
+        }
+    }
+
+    Connection getConnection(Uuid connUuid) {
+        return connections.get(connUuid);
+    }
+
+    ConnectivityService getConnectivityService(Uuid connServUuid) {
+        return services.get(connServUuid);
+    }
+
+    /**
+     * Get the connections impacted by a change of state of some NEPs.
+     *
+     * @param nepUuids UUIDs of the OwnedNodeEdgePoints which changed
+     * @return the connections terminating on these NEPs plus, transitively, every connection using one of them as
+     *     lower connection
+     */
+    Set<Uuid> getImpactedConnections(Collection<Uuid> nepUuids) {
+        Set<Uuid> impacted = new LinkedHashSet<>();
+        Deque<Uuid> toVisit = new ArrayDeque<>();
+        for (Uuid nepUuid : nepUuids) {
+            toVisit.addAll(connectionsByNep.getOrDefault(nepUuid, Set.of()));
+        }
+        while (!toVisit.isEmpty()) {
+            Uuid connUuid = toVisit.poll();
+            if (connections.containsKey(connUuid) && impacted.add(connUuid)) {
+                toVisit.addAll(upperConnectionsByConnection.getOrDefault(connUuid, Set.of()));
+            }
+        }
+        return impacted;
+    }
+
+    /**
+     * Get the connectivity services that rely on at least one of the given connections.
+     *
+     * @param connUuids UUIDs of the connections
+     * @return UUIDs of the connectivity services referencing them
+     */
+    Set<Uuid> getImpactedConnectivityServices(Collection<Uuid> connUuids) {
+        Set<Uuid> impacted = new LinkedHashSet<>();
+        for (Uuid connUuid : connUuids) {
+            impacted.addAll(servicesByConnection.getOrDefault(connUuid, Set.of()));
+        }
+        return impacted;
+    }
+
+    /**
+     * Get the connectivity services whose service-level references a supporting connectivity service.
+     *
+     * @param supportingConnServUuid UUID of the supporting connectivity service
+     * @return the supported connectivity services
+     */
+    List<ConnectivityService> getSupportedConnectivityServices(Uuid supportingConnServUuid) {
+        return servicesByServiceLevel.getOrDefault(supportingConnServUuid.getValue(), Set.of()).stream()
+            .map(services::get)
+            .toList();
+    }
+}
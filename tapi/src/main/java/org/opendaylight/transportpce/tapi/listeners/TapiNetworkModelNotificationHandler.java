@@ -7,27 +7,26 @@
  */
 package org.opendaylight.transportpce.tapi.listeners;
 
-import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.NotificationService.CompositeListener;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.network.NetworkTransactionService;
 import org.opendaylight.transportpce.tapi.TapiConstants;
+import org.opendaylight.transportpce.tapi.utils.TapiUuidFactory;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationService;
 import org.opendaylight.yang.gen.v1.nbi.notifications.rev230728.PublishTapiNotificationServiceBuilder;
@@ -40,7 +39,8 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.Name;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.NameKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.CONNECTIVITYOBJECTTYPECONNECTIVITYSERVICE;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.OwnedNodeEdgePoint1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.ConnectionEndPoint;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.LowerConnection;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.Connection;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectionBuilder;
@@ -58,67 +58,175 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev22112
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.TargetObjectName;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.TargetObjectNameBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.notification.rev221121.notification.TargetObjectNameKey;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Context1;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.NodeEdgePointRef;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.TOPOLOGYOBJECTTYPENODEEDGEPOINT;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.context.TopologyContext;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePoint;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePointKey;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.NodeKey;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology;
-import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.TopologyKey;
 import org.opendaylight.yangtools.binding.DataObjectIdentifier;
-import org.opendaylight.yangtools.binding.EnumTypeObject;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Propagates the NEP state changes notified by the network model to the TAPI connections and connectivity services.
+ *
+ * <p>The connections and connectivity services impacted by a change are resolved from a {@link TapiConnectivityIndex}
+ * kept in memory across notifications. The index is built from a full read of the connectivity context on first use,
+ * then updated incrementally by DataTreeChangeListeners on the connections and connectivity services. It is only
+ * rebuilt, by a new full read, when it is found inconsistent with the datastore.
+ */
 @Component(service = TapiNetworkModelNotificationHandler.class)
-public class TapiNetworkModelNotificationHandler {
+public class TapiNetworkModelNotificationHandler implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(TapiNetworkModelNotificationHandler.class);
+    private static final DataObjectIdentifier<ConnectivityContext> CONNECTIVITY_CONTEXT_IID = DataObjectIdentifier
+        .builder(Context.class)
+        .augmentation(Context1.class)
+        .child(ConnectivityContext.class)
+        .build();
+    private static final DataObjectReference<Connection> CONNECTION_II = DataObjectReference.builder(Context.class)
+        .augmentation(Context1.class)
+        .child(ConnectivityContext.class)
+        .child(Connection.class)
+        .build();
+    private static final DataObjectReference<ConnectivityService> CONNECTIVITY_SERVICE_II = DataObjectReference
+        .builder(Context.class)
+        .augmentation(Context1.class)
+        .child(ConnectivityContext.class)
+        .child(ConnectivityService.class)
+        .build();
     private final NetworkTransactionService networkTransactionService;
     private final NotificationPublishService notificationPublishService;
-    private final List<ConnectivityService> connectivityServiceChanges = new ArrayList<>();
-    private final Uuid tapiTopoUuid = new Uuid(UUID.nameUUIDFromBytes(TapiConstants.T0_FULL_MULTILAYER
-            .getBytes(StandardCharsets.UTF_8)).toString());
-    private final List<LayerProtocolName> orderedServiceLayerList;
+    private final Uuid tapiTopoUuid = TapiUuidFactory.uuid(TapiConstants.T0_FULL_MULTILAYER);
+    private final List<Registration> registrations;
+    // null until built by a resync, guarded by this
+    private TapiConnectivityIndex index;
+    // set when the index is found inconsistent with the datastore, guarded by this
+    private boolean resyncNeeded;
 
     @Activate
-    public TapiNetworkModelNotificationHandler(@Reference NetworkTransactionService networkTransactionService,
+    public TapiNetworkModelNotificationHandler(@Reference DataBroker dataBroker,
+            @Reference NetworkTransactionService networkTransactionService,
             @Reference NotificationPublishService notificationPublishService) {
         this.networkTransactionService = networkTransactionService;
         this.notificationPublishService = notificationPublishService;
-        this.orderedServiceLayerList = List.of(LayerProtocolName.PHOTONICMEDIA, LayerProtocolName.ODU,
-            LayerProtocolName.DSR, LayerProtocolName.ETH);
+        this.registrations = List.of(
+            dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, CONNECTION_II,
+                this::onConnectionsChanged),
+            dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, CONNECTIVITY_SERVICE_II,
+                this::onConnectivityServicesChanged));
         LOG.debug("TapiNetworkModelListenerImpl instantiated");
     }
 
+    @Deactivate
+    @Override
+    public void close() {
+        registrations.forEach(Registration::close);
+        synchronized (this) {
+            index = null;
+        }
+    }
+
     public CompositeListener getCompositeListener() {
         return new CompositeListener(Set.of(
             new CompositeListener.Component<>(Notification.class, this::onNotification)));
     }
 
-    private void onNotification(Notification notification) {
+    private synchronized void onConnectionsChanged(List<DataTreeModification<Connection>> changes) {
+        if (index == null) {
+            // applied by the next resync
+            return;
+        }
+        for (DataTreeModification<Connection> change : changes) {
+            Connection connAfter = change.getRootNode().dataAfter();
+            if (connAfter == null) {
+                index.removeConnection(change.path().firstKeyOf(Connection.class).getUuid());
+            } else {
+                index.putConnection(connAfter);
+            }
+        }
+    }
+
+    private synchronized void onConnectivityServicesChanged(List<DataTreeModification<ConnectivityService>> changes) {
+        if (index == null) {
+            // applied by the next resync
+            return;
+        }
+        for (DataTreeModification<ConnectivityService> change : changes) {
+            ConnectivityService connServiceAfter = change.getRootNode().dataAfter();
+            if (connServiceAfter == null) {
+                index.removeConnectivityService(
+                    change.path().firstKeyOf(ConnectivityService.class).getUuid());
+            } else {
+                index.putConnectivityService(connServiceAfter);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the connectivity index from a full read of the connectivity context.
+     *
+     * @return false if the connectivity context could not be read
+     */
+    private boolean resync() throws InterruptedException, ExecutionException {
+        LOG.info("Building the TAPI connectivity index from the connectivity context");
+        Optional<ConnectivityContext> optConnContext = this.networkTransactionService
+            .read(LogicalDatastoreType.OPERATIONAL, CONNECTIVITY_CONTEXT_IID).get();
+        if (optConnContext.isEmpty()) {
+            return false;
+        }
+        index = TapiConnectivityIndex.of(optConnContext.orElseThrow());
+        return true;
+    }
+
+    private synchronized void onNotification(Notification notification) {
         LOG.info("Received network model notification {}", notification);
         if (notification.getNotificationType().equals(NOTIFICATIONTYPEATTRIBUTEVALUECHANGE.VALUE)
                 && notification.getTargetObjectType().equals(TOPOLOGYOBJECTTYPENODEEDGEPOINT.VALUE)) {
             if (notification.getChangedAttributes() == null) {
                 return;
             }
-            // TODO: need to re-think this to update first the connections from roadm to roadm and then the others
-            updateConnections(notification.getChangedAttributes().keySet().stream()
-                    .map(changedAttributesKey -> new Uuid(changedAttributesKey.getValueName()))
-                    .collect(Collectors.toList()), notification.getChangedAttributes().values().stream()
-                    .map(NameAndValueChange::getNewValue)
-                    .collect(Collectors.toList()));
-            updateConnectivityServices();
-            // todo set attributes
-            for (ConnectivityService connService : this.connectivityServiceChanges) {
-                sendNbiNotification(createNbiNotification(connService));
+            Map<Uuid, OperationalState> changedOnepStates = new LinkedHashMap<>();
+            for (NameAndValueChange changedAttribute : notification.getChangedAttributes().values()) {
+                changedOnepStates.put(new Uuid(changedAttribute.getValueName()),
+                    transformOperState(changedAttribute.getNewValue()));
+            }
+            LOG.info("Change in oneps = {}", changedOnepStates);
+            try {
+                if (index == null && !resync()) {
+                    LOG.error(TapiConstants.TAPI_CONNECTION_UPDATE_ERROR);
+                    return;
+                }
+                Map<Uuid, Connection> connChanges = new HashMap<>();
+                Map<Uuid, OperationalState> connStates = updateConnections(changedOnepStates, connChanges);
+                Collection<ConnectivityService> connServiceChanges = updateConnectivityServices(connStates);
+                if (connStates.isEmpty() && connServiceChanges.isEmpty()) {
+                    LOG.info("No TAPI connection nor connectivity service impacted by NEP changes");
+                    return;
+                }
+                this.networkTransactionService.commit().get();
+                // the listeners will notify the same changes, but the next notification must not miss them
+                connChanges.values().forEach(index::putConnection);
+                connServiceChanges.forEach(index::putConnectivityService);
+                // todo set attributes
+                for (ConnectivityService connService : connServiceChanges) {
+                    sendNbiNotification(createNbiNotification(connService));
+                }
+            } catch (InterruptedException e) {
+                LOG.error(TapiConstants.TAPI_CONNECTION_UPDATE_ERROR, e);
+                resyncNeeded = true;
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.error(TapiConstants.TAPI_CONNECTION_UPDATE_ERROR, e);
+                // the datastore may not hold what the index expects any more
+                resyncNeeded = true;
+            } finally {
+                if (resyncNeeded) {
+                    index = null;
+                    resyncNeeded = false;
+                }
             }
         }
     }
@@ -183,397 +291,176 @@ public class TapiNetworkModelNotificationHandler {
         }
     }
 
-    private void updateConnectivityServices() {
-        try {
-            this.connectivityServiceChanges.clear();
-            DataObjectIdentifier<ConnectivityContext> connectivityContextIID = DataObjectIdentifier
-                    .builder(Context.class)
-                    .augmentation(
-                        org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                    .child(ConnectivityContext.class)
-                    .build();
-            Optional<ConnectivityContext> optConnContext =
-                this.networkTransactionService.read(LogicalDatastoreType.OPERATIONAL, connectivityContextIID).get();
-            if (optConnContext.isEmpty()) {
-                LOG.error("Could not update TAPI connectivity services");
-                return;
-            }
-            ConnectivityContext connContext = optConnContext.orElseThrow();
-            Map<Uuid, EnumTypeObject[]> states = new HashMap<>();
-            if (connContext.getConnectivityService() == null) {
-                return;
-            }
-            for (ConnectivityService connService : connContext.getConnectivityService().values()) {
-                LOG.info("Connectivity service = {}", connService);
-                // TODO: maybe we need to check lower connections if my new code doesnt work
-                states.put(connService.getUuid(), getStates(connService));
-                AdministrativeState adminState = (AdministrativeState) states.get(connService.getUuid())[0];
-                OperationalState operState = (OperationalState) states.get(connService.getUuid())[1];
-
-                DataObjectIdentifier<ConnectivityService> connServIID = DataObjectIdentifier.builder(Context.class)
-                    .augmentation(
-                            org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                    .child(ConnectivityContext.class)
-                    .child(ConnectivityService.class, new ConnectivityServiceKey(connService.getUuid()))
-                    .build();
-                ConnectivityService changedConnServ = new ConnectivityServiceBuilder()
-                    .setUuid(connService.getUuid())
-                    .setAdministrativeState(adminState)
-                    .setOperationalState(operState)
-                    .build();
-                this.networkTransactionService.merge(LogicalDatastoreType.OPERATIONAL, connServIID,
-                    changedConnServ);
-                this.networkTransactionService.commit().get();
-
-                if (connService.getAdministrativeState() != adminState
-                    || connService.getOperationalState() != operState) {
-                    this.connectivityServiceChanges.add(changedConnServ);
-                }
-            }
-            // TODO: this last function may need some refactoring... if the PHOT_MEDIA goes down,
-            //  then ODU goes down and then DSR should also go down
-            for (ConnectivityService connService : connContext.getConnectivityService().values()) {
-                AdministrativeState adminState = (AdministrativeState) states.get(connService.getUuid())[0];
-                OperationalState operState = (OperationalState) states.get(connService.getUuid())[1];
-                this.connectivityServiceChanges.addAll(updateSupportedConnectivityServices(
-                    connContext.getConnectivityService().values(), connService.getUuid(), adminState, operState,
-                    LayerProtocolName.ODU));
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error("Could not update TAPI connectivity services", e);
-        }
-    }
-
-    private EnumTypeObject[] getStates(ConnectivityService connService)
-            throws InterruptedException, ExecutionException {
-        OperationalState operState = OperationalState.ENABLED;
-        AdministrativeState adminState = AdministrativeState.UNLOCKED;
-        if (connService.getConnection() == null) {
-            LOG.info("No connections on service = {}", connService);
-            return new EnumTypeObject[]{null, null};
+    /**
+     * Re-evaluate the operational state of the connections impacted by NEP state changes.
+     * Only the connections terminating on the changed NEPs and, transitively, the connections using them as lower
+     * connections are considered. Updated connections are merged in the pending transaction.
+     *
+     * @param changedOnepStates new operational states of the changed NEPs
+     * @param connChanges filled with the connections whose state changed
+     * @return the evaluated state of every impacted connection
+     */
+    private Map<Uuid, OperationalState> updateConnections(Map<Uuid, OperationalState> changedOnepStates,
+            Map<Uuid, Connection> connChanges) {
+        LOG.info("Updating TAPI connections");
+        Set<Uuid> impactedConns = index.getImpactedConnections(changedOnepStates.keySet());
+        Map<Uuid, OperationalState> connStates = new HashMap<>();
+        for (Uuid connUuid : impactedConns) {
+            evaluateConnectionState(connUuid, impactedConns, changedOnepStates, connStates);
         }
-        for (org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
-                .connectivity.service.Connection connection : connService.getConnection().values()) {
-            DataObjectIdentifier<Connection> connIID = DataObjectIdentifier.builder(Context.class)
-                    .augmentation(
-                            org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                    .child(ConnectivityContext.class)
-                    .child(Connection.class, new ConnectionKey(connection.getConnectionUuid()))
-                    .build();
-            Optional<Connection> optConn = this.networkTransactionService.read(LogicalDatastoreType.OPERATIONAL,
-                connIID).get();
-            if (optConn.isEmpty()) {
-                LOG.error("Could not get state for a TAPI connection");
+        for (Map.Entry<Uuid, OperationalState> connState : connStates.entrySet()) {
+            Connection conn = index.getConnection(connState.getKey());
+            LOG.info("Previous connection state = {} & New connection state = {}",
+                conn.getOperationalState().getName(), connState.getValue().getName());
+            if (conn.getOperationalState() == connState.getValue()) {
                 continue;
             }
-            LOG.info("State of connection {} of connectivity service {} = {}", optConn.orElseThrow().getUuid()
-                .getValue(), connService.getUuid().getValue(), optConn.orElseThrow().getOperationalState().getName());
-            if (optConn.orElseThrow().getOperationalState() == OperationalState.DISABLED) {
-                adminState = AdministrativeState.LOCKED;
-                operState = OperationalState.DISABLED;
-            }
+            DataObjectIdentifier<Connection> connIID = DataObjectIdentifier.builder(Context.class)
+                .augmentation(Context1.class)
+                .child(ConnectivityContext.class)
+                .child(Connection.class, new ConnectionKey(conn.getUuid()))
+                .build();
+            Connection connChange = new ConnectionBuilder(conn).setOperationalState(connState.getValue()).build();
+            this.networkTransactionService.merge(LogicalDatastoreType.OPERATIONAL, connIID, connChange);
+            connChanges.put(conn.getUuid(), connChange);
         }
-        return new EnumTypeObject[]{adminState, operState};
+        return connStates;
     }
 
-    private void updateConnections(List<Uuid> changedOneps, List<String> onepStates) {
-        LOG.info("Updating TAPI connections");
-        LOG.info("Change in oneps = {}, new states = {}", changedOneps, onepStates);
-        try {
-            //should it return a list of connections?
-            DataObjectIdentifier<org.opendaylight.yang.gen.v1.urn
-                    .onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext> connectivityContextIID =
-                DataObjectIdentifier.builder(Context.class)
-                    .augmentation(
-                            org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                    .child(org.opendaylight.yang.gen.v1.urn
-                            .onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext.class)
-                    .build();
-            Optional<org.opendaylight.yang.gen.v1.urn
-                    .onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext> optConnContext =
-                this.networkTransactionService.read(LogicalDatastoreType.OPERATIONAL, connectivityContextIID).get();
-            if (optConnContext.isEmpty()) {
-                LOG.error(TapiConstants.TAPI_CONNECTION_UPDATE_ERROR);
-                return;
-            }
-            if (optConnContext.orElseThrow().getConnectivityService() == null) {
-                LOG.info("No TAPI connectivity service to update");
-                return;
-            }
-            // TODO: order services from lower layer to upper layer
-            Map<ConnectivityServiceKey, ConnectivityService> connServMap
-                    = optConnContext.orElseThrow().getConnectivityService();
-            if (connServMap == null) {
-                LOG.info("No connections to update");
-                return;
-            }
-            connServMap = orderConnServiceMap(connServMap);
-            for (ConnectivityService connService : connServMap.values()) {
-                LOG.info("Looping through connectivity service = {}", connService.getUuid().getValue());
-                if (connService.getConnection() == null) {
-                    continue;
-                }
-                for (org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
-                        .connectivity.service.Connection connection : connService.getConnection().values()) {
-                    DataObjectIdentifier<Connection> connIID = DataObjectIdentifier.builder(Context.class)
-                        .augmentation(org.opendaylight.yang.gen.v1
-                                .urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                        .child(org.opendaylight.yang.gen.v1
-                                .urn.onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext.class)
-                        .child(Connection.class, new ConnectionKey(connection.getConnectionUuid()))
-                        .build();
-                    Optional<Connection> optConn =
-                        this.networkTransactionService.read(LogicalDatastoreType.OPERATIONAL, connIID).get();
-                    if (optConn.isEmpty()) {
-                        LOG.error(TapiConstants.TAPI_CONNECTION_READ_ERROR);
-                        continue;
-                    }
-                    Connection newConn = optConn.orElseThrow();
-                    // Check LowerConnection states and if any of the lower connection is disabled then we can put
-                    // the connection out of service. And based on the connection previous state we decide
-                    // the update necessary
-                    OperationalState newConnState = newConn.getOperationalState();
-                    if (newConn.getLowerConnection() != null) {
-                        newConnState = updateLowerConnections(changedOneps, onepStates,
-                                newConn.getLowerConnection().values(), newConn.getOperationalState());
-                    }
-                    if (newConnState.equals(newConn.getOperationalState())) {
-                        // To check if the oneps are from the original Top connection
-                        newConnState = getConnectionState(changedOneps, onepStates, newConn);
-                    }
-                    LOG.debug("Analysing connection = {} ", newConn.getName().toString());
-                    LOG.info("Previous connection state = {} & New connection state = {}",
-                            newConn.getOperationalState().getName(), newConnState.getName());
-                    Connection changedConn = new ConnectionBuilder(newConn).setOperationalState(newConnState).build();
-                    // TODO: the changed NEP is a DEG port which is not in any connection,
-                    //  therefore we also need to change the cross connections,
-                    //  the lower connections uuid and check the states.
-                    //  If any of the lower connections of a connection is DISABLED then the top connection is DISABLED
-                    this.networkTransactionService.merge(LogicalDatastoreType.OPERATIONAL, connIID, changedConn);
-                    this.networkTransactionService.commit().get();
-                }
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error(TapiConstants.TAPI_CONNECTION_UPDATE_ERROR, e);
+    private OperationalState evaluateConnectionState(Uuid connUuid, Set<Uuid> impactedConns,
+            Map<Uuid, OperationalState> changedOnepStates, Map<Uuid, OperationalState> connStates) {
+        OperationalState knownState = connStates.get(connUuid);
+        if (knownState != null) {
+            return knownState;
         }
-    }
-
-    private Map<ConnectivityServiceKey, ConnectivityService> orderConnServiceMap(
-            Map<ConnectivityServiceKey, ConnectivityService> connServMap) {
-        Map<ConnectivityServiceKey, ConnectivityService> orderedServiceMap = new HashMap<>();
-        for (LayerProtocolName lpn:this.orderedServiceLayerList) {
-            for (ConnectivityService connServ:connServMap.values()) {
-                if (connServ.getLayerProtocolName().equals(lpn)) {
-                    LOG.info("Layer of service is equal to entry of lpn = {}", lpn);
-                    orderedServiceMap.put(connServ.key(), connServ);
+        Connection conn = index.getConnection(connUuid);
+        if (conn == null) {
+            LOG.error(TapiConstants.TAPI_CONNECTION_READ_ERROR);
+            // a lower connection unknown from the index, rebuild it on the next notification
+            resyncNeeded = true;
+            return null;
+        }
+        if (!impactedConns.contains(connUuid)) {
+            return conn.getOperationalState();
+        }
+        // If any of the lower connections is disabled then the top connection is disabled
+        OperationalState lowerConnState = null;
+        if (conn.getLowerConnection() != null && !conn.getLowerConnection().isEmpty()) {
+            lowerConnState = OperationalState.ENABLED;
+            for (LowerConnection lowerConn : conn.getLowerConnection().values()) {
+                if (evaluateConnectionState(lowerConn.getConnectionUuid(), impactedConns, changedOnepStates,
+                        connStates) == OperationalState.DISABLED) {
+                    lowerConnState = OperationalState.DISABLED;
                 }
             }
         }
-        LOG.info("Ordered map of services = {}", orderedServiceMap);
-        return orderedServiceMap;
+        OperationalState newConnState;
+        if (lowerConnState != null && lowerConnState != conn.getOperationalState()) {
+            newConnState = lowerConnState;
+        } else {
+            // To check if the oneps are from the original Top connection
+            OperationalState onepState = getConnectionOnepState(conn, changedOnepStates);
+            newConnState = onepState == null ? conn.getOperationalState() : onepState;
+        }
+        connStates.put(connUuid, newConnState);
+        return newConnState;
     }
 
-    private OperationalState updateLowerConnections(List<Uuid> changedOneps, List<String> onepStates,
-                                                    Collection<LowerConnection> lowerConnections,
-                                                    OperationalState uppConnState) {
-        LOG.info("Updating lower connections");
-        OperationalState topConnectionState = uppConnState;
-        Boolean allLowerConnEna = true;
-        try {
-            for (LowerConnection lowerConn:lowerConnections) {
-                DataObjectIdentifier<Connection> connIID = DataObjectIdentifier.builder(Context.class)
-                    .augmentation(
-                            org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                    .child(org.opendaylight.yang.gen.v1.urn
-                            .onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext.class)
-                    .child(Connection.class, new ConnectionKey(lowerConn.getConnectionUuid()))
-                    .build();
-                Optional<Connection> optConn =
-                        this.networkTransactionService.read(LogicalDatastoreType.OPERATIONAL, connIID).get();
-                if (optConn.isEmpty()) {
-                    LOG.error(TapiConstants.TAPI_CONNECTION_READ_ERROR);
-                    continue;
-                }
-//                Current state of connection
-                Connection newConn = optConn.orElseThrow();
-                if (newConn.getLowerConnection() != null) {
-                    // TODO: we can receive disable here because the lower connection haven been yet looped through and
-                    //  therefore it is disabled but it has to be changed to enable before returning disable.
-                    //  We need to recall the update Lower Connections with the lower connection we are checking now
-                    //  and all its lower connections, until no lower connections are found in the connection
-                    updateLowerConnections(changedOneps, onepStates, newConn.getLowerConnection().values(),
-                            newConn.getOperationalState());
-                }
-                OperationalState newConnState = getConnectionState(changedOneps, onepStates, newConn);
-                // updated connection state if it contains a nep that has changed
-                if (!newConn.getOperationalState().equals(newConnState)) {
-                    Connection changedConn = new ConnectionBuilder(newConn).setOperationalState(newConnState).build();
-                    this.networkTransactionService.merge(LogicalDatastoreType.OPERATIONAL, connIID, changedConn);
-                    this.networkTransactionService.commit().get();
-                }
-                if (newConnState.equals(OperationalState.DISABLED)) {
-                    LOG.info("LowerConnection state is disable");
-                    allLowerConnEna = false;
-                    topConnectionState = OperationalState.DISABLED;
-                }
+    private OperationalState getConnectionOnepState(Connection conn, Map<Uuid, OperationalState> changedOnepStates) {
+        if (conn.getConnectionEndPoint() == null) {
+            return null;
+        }
+        OperationalState onepState = null;
+        for (ConnectionEndPoint cep : conn.getConnectionEndPoint().values()) {
+            OperationalState changedState = changedOnepStates.get(cep.getNodeEdgePointUuid());
+            if (changedState == OperationalState.DISABLED) {
+                return OperationalState.DISABLED;
             }
-            if (allLowerConnEna) {
-                return OperationalState.ENABLED;
+            if (changedState != null) {
+                onepState = changedState;
             }
-            return OperationalState.DISABLED;
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error(TapiConstants.TAPI_CONNECTION_UPDATE_ERROR, e);
-            return topConnectionState;
         }
+        return onepState;
     }
 
-    private OperationalState getConnectionState(List<Uuid> changedOneps, List<String> operState, Connection conn)
-            throws InterruptedException, ExecutionException {
-        LOG.info("Getting TAPI connectionState");
-        List<Uuid> connectionNeps = Objects.requireNonNull(conn.getConnectionEndPoint()).values().stream()
-            .map(NodeEdgePointRef::getNodeEdgePointUuid).collect(Collectors.toList());
-        LOG.info("Changed neps = {}", changedOneps);
-        LOG.info("Connection NEPs = {}", connectionNeps);
-        if (!Collections.disjoint(changedOneps, connectionNeps)) {
-            LOG.info("Connection neps {} are included in changed oneps {}", connectionNeps, changedOneps);
-            if ((changedOneps.contains(connectionNeps.get(0)) ? transformOperState(operState.get(
-                    changedOneps.indexOf(connectionNeps.get(0)))) : null) == OperationalState.DISABLED
-                        || (changedOneps.contains(connectionNeps.get(1)) ? transformOperState(operState.get(
-                                changedOneps.indexOf(connectionNeps.get(1)))) : null) == OperationalState.DISABLED) {
-                return OperationalState.DISABLED;
+    /**
+     * Re-evaluate the states of the connectivity services relying on the re-evaluated connections, and propagate
+     * a failure to the connectivity services they support. Updated services are merged in the pending transaction.
+     *
+     * @param connStates evaluated state of the impacted connections
+     * @return the connectivity services whose state changed
+     */
+    private Collection<ConnectivityService> updateConnectivityServices(Map<Uuid, OperationalState> connStates) {
+        Map<Uuid, ConnectivityService> connServiceChanges = new LinkedHashMap<>();
+        for (Uuid connServUuid : index.getImpactedConnectivityServices(connStates.keySet())) {
+            ConnectivityService connService = index.getConnectivityService(connServUuid);
+            if (connService.getConnection() == null) {
+                LOG.info("No connections on service = {}", connServUuid.getValue());
+                continue;
             }
-            if ((changedOneps.contains(connectionNeps.get(0)) ? transformOperState(operState.get(
-                    changedOneps.indexOf(connectionNeps.get(0)))) : null) == OperationalState.ENABLED
-                        || (changedOneps.contains(connectionNeps.get(1)) ? transformOperState(operState.get(
-                                changedOneps.indexOf(connectionNeps.get(1)))) : null) == OperationalState.ENABLED) {
-                return OperationalState.ENABLED;
+            boolean disabled = connService.getConnection().values().stream()
+                .map(conn -> connStates.containsKey(conn.getConnectionUuid())
+                    ? connStates.get(conn.getConnectionUuid())
+                    : Optional.ofNullable(index.getConnection(conn.getConnectionUuid()))
+                        .map(Connection::getOperationalState)
+                        .orElse(null))
+                .anyMatch(OperationalState.DISABLED::equals);
+            AdministrativeState adminState = disabled ? AdministrativeState.LOCKED : AdministrativeState.UNLOCKED;
+            OperationalState operState = disabled ? OperationalState.DISABLED : OperationalState.ENABLED;
+            if (connService.getAdministrativeState() != adminState
+                    || connService.getOperationalState() != operState) {
+                updateConnectivityServiceState(connService, adminState, operState, connServiceChanges);
             }
-            LOG.info("Didnt transform correctly the states");
-            for (Uuid connectionNep : connectionNeps) {
-                Optional<org.opendaylight.yang.gen.v1.urn
-                        .onf.otcc.yang.tapi.connectivity.rev221121.connection.ConnectionEndPoint> ocep
-                    = conn.getConnectionEndPoint().values().stream()
-                        .filter(connectionEndPoint -> connectionEndPoint.getNodeEdgePointUuid() == connectionNep)
-                        .findFirst();
-                if (ocep.isEmpty()) {
-                    continue;
-                }
-                DataObjectIdentifier<OwnedNodeEdgePoint> onepIID = DataObjectIdentifier.builder(Context.class)
-                    .augmentation(Context1.class).child(TopologyContext.class)
-                    .child(Topology.class, new TopologyKey(ocep.orElseThrow().getTopologyUuid()))
-                    .child(Node.class, new NodeKey(ocep.orElseThrow().getNodeUuid()))
-                    .child(OwnedNodeEdgePoint.class, new OwnedNodeEdgePointKey(connectionNep))
-                    .build();
-                Optional<OwnedNodeEdgePoint> onep =
-                    this.networkTransactionService.read(LogicalDatastoreType.OPERATIONAL, onepIID).get();
-                if (onep.isEmpty() || onep.orElseThrow().augmentation(OwnedNodeEdgePoint1.class) == null
-                        || onep.orElseThrow().augmentation(OwnedNodeEdgePoint1.class).getCepList() == null) {
-                    continue;
-                }
-                if (onep.orElseThrow().getOperationalState() == OperationalState.DISABLED
-                        && !changedOneps.contains(onep.orElseThrow().getUuid())) {
-                    return OperationalState.DISABLED;
-                }
+            // TODO: this last function may need some refactoring... if the PHOT_MEDIA goes down,
+            //  then ODU goes down and then DSR should also go down
+            if (disabled) {
+                updateSupportedConnectivityServices(connServUuid, adminState, operState,
+                    LayerProtocolName.ODU, connServiceChanges);
             }
-            return OperationalState.ENABLED;
         }
-        LOG.info("Connection state = {}. Going to check lower connections", conn.getOperationalState());
-        // TODO --> check all lower connections state and if all of them are enabled we return enable, otherwise disable
-        if (conn.getLowerConnection() != null && allLowerConEnabled(conn.getLowerConnection().values())) {
-            return OperationalState.ENABLED;
-        }
-        return conn.getOperationalState();
+        return connServiceChanges.values();
     }
 
-    private boolean allLowerConEnabled(Collection<LowerConnection> lowerConnections) {
-        try {
-            for (LowerConnection lowerConn:lowerConnections) {
-                DataObjectIdentifier<Connection> connIID = DataObjectIdentifier.builder(Context.class)
-                    .augmentation(
-                            org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                    .child(org.opendaylight.yang.gen.v1
-                            .urn.onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext.class)
-                    .child(Connection.class, new ConnectionKey(lowerConn.getConnectionUuid()))
-                    .build();
-                Optional<Connection> optConn =
-                    this.networkTransactionService.read(LogicalDatastoreType.OPERATIONAL, connIID).get();
-                if (optConn.isEmpty()) {
-                    LOG.error(TapiConstants.TAPI_CONNECTION_READ_ERROR);
-                    continue;
-                }
-//                Current state of connection
-                Connection newConn = optConn.orElseThrow();
-                // updated connection state if it contains a nep that has changed
-                if (newConn.getOperationalState().equals(OperationalState.DISABLED)) {
-                    LOG.info("LowerConnection state is disable");
-                    return false;
-                }
+    private void updateSupportedConnectivityServices(Uuid supportingConnService, AdministrativeState adminState,
+            OperationalState operState, LayerProtocolName layer, Map<Uuid, ConnectivityService> connServiceChanges) {
+        // TODO currently supporting service uuid is saved in service layer, replace with name as soon
+        // as name is implemented
+        for (ConnectivityService supportedConnService : index.getSupportedConnectivityServices(supportingConnService)) {
+            if (supportedConnService.getLayerProtocolName() != layer) {
+                continue;
+            }
+            ConnectivityService currentConnService =
+                connServiceChanges.getOrDefault(supportedConnService.getUuid(), supportedConnService);
+            if (currentConnService.getAdministrativeState() == AdministrativeState.LOCKED
+                    || currentConnService.getOperationalState() == OperationalState.DISABLED) {
+                continue;
+            }
+            // TODO: may need to update connections...
+            updateConnectivityServiceState(supportedConnService, adminState, operState, connServiceChanges);
+            if (layer == LayerProtocolName.ODU) {
+                updateSupportedConnectivityServices(supportedConnService.getUuid(), adminState, operState,
+                    LayerProtocolName.DSR, connServiceChanges);
             }
-            return true;
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error(TapiConstants.TAPI_CONNECTION_UPDATE_ERROR, e);
-            return false;
         }
     }
 
-    private List<ConnectivityService> updateSupportedConnectivityServices(Collection<ConnectivityService> connServices,
-                                                                          Uuid supportingConnService,
-                                                                          AdministrativeState adminState,
-                                                                          OperationalState operState,
-                                                                          LayerProtocolName layer) {
-        // TODO we need to check this function
-        List<ConnectivityService> changedServices = new ArrayList<>();
-        if (adminState != AdministrativeState.LOCKED && operState != OperationalState.DISABLED) {
-            return changedServices;
-        }
-        try {
-            for (ConnectivityService supportedConnService : connServices) {
-                // TODO currently supporting service uuid is saved in service layer, replace with name as soon
-                // as name is implemented
-                if (supportedConnService.getLayerProtocolName() != layer) {
-                    continue;
-                }
-                DataObjectIdentifier<ConnectivityService> supportedConnServIID = DataObjectIdentifier
-                    .builder(Context.class)
-                    .augmentation(
-                            org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.Context1.class)
-                    .child(org.opendaylight.yang.gen.v1
-                            .urn.onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContext.class)
-                    .child(ConnectivityService.class, new ConnectivityServiceKey(supportedConnService.getUuid()))
-                    .build();
-                Optional<ConnectivityService> optNewConnService = this.networkTransactionService.read(
-                    LogicalDatastoreType.OPERATIONAL, supportedConnServIID).get();
-                if (optNewConnService.isEmpty()) {
-                    LOG.error("Could not update TAPI connectivity service");
-                    continue;
-                }
-                ConnectivityService newConnService = optNewConnService.orElseThrow();
-                if (supportedConnService.getConnectivityConstraint().getServiceLevel() != null
-                        && supportedConnService.getConnectivityConstraint().getServiceLevel()
-                            .equals(supportingConnService.getValue())
-                        && newConnService.getAdministrativeState() != AdministrativeState.LOCKED
-                        && newConnService.getOperationalState() != OperationalState.DISABLED) {
-
-                    ConnectivityService changedSupportedConnServ = new ConnectivityServiceBuilder()
-                        .setUuid(supportedConnService.getUuid())
-                        .setAdministrativeState(adminState)
-                        .setOperationalState(operState)
-                        .build();
-                    // TODO: may need to update connections...
-                    this.networkTransactionService.merge(LogicalDatastoreType.OPERATIONAL, supportedConnServIID,
-                        changedSupportedConnServ);
-                    this.networkTransactionService.commit().get();
-                    changedServices.add(changedSupportedConnServ);
-                    if (layer == LayerProtocolName.ODU) {
-                        changedServices.addAll(updateSupportedConnectivityServices(connServices,
-                            supportedConnService.getUuid(), adminState, operState, LayerProtocolName.DSR));
-                    }
-                }
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error("Could not update TAPI connectivity service", e);
-        }
-        return changedServices;
+    private void updateConnectivityServiceState(ConnectivityService connService, AdministrativeState adminState,
+            OperationalState operState, Map<Uuid, ConnectivityService> connServiceChanges) {
+        DataObjectIdentifier<ConnectivityService> connServIID = DataObjectIdentifier.builder(Context.class)
+            .augmentation(Context1.class)
+            .child(ConnectivityContext.class)
+            .child(ConnectivityService.class, new ConnectivityServiceKey(connService.getUuid()))
+            .build();
+        this.networkTransactionService.merge(LogicalDatastoreType.OPERATIONAL, connServIID,
+            new ConnectivityServiceBuilder()
+                .setUuid(connService.getUuid())
+                .setAdministrativeState(adminState)
+                .setOperationalState(operState)
+                .build());
+        connServiceChanges.put(connService.getUuid(), new ConnectivityServiceBuilder(connService)
+            .setAdministrativeState(adminState)
+            .setOperationalState(operState)
+            .build());
     }
 
     private OperationalState transformOperState(String operString) {
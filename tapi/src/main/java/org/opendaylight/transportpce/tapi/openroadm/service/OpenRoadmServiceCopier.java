@@ -20,7 +20,6 @@ import org.opendaylight.transportpce.tapi.topology.TopologyUtils;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
 import org.opendaylight.transportpce.tapi.utils.TapiInitialORMapping;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
-import org.opendaylight.transportpce.tapi.utils.TapiLinkImpl;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.Name;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.global._class.NameKey;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityService;
@@ -39,17 +38,20 @@ public class OpenRoadmServiceCopier {
     private final NetworkTransactionService networkTransactionService;
     private final ServiceDataStoreOperations serviceDataStoreOperations;
     private final TapiContext tapiContext;
+    private final TapiLink tapiLink;
 
     public OpenRoadmServiceCopier(
             DataBroker dataBroker,
             NetworkTransactionService networkTransactionService,
             ServiceDataStoreOperations serviceDataStoreOperations,
-            TapiContext tapiContext) {
+            TapiContext tapiContext,
+            TapiLink tapiLink) {
 
         this.dataBroker = dataBroker;
         this.networkTransactionService = networkTransactionService;
         this.serviceDataStoreOperations = serviceDataStoreOperations;
         this.tapiContext = tapiContext;
+        this.tapiLink = tapiLink;
     }
 
     /**
@@ -68,9 +70,8 @@ public class OpenRoadmServiceCopier {
             return false;
         }
 
-        TapiLink tapiLink = new TapiLinkImpl(this.networkTransactionService, tapiContext);
-
-        TopologyUtils topologyUtils = new TopologyUtils(this.networkTransactionService, this.dataBroker, tapiLink);
+        TopologyUtils topologyUtils = new TopologyUtils(this.networkTransactionService, this.dataBroker,
+                this.tapiLink);
 
         ConnectivityUtils connectivityUtils = new ConnectivityUtils(
                 this.serviceDataStoreOperations,
@@ -7,7 +7,6 @@
  */
 package org.opendaylight.transportpce.tapi.topology;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,10 +15,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import org.opendaylight.transportpce.tapi.TapiConstants;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
+import org.opendaylight.transportpce.tapi.utils.TapiUuidFactory;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
@@ -166,8 +165,7 @@ public class ConvertTopoORtoTapiNbi {
      */
     public void convertRoadmInfrastructure() {
         LOG.info("abstraction of the ROADM infrastructure towards a photonic node");
-        Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(TapiConstants.RDM_INFRA.getBytes(StandardCharsets.UTF_8))
-            .toString());
+        Uuid nodeUuid = TapiUuidFactory.uuid(TapiConstants.RDM_INFRA);
         Name nodeName = new NameBuilder().setValueName("otsi node name").setValue(TapiConstants.RDM_INFRA).build();
         Name nodeName2 = new NameBuilder().setValueName("roadm node name").setValue(TapiConstants.RDM_INFRA).build();
         Name nameNodeType = new NameBuilder().setValueName("Node Type").setValue(OpenroadmNodeType.ROADM.getName())
@@ -297,9 +295,7 @@ public class ConvertTopoORtoTapiNbi {
                 .setValue(new StringBuilder("NodeEdgePoint_").append(i).toString())
                 .build();
             OwnedNodeEdgePoint onep = new OwnedNodeEdgePointBuilder()
-                .setUuid(new Uuid(UUID.nameUUIDFromBytes(
-                        (String.join("+", "roadm node", "nep", String.valueOf(i))).getBytes(StandardCharsets.UTF_8))
-                    .toString()))
+                .setUuid(TapiUuidFactory.uuid("roadm node", "nep", String.valueOf(i)))
                 .setLayerProtocolName(LayerProtocolName.PHOTONICMEDIA)
                 .setName(Map.of(nepName.key(), nepName))
                 .setSupportedCepLayerProtocolQualifierInstances(
@@ -344,7 +340,7 @@ public class ConvertTopoORtoTapiNbi {
                 .setValue(linkNameValue)
                 .build();
             Link otsLink = new LinkBuilder()
-                .setUuid(new Uuid(UUID.nameUUIDFromBytes(linkNameValue.getBytes(StandardCharsets.UTF_8)).toString()))
+                .setUuid(TapiUuidFactory.uuid(linkNameValue))
                 .setName(Map.of(linkName.key(), linkName))
                 .setLayerProtocolName(Set.of(LayerProtocolName.PHOTONICMEDIA))
                 .setNodeEdgePoint(
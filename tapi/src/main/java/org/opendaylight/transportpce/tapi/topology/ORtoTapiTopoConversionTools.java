@@ -9,7 +9,6 @@ package org.opendaylight.transportpce.tapi.topology;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.math.RoundingMode;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,7 +19,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import org.opendaylight.transportpce.common.fixedflex.GridConstant;
 import org.opendaylight.transportpce.tapi.TapiConstants;
@@ -35,6 +33,7 @@ import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.sp
 import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.spectrum.DefaultTapiSpectrumCapabilityPacFactory;
 import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.spectrum.OpenRoadmSpectrumRangeExtractor;
 import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.spectrum.TapiSpectrumCapabilityPacFactory;
+import org.opendaylight.transportpce.tapi.utils.TapiUuidFactory;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.TerminationPoint1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
@@ -377,7 +376,7 @@ public class ORtoTapiTopoConversionTools {
         String nodeIdXpdr = String.join("+", this.ietfNodeId, TapiConstants.XPDR);
         this.uuidMap.put(nodeIdXpdr,
                 //nodeUuid
-                new Uuid(UUID.nameUUIDFromBytes(nodeIdXpdr.getBytes(StandardCharsets.UTF_8)).toString()));
+                TapiUuidFactory.uuid(nodeIdXpdr));
         Name nameDsr = new NameBuilder().setValueName("dsr/odu node name").setValue(nodeIdXpdr).build();
         Name namePhot = new NameBuilder().setValueName("otsi node name").setValue(nodeIdXpdr).build();
         Name nameNodeType = new NameBuilder().setValueName("Node Type").setValue(this.ietfNodeType.getName()).build();
@@ -447,7 +446,7 @@ public class ORtoTapiTopoConversionTools {
             .build();
         NodeRuleGroup nodeRuleGroup = new NodeRuleGroupBuilder()
             .setName(Map.of(nrgName.key(), nrgName))
-            .setUuid(new Uuid(UUID.nameUUIDFromBytes((nrgNameValue).getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid(nrgNameValue))
             .setRule(new HashMap<RuleKey, Rule>(Map.of(rule.key(), rule)))
             .setNodeEdgePoint(nepMap)
             .setRiskCharacteristic(Map.of(riskCharacteristic.key(), riskCharacteristic))
@@ -557,7 +556,7 @@ public class ORtoTapiTopoConversionTools {
 
         Name irgName = new NameBuilder().setValueName("irg name").setValue(irgNameValue).build();
         InterRuleGroup interRuleGroup = new InterRuleGroupBuilder()
-            .setUuid(new Uuid(UUID.nameUUIDFromBytes((irgNameValue).getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid(irgNameValue))
             .setName(Map.of(irgName.key(), irgName))
             .setRule(new HashMap<>(Map.of(rule.key(), rule)))
             .setAssociatedNodeRuleGroup(associatedNrgMap)
@@ -634,7 +633,7 @@ public class ORtoTapiTopoConversionTools {
 
             Name irgName = new NameBuilder().setValueName("irg name").setValue(irgNameValue).build();
             InterRuleGroup interRuleGroup = new InterRuleGroupBuilder()
-                .setUuid(new Uuid(UUID.nameUUIDFromBytes((irgNameValue).getBytes(StandardCharsets.UTF_8)).toString()))
+                .setUuid(TapiUuidFactory.uuid(irgNameValue))
                 .setName(Map.of(irgName.key(), irgName))
                 .setRule(new HashMap<>(Map.of(rule.key(), rule)))
                 .setAssociatedNodeRuleGroup(associatedNrgMap)
@@ -671,7 +670,7 @@ public class ORtoTapiTopoConversionTools {
             String sipName = nb == 1 ? String.join("+", "SIP", nodeid, tpId)
                     : String.join("+", "SIP", nodeid, tpId, "Nber", String.valueOf(i));
             LOG.info("Creating SIP {}/{} with name {}", i + 1, nb, sipName);
-            Uuid sipUuid = new Uuid(UUID.nameUUIDFromBytes(sipName.getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid sipUuid = TapiUuidFactory.uuid(sipName);
             MappedServiceInterfacePoint msip =
                 new MappedServiceInterfacePointBuilder().setServiceInterfacePointUuid(sipUuid).build();
             ServiceInterfacePoint sip =
@@ -917,12 +916,8 @@ public class ORtoTapiTopoConversionTools {
             .setValue(cepNameValue)
             .build();
         ParentNodeEdgePoint pnep = new ParentNodeEdgePointBuilder()
-            .setNodeEdgePointUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nepId.getBytes(StandardCharsets.UTF_8))
-                .toString()))
-            .setNodeUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nodeNepId.getBytes(StandardCharsets.UTF_8))
-                .toString()))
+            .setNodeEdgePointUuid(TapiUuidFactory.uuid(nepId))
+            .setNodeUuid(TapiUuidFactory.uuid(nodeNepId))
             .setTopologyUuid(this.tapiTopoUuid)
             .build();
         String clientQualifier = "";
@@ -946,21 +941,14 @@ public class ORtoTapiTopoConversionTools {
             ? TapiConstants.MC
             : clientQualifier;
         ClientNodeEdgePoint cnep = new ClientNodeEdgePointBuilder()
-            .setNodeEdgePointUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    (String.join("+", id.split("\\+")[0], clientQualifier, id.split("\\+")[1]))
-                        .getBytes(StandardCharsets.UTF_8))
-                .toString()))
-            .setNodeUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nodeNepId.getBytes(StandardCharsets.UTF_8))
-                .toString()))
+            .setNodeEdgePointUuid(TapiUuidFactory.uuid(id.split("\\+")[0], clientQualifier, id.split("\\+")[1]))
+            .setNodeUuid(TapiUuidFactory.uuid(nodeNepId))
             .setTopologyUuid(this.tapiTopoUuid)
             .build();
         // TODO: add augmentation with the corresponding cep-spec (i.e. MC, OTSiMC...)
         ConnectionEndPoint2Builder cep2builder = new ConnectionEndPoint2Builder();
         ConnectionEndPointBuilder cepBldr = new ConnectionEndPointBuilder()
-            .setUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    cepNameValue.getBytes(StandardCharsets.UTF_8))
-                .toString()))
+            .setUuid(TapiUuidFactory.uuid(cepNameValue))
             .setParentNodeEdgePoint(pnep)
             .setName(Map.of(cepName.key(), cepName))
             .setConnectionPortRole(PortRole.SYMMETRIC)
@@ -1022,27 +1010,22 @@ public class ORtoTapiTopoConversionTools {
             .setValue(String.join("+", "CEP", nepId))
             .build();
         ParentNodeEdgePoint pnep = new ParentNodeEdgePointBuilder()
-            .setNodeEdgePointUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nepId.getBytes(StandardCharsets.UTF_8)).toString()))
-            .setNodeUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nepNodeId.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setNodeEdgePointUuid(TapiUuidFactory.uuid(nepId))
+            .setNodeUuid(TapiUuidFactory.uuid(nepNodeId))
             .setTopologyUuid(this.tapiTopoUuid)
             .build();
 //        String clientQualifier = TapiStringConstants.OTSI_MC;
         ClientNodeEdgePoint cnep = new ClientNodeEdgePointBuilder()
-            .setNodeEdgePointUuid(new Uuid(UUID.nameUUIDFromBytes(
-//                (String.join("+", id.split("\\+")[0], clientQualifier, id.split("\\+")[1]))
-                String.join("+", nepId.split("\\+" + TapiConstants.PHTNC_MEDIA_OTS)[0], TapiConstants.OTSI_MC,
-                    nepId.split((TapiConstants.PHTNC_MEDIA_OTS + "\\+"))[1])
-                    .getBytes(StandardCharsets.UTF_8)).toString()))
-            .setNodeUuid(new Uuid(UUID.nameUUIDFromBytes(
-                    nepNodeId.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setNodeEdgePointUuid(TapiUuidFactory.uuid(
+//                id.split("\\+")[0], clientQualifier, id.split("\\+")[1])
+                nepId.split("\\+" + TapiConstants.PHTNC_MEDIA_OTS)[0], TapiConstants.OTSI_MC,
+                nepId.split((TapiConstants.PHTNC_MEDIA_OTS + "\\+"))[1]))
+            .setNodeUuid(TapiUuidFactory.uuid(nepNodeId))
             .setTopologyUuid(this.tapiTopoUuid)
             .build();
 
         ConnectionEndPointBuilder cepBldr = new ConnectionEndPointBuilder()
-            .setUuid(new Uuid(UUID.nameUUIDFromBytes((String.join("+", "CEP", nepId))
-                    .getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid("CEP", nepId))
             .setParentNodeEdgePoint(pnep)
             .setName(Map.of(cepName.key(), cepName))
             .setConnectionPortRole(PortRole.SYMMETRIC)
@@ -1357,7 +1340,7 @@ public class ORtoTapiTopoConversionTools {
         for (int i = 0; i < oorClientPortList.size(); i++) {
             String nodeIdDsr = String.join("+",
                 this.ietfNodeId, TapiConstants.DSR, oorClientPortList.get(i).getTpId().getValue());
-            Uuid nepUuid = new Uuid(UUID.nameUUIDFromBytes(nodeIdDsr.getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nepUuid = TapiUuidFactory.uuid(nodeIdDsr);
             LOG.info("NEP = {} has Uuid {} ", nodeIdDsr, nepUuid);
             this.uuidMap.put(nodeIdDsr, nepUuid);
             Name name = new NameBuilder()
@@ -1374,7 +1357,7 @@ public class ORtoTapiTopoConversionTools {
         for (int i = 0; i < oorClientPortList.size(); i++) {
             String nodeIdEodu = String.join("+",
                 this.ietfNodeId, TapiConstants.E_ODU, oorClientPortList.get(i).getTpId().getValue());
-            Uuid nepUuid1 = new Uuid(UUID.nameUUIDFromBytes(nodeIdEodu.getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nepUuid1 = TapiUuidFactory.uuid(nodeIdEodu);
             LOG.info("NEP = {} has Uuid {} ", nodeIdEodu, nepUuid1);
             this.uuidMap.put(nodeIdEodu, nepUuid1);
             Name onedName = new NameBuilder()
@@ -1391,7 +1374,7 @@ public class ORtoTapiTopoConversionTools {
         for (int i = 0; i < oorNetworkPortList.size(); i++) {
             String nodeIdIodu = String.join("+",
                 this.ietfNodeId, TapiConstants.I_ODU, oorNetworkPortList.get(i).getTpId().getValue());
-            Uuid nepUuid1 = new Uuid(UUID.nameUUIDFromBytes(nodeIdIodu.getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nepUuid1 = TapiUuidFactory.uuid(nodeIdIodu);
             LOG.info("NEP = {} has Uuid {} ", nodeIdIodu, nepUuid1);
             this.uuidMap.put(nodeIdIodu, nepUuid1);
             Name onedName = new NameBuilder()
@@ -1408,7 +1391,7 @@ public class ORtoTapiTopoConversionTools {
         for (int i = 0; i < oorNetworkPortList.size(); i++) {
             String nodeIdPmOts = String.join("+",
                 this.ietfNodeId, TapiConstants.PHTNC_MEDIA_OTS, oorNetworkPortList.get(i).getTpId().getValue());
-            Uuid nepUuid2 = new Uuid(UUID.nameUUIDFromBytes(nodeIdPmOts.getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nepUuid2 = TapiUuidFactory.uuid(nodeIdPmOts);
             LOG.info("NEP = {} has Uuid {} ", nodeIdPmOts, nepUuid2);
             this.uuidMap.put(nodeIdPmOts, nepUuid2);
             Name onedName = new NameBuilder()
@@ -1424,7 +1407,7 @@ public class ORtoTapiTopoConversionTools {
         for (int i = 0; i < oorNetworkPortList.size(); i++) {
             String nodeIdOtMc = String.join("+",
                 this.ietfNodeId, TapiConstants.OTSI_MC, oorNetworkPortList.get(i).getTpId().getValue());
-            Uuid nepUuid3 = new Uuid(UUID.nameUUIDFromBytes(nodeIdOtMc.getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nepUuid3 = TapiUuidFactory.uuid(nodeIdOtMc);
             LOG.info("NEP = {} has Uuid {} ", nodeIdOtMc, nepUuid3);
             this.uuidMap.put(nodeIdOtMc, nepUuid3);
             Name onedName = new NameBuilder()
@@ -1440,7 +1423,7 @@ public class ORtoTapiTopoConversionTools {
         for (int i = 0; i < oorNetworkPortList.size(); i++) {
             String nodeIdOtu = String.join("+",
                 this.ietfNodeId, TapiConstants.I_OTU, oorNetworkPortList.get(i).getTpId().getValue());
-            Uuid nepUuid4 = new Uuid(UUID.nameUUIDFromBytes(nodeIdOtu.getBytes(StandardCharsets.UTF_8)).toString());
+            Uuid nepUuid4 = TapiUuidFactory.uuid(nodeIdOtu);
             LOG.info("NEP = {} has Uuid {} ", nodeIdOtu, nepUuid4);
             this.uuidMap.put(nodeIdOtu, nepUuid4);
             Name onedName = new NameBuilder()
@@ -1478,8 +1461,7 @@ public class ORtoTapiTopoConversionTools {
             return new HashMap<>();
         }
         Map<NodeRuleGroupKey, NodeRuleGroup> nodeRuleGroupMap = new HashMap<>();
-        Uuid nodeUuid = new Uuid(UUID.nameUUIDFromBytes(
-            String.join("+", nodeId, TapiConstants.XPDR).getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nodeUuid = TapiUuidFactory.uuid(nodeId, TapiConstants.XPDR);
         int count = 0;
         RuleBuilder nblRuleBd = new RuleBuilder()
             .setForwardingRule(FORWARDINGRULEMAYFORWARDACROSSGROUP.VALUE)
@@ -1616,9 +1598,7 @@ public class ORtoTapiTopoConversionTools {
                         .setValue("dsr node rule group-" + count + "." + nblCount).build();
                     NodeRuleGroup nodeRuleGroup1 = new NodeRuleGroupBuilder()
                         .setName(Map.of(nrgName1.key(), nrgName1))
-                        .setUuid(new Uuid(
-                            UUID.nameUUIDFromBytes(("dsr node rule group-" + count + "." + nblCount)
-                                .getBytes(StandardCharsets.UTF_8)).toString()))
+                        .setUuid(TapiUuidFactory.uuid("dsr node rule group-" + count + "." + nblCount))
                         .setRule(new HashMap<>(Map.of(new RuleKey("forward" + nblCount),
                             nblRuleBd.setLocalId("forward" + count + "." + nblCount).build())))
                         .setNodeEdgePoint(nepList)
@@ -1637,9 +1617,7 @@ public class ORtoTapiTopoConversionTools {
                         .setValue("odu node rule group-" + count + "." + nblCount).build();
                     NodeRuleGroup nodeRuleGroup2 = new NodeRuleGroupBuilder()
                         .setName(Map.of(nrgName2.key(), nrgName2))
-                        .setUuid(new Uuid(
-                            UUID.nameUUIDFromBytes(("odu node rule group-" + count + "." + nblCount)
-                                .getBytes(StandardCharsets.UTF_8)).toString()))
+                        .setUuid(TapiUuidFactory.uuid("odu node rule group-" + count + "." + nblCount))
                         .setRule(new HashMap<>(Map.of(new RuleKey("forward" + nblCount),
                             nblRuleBd.setLocalId("forward" + count + "." + nblCount).build())))
                         .setNodeEdgePoint(oduNepList)
@@ -1989,10 +1967,7 @@ public class ORtoTapiTopoConversionTools {
                 .setValue(String.join("+", orNodeId, nepPhotonicSublayer, tpId))
                 .build();
         return new OwnedNodeEdgePointBuilder()
-            .setUuid(
-                new Uuid(UUID.nameUUIDFromBytes(
-                        (String.join("+", orNodeId, nepPhotonicSublayer,tpId)).getBytes(StandardCharsets.UTF_8))
-                    .toString()))
+            .setUuid(TapiUuidFactory.uuid(orNodeId, nepPhotonicSublayer, tpId))
             .setLayerProtocolName(LayerProtocolName.PHOTONICMEDIA)
             .setName(Map.of(nepName.key(), nepName))
             .setSupportedCepLayerProtocolQualifierInstances(
@@ -8,7 +8,6 @@
 package org.opendaylight.transportpce.tapi.topology;
 
 import java.math.RoundingMode;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -48,6 +47,7 @@ import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.sp
 import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.spectrum.OpenRoadmSpectrumRangeExtractor;
 import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.spectrum.SpectrumRanges;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
+import org.opendaylight.transportpce.tapi.utils.TapiUuidFactory;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.Mapping;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.mapping.MappingKey;
 import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.portmapping.rev250905.network.Nodes;
@@ -522,12 +522,12 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             LOG.info("UUIDofAffectedONEPS = {} ", changedOneps);
             AdministrativeState newAdmState = transformAdminState(mapping.getPortAdminState());
             OperationalState newOprState = transformOperState(mapping.getPortOperState());
+            // Single pass on the links of the topology, each of their NEPs being looked up in a hash set
+            Set<Uuid> changedOnepSet = new HashSet<>(changedOneps);
             for (Link link : optTopology.orElseThrow().nonnullLink().values()) {
-                List<Uuid> linkNeps = Objects.requireNonNull(link.getNodeEdgePoint()).values().stream()
-                        .map(NodeEdgePointRef::getNodeEdgePointUuid)
-                        .collect(Collectors.toList());
-                LOG.info("LinkEndPointsUUID = {} for link Name {}", linkNeps, link.getName());
-                if (Collections.disjoint(changedOneps, linkNeps)) {
+                var linkNeps = Objects.requireNonNull(link.getNodeEdgePoint()).values();
+                LOG.debug("LinkEndPoints = {} for link Name {}", linkNeps, link.getName());
+                if (linkNeps.stream().map(NodeEdgePointRef::getNodeEdgePointUuid).noneMatch(changedOnepSet::contains)) {
                     continue;
                 }
                 this.networkTransactionService.merge(
@@ -629,23 +629,17 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
 
     private List<Uuid> getChangedNodeUuids(String nodeId, Mapping mapping) {
         if (nodeId.contains("ROADM")) {
-            return new ArrayList<>(List.of(new Uuid(
-                UUID.nameUUIDFromBytes(
-                    String.join("+", nodeId, TapiConstants.PHTNC_MEDIA).getBytes(StandardCharsets.UTF_8)).toString())));
+            return new ArrayList<>(List.of(TapiUuidFactory.uuid(nodeId, TapiConstants.PHTNC_MEDIA)));
         }
         if (nodeId.contains("PDR")) {
             LOG.debug("TNMSI:getChangedNodeUuids: ANALYSING change in {}", nodeId);
-            return new ArrayList<>(List.of(new Uuid(
-                UUID.nameUUIDFromBytes(
-                        String.join("+",
-                                //xpdrNodeId,
-                                nodeId + TapiConstants.XXPDR
-                                    // + xpdrNb,
-                                    + Integer.parseInt(
-                                        mapping.getLogicalConnectionPoint().split("XPDR")[1].split("-")[0]),
-                                TapiConstants.XPDR)
-                            .getBytes(StandardCharsets.UTF_8))
-                    .toString())));
+            return new ArrayList<>(List.of(TapiUuidFactory.uuid(
+                    //xpdrNodeId,
+                    nodeId + TapiConstants.XXPDR
+                        // + xpdrNb,
+                        + Integer.parseInt(
+                            mapping.getLogicalConnectionPoint().split("XPDR")[1].split("-")[0]),
+                    TapiConstants.XPDR)));
         }
         LOG.error("Updating this device is currently not supported");
         return new ArrayList<>();
@@ -684,7 +678,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             Map.of(nameDsr.key(), nameDsr, nameOtsi.key(), nameOtsi, nameNodeType.key(), nameNodeType),
             Set.of(LayerProtocolName.DSR, LayerProtocolName.ODU,
                 LayerProtocolName.DIGITALOTN, LayerProtocolName.PHOTONICMEDIA),
-            nodeId, new Uuid(UUID.nameUUIDFromBytes(nameVal.getBytes(StandardCharsets.UTF_8)).toString()),
+            nodeId, TapiUuidFactory.uuid(nameVal),
             xpdrClMaps, xpdrNetMaps, xponderType, oorOduSwitchingPoolMap);
         return new HashMap<>(Map.of(dsrNode.key(), dsrNode));
     }
@@ -869,10 +863,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
         if (nodeId.contains("ROADM")) {
             if (TOPOLOGICAL_MODE.equals("Full")) {
              // Node is in photonic media layer and UUID can be built from nodeId + PHTN_MEDIA
-                Uuid nodeUuid = new Uuid(
-                    UUID.nameUUIDFromBytes(
-                            (String.join("+", nodeId,TapiConstants.PHTNC_MEDIA)).getBytes(StandardCharsets.UTF_8))
-                        .toString());
+                Uuid nodeUuid = TapiUuidFactory.uuid(nodeId, TapiConstants.PHTNC_MEDIA);
                 deleteNodeFromTopo(nodeUuid);
             } else {
                 LOG.info("Abstracted Topo Mode in TAPI topology Datastore for OR topology representation. Node"
@@ -1028,7 +1019,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             List<OwnedNodeEdgePoint> onepList = new ArrayList<>();
             onepList.addAll(createNep(
                 nodeId, rate,
-                new Uuid(UUID.nameUUIDFromBytes(onedNameVal.getBytes(StandardCharsets.UTF_8)).toString()),
+                TapiUuidFactory.uuid(onedNameVal),
                 lcp, Map.of(onedName.key(), onedName),
                 LayerProtocolName.PHOTONICMEDIA, LayerProtocolName.PHOTONICMEDIA, true,
                 String.join("+", nodeId, TapiConstants.PHTNC_MEDIA_OTS),
@@ -1039,7 +1030,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             Name onedName2 = new NameBuilder().setValueName("PhotMedNodeEdgePoint").setValue(onedNameVal2).build();
             onepList.addAll(createNep(
                 nodeId, rate,
-                new Uuid(UUID.nameUUIDFromBytes(onedNameVal2.getBytes(StandardCharsets.UTF_8)).toString()),
+                TapiUuidFactory.uuid(onedNameVal2),
                 lcp, Map.of(onedName2.key(), onedName2),
                 LayerProtocolName.PHOTONICMEDIA, LayerProtocolName.PHOTONICMEDIA, false,
                 String.join("+", nodeId, TapiConstants.OTSI_MC),
@@ -1075,7 +1066,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             LOG.debug("TNMSI:createXpdrDsrOduNeps : the rate declared in portMapping for LCP {} is {}", lcp, rate);
             List<OwnedNodeEdgePoint> onepList = new ArrayList<>();
             onepList.addAll(createNep(
-                nodeId, rate, new Uuid(UUID.nameUUIDFromBytes(nepvalue.getBytes(StandardCharsets.UTF_8)).toString()),
+                nodeId, rate, TapiUuidFactory.uuid(nepvalue),
                 lcp, Map.of(name.key(), name), LayerProtocolName.DSR, LayerProtocolName.DSR, true,
                 String.join("+", nodeId, TapiConstants.DSR),
                 new ArrayList<>(mapping.getSupportedInterfaceCapability()), mapping, null, newOprState, newAdmState));
@@ -1086,7 +1077,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             LOG.debug("TNMSI:createXpdrDsrOduNeps : create eODUNep for {} lcp {} from SicList with rate= {} & states "
                 + "Admin={} Op={}", nodeId, lcp, rate, newOprState, newAdmState);
             onepList.addAll(createNep(
-                nodeId, rate, new Uuid(UUID.nameUUIDFromBytes(onedNameVal.getBytes(StandardCharsets.UTF_8)).toString()),
+                nodeId, rate, TapiUuidFactory.uuid(onedNameVal),
                 lcp, Map.of(onedName.key(), onedName), LayerProtocolName.ODU, LayerProtocolName.DSR, true,
                 String.join("+", nodeId, TapiConstants.E_ODU),
                 new ArrayList<>(mapping.getSupportedInterfaceCapability()), mapping, null, newOprState, newAdmState));
@@ -1105,7 +1096,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             List<OwnedNodeEdgePoint> onepList = new ArrayList<>();
             LOG.info("TNMSI Line 1005 before create NEP iODU");
             onepList.addAll(createNep(
-                nodeId, rate, new Uuid(UUID.nameUUIDFromBytes(onedNameVal.getBytes(StandardCharsets.UTF_8)).toString()),
+                nodeId, rate, TapiUuidFactory.uuid(onedNameVal),
                 lcp, Map.of(onedName.key(), onedName), LayerProtocolName.ODU, LayerProtocolName.DSR, true,
                 String.join("+", nodeId, TapiConstants.I_ODU),
                 new ArrayList<>(mapping.getSupportedInterfaceCapability()), mapping,
@@ -1126,7 +1117,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             List<OwnedNodeEdgePoint> onepList = new ArrayList<>();
             LOG.debug("TNMSI:createXpdrDsrOduNeps : before create NEP iOTU");
             onepList.addAll(createNep(
-                nodeId, rate, new Uuid(UUID.nameUUIDFromBytes(onedNameVal.getBytes(StandardCharsets.UTF_8)).toString()),
+                nodeId, rate, TapiUuidFactory.uuid(onedNameVal),
                 lcp, Map.of(onedName.key(), onedName), LayerProtocolName.DIGITALOTN, LayerProtocolName.DIGITALOTN, true,
                 String.join("+", nodeId, TapiConstants.I_OTU),
                 new ArrayList<>(mapping.getSupportedInterfaceCapability()), mapping,
@@ -1328,8 +1319,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                             LOG.info("Creating eODUCN NEP = {} recursivly after processing OTUCN NEP", onedNameVal);
                             Name onedName = new NameBuilder().setValueName("eNodeEdgePoint_N").setValue(onedNameVal)
                                 .build();
-                            onepList.addAll(createNep(nodeId, rate, new Uuid(UUID.nameUUIDFromBytes(
-                                    onedNameVal.getBytes(StandardCharsets.UTF_8)).toString()),
+                            onepList.addAll(createNep(nodeId, rate, TapiUuidFactory.uuid(onedNameVal),
                                 lcp, Map.of(onedName.key(), onedName), LayerProtocolName.DIGITALOTN,
                                 LayerProtocolName.DIGITALOTN, true, String.join("+", nodeId, TapiConstants.E_ODUCN),
                                 new ArrayList<>(mapping.getSupportedInterfaceCapability()),
@@ -1451,8 +1441,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.tapi.context.Profile>
             profileMap = new HashMap<>();
         for (OperationalModeKey opMode : keyedOpModeList) {
-            Uuid opModeUuid = new Uuid(UUID.nameUUIDFromBytes(opMode.toString().getBytes(StandardCharsets.UTF_8))
-                .toString());
+            Uuid opModeUuid = TapiUuidFactory.uuid(opMode.toString());
             SinkProfile sinkPf = new SinkProfileBuilder()
                 .setProfileUuid(opModeUuid).build();
             sinkProfile.put(sinkPf.key(), sinkPf);
@@ -1507,14 +1496,11 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
         Uuid nodeUuid;
         Name nodeNames;
         if (orNodeId.equals("ROADMINFRA")) {
-            nodeUuid = new Uuid(
-                UUID.nameUUIDFromBytes(TapiConstants.RDM_INFRA.getBytes(StandardCharsets.UTF_8)).toString());
+            nodeUuid = TapiUuidFactory.uuid(TapiConstants.RDM_INFRA);
             nodeNames = new NameBuilder().setValueName("roadm node name").setValue(TapiConstants.RDM_INFRA).build();
         } else {
             String nodeNamesVal = String.join("+", orNodeId, TapiConstants.PHTNC_MEDIA);
-            nodeUuid = new Uuid(
-                UUID.nameUUIDFromBytes(nodeNamesVal.getBytes(StandardCharsets.UTF_8))
-                    .toString());
+            nodeUuid = TapiUuidFactory.uuid(nodeNamesVal);
             nodeNames = new NameBuilder().setValueName("roadm node name").setValue(nodeNamesVal).build();
         }
         Name nameNodeType =
@@ -1597,9 +1583,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
             Map<OduSwitchingPoolsKey, OduSwitchingPools> oorOduSwitchingPool,
             Map<OwnedNodeEdgePointKey, OwnedNodeEdgePoint> onepl, XpdrNodeTypes xponderType) {
         // create NodeRuleGroup
-        Uuid nodeUuid = new Uuid(
-            UUID.nameUUIDFromBytes(
-                String.join("+", nodeId, TapiConstants.XPDR).getBytes(StandardCharsets.UTF_8)).toString());
+        Uuid nodeUuid = TapiUuidFactory.uuid(nodeId, TapiConstants.XPDR);
         Map<NodeRuleGroupKey, NodeRuleGroup> nodeRuleGroupMap = new HashMap<>();
         if (oorOduSwitchingPool == null) {
             LOG.info("No switching pool created for node = {}", node.getNodeId());
@@ -1649,8 +1633,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                                 tpUuidSd = String.join("+", nodeId, TapiConstants.E_ODU, tp.getValue());
                                 LOG.debug("TNMSI:CreateNodeRuleGroupForXpdrNode : EDOU TP {} added with Uuid {}",
                                     tp, tpUuidSd);
-                                tpUuid = new Uuid(UUID.nameUUIDFromBytes(tpUuidSd.getBytes(StandardCharsets.UTF_8))
-                                    .toString());
+                                tpUuid = TapiUuidFactory.uuid(tpUuidSd);
                                 if (onepl.containsKey(new OwnedNodeEdgePointKey(tpUuid))) {
                                     NodeEdgePoint nep = new NodeEdgePointBuilder()
                                         .setTopologyUuid(this.tapiTopoUuid)
@@ -1661,8 +1644,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                                 }
                             }
                             tpUuidSdDsr = String.join("+", nodeId, TapiConstants.DSR, tp.getValue());
-                            tpUuidDsr = new Uuid(UUID.nameUUIDFromBytes(tpUuidSdDsr.getBytes(StandardCharsets.UTF_8))
-                                .toString());
+                            tpUuidDsr = TapiUuidFactory.uuid(tpUuidSdDsr);
                             LOG.debug("TNMSI:CreateNodeRuleGroupForXpdrNode :  DSR TP {} added with Uuid {}",
                                 tp, tpUuidSdDsr);
                             if (onepl.containsKey(new OwnedNodeEdgePointKey(tpUuidDsr))) {
@@ -1682,8 +1664,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                             tpUuidSd = String.join("+", nodeId, TapiConstants.E_ODU, tp.getValue());
                             LOG.debug("TNMSI:CreateNodeRuleGroupForXpdrNode :  EDOU TP {} added with Uuid {}",
                                 tp, tpUuidSd);
-                            tpUuid = new Uuid(UUID.nameUUIDFromBytes(tpUuidSd.getBytes(StandardCharsets.UTF_8))
-                                .toString());
+                            tpUuid = TapiUuidFactory.uuid(tpUuidSd);
                             if (onepl.containsKey(new OwnedNodeEdgePointKey(tpUuid))) {
                                 NodeEdgePoint nep = new NodeEdgePointBuilder()
                                     .setTopologyUuid(this.tapiTopoUuid)
@@ -1693,8 +1674,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                                 nepList.put(nep.key(), nep);
                             }
                             tpUuidSdDsr = String.join("+", nodeId, TapiConstants.DSR, tp.getValue());
-                            tpUuidDsr = new Uuid(UUID.nameUUIDFromBytes(tpUuidSdDsr.getBytes(StandardCharsets.UTF_8))
-                                .toString());
+                            tpUuidDsr = TapiUuidFactory.uuid(tpUuidSdDsr);
                             LOG.debug("TNMSI:CreateNodeRuleGroupForXpdrNode :  EDOU TP {} added with Uuid {}",
                                 tp, tpUuidSdDsr);
                             if (onepl.containsKey(new OwnedNodeEdgePointKey(tpUuidDsr))) {
@@ -1712,8 +1692,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                                 : String.join("+", nodeId, TapiConstants.PHTNC_MEDIA_OTS, tp.getValue());
                             LOG.info("TNMSI:CreateNodeRuleGroupForXpdrNode : OTS TP {} added with Uuid {}",
                                 tp, tpUuidSd);
-                            tpUuid = new Uuid(UUID.nameUUIDFromBytes(tpUuidSd.getBytes(StandardCharsets.UTF_8))
-                                .toString());
+                            tpUuid = TapiUuidFactory.uuid(tpUuidSd);
                             if (onepl.containsKey(new OwnedNodeEdgePointKey(tpUuid))) {
                                 NodeEdgePoint nep = new NodeEdgePointBuilder()
                                     .setTopologyUuid(this.tapiTopoUuid)
@@ -1732,8 +1711,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                             tpUuidSd = String.join("+", nodeId, TapiConstants.I_ODU, tp.getValue());
                             LOG.debug("TNMSI:CreateNodeRuleGroupForXpdrNode : IDOU TP {} added with Uuid {}",
                                 tp, tpUuidSd);
-                            tpUuid = new Uuid(UUID.nameUUIDFromBytes(tpUuidSd.getBytes(StandardCharsets.UTF_8))
-                                .toString());
+                            tpUuid = TapiUuidFactory.uuid(tpUuidSd);
                             if (onepl.containsKey(new OwnedNodeEdgePointKey(tpUuid))) {
                                 NodeEdgePoint nep = new NodeEdgePointBuilder()
                                     .setTopologyUuid(this.tapiTopoUuid)
@@ -1832,9 +1810,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
 
         NodeRuleGroup nodeRuleGroup = new NodeRuleGroupBuilder()
             .setName(Map.of(nrgName.key(), nrgName))
-            .setUuid(new Uuid(
-                UUID.nameUUIDFromBytes((qualifier + " node rule group-" + count + "." + nblCount)
-                    .getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid(qualifier + " node rule group-" + count + "." + nblCount))
             .setRule(new HashMap<>(Map.of(new RuleKey("forward" + nblCount),
                 nblRuleBd.setLocalId("forward" + count + "." + nblCount).build())))
             .setNodeEdgePoint(nepMap)
@@ -2270,7 +2246,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
                     .build();
 
             onepBd
-                    .setUuid(new Uuid(nameUuid(nodeId, nepPhotonicSublayer, tpId)))
+                    .setUuid(TapiUuidFactory.uuid(nodeId, nepPhotonicSublayer, tpId))
                     .setLayerProtocolName(LayerProtocolName.PHOTONICMEDIA)
                     .setName(Map.of(nepName.key(), nepName))
                     .setSupportedCepLayerProtocolQualifierInstances(sclpqiList)
@@ -2301,7 +2277,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
 
                 Map<String, String> uuidMap = Map.of(
                         new Uuid(nameUuid("CEP", nodeId, nepPhotonicSublayer, tpId)).toString(),
-                        new Uuid(nameUuid(nodeId, TapiConstants.PHTNC_MEDIA)).toString()
+                        TapiUuidFactory.uuid(nodeId, TapiConstants.PHTNC_MEDIA).toString()
                 );
 
                 this.srgOtsCepMap.put(uuidMap, cep);
@@ -2378,7 +2354,7 @@ public class TapiNetworkModelServiceImpl implements TapiNetworkModelService {
      */
     private static String nameUuid(String... parts) {
         String joined = String.join("+", parts);
-        return UUID.nameUUIDFromBytes(joined.getBytes(StandardCharsets.UTF_8)).toString();
+        return TapiUuidFactory.uuid(joined).getValue();
     }
 
     /**
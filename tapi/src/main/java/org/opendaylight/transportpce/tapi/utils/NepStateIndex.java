@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Context1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.context.TopologyContext;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology;
+import org.opendaylight.yangtools.binding.DataObjectReference;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-memory index of the states of the NEPs of the TAPI topologies, keyed by topology and NEP uuid.
+ *
+ * <p>The index is fed by a DataTreeChangeListener registered on the NEPs of the TAPI topology context of the
+ * OPERATIONAL datastore, so that it follows every NEP written by the topology conversion as well as by the
+ * notification handlers. The listener is only registered on first use. NEPs missing from the index are read from
+ * the datastore by the caller and then stored, unless a change was notified during the read.
+ */
+final class NepStateIndex implements DataTreeChangeListener<OwnedNodeEdgePoint>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NepStateIndex.class);
+    private static final DataObjectReference<OwnedNodeEdgePoint> NEP_II = DataObjectReference.builder(Context.class)
+        .augmentation(Context1.class)
+        .child(TopologyContext.class)
+        .child(Topology.class)
+        .child(Node.class)
+        .child(OwnedNodeEdgePoint.class)
+        .build();
+
+    private final DataBroker dataBroker;
+    private final Map<Uuid, Map<Uuid, NepState>> topologies = new ConcurrentHashMap<>();
+    // Bumped on every change notified by the datastore, to avoid indexing a read that raced with an update
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean started;
+    private volatile Registration registration;
+
+    NepStateIndex(DataBroker dataBroker) {
+        this.dataBroker = dataBroker;
+    }
+
+    @Override
+    public void onDataTreeChanged(@NonNull List<DataTreeModification<OwnedNodeEdgePoint>> changes) {
+        for (DataTreeModification<OwnedNodeEdgePoint> change : changes) {
+            Uuid topoUuid = change.path().firstKeyOf(Topology.class).getUuid();
+            Uuid nepUuid = change.path().firstKeyOf(OwnedNodeEdgePoint.class).getUuid();
+            generation.incrementAndGet();
+            OwnedNodeEdgePoint nepAfter = change.getRootNode().dataAfter();
+            if (nepAfter == null) {
+                Map<Uuid, NepState> neps = topologies.get(topoUuid);
+                if (neps != null) {
+                    neps.remove(nepUuid);
+                }
+            } else {
+                topology(topoUuid).put(nepUuid, NepState.of(nepAfter));
+            }
+        }
+    }
+
+    /**
+     * Get the state of a NEP.
+     *
+     * @param topoUuid uuid of the topology of the NEP
+     * @param nepUuid uuid of the NEP
+     * @return the state of the NEP or null if it is not indexed
+     */
+    NepState get(Uuid topoUuid, Uuid nepUuid) {
+        if (!started) {
+            start();
+        }
+        if (registration == null) {
+            return null;
+        }
+        Map<Uuid, NepState> neps = topologies.get(topoUuid);
+        return neps == null ? null : neps.get(nepUuid);
+    }
+
+    /**
+     * Get the current generation of the index, to be read before reading a missing NEP from the datastore.
+     *
+     * @return the generation
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Index a NEP read from the datastore.
+     * The NEP is not indexed if a change was notified since the given generation, since it may already be outdated.
+     *
+     * @param topoUuid uuid of the topology of the NEP
+     * @param nep the NEP
+     * @param readGeneration generation of the index before the read
+     * @return the state of the NEP
+     */
+    NepState put(Uuid topoUuid, OwnedNodeEdgePoint nep, long readGeneration) {
+        NepState state = NepState.of(nep);
+        if (registration != null && generation.get() == readGeneration) {
+            topology(topoUuid).putIfAbsent(nep.getUuid(), state);
+        }
+        return state;
+    }
+
+    private Map<Uuid, NepState> topology(Uuid topoUuid) {
+        return topologies.computeIfAbsent(topoUuid, key -> new ConcurrentHashMap<>());
+    }
+
+    private synchronized void start() {
+        if (!started && dataBroker != null) {
+            LOG.debug("Registering the listener of the TAPI NEP states");
+            registration = dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL, NEP_II, this);
+        }
+        started = true;
+    }
+
+    @Override
+    public synchronized void close() {
+        started = true;
+        if (registration != null) {
+            registration.close();
+            registration = null;
+        }
+        topologies.clear();
+    }
+
+    /**
+     * Administrative and operational states of a NEP.
+     *
+     * @param adminState administrative state
+     * @param operState operational state
+     */
+    record NepState(AdministrativeState adminState, OperationalState operState) {
+
+        static NepState of(OwnedNodeEdgePoint nep) {
+            return new NepState(nep.getAdministrativeState(), nep.getOperationalState());
+        }
+    }
+}
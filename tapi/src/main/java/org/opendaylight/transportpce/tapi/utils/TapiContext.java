@@ -7,7 +7,6 @@
  */
 package org.opendaylight.transportpce.tapi.utils;
 
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,7 +16,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -97,8 +95,7 @@ public class TapiContext {
                 DataObjectIdentifier.builder(Context.class).build(),
                 new ContextBuilder()
                     .setName(Map.of(contextName.key(), contextName))
-                    .setUuid(
-                        new Uuid(UUID.nameUUIDFromBytes(TAPI_CONTEXT.getBytes(StandardCharsets.UTF_8)).toString()))
+                    .setUuid(TapiUuidFactory.uuid(TAPI_CONTEXT))
                     .setServiceInterfacePoint(new HashMap<>())
                     .addAugmentation(
                     //connectivityContext
@@ -115,11 +112,7 @@ public class TapiContext {
                             .setTopologyContext(new TopologyContextBuilder()
                                 .setNwTopologyService(new NwTopologyServiceBuilder()
                                     .setTopology(new HashMap<>())
-                                    .setUuid(
-                                        new Uuid(
-                                            UUID.nameUUIDFromBytes(
-                                                    "Network Topo Service".getBytes(StandardCharsets.UTF_8))
-                                                .toString()))
+                                    .setUuid(TapiUuidFactory.uuid("Network Topo Service"))
                                     .setName(Map.of(nwTopoServiceName.key(), nwTopoServiceName))
                                     .build())
                                 .setTopology(new HashMap<>())
@@ -8,7 +8,6 @@
 package org.opendaylight.transportpce.tapi.utils;
 
 import java.math.RoundingMode;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,7 +15,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.transportpce.common.NetworkUtils;
@@ -38,6 +36,7 @@ import org.opendaylight.transportpce.tapi.openroadm.topology.link.state.OpenRoad
 import org.opendaylight.transportpce.tapi.openroadm.topology.link.state.OpenRoadmLinkStateResolver;
 import org.opendaylight.transportpce.tapi.openroadm.topology.terminationpoint.mapping.TopologyTerminationPointTypeResolver;
 import org.opendaylight.transportpce.tapi.topology.ORtoTapiTopoConversionTools;
+import org.opendaylight.transportpce.tapi.utils.NepStateIndex.NepState;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.network.rev250110.Link1;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.common.state.types.rev191129.State;
 import org.opendaylight.yang.gen.v1.http.org.openroadm.equipment.states.types.rev191129.AdminStates;
@@ -96,6 +95,7 @@ import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.opendaylight.yangtools.yang.common.Uint64;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,6 +109,7 @@ public class TapiLinkImpl implements TapiLink {
     private Map<Map<String, String>, org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.cep.list
         .ConnectionEndPoint> cepMap = new HashMap<>();
     private final LinkStateResolver linkStateResolver;
+    private final NepStateIndex nepStateIndex;
 
     @Activate
     public TapiLinkImpl(@Reference NetworkTransactionService networkTransactionService,
@@ -128,6 +129,12 @@ public class TapiLinkImpl implements TapiLink {
         this.networkTransactionService = networkTransactionService;
         this.tapiContext = tapiContext;
         this.linkStateResolver = linkStateResolver;
+        this.nepStateIndex = new NepStateIndex(networkTransactionService.getDataBroker());
+    }
+
+    @Deactivate
+    public void close() {
+        this.nepStateIndex.close();
     }
 
     @Override
@@ -189,21 +196,13 @@ public class TapiLinkImpl implements TapiLink {
 
         NodeEdgePoint sourceNep = new NodeEdgePointBuilder()
                 .setTopologyUuid(tapiTopoUuid)
-                .setNodeUuid(
-                        new Uuid(UUID.nameUUIDFromBytes(
-                                String.join("+", srcNodeId, tapiLinkAttributes.sourceNodeQualifier())
-                                        .getBytes(StandardCharsets.UTF_8)).toString()))
-                .setNodeEdgePointUuid(
-                        new Uuid(UUID.nameUUIDFromBytes(sourceNepKey.getBytes(StandardCharsets.UTF_8)).toString()))
+                .setNodeUuid(TapiUuidFactory.uuid(srcNodeId, tapiLinkAttributes.sourceNodeQualifier()))
+                .setNodeEdgePointUuid(TapiUuidFactory.uuid(sourceNepKey))
                 .build();
         NodeEdgePoint destNep = new NodeEdgePointBuilder()
                 .setTopologyUuid(tapiTopoUuid)
-                .setNodeUuid(
-                        new Uuid(UUID.nameUUIDFromBytes(
-                                String.join("+", dstNodeId, tapiLinkAttributes.destinationNodeQualifier())
-                                        .getBytes(StandardCharsets.UTF_8)).toString()))
-                .setNodeEdgePointUuid(
-                        new Uuid(UUID.nameUUIDFromBytes(destNepKey.getBytes(StandardCharsets.UTF_8)).toString()))
+                .setNodeUuid(TapiUuidFactory.uuid(dstNodeId, tapiLinkAttributes.destinationNodeQualifier()))
+                .setNodeEdgePointUuid(TapiUuidFactory.uuid(destNepKey))
                 .build();
         NameBuilder linkName = new NameBuilder();
         // TODO: variables for each type
@@ -263,8 +262,7 @@ public class TapiLinkImpl implements TapiLink {
         LOG.debug("Successfully created tapiLink {} of type {}", linkKey, tapiLinkAttributes.tapiLinkType());
         LinkStateAttributes linkStateAttributes = linkStateResolver.resolve(link, network);
         return new LinkBuilder()
-                .setUuid(new Uuid(
-                        UUID.nameUUIDFromBytes(linkKey.getBytes(StandardCharsets.UTF_8)).toString()))
+                .setUuid(TapiUuidFactory.uuid(linkKey))
                 .setName(Map.of(linkName.build().key(), linkName.build()))
                 //Bug in TAPI : transitioned layer protocol name is mandatory (whether this concept has disappeared)
                 // Additionally, the grouping defining it requires at least 2 elements.
@@ -328,19 +326,13 @@ public class TapiLinkImpl implements TapiLink {
         String linkKey = String.join("to", sourceNepKey, destNepKey);
         NodeEdgePoint sourceNep = new NodeEdgePointBuilder()
             .setTopologyUuid(tapiTopoUuid)
-            .setNodeUuid(
-                new Uuid(UUID.nameUUIDFromBytes(
-                    String.join("+", srcNodeId, srcNodeQual).getBytes(StandardCharsets.UTF_8)).toString()))
-            .setNodeEdgePointUuid(
-                new Uuid(UUID.nameUUIDFromBytes(sourceNepKey.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setNodeUuid(TapiUuidFactory.uuid(srcNodeId, srcNodeQual))
+            .setNodeEdgePointUuid(TapiUuidFactory.uuid(sourceNepKey))
             .build();
         NodeEdgePoint destNep = new NodeEdgePointBuilder()
             .setTopologyUuid(tapiTopoUuid)
-            .setNodeUuid(
-                new Uuid(UUID.nameUUIDFromBytes(
-                    String.join("+", dstNodeId, dstNodeQual).getBytes(StandardCharsets.UTF_8)).toString()))
-            .setNodeEdgePointUuid(
-                new Uuid(UUID.nameUUIDFromBytes(destNepKey.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setNodeUuid(TapiUuidFactory.uuid(dstNodeId, dstNodeQual))
+            .setNodeEdgePointUuid(TapiUuidFactory.uuid(destNepKey))
             .build();
         NameBuilder linkName = new NameBuilder();
         // TODO: variables for each type
@@ -409,8 +401,7 @@ public class TapiLinkImpl implements TapiLink {
             .build();
         LOG.debug("Successfully created tapiLink {} of type {}", linkKey, linkType);
         return new LinkBuilder()
-            .setUuid(new Uuid(
-                UUID.nameUUIDFromBytes(linkKey.getBytes(StandardCharsets.UTF_8)).toString()))
+            .setUuid(TapiUuidFactory.uuid(linkKey))
             .setName(Map.of(linkName.build().key(), linkName.build()))
             //Bug in TAPI : transitioned layer protocol name is mandatory (whether this concept has disappeared)
             // Additionally, the grouping defining it requires at least 2 elements.
@@ -715,67 +706,42 @@ public class TapiLinkImpl implements TapiLink {
     @Override
     public String getOperState(String srcNodeId, String destNodeId, String sourceTpId, String destTpId,
             Uuid topoUuid) {
-        Uuid nepUuid = new Uuid(UUID.nameUUIDFromBytes(
-                String.join("+", srcNodeId, TapiConstants.PHTNC_MEDIA_OTS, sourceTpId)
-                    .getBytes(StandardCharsets.UTF_8))
-            .toString());
-        try {
-            Optional<OwnedNodeEdgePoint> optionalOnep = this.networkTransactionService.read(
-                    LogicalDatastoreType.OPERATIONAL,
-                    DataObjectIdentifier.builder(Context.class)
-                        .augmentation(Context1.class)
-                        .child(TopologyContext.class)
-                        .child(Topology.class, new TopologyKey(topoUuid))
-                        .child(Node.class, new NodeKey(
-                            new Uuid(UUID.nameUUIDFromBytes(
-                                    String.join("+", srcNodeId, TapiConstants.PHTNC_MEDIA)
-                                        .getBytes(StandardCharsets.UTF_8))
-                                .toString())))
-                        .child(OwnedNodeEdgePoint.class, new OwnedNodeEdgePointKey(nepUuid))
-                        .build())
-                .get();
-            if (optionalOnep.isEmpty()) {
-                LOG.error("Nep {} does not exist in the datastore", nepUuid);
-                return null;
-            }
-            Uuid nep1Uuid = new Uuid(UUID.nameUUIDFromBytes(
-                    String.join("+", destNodeId, TapiConstants.PHTNC_MEDIA_OTS, destTpId)
-                        .getBytes(StandardCharsets.UTF_8))
-                .toString());
-            Optional<OwnedNodeEdgePoint> optionalOnep1 = this.networkTransactionService.read(
-                    LogicalDatastoreType.OPERATIONAL,
-                    DataObjectIdentifier.builder(Context.class)
-                        .augmentation(Context1.class)
-                        .child(TopologyContext.class)
-                        .child(Topology.class, new TopologyKey(topoUuid))
-                        .child(Node.class, new NodeKey(
-                            new Uuid(UUID.nameUUIDFromBytes(
-                                    String.join("+", destNodeId, TapiConstants.PHTNC_MEDIA)
-                                        .getBytes(StandardCharsets.UTF_8))
-                                .toString())))
-                        .child(OwnedNodeEdgePoint.class, new OwnedNodeEdgePointKey(nep1Uuid))
-                        .build())
-                .get();
-            if (optionalOnep1.isEmpty()) {
-                LOG.error("Nep {} does not exist in the datastore", nep1Uuid);
-                return null;
-            }
-            OperationalState onepOperState = optionalOnep.orElseThrow().getOperationalState();
-            return onepOperState.equals(optionalOnep1.orElseThrow().getOperationalState())
-                ? onepOperState.getName() : OperationalState.DISABLED.getName();
-        } catch (InterruptedException | ExecutionException e) {
-            LOG.error("Failed getting Mapping data from portMapping",e);
+        NepState srcNepState = getPhotonicMediaOtsNepState(srcNodeId, sourceTpId, topoUuid);
+        if (srcNepState == null) {
+            return null;
+        }
+        NepState destNepState = getPhotonicMediaOtsNepState(destNodeId, destTpId, topoUuid);
+        if (destNepState == null) {
             return null;
         }
+        OperationalState onepOperState = srcNepState.operState();
+        return onepOperState.equals(destNepState.operState())
+            ? onepOperState.getName() : OperationalState.DISABLED.getName();
     }
 
     @Override
     public String getAdminState(String srcNodeId, String destNodeId, String sourceTpId, String destTpId,
         Uuid topoUuid) {
-        Uuid nepUuid = new Uuid(UUID.nameUUIDFromBytes(
-                String.join("+", srcNodeId, TapiConstants.PHTNC_MEDIA_OTS, sourceTpId)
-                    .getBytes(StandardCharsets.UTF_8))
-            .toString());
+        NepState srcNepState = getPhotonicMediaOtsNepState(srcNodeId, sourceTpId, topoUuid);
+        if (srcNepState == null) {
+            return null;
+        }
+        NepState destNepState = getPhotonicMediaOtsNepState(destNodeId, destTpId, topoUuid);
+        if (destNepState == null) {
+            return null;
+        }
+        AdministrativeState onepAdminState = srcNepState.adminState();
+        return onepAdminState.equals(destNepState.adminState())
+            ? onepAdminState.getName() : AdministrativeState.UNLOCKED.getName();
+    }
+
+    private NepState getPhotonicMediaOtsNepState(String nodeId, String tpId, Uuid topoUuid) {
+        Uuid nepUuid = TapiUuidFactory.uuid(nodeId, TapiConstants.PHTNC_MEDIA_OTS, tpId);
+        NepState nepState = this.nepStateIndex.get(topoUuid, nepUuid);
+        if (nepState != null) {
+            return nepState;
+        }
+        long readGeneration = this.nepStateIndex.generation();
         try {
             Optional<OwnedNodeEdgePoint> optionalOnep = this.networkTransactionService.read(
                     LogicalDatastoreType.OPERATIONAL,
@@ -783,12 +749,7 @@ public class TapiLinkImpl implements TapiLink {
                         .augmentation(Context1.class)
                         .child(TopologyContext.class)
                         .child(Topology.class, new TopologyKey(topoUuid))
-                        .child(Node.class, new NodeKey(
-                            //nodeUuid
-                            new Uuid(UUID.nameUUIDFromBytes(
-                                    String.join("+", srcNodeId, TapiConstants.PHTNC_MEDIA)
-                                        .getBytes(StandardCharsets.UTF_8))
-                                .toString())))
+                        .child(Node.class, new NodeKey(TapiUuidFactory.uuid(nodeId, TapiConstants.PHTNC_MEDIA)))
                         .child(OwnedNodeEdgePoint.class, new OwnedNodeEdgePointKey(nepUuid))
                         .build())
                 .get();
@@ -796,32 +757,7 @@ public class TapiLinkImpl implements TapiLink {
                 LOG.error("Nep {} does not exist in the datastore", nepUuid);
                 return null;
             }
-            Uuid nep1Uuid = new Uuid(UUID.nameUUIDFromBytes(
-                    String.join("+", destNodeId, TapiConstants.PHTNC_MEDIA_OTS, destTpId)
-                        .getBytes(StandardCharsets.UTF_8))
-                .toString());
-            Optional<OwnedNodeEdgePoint> optionalOnep1 = this.networkTransactionService.read(
-                    LogicalDatastoreType.OPERATIONAL,
-                    DataObjectIdentifier.builder(Context.class)
-                        .augmentation(Context1.class)
-                        .child(TopologyContext.class)
-                        .child(Topology.class, new TopologyKey(topoUuid))
-                        .child(Node.class, new NodeKey(
-                            //node1Uuid
-                            new Uuid(UUID.nameUUIDFromBytes(
-                                    String.join("+", destNodeId, TapiConstants.PHTNC_MEDIA)
-                                        .getBytes(StandardCharsets.UTF_8))
-                                .toString())))
-                        .child(OwnedNodeEdgePoint.class, new OwnedNodeEdgePointKey(nep1Uuid))
-                        .build())
-                .get();
-            if (optionalOnep1.isEmpty()) {
-                LOG.error("Nep {} does not exist in the datastore", nep1Uuid);
-                return null;
-            }
-            AdministrativeState onepAdminState = optionalOnep.orElseThrow().getAdministrativeState();
-            return onepAdminState.equals(optionalOnep1.orElseThrow().getAdministrativeState())
-                ? onepAdminState.getName() : AdministrativeState.UNLOCKED.getName();
+            return this.nepStateIndex.put(topoUuid, optionalOnep.orElseThrow(), readGeneration);
         } catch (InterruptedException | ExecutionException e) {
             LOG.error("Failed getting Mapping data from portMapping",e);
             return null;
@@ -835,8 +771,8 @@ public class TapiLinkImpl implements TapiLink {
         String nepId = String.join("+", nodeId, qual, tpId);
         String nodeNepId = String.join("+", nodeId, TapiConstants.PHTNC_MEDIA);
         var uuidMap = new HashMap<>(Map.of(
-            new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString()).toString(),
-            new Uuid(UUID.nameUUIDFromBytes(nodeNepId.getBytes(StandardCharsets.UTF_8)).toString()).toString()));
+            TapiUuidFactory.uuid(nepId).toString(),
+            TapiUuidFactory.uuid(nodeNepId).toString()));
 
         LOG.debug("TAPILINKIMPL569, CEP is {}", cep);
         this.cepMap.put(uuidMap, cep);
@@ -845,9 +781,9 @@ public class TapiLinkImpl implements TapiLink {
             //TopoUuid
             topoUuid,
             //nodeUuid,
-            new Uuid(UUID.nameUUIDFromBytes(nodeNepId.getBytes(StandardCharsets.UTF_8)).toString()),
+            TapiUuidFactory.uuid(nodeNepId),
             //nepUuid,
-            new Uuid(UUID.nameUUIDFromBytes(nepId.getBytes(StandardCharsets.UTF_8)).toString()), cep);
+            TapiUuidFactory.uuid(nepId), cep);
     }
 
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+
+/**
+ * Page of TAPI objects, retrieved with a cursor.
+ *
+ * <p>Objects are ordered by uuid and the continuation token of a page encodes the uuid of its last object, so that
+ * the next page starts right after it even if objects were added or removed in between. Only the objects of the
+ * requested page are kept while scanning the collection, which is never sorted nor copied as a whole.
+ *
+ * @param <T> type of the TAPI objects
+ */
+public final class TapiPage<T> {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder TOKEN_DECODER = Base64.getUrlDecoder();
+
+    private final List<T> items;
+    private final String continuationToken;
+
+    private TapiPage(List<T> items, String continuationToken) {
+        this.items = items;
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * Extract a page from a collection of TAPI objects.
+     *
+     * @param objects the whole collection of objects, may be null
+     * @param uuidOf function returning the uuid of an object
+     * @param filter only objects matching this filter are returned
+     * @param continuationToken token returned with the previous page, null to get the first page
+     * @param pageSize maximum number of objects in the page, from 1 to {@link #MAX_PAGE_SIZE}, null to get all the
+     *     objects in a single page when no continuation token is given, or {@link #MAX_PAGE_SIZE} objects otherwise
+     * @return the page
+     * @throws IllegalArgumentException if the page size is out of range or the continuation token is invalid
+     */
+    public static <T> TapiPage<T> of(Collection<T> objects, Function<T, Uuid> uuidOf, Predicate<? super T> filter,
+            String continuationToken, Integer pageSize) {
+        if (pageSize == null && (continuationToken == null || continuationToken.isEmpty())) {
+            // Paging not requested, all the objects are returned unordered
+            return new TapiPage<>(objects == null ? List.of() : objects.stream().filter(filter).toList(), null);
+        }
+        int size = pageSize == null ? MAX_PAGE_SIZE : pageSize;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String after = decode(continuationToken);
+        if (objects == null) {
+            return new TapiPage<>(List.of(), null);
+        }
+        Comparator<T> byUuid = Comparator.comparing(object -> uuidOf.apply(object).getValue());
+        // Max-heap of the size + 1 first objects, the extra one telling whether a next page exists
+        PriorityQueue<T> firsts = new PriorityQueue<>(size + 1, byUuid.reversed());
+        for (T object : objects) {
+            if ((after != null && uuidOf.apply(object).getValue().compareTo(after) <= 0) || !filter.test(object)) {
+                continue;
+            }
+            firsts.offer(object);
+            if (firsts.size() > size + 1) {
+                firsts.poll();
+            }
+        }
+        boolean hasNext = firsts.size() > size;
+        if (hasNext) {
+            firsts.poll();
+        }
+        List<T> items = new ArrayList<>(firsts);
+        items.sort(byUuid);
+        return new TapiPage<>(items,
+            hasNext ? encode(uuidOf.apply(items.get(items.size() - 1)).getValue()) : null);
+    }
+
+    /**
+     * Convert the objects of the page, keeping its continuation token.
+     *
+     * @param mapper conversion function
+     * @return the converted page
+     */
+    public <R> TapiPage<R> map(Function<T, R> mapper) {
+        List<R> mapped = new ArrayList<>(items.size());
+        for (T item : items) {
+            mapped.add(mapper.apply(item));
+        }
+        return new TapiPage<>(mapped, continuationToken);
+    }
+
+    /**
+     * Get the objects of the page.
+     *
+     * @return the objects ordered by uuid
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Get the token to retrieve the next page.
+     *
+     * @return the continuation token or null if this is the last page
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    private static String encode(String uuid) {
+        return TOKEN_ENCODER.encodeToString(uuid.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String continuationToken) {
+        if (continuationToken == null || continuationToken.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(TOKEN_DECODER.decode(continuationToken), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token " + continuationToken, e);
+        }
+    }
+}
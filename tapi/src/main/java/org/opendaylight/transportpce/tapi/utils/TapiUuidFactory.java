@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+
+/**
+ * Central factory of the deterministic uuids of TAPI objects.
+ *
+ * <p>TAPI uuids are name-based uuids, computed with {@link UUID#nameUUIDFromBytes(byte[])} from the UTF-8 bytes of a
+ * seed made of up to four parts joined with "+", typically the node id, a layer qualifier and a termination point
+ * id, possibly prefixed with the kind of object such as "SIP" or "CEP". The same uuids being computed again and again
+ * during topology conversion and notification handling, they are memoized in a concurrent cache keyed by the parts of
+ * their seed. Looking up a cached uuid neither concatenates the parts nor hashes them with MD5 and does not allocate
+ * any object, since a per-thread lookup key is reused.
+ *
+ * <p>The cache is bounded to {@link #MAX_ENTRIES} uuids. It is cleared when this bound is reached, which only costs
+ * computing again the uuids of the objects still in use.
+ */
+public final class TapiUuidFactory {
+
+    public static final int MAX_ENTRIES = 1 << 17;
+
+    private static final Map<Key, Uuid> CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Key> LOOKUP_KEY = ThreadLocal.withInitial(Key::new);
+
+    private TapiUuidFactory() {
+    }
+
+    /**
+     * Get the uuid derived from a seed.
+     *
+     * @param seed the seed
+     * @return the uuid of {@code seed}
+     */
+    public static Uuid uuid(String seed) {
+        return get(1, seed, null, null, null);
+    }
+
+    /**
+     * Get the uuid derived from a seed made of two parts.
+     *
+     * @param node first part of the seed, usually a node id
+     * @param qualifier second part of the seed, usually a layer qualifier
+     * @return the uuid of {@code node+qualifier}
+     */
+    public static Uuid uuid(String node, String qualifier) {
+        return get(2, node, qualifier, null, null);
+    }
+
+    /**
+     * Get the uuid derived from a seed made of three parts.
+     *
+     * @param node first part of the seed, usually a node id
+     * @param qualifier second part of the seed, usually a layer qualifier
+     * @param tp third part of the seed, usually a termination point id
+     * @return the uuid of {@code node+qualifier+tp}
+     */
+    public static Uuid uuid(String node, String qualifier, String tp) {
+        return get(3, node, qualifier, tp, null);
+    }
+
+    /**
+     * Get the uuid derived from a seed made of four parts.
+     *
+     * @param kind first part of the seed, usually the kind of object such as "SIP" or "CEP"
+     * @param node second part of the seed, usually a node id
+     * @param qualifier third part of the seed, usually a layer qualifier
+     * @param tp fourth part of the seed, usually a termination point id
+     * @return the uuid of {@code kind+node+qualifier+tp}
+     */
+    public static Uuid uuid(String kind, String node, String qualifier, String tp) {
+        return get(4, kind, node, qualifier, tp);
+    }
+
+    static int size() {
+        return CACHE.size();
+    }
+
+    private static Uuid get(int parts, String part1, String part2, String part3, String part4) {
+        Key lookupKey = LOOKUP_KEY.get().set(parts, part1, part2, part3, part4);
+        Uuid uuid = CACHE.get(lookupKey);
+        if (uuid != null) {
+            return uuid;
+        }
+        String seed = switch (parts) {
+            case 1 -> part1;
+            case 2 -> String.join("+", part1, part2);
+            case 3 -> String.join("+", part1, part2, part3);
+            default -> String.join("+", part1, part2, part3, part4);
+        };
+        uuid = new Uuid(UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8)).toString());
+        if (CACHE.size() >= MAX_ENTRIES) {
+            CACHE.clear();
+        }
+        CACHE.put(new Key().set(parts, part1, part2, part3, part4), uuid);
+        return uuid;
+    }
+
+    /**
+     * Parts of the seed of a uuid.
+     * Keys stored in the cache are never modified once inserted, only the per-thread lookup keys are.
+     */
+    private static final class Key {
+        private int parts;
+        private String part1;
+        private String part2;
+        private String part3;
+        private String part4;
+        private int hash;
+
+        Key set(int newParts, String newPart1, String newPart2, String newPart3, String newPart4) {
+            this.parts = newParts;
+            this.part1 = newPart1;
+            this.part2 = newPart2;
+            this.part3 = newPart3;
+            this.part4 = newPart4;
+            int newHash = newParts;
+            newHash = 31 * newHash + Objects.hashCode(newPart1);
+            newHash = 31 * newHash + Objects.hashCode(newPart2);
+            newHash = 31 * newHash + Objects.hashCode(newPart3);
+            this.hash = 31 * newHash + Objects.hashCode(newPart4);
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof Key other && parts == other.parts && hash == other.hash
+                && Objects.equals(part1, other.part1) && Objects.equals(part2, other.part2)
+                && Objects.equals(part3, other.part3) && Objects.equals(part4, other.part4);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.impl.rpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.transportpce.tapi.utils.TapiContext;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetConnectivityServiceListInput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetConnectivityServiceListInput1Builder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetConnectivityServiceListOutput1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.LayerProtocolName;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceListInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.GetConnectivityServiceListOutput;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityService;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityServiceBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityServiceKey;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.Uint16;
+
+@ExtendWith(MockitoExtension.class)
+class GetConnectivityServiceListImplTest {
+
+    @Mock
+    private TapiContext tapiContext;
+    private GetConnectivityServiceListImpl getConnectivityServiceList;
+
+    @BeforeEach
+    void setUp() {
+        // 12 services: even ones are DSR, one in three is disabled
+        Map<ConnectivityServiceKey, ConnectivityService> services = IntStream.range(0, 12)
+            .mapToObj(i -> new ConnectivityServiceBuilder()
+                .setUuid(uuid(i))
+                .setLayerProtocolName(i % 2 == 0 ? LayerProtocolName.DSR : LayerProtocolName.PHOTONICMEDIA)
+                .setOperationalState(i % 3 == 0 ? OperationalState.DISABLED : OperationalState.ENABLED)
+                .build())
+            .collect(Collectors.toMap(ConnectivityService::key, Function.identity()));
+        when(tapiContext.getConnectivityServices()).thenReturn(services);
+        getConnectivityServiceList = new GetConnectivityServiceListImpl(tapiContext);
+    }
+
+    private static Uuid uuid(int index) {
+        return new Uuid(String.format("00000000-0000-0000-0000-%012d", index));
+    }
+
+    private RpcResult<GetConnectivityServiceListOutput> invoke(GetConnectivityServiceListInput1 paging)
+            throws InterruptedException, ExecutionException {
+        return getConnectivityServiceList.invoke(new GetConnectivityServiceListInputBuilder()
+                .addAugmentation(paging)
+                .build())
+            .get();
+    }
+
+    private static List<Uuid> uuids(GetConnectivityServiceListOutput output) {
+        return output.nonnullService().values().stream().map(service -> service.getUuid())
+            .sorted((u1, u2) -> u1.getValue().compareTo(u2.getValue())).toList();
+    }
+
+    @Test
+    void withoutPagingAllTheServicesAreReturned() throws InterruptedException, ExecutionException {
+        RpcResult<GetConnectivityServiceListOutput> result =
+            getConnectivityServiceList.invoke(new GetConnectivityServiceListInputBuilder().build()).get();
+
+        assertTrue(result.isSuccessful());
+        assertEquals(12, result.getResult().nonnullService().size());
+        assertNull(result.getResult().augmentation(GetConnectivityServiceListOutput1.class));
+    }
+
+    @Test
+    void pagesCoverAllTheServicesInOrder() throws InterruptedException, ExecutionException {
+        List<Uuid> collected = new ArrayList<>();
+        String token = null;
+        int pages = 0;
+        do {
+            RpcResult<GetConnectivityServiceListOutput> result = invoke(new GetConnectivityServiceListInput1Builder()
+                .setPageSize(Uint16.valueOf(5))
+                .setContinuationToken(token)
+                .build());
+            assertTrue(result.isSuccessful());
+            assertTrue(result.getResult().nonnullService().size() <= 5);
+            collected.addAll(uuids(result.getResult()));
+            GetConnectivityServiceListOutput1 next =
+                result.getResult().augmentation(GetConnectivityServiceListOutput1.class);
+            token = next == null ? null : next.getContinuationToken();
+            pages++;
+        } while (token != null);
+
+        assertEquals(3, pages);
+        assertEquals(IntStream.range(0, 12).mapToObj(i -> uuid(i)).toList(), collected);
+    }
+
+    @Test
+    void servicesAreFilteredByLayerAndState() throws InterruptedException, ExecutionException {
+        RpcResult<GetConnectivityServiceListOutput> result = invoke(new GetConnectivityServiceListInput1Builder()
+            .setLayerProtocolName(LayerProtocolName.DSR)
+            .setOperationalState(OperationalState.ENABLED)
+            .setPageSize(Uint16.valueOf(3))
+            .build());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of(uuid(2), uuid(4), uuid(8)), uuids(result.getResult()));
+        GetConnectivityServiceListOutput1 next =
+            result.getResult().augmentation(GetConnectivityServiceListOutput1.class);
+        assertNotNull(next);
+
+        result = invoke(new GetConnectivityServiceListInput1Builder()
+            .setLayerProtocolName(LayerProtocolName.DSR)
+            .setOperationalState(OperationalState.ENABLED)
+            .setPageSize(Uint16.valueOf(3))
+            .setContinuationToken(next.getContinuationToken())
+            .build());
+        assertEquals(List.of(uuid(10)), uuids(result.getResult()));
+        assertNull(result.getResult().augmentation(GetConnectivityServiceListOutput1.class));
+    }
+
+    @Test
+    void invalidContinuationTokenIsRejected() throws InterruptedException, ExecutionException {
+        RpcResult<GetConnectivityServiceListOutput> result = invoke(new GetConnectivityServiceListInput1Builder()
+            .setContinuationToken("not a token!")
+            .build());
+
+        assertFalse(result.isSuccessful());
+        assertEquals(1, result.getErrors().size());
+    }
+}
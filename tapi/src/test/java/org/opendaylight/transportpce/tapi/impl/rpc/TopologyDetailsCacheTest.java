@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.impl.rpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.tapi.TapiConstants;
+import org.opendaylight.transportpce.tapi.impl.rpc.TopologyDetailsCache.Source;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.GetTopologyDetailsOutput;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.GetTopologyDetailsOutputBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class TopologyDetailsCacheTest {
+
+    @Mock
+    private DataBroker dataBroker;
+    @Captor
+    private ArgumentCaptor<DataTreeChangeListener<?>> configListeners;
+    @Captor
+    private ArgumentCaptor<DataTreeChangeListener<?>> operListeners;
+
+    private TopologyDetailsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TopologyDetailsCache(dataBroker);
+        verify(dataBroker, times(3)).registerTreeChangeListener(eq(LogicalDatastoreType.CONFIGURATION), any(),
+            configListeners.capture());
+        verify(dataBroker, times(1)).registerTreeChangeListener(eq(LogicalDatastoreType.OPERATIONAL), any(),
+            operListeners.capture());
+    }
+
+    @Test
+    void viewIsServedUntilItsSourceChanges() {
+        GetTopologyDetailsOutput otnOutput = new GetTopologyDetailsOutputBuilder().build();
+        GetTopologyDetailsOutput tapiOutput = new GetTopologyDetailsOutputBuilder().build();
+        cache.put(TapiConstants.T0_MULTILAYER_UUID, Source.OPENROADM, cache.getVersion(Source.OPENROADM), null,
+            otnOutput);
+        cache.put(TapiConstants.T0_TAPI_MULTILAYER_UUID, Source.TAPI, cache.getVersion(Source.TAPI), null,
+            tapiOutput);
+        assertSame(otnOutput, cache.get(TapiConstants.T0_MULTILAYER_UUID, Source.OPENROADM).getOutput());
+
+        // a change of the otn-topology only invalidates the views built from OpenROADM topologies
+        configListeners.getAllValues().get(1).onDataTreeChanged(List.of());
+
+        assertEquals(1, cache.getVersion(Source.OPENROADM));
+        assertNull(cache.get(TapiConstants.T0_MULTILAYER_UUID, Source.OPENROADM));
+        assertSame(tapiOutput, cache.get(TapiConstants.T0_TAPI_MULTILAYER_UUID, Source.TAPI).getOutput());
+
+        operListeners.getValue().onDataTreeChanged(List.of());
+        assertNull(cache.get(TapiConstants.T0_TAPI_MULTILAYER_UUID, Source.TAPI));
+    }
+
+    @Test
+    void viewBuiltFromOutdatedSourceIsNotCached() {
+        long version = cache.getVersion(Source.OPENROADM);
+        // port-mapping updated while the topology was being built
+        configListeners.getAllValues().get(2).onDataTreeChanged(List.of());
+        cache.put(TapiConstants.T0_MULTILAYER_UUID, Source.OPENROADM, version, null,
+            new GetTopologyDetailsOutputBuilder().build());
+
+        assertNull(cache.get(TapiConstants.T0_MULTILAYER_UUID, Source.OPENROADM));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.LayerProtocolName;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.ConnectionEndPoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.ConnectionEndPointBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.ConnectionEndPointKey;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.LowerConnection;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connection.LowerConnectionBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.Connection;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectionBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityService;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.context.ConnectivityServiceBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.connectivity.service.ConnectivityConstraintBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121.context.ConnectivityContextBuilder;
+
+class TapiConnectivityIndexTest {
+
+    private static final Uuid TOPO = new Uuid("00000000-0000-0000-0000-000000000000");
+    private static final Uuid NODE = new Uuid("00000000-0000-0000-0000-000000000001");
+
+    private TapiConnectivityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Connection lowConnA = connection("10000000-0000-0000-0000-00000000000a", List.of(), "a1", "a2");
+        Connection lowConnB = connection("10000000-0000-0000-0000-00000000000b", List.of(), "b1", "b2");
+        Connection lowConnC = connection("10000000-0000-0000-0000-00000000000c", List.of(), "c1", "c2");
+        Connection topConn = connection("20000000-0000-0000-0000-000000000001",
+            List.of(lowConnA.getUuid(), lowConnB.getUuid()), "a1", "b2");
+        ConnectivityService photService = service("30000000-0000-0000-0000-000000000001",
+            LayerProtocolName.PHOTONICMEDIA, null, topConn.getUuid());
+        ConnectivityService oduService = service("30000000-0000-0000-0000-000000000002",
+            LayerProtocolName.ODU, photService.getUuid().getValue(), lowConnC.getUuid());
+        index = TapiConnectivityIndex.of(new ConnectivityContextBuilder()
+            .setConnection(Map.of(
+                lowConnA.key(), lowConnA, lowConnB.key(), lowConnB, lowConnC.key(), lowConnC,
+                topConn.key(), topConn))
+            .setConnectivityService(Map.of(photService.key(), photService, oduService.key(), oduService))
+            .build());
+    }
+
+    @Test
+    void impactedConnectionsIncludeUpperConnections() {
+        Set<String> impacted = index.getImpactedConnections(List.of(nep("b1"))).stream()
+            .map(Uuid::getValue)
+            .collect(Collectors.toSet());
+
+        assertEquals(Set.of("10000000-0000-0000-0000-00000000000b", "20000000-0000-0000-0000-000000000001"),
+            impacted);
+    }
+
+    @Test
+    void unknownNepImpactsNothing() {
+        assertTrue(index.getImpactedConnections(List.of(nep("f9"))).isEmpty());
+    }
+
+    @Test
+    void impactedServicesAreResolvedFromConnections() {
+        Set<Uuid> impacted = index.getImpactedConnectivityServices(index.getImpactedConnections(List.of(nep("a2"))));
+
+        assertEquals(Set.of(new Uuid("30000000-0000-0000-0000-000000000001")), impacted);
+    }
+
+    @Test
+    void supportedServicesAreResolvedFromServiceLevel() {
+        List<ConnectivityService> supported = index.getSupportedConnectivityServices(
+            new Uuid("30000000-0000-0000-0000-000000000001"));
+
+        assertEquals(1, supported.size());
+        assertEquals("30000000-0000-0000-0000-000000000002", supported.get(0).getUuid().getValue());
+    }
+
+    @Test
+    void replacedConnectionIsReindexed() {
+        index.putConnection(connection("10000000-0000-0000-0000-00000000000b", List.of(), "b1", "d2"));
+
+        assertEquals(2, index.getImpactedConnections(List.of(nep("d2"))).size());
+        assertTrue(index.getImpactedConnections(List.of(nep("b2"))).stream()
+            .noneMatch(conn -> conn.getValue().endsWith("b")));
+    }
+
+    @Test
+    void removedConnectionIsNoMoreImpacted() {
+        index.removeConnection(new Uuid("20000000-0000-0000-0000-000000000001"));
+
+        assertEquals(Set.of(new Uuid("10000000-0000-0000-0000-00000000000b")),
+            index.getImpactedConnections(List.of(nep("b1"))));
+        assertTrue(index.getImpactedConnectivityServices(index.getImpactedConnections(List.of(nep("b1"))))
+            .isEmpty());
+    }
+
+    @Test
+    void removedServiceIsNoMoreSupported() {
+        index.removeConnectivityService(new Uuid("30000000-0000-0000-0000-000000000002"));
+
+        assertTrue(index.getSupportedConnectivityServices(new Uuid("30000000-0000-0000-0000-000000000001"))
+            .isEmpty());
+        assertTrue(index.getImpactedConnectivityServices(List.of(new Uuid("10000000-0000-0000-0000-00000000000c")))
+            .isEmpty());
+    }
+
+    private static Uuid nep(String name) {
+        return new Uuid(String.format("40000000-0000-0000-0000-0000000000%s", name));
+    }
+
+    private static Connection connection(String uuid, List<Uuid> lowerConnUuids, String... nepNames) {
+        Map<ConnectionEndPointKey, ConnectionEndPoint> ceps = new HashMap<>();
+        for (String nepName : nepNames) {
+            ConnectionEndPoint cep = new ConnectionEndPointBuilder()
+                .setTopologyUuid(TOPO)
+                .setNodeUuid(NODE)
+                .setNodeEdgePointUuid(nep(nepName))
+                .setConnectionEndPointUuid(nep(nepName))
+                .build();
+            ceps.put(cep.key(), cep);
+        }
+        ConnectionBuilder connBldr = new ConnectionBuilder()
+            .setUuid(new Uuid(uuid))
+            .setConnectionEndPoint(ceps);
+        if (!lowerConnUuids.isEmpty()) {
+            connBldr.setLowerConnection(lowerConnUuids.stream()
+                .map(lowerConnUuid -> new LowerConnectionBuilder().setConnectionUuid(lowerConnUuid).build())
+                .collect(Collectors.toMap(LowerConnection::key, lowerConn -> lowerConn)));
+        }
+        return connBldr.build();
+    }
+
+    private static ConnectivityService service(String uuid, LayerProtocolName layer, String serviceLevel,
+            Uuid connUuid) {
+        var conn = new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.connectivity.rev221121
+            .connectivity.service.ConnectionBuilder().setConnectionUuid(connUuid).build();
+        return new ConnectivityServiceBuilder()
+            .setUuid(new Uuid(uuid))
+            .setLayerProtocolName(layer)
+            .setConnectivityConstraint(new ConnectivityConstraintBuilder().setServiceLevel(serviceLevel).build())
+            .setConnection(Map.of(conn.key(), conn))
+            .build();
+    }
+}
@@ -7,13 +7,31 @@
  */
 package org.opendaylight.transportpce.tapi.provider;
 
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Futures;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -43,6 +61,7 @@ import org.opendaylight.transportpce.tapi.listeners.TapiNetworkModelNotification
 import org.opendaylight.transportpce.tapi.topology.TapiNetworkModelService;
 import org.opendaylight.transportpce.tapi.utils.TapiContext;
 import org.opendaylight.transportpce.tapi.utils.TapiLink;
+import org.opendaylight.yangtools.concepts.Registration;
 
 @ExtendWith(MockitoExtension.class)
 public class TapiProviderTest {
@@ -71,6 +90,8 @@ public class TapiProviderTest {
     private TapiLink tapilink;
     @Mock
     private TapiContext tapiContext;
+    @Mock
+    private Registration rpcRegistration;
 
     @Test
     void testInitRegisterTapiToRpcRegistry() {
@@ -93,6 +114,105 @@ public class TapiProviderTest {
                 any(GetTopologyListImpl.class),
                 any(GetServiceInterfacePointDetailsImpl.class),
                 any(GetServiceInterfacePointListImpl.class));
-        verify(dataBroker, times(4)).registerTreeChangeListener(any(), any(), any());
+        verify(dataBroker, times(8)).registerTreeChangeListener(any(), any(), any());
+    }
+
+    @Test
+    void testBootstrapRunsOnTheGivenExecutor() {
+        when(networkTransactionService.read(any(), any())).thenReturn(Futures.immediateFuture(Optional.empty()));
+        List<Runnable> tasks = new ArrayList<>();
+        TapiProvider provider = new TapiProvider(dataBroker, rpcProviderService, rpcService, notificationService,
+                notificationPublishService, networkTransactionService, serviceDataStoreOperations,
+                networkModelService, tapiNetworkModelNotificationHandler, tapiNetworkModelServiceImpl, tapilink,
+                tapiContext, tasks::add);
+
+        assertFalse(provider.getReadiness().isDone());
+        verifyNoInteractions(rpcProviderService, networkModelService);
+
+        tasks.forEach(Runnable::run);
+        assertTrue(provider.getReadiness().isDone());
+        verify(networkModelService, times(1)).createTapiExtNodeAtInit();
+        verify(rpcProviderService, times(1)).registerRpcImplementations(
+                any(CreateConnectivityServiceImpl.class),
+                any(GetConnectivityServiceDetailsImpl.class),
+                any(GetConnectionDetailsImpl.class),
+                any(DeleteConnectivityServiceImpl.class),
+                any(GetConnectivityServiceListImpl.class),
+                any(GetNodeDetailsImpl.class),
+                any(GetTopologyDetailsImpl.class),
+                any(GetNodeEdgePointDetailsImpl.class),
+                any(GetLinkDetailsImpl.class),
+                any(GetTopologyListImpl.class),
+                any(GetServiceInterfacePointDetailsImpl.class),
+                any(GetServiceInterfacePointListImpl.class));
+    }
+
+    @Test
+    void testBootstrapNotStartedWhenClosed() {
+        List<Runnable> tasks = new ArrayList<>();
+        TapiProvider provider = new TapiProvider(dataBroker, rpcProviderService, rpcService, notificationService,
+                notificationPublishService, networkTransactionService, serviceDataStoreOperations,
+                networkModelService, tapiNetworkModelNotificationHandler, tapiNetworkModelServiceImpl, tapilink,
+                tapiContext, tasks::add);
+
+        provider.close();
+        tasks.forEach(Runnable::run);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> provider.getReadiness().get());
+        assertInstanceOf(CancellationException.class, error.getCause());
+        verify(networkModelService, never()).createTapiExtNodeAtInit();
+        verifyNoInteractions(rpcProviderService, dataBroker, notificationService);
+    }
+
+    @Test
+    void testRegistrationsDoneAfterCloseAreClosed() throws InterruptedException {
+        when(networkTransactionService.read(any(), any())).thenReturn(Futures.immediateFuture(Optional.empty()));
+        CountDownLatch registering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // the RPCs are registered once the provider is closed
+        when(rpcProviderService.registerRpcImplementations(
+                any(CreateConnectivityServiceImpl.class),
+                any(GetConnectivityServiceDetailsImpl.class),
+                any(GetConnectionDetailsImpl.class),
+                any(DeleteConnectivityServiceImpl.class),
+                any(GetConnectivityServiceListImpl.class),
+                any(GetNodeDetailsImpl.class),
+                any(GetTopologyDetailsImpl.class),
+                any(GetNodeEdgePointDetailsImpl.class),
+                any(GetLinkDetailsImpl.class),
+                any(GetTopologyListImpl.class),
+                any(GetServiceInterfacePointDetailsImpl.class),
+                any(GetServiceInterfacePointListImpl.class)))
+            .thenAnswer(invocation -> {
+                registering.countDown();
+                assertTrue(release.await(10, TimeUnit.SECONDS), "Bootstrap not released");
+                return rpcRegistration;
+            });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            TapiProvider provider = new TapiProvider(dataBroker, rpcProviderService, rpcService, notificationService,
+                    notificationPublishService, networkTransactionService, serviceDataStoreOperations,
+                    networkModelService, tapiNetworkModelNotificationHandler, tapiNetworkModelServiceImpl, tapilink,
+                    tapiContext, executor);
+            assertTrue(registering.await(10, TimeUnit.SECONDS), "RPCs not registered");
+            Thread closer = new Thread(provider::close);
+            closer.start();
+            // wait for the provider to be closed and to wait for the bootstrap
+            await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertEquals(Thread.State.TIMED_WAITING, closer.getState()));
+            release.countDown();
+            closer.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(closer.isAlive());
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> provider.getReadiness().get());
+            assertInstanceOf(CancellationException.class, error.getCause());
+            verify(rpcRegistration, times(1)).close();
+            assertNull(provider.getRegisteredRpcs());
+            verify(networkModelService, times(1)).deleteTapiExtNode();
+            // only the listeners of the topology details cache, closed with the provider, have been registered
+            verify(dataBroker, times(4)).registerTreeChangeListener(any(), any(), any());
+            verifyNoInteractions(notificationService);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 }
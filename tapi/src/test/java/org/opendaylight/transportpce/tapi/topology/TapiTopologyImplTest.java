@@ -9,7 +9,9 @@ package org.opendaylight.transportpce.tapi.topology;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import java.nio.charset.StandardCharsets;
@@ -48,6 +50,10 @@ import org.opendaylight.transportpce.tapi.utils.TapiLinkImpl;
 import org.opendaylight.transportpce.tapi.utils.TapiTopologyDataUtils;
 import org.opendaylight.transportpce.test.AbstractTest;
 import org.opendaylight.transportpce.test.utils.TopologyDataUtils;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetServiceInterfacePointListInput1Builder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetServiceInterfacePointListOutput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetTopologyDetailsInput1Builder;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetTopologyDetailsOutput1;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.CAPACITYUNITGBPS;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.ForwardingDirection;
@@ -82,6 +88,7 @@ import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.to
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.LinkKey;
 import org.opendaylight.yangtools.yang.common.Decimal64;
 import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.common.Uint64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -575,6 +582,140 @@ public class TapiTopologyImplTest extends AbstractTest {
         }
     }
 
+    @Test
+    void getTopologyDetailsByPagesCoversTheWholeTopology() throws ExecutionException, InterruptedException {
+        Uuid topologyUuid = new Uuid(UUID.nameUUIDFromBytes(TapiConstants.T0_FULL_MULTILAYER.getBytes(
+            StandardCharsets.UTF_8)).toString());
+        GetTopologyDetailsImpl getTopologyDetails = new GetTopologyDetailsImpl(tapiContext, topologyUtils, tapiLink,
+            networkTransactionService);
+        Topology full = getTopologyDetails.invoke(TapiTopologyDataUtils.buildGetTopologyDetailsInput(topologyUuid))
+            .get().getResult().getTopology();
+        List<Uuid> nodeUuids = new ArrayList<>();
+        Map<LinkKey, Link> links = new HashMap<>();
+        String token = null;
+        int pages = 0;
+        do {
+            RpcResult<GetTopologyDetailsOutput> rpcResult = getTopologyDetails.invoke(
+                    TapiTopologyDataUtils.buildGetTopologyDetailsInput(topologyUuid,
+                        new GetTopologyDetailsInput1Builder()
+                            .setPageSize(Uint16.valueOf(4))
+                            .setContinuationToken(token)
+                            .build()))
+                .get();
+            assertTrue(rpcResult.isSuccessful(), "Page should be returned");
+            Topology page = rpcResult.getResult().getTopology();
+            assertEquals(full.getUuid(), page.getUuid());
+            assertThat(page.nonnullNode().size()).isLessThanOrEqualTo(4);
+            page.nonnullNode().values().forEach(node -> nodeUuids.add(node.getUuid()));
+            // links of the page end on one of its nodes
+            for (Link link : page.nonnullLink().values()) {
+                assertTrue(link.nonnullNodeEdgePoint().values().stream()
+                    .anyMatch(nep -> page.nonnullNode().containsKey(
+                        new org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.NodeKey(
+                            nep.getNodeUuid()))),
+                    "Link should end on a node of the page");
+                links.put(link.key(), link);
+            }
+            GetTopologyDetailsOutput1 next = rpcResult.getResult().augmentation(GetTopologyDetailsOutput1.class);
+            token = next == null ? null : next.getContinuationToken();
+            pages++;
+        } while (token != null);
+
+        assertEquals(3, pages, "10 nodes should be returned in 3 pages");
+        assertEquals(full.getNode().values().stream().map(node -> node.getUuid())
+            .sorted((u1, u2) -> u1.getValue().compareTo(u2.getValue())).toList(), nodeUuids);
+        assertEquals(full.nonnullLink(), links, "Every link should be returned with a page");
+    }
+
+    @Test
+    void getTopologyDetailsFilteredByLayerStateAndNode() throws ExecutionException, InterruptedException {
+        Uuid topologyUuid = new Uuid(UUID.nameUUIDFromBytes(TapiConstants.T0_FULL_MULTILAYER.getBytes(
+            StandardCharsets.UTF_8)).toString());
+        GetTopologyDetailsImpl getTopologyDetails = new GetTopologyDetailsImpl(tapiContext, topologyUtils, tapiLink,
+            networkTransactionService);
+        Topology full = getTopologyDetails.invoke(TapiTopologyDataUtils.buildGetTopologyDetailsInput(topologyUuid))
+            .get().getResult().getTopology();
+
+        Topology dsr = getTopologyDetails.invoke(TapiTopologyDataUtils.buildGetTopologyDetailsInput(topologyUuid,
+                new GetTopologyDetailsInput1Builder()
+                    .setLayerProtocolName(LayerProtocolName.DSR)
+                    .build()))
+            .get().getResult().getTopology();
+        assertEquals(full.getNode().values().stream()
+                .filter(node -> node.getLayerProtocolName().contains(LayerProtocolName.DSR))
+                .count(),
+            dsr.nonnullNode().size());
+        assertThat(dsr.nonnullNode().size()).isPositive().isLessThan(full.getNode().size());
+
+        Topology disabled = getTopologyDetails.invoke(TapiTopologyDataUtils.buildGetTopologyDetailsInput(topologyUuid,
+                new GetTopologyDetailsInput1Builder()
+                    .setOperationalState(OperationalState.DISABLED)
+                    .build()))
+            .get().getResult().getTopology();
+        assertEquals(full.getNode().values().stream()
+                .filter(node -> OperationalState.DISABLED.equals(node.getOperationalState()))
+                .count(),
+            disabled.nonnullNode().size());
+
+        org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node roadm =
+            full.getNode().values().stream()
+                .filter(node -> node.getLayerProtocolName().contains(LayerProtocolName.PHOTONICMEDIA))
+                .findFirst().orElseThrow();
+        Topology single = getTopologyDetails.invoke(TapiTopologyDataUtils.buildGetTopologyDetailsInput(topologyUuid,
+                new GetTopologyDetailsInput1Builder()
+                    .setNodeId(roadm.getUuid())
+                    .build()))
+            .get().getResult().getTopology();
+        assertEquals(Map.of(roadm.key(), roadm), single.getNode());
+    }
+
+    @Test
+    void getTopologyDetailsWithInvalidContinuationTokenFails() throws ExecutionException, InterruptedException {
+        Uuid topologyUuid = new Uuid(UUID.nameUUIDFromBytes(TapiConstants.T0_FULL_MULTILAYER.getBytes(
+            StandardCharsets.UTF_8)).toString());
+        RpcResult<GetTopologyDetailsOutput> rpcResult = new GetTopologyDetailsImpl(tapiContext, topologyUtils,
+                tapiLink, networkTransactionService)
+            .invoke(TapiTopologyDataUtils.buildGetTopologyDetailsInput(topologyUuid,
+                new GetTopologyDetailsInput1Builder()
+                    .setContinuationToken("not a token!")
+                    .build()))
+            .get();
+        assertFalse(rpcResult.isSuccessful(), "Invalid token should be rejected");
+    }
+
+    @Test
+    void getSipListByPagesFilteredByLayer() throws ExecutionException, InterruptedException {
+        GetServiceInterfacePointListImpl getSipList = new GetServiceInterfacePointListImpl(tapiContext);
+        Map<SipKey, Sip> allSips = getSipList.invoke(TapiTopologyDataUtils.buildServiceInterfacePointListInput())
+            .get().getResult().getSip();
+        List<Uuid> sipUuids = new ArrayList<>();
+        String token = null;
+        do {
+            RpcResult<GetServiceInterfacePointListOutput> rpcResult = getSipList.invoke(
+                    TapiTopologyDataUtils.buildServiceInterfacePointListInput(
+                        new GetServiceInterfacePointListInput1Builder()
+                            .setLayerProtocolName(LayerProtocolName.DSR)
+                            .setPageSize(Uint16.valueOf(2))
+                            .setContinuationToken(token)
+                            .build()))
+                .get();
+            assertTrue(rpcResult.isSuccessful(), "Page should be returned");
+            assertThat(rpcResult.getResult().nonnullSip().size()).isLessThanOrEqualTo(2);
+            rpcResult.getResult().nonnullSip().values().forEach(sip -> sipUuids.add(sip.getUuid()));
+            GetServiceInterfacePointListOutput1 next =
+                rpcResult.getResult().augmentation(GetServiceInterfacePointListOutput1.class);
+            token = next == null ? null : next.getContinuationToken();
+        } while (token != null);
+
+        assertEquals(allSips.values().stream()
+                .filter(sip -> LayerProtocolName.DSR.equals(sip.getLayerProtocolName()))
+                .map(sip -> sip.getUuid())
+                .sorted((u1, u2) -> u1.getValue().compareTo(u2.getValue()))
+                .toList(),
+            sipUuids);
+        assertThat(sipUuids).isNotEmpty();
+    }
+
     private void checkOtnLink(Link link, Uuid topoUuid, Uuid node1Uuid, Uuid node2Uuid, Uuid tp1Uuid, Uuid tp2Uuid,
             Uuid linkUuid, String linkName) {
         assertEquals(linkName, link.getName().get(new NameKey("otn link name")).getValue(), "bad name for the link");
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.transportpce.tapi.TapiConstants;
+import org.opendaylight.transportpce.tapi.utils.NepStateIndex.NepState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.AdministrativeState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Context;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.OperationalState;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.Context1;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.context.TopologyContext;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePoint;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePointBuilder;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.node.OwnedNodeEdgePointKey;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.Topology;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.topology.rev221121.topology.context.TopologyKey;
+import org.opendaylight.yangtools.binding.DataObjectIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+
+@ExtendWith(MockitoExtension.class)
+class NepStateIndexTest {
+
+    private static final Uuid TOPO_UUID = TapiConstants.T0_FULL_MULTILAYER_UUID;
+    private static final Uuid NODE_UUID = TapiUuidFactory.uuid("ROADM-A1", TapiConstants.PHTNC_MEDIA);
+    private static final Uuid NEP_UUID =
+        TapiUuidFactory.uuid("ROADM-A1", TapiConstants.PHTNC_MEDIA_OTS, "DEG1-TTP-TXRX");
+
+    @Mock
+    private DataBroker dataBroker;
+    @Mock
+    private Registration registration;
+
+    private static OwnedNodeEdgePoint nep(AdministrativeState adminState, OperationalState operState) {
+        return new OwnedNodeEdgePointBuilder()
+            .setUuid(NEP_UUID)
+            .setAdministrativeState(adminState)
+            .setOperationalState(operState)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataTreeModification<OwnedNodeEdgePoint> change(OwnedNodeEdgePoint nepAfter) {
+        DataTreeModification<OwnedNodeEdgePoint> change = mock(DataTreeModification.class);
+        DataObjectModification<OwnedNodeEdgePoint> rootNode = mock(DataObjectModification.class);
+        when(change.path()).thenReturn(DataObjectIdentifier.builder(Context.class)
+            .augmentation(Context1.class)
+            .child(TopologyContext.class)
+            .child(Topology.class, new TopologyKey(TOPO_UUID))
+            .child(Node.class, new NodeKey(NODE_UUID))
+            .child(OwnedNodeEdgePoint.class, new OwnedNodeEdgePointKey(NEP_UUID))
+            .build());
+        when(change.getRootNode()).thenReturn(rootNode);
+        when(rootNode.dataAfter()).thenReturn(nepAfter);
+        return change;
+    }
+
+    @Test
+    void indexFollowsNotifiedChanges() {
+        when(dataBroker.registerTreeChangeListener(any(), any(), any())).thenReturn(registration);
+        NepStateIndex index = new NepStateIndex(dataBroker);
+        assertNull(index.get(TOPO_UUID, NEP_UUID));
+        verify(dataBroker, times(1)).registerTreeChangeListener(eq(LogicalDatastoreType.OPERATIONAL), any(),
+            eq(index));
+
+        index.onDataTreeChanged(List.of(change(nep(AdministrativeState.UNLOCKED, OperationalState.ENABLED))));
+        assertEquals(new NepState(AdministrativeState.UNLOCKED, OperationalState.ENABLED),
+            index.get(TOPO_UUID, NEP_UUID));
+
+        index.onDataTreeChanged(List.of(change(nep(AdministrativeState.LOCKED, OperationalState.DISABLED))));
+        assertEquals(new NepState(AdministrativeState.LOCKED, OperationalState.DISABLED),
+            index.get(TOPO_UUID, NEP_UUID));
+
+        index.onDataTreeChanged(List.of(change(null)));
+        assertNull(index.get(TOPO_UUID, NEP_UUID));
+        // the listener is only registered once
+        verify(dataBroker, times(1)).registerTreeChangeListener(any(), any(), any());
+        index.close();
+        verify(registration).close();
+    }
+
+    @Test
+    void nepReadDuringAChangeIsNotIndexed() {
+        when(dataBroker.registerTreeChangeListener(any(), any(), any())).thenReturn(registration);
+        NepStateIndex index = new NepStateIndex(dataBroker);
+        index.get(TOPO_UUID, NEP_UUID);
+        long generation = index.generation();
+        index.onDataTreeChanged(List.of(change(null)));
+
+        assertEquals(new NepState(AdministrativeState.UNLOCKED, OperationalState.ENABLED),
+            index.put(TOPO_UUID, nep(AdministrativeState.UNLOCKED, OperationalState.ENABLED), generation));
+        assertNull(index.get(TOPO_UUID, NEP_UUID));
+        index.put(TOPO_UUID, nep(AdministrativeState.UNLOCKED, OperationalState.ENABLED), index.generation());
+        assertEquals(new NepState(AdministrativeState.UNLOCKED, OperationalState.ENABLED),
+            index.get(TOPO_UUID, NEP_UUID));
+    }
+
+    @Test
+    void indexIsDisabledWithoutDataBroker() {
+        NepStateIndex index = new NepStateIndex(null);
+        index.put(TOPO_UUID, nep(AdministrativeState.UNLOCKED, OperationalState.ENABLED), index.generation());
+        assertNull(index.get(TOPO_UUID, NEP_UUID));
+    }
+}
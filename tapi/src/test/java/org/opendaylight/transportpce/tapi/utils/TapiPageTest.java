@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+
+class TapiPageTest {
+
+    private static final Set<Uuid> UUIDS = IntStream.range(0, 25)
+        .mapToObj(i -> new Uuid(String.format("00000000-0000-0000-0000-%012d", i)))
+        .collect(Collectors.toSet());
+
+    @Test
+    void pagesCoverTheWholeCollectionInOrder() {
+        List<Uuid> collected = new ArrayList<>();
+        String token = null;
+        int pages = 0;
+        do {
+            TapiPage<Uuid> page = TapiPage.of(UUIDS, Function.identity(), uuid -> true, token, 10);
+            collected.addAll(page.getItems());
+            token = page.getContinuationToken();
+            pages++;
+        } while (token != null);
+
+        assertEquals(3, pages);
+        assertEquals(UUIDS.stream().sorted((u1, u2) -> u1.getValue().compareTo(u2.getValue())).toList(), collected);
+    }
+
+    @Test
+    void filterIsAppliedBeforePaging() {
+        TapiPage<Uuid> page = TapiPage.of(UUIDS, Function.identity(),
+            uuid -> uuid.getValue().endsWith("0"), null, 2);
+
+        assertEquals(List.of(new Uuid("00000000-0000-0000-0000-000000000000"),
+            new Uuid("00000000-0000-0000-0000-000000000010")), page.getItems());
+        assertNotNull(page.getContinuationToken());
+        TapiPage<Uuid> last = TapiPage.of(UUIDS, Function.identity(),
+            uuid -> uuid.getValue().endsWith("0"), page.getContinuationToken(), 2);
+        assertEquals(List.of(new Uuid("00000000-0000-0000-0000-000000000020")), last.getItems());
+        assertNull(last.getContinuationToken());
+    }
+
+    @Test
+    void withoutPageSizeNorTokenAllTheFilteredObjectsAreReturned() {
+        TapiPage<Uuid> page = TapiPage.of(UUIDS, Function.identity(),
+            uuid -> uuid.getValue().endsWith("0"), null, null);
+
+        assertEquals(Set.of(new Uuid("00000000-0000-0000-0000-000000000000"),
+            new Uuid("00000000-0000-0000-0000-000000000010"), new Uuid("00000000-0000-0000-0000-000000000020")),
+            Set.copyOf(page.getItems()));
+        assertNull(page.getContinuationToken());
+    }
+
+    @Test
+    void tokenWithoutPageSizeGivesTheRemainingObjectsUpToTheMaximumPageSize() {
+        TapiPage<Uuid> first = TapiPage.of(UUIDS, Function.identity(), uuid -> true, null, 10);
+        TapiPage<Uuid> next = TapiPage.of(UUIDS, Function.identity(), uuid -> true, first.getContinuationToken(),
+            null);
+
+        assertEquals(15, next.getItems().size());
+        assertEquals(new Uuid("00000000-0000-0000-0000-000000000010"), next.getItems().get(0));
+        assertNull(next.getContinuationToken());
+    }
+
+    @Test
+    void emptyOrMissingCollectionGivesEmptyPage() {
+        assertTrue(TapiPage.of(null, Function.<Uuid>identity(), uuid -> true, null, 10).getItems().isEmpty());
+        assertTrue(TapiPage.of(null, Function.<Uuid>identity(), uuid -> true, null, null).getItems().isEmpty());
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> TapiPage.of(UUIDS, Function.identity(), uuid -> true, null, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> TapiPage.of(UUIDS, Function.identity(), uuid -> true, null, TapiPage.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> TapiPage.of(UUIDS, Function.identity(), uuid -> true, "not a token!", 10));
+    }
+}
@@ -8,6 +8,8 @@
 
 package org.opendaylight.transportpce.tapi.utils;
 
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetServiceInterfacePointListInput1;
+import org.opendaylight.yang.gen.v1.http.org.opendaylight.transportpce.tapi.paging.rev261019.GetTopologyDetailsInput1;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointDetailsInput;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointDetailsInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.GetServiceInterfacePointListInput;
@@ -35,6 +37,13 @@ public final class TapiTopologyDataUtils {
             .build();
     }
 
+    public static GetTopologyDetailsInput buildGetTopologyDetailsInput(Uuid topoId, GetTopologyDetailsInput1 paging) {
+        return new GetTopologyDetailsInputBuilder()
+            .setTopologyId(topoId)
+            .addAugmentation(paging)
+            .build();
+    }
+
     public static GetNodeDetailsInput buildGetNodeDetailsInput(Uuid topoId, Uuid nodeId) {
         return new GetNodeDetailsInputBuilder()
             .setTopologyId(topoId)
@@ -54,6 +63,13 @@ public final class TapiTopologyDataUtils {
             .build();
     }
 
+    public static GetServiceInterfacePointListInput buildServiceInterfacePointListInput(
+            GetServiceInterfacePointListInput1 paging) {
+        return new GetServiceInterfacePointListInputBuilder()
+            .addAugmentation(paging)
+            .build();
+    }
+
     public static GetServiceInterfacePointDetailsInput buildGetServiceInterfacePointDetailsInput(Uuid sipUuid) {
         return new GetServiceInterfacePointDetailsInputBuilder()
             .setUuid(sipUuid)
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Orange and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.transportpce.tapi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.transportpce.tapi.TapiConstants;
+import org.opendaylight.yang.gen.v1.urn.onf.otcc.yang.tapi.common.rev221121.Uuid;
+
+class TapiUuidFactoryTest {
+
+    private static Uuid nameUuid(String seed) {
+        return new Uuid(UUID.nameUUIDFromBytes(seed.getBytes(StandardCharsets.UTF_8)).toString());
+    }
+
+    @Test
+    void uuidsAreTheNameBasedUuidsOfTheJoinedParts() {
+        assertEquals(TapiConstants.T0_MULTILAYER_UUID, TapiUuidFactory.uuid(TapiConstants.T0_MULTILAYER));
+        assertEquals(nameUuid("ROADM-A1+PHOTONIC_MEDIA"),
+            TapiUuidFactory.uuid("ROADM-A1", TapiConstants.PHTNC_MEDIA));
+        assertEquals(nameUuid("ROADM-A1+PHOTONIC_MEDIA_OTS+DEG1-TTP-TXRX"),
+            TapiUuidFactory.uuid("ROADM-A1", TapiConstants.PHTNC_MEDIA_OTS, "DEG1-TTP-TXRX"));
+        assertEquals(nameUuid("CEP+ROADM-A1+PHOTONIC_MEDIA_OTS+DEG1-TTP-TXRX"),
+            TapiUuidFactory.uuid("CEP", "ROADM-A1", TapiConstants.PHTNC_MEDIA_OTS, "DEG1-TTP-TXRX"));
+        // same seed, whatever the way it is split
+        assertEquals(TapiUuidFactory.uuid("ROADM-A1+PHOTONIC_MEDIA"),
+            TapiUuidFactory.uuid("ROADM-A1", TapiConstants.PHTNC_MEDIA));
+        assertNotEquals(TapiUuidFactory.uuid("ROADM-A1", "DSR", "XPDR1-NETWORK1"),
+            TapiUuidFactory.uuid("ROADM-A1", "DSR", "XPDR1-CLIENT1"));
+    }
+
+    @Test
+    void uuidsAreMemoized() {
+        Uuid uuid = TapiUuidFactory.uuid("XPDR-A1", TapiConstants.I_ODU, "XPDR1-NETWORK1");
+        assertSame(uuid, TapiUuidFactory.uuid("XPDR-A1", TapiConstants.I_ODU, "XPDR1-NETWORK1"));
+        assertSame(uuid, TapiUuidFactory.uuid(String.join("-", "XPDR", "A1"), TapiConstants.I_ODU, "XPDR1-NETWORK1"));
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int i = 0; i <= TapiUuidFactory.MAX_ENTRIES; i++) {
+            TapiUuidFactory.uuid("XPDR-A1", TapiConstants.DSR, "XPDR1-CLIENT" + i);
+        }
+        assertTrue(TapiUuidFactory.size() <= TapiUuidFactory.MAX_ENTRIES);
+        assertEquals(nameUuid("XPDR-A1+DSR+XPDR1-CLIENT0"),
+            TapiUuidFactory.uuid("XPDR-A1", TapiConstants.DSR, "XPDR1-CLIENT0"));
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.transportpce.test;
 
+import java.util.concurrent.ExecutorService;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.NotificationService;
@@ -20,6 +21,14 @@ public interface DataStoreContext {
 
     DOMDataBroker getDOMDataBroker();
 
+    /**
+     * Create a new data broker with empty datastores, sharing the schema context of this context.
+     *
+     * @param commitExecutor the executor the commits of the data broker are coordinated on
+     * @return the data broker
+     */
+    DataBroker createDataBroker(ExecutorService commitExecutor);
+
     NotificationService createNotificationService();
 
     NotificationPublishService createNotificationPublishService();
@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
@@ -68,7 +69,7 @@ public class DataStoreContextImpl implements DataStoreContext {
         domNotificationService = new RouterDOMNotificationService(domNotificationRouter);
         domNotificationPublishService = new RouterDOMPublishNotificationService(domNotificationRouter);
         datastores = createDatastores();
-        domDataBroker = createDOMDataBroker();
+        domDataBroker = createDOMDataBroker(datastores, Executors.newSingleThreadExecutor());
         dataBroker = adapterFactory.createDataBroker(domDataBroker);
         notificationService = createNotificationService();
         notificationPublishService = createNotificationPublishService();
@@ -84,6 +85,11 @@ public class DataStoreContextImpl implements DataStoreContext {
         return domDataBroker;
     }
 
+    @Override
+    public DataBroker createDataBroker(ExecutorService commitExecutor) {
+        return adapterFactory.createDataBroker(createDOMDataBroker(createDatastores(), commitExecutor));
+    }
+
     @Override
     public final NotificationService createNotificationService() {
         return adapterFactory.createNotificationService(domNotificationService);
@@ -109,9 +115,9 @@ public class DataStoreContextImpl implements DataStoreContext {
         return notificationPublishService;
     }
 
-    private DOMDataBroker createDOMDataBroker() {
-        return new SerializedDOMDataBroker(datastores,
-                MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor()));
+    private static DOMDataBroker createDOMDataBroker(Map<LogicalDatastoreType, DOMStore> stores,
+            ExecutorService commitExecutor) {
+        return new SerializedDOMDataBroker(stores, MoreExecutors.listeningDecorator(commitExecutor));
     }
 
     private Map<LogicalDatastoreType, DOMStore> createDatastores() {